@@ -19,7 +19,10 @@ package jakarta.data;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import jakarta.data.metamodel.Attribute;
 import jakarta.data.metamodel.StaticMetamodel;
 import jakarta.data.repository.OrderBy;
 import jakarta.annotation.Nonnull;
@@ -70,16 +73,43 @@ import jakarta.annotation.Nullable;
  * if the database is incapable of ordering the query results using the given
  * sort criteria.</p>
  *
+ * <p>An {@code Order} without sort criteria, or with a single sort criterion
+ * on an entity attribute, is the same instance for each request for the same
+ * sort criteria, such that frequently used sort criteria are not created
+ * again for each query.</p>
+ *
  * @param <T> entity class of the attributes that are used as sort criteria.
  */
 public class Order<T> implements Iterable<Sort<? super T>> {
 
+    /**
+     * Upper bound on the number of cached instances with a single sort
+     * criterion, after which the cache is cleared.
+     */
+    private static final int MAX_CACHED = 1024;
+
+    /**
+     * Cached instances with a single sort criterion on an entity attribute.
+     */
+    private static final ConcurrentMap<Sort<?>, Order<?>> CACHE =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Instance without sort criteria.
+     */
+    private static final Order<?> UNSORTED = new Order<>(List.of());
+
     /**
      * Unmodifiable list of Sort instances, from highest precedence to lowest.
      */
     @Nonnull
     private final List<Sort<? super T>> sorts;
 
+    /**
+     * Hash code of the list of Sort instances.
+     */
+    private final int hash;
+
     /**
      * Creates a new instance.
      *
@@ -88,6 +118,7 @@ public class Order<T> implements Iterable<Sort<? super T>> {
      */
     private Order(@Nonnull List<Sort<? super T>> sorts) {
         this.sorts = sorts;
+        this.hash = sorts.hashCode();
     }
 
     /**
@@ -98,13 +129,16 @@ public class Order<T> implements Iterable<Sort<? super T>> {
      *              criteria.
      * @param sorts sort criteria to use, ordered from highest precedence to
      *              lowest precedence.
-     * @return a new instance indicating the order of precedence for sort
+     * @return an instance indicating the order of precedence for sort
      * criteria. This method never returns {@code null}.
      */
     @SafeVarargs
     @Nonnull
     public static <T> Order<T> by(@Nonnull Sort<? super T>... sorts) {
-        return new Order<T>(List.of(sorts));
+        if (sorts.length == 1 && sorts[0] != null) {
+            return single(sorts[0]);
+        }
+        return sorts.length == 0 ? unsorted() : new Order<T>(List.of(sorts));
     }
 
     /**
@@ -117,12 +151,56 @@ public class Order<T> implements Iterable<Sort<? super T>> {
      *              criteria.
      * @param sorts sort criteria to use, ordered from highest precedence to
      *              lowest precedence.
-     * @return a new instance indicating the order of precedence for sort
+     * @return an instance indicating the order of precedence for sort
      * criteria. This method never returns {@code null}.
      */
     @Nonnull
     public static <T> Order<T> by(@Nonnull List<? extends Sort<? super T>> sorts) {
-        return new Order<T>(List.copyOf(sorts));
+        if (sorts.size() == 1 && sorts.get(0) != null) {
+            return single(sorts.get(0));
+        }
+        return sorts.isEmpty() ? unsorted() : new Order<T>(List.copyOf(sorts));
+    }
+
+    /**
+     * Obtains the instance without sort criteria.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    private static <T> Order<T> unsorted() {
+        return (Order<T>) UNSORTED;
+    }
+
+    /**
+     * Obtains the cached instance for a single sort criterion on an entity
+     * attribute, creating it if needed. Instances for sort criteria on other
+     * expressions are not cached.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    private static <T> Order<T> single(@Nonnull Sort<? super T> sort) {
+        if (sort.expression() != null
+                && !(sort.expression() instanceof Attribute<?>)) {
+            return new Order<T>(List.of(sort));
+        }
+
+        Order<?> order = CACHE.get(sort);
+        if (order == null) {
+            order = new Order<T>(List.of(sort));
+            if (CACHE.size() >= MAX_CACHED) {
+                CACHE.clear();
+            }
+            Order<?> previous = CACHE.putIfAbsent(sort, order);
+            if (previous != null) {
+                order = previous;
+            }
+        }
+        if (Sort.lacksAccessor(order.sorts().get(0), sort.expression())) {
+            // replace the instance for an equal attribute without an accessor
+            order = new Order<T>(List.of(sort));
+            CACHE.put(sort, order);
+        }
+        return (Order<T>) order;
     }
 
     /**
@@ -146,17 +224,20 @@ public class Order<T> implements Iterable<Sort<? super T>> {
     @Override
     public boolean equals(@Nullable Object other) {
         return this == other
-                || other instanceof Order s && sorts.equals(s.sorts);
+                || other instanceof Order<?> o
+                        && hash == o.hash
+                        && sorts.equals(o.sorts);
     }
 
     /**
-     * Computes a hash code for this instance.
+     * Obtains the hash code for this instance, which is computed when the
+     * instance is created.
      *
      * @return hash code.
      */
     @Override
     public int hashCode() {
-        return sorts.hashCode();
+        return hash;
     }
 
     /**
@@ -17,11 +17,15 @@
  */
 package jakarta.data;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import jakarta.annotation.Nullable;
 import jakarta.data.expression.ComparableExpression;
 import jakarta.data.expression.TextExpression;
 import jakarta.data.messages.Messages;
 import jakarta.data.metamodel.Attribute;
+import jakarta.data.metamodel.AttributeAccessor;
 import jakarta.data.metamodel.ComparableAttribute;
 import jakarta.data.metamodel.StaticMetamodel;
 import jakarta.data.metamodel.TextAttribute;
@@ -86,6 +90,14 @@ import jakarta.annotation.Nonnull;
  * if the database is incapable of ordering the query results using the given
  * sort criteria.</p>
  *
+ * <p>The static methods that obtain a {@code Sort} with
+ * {@linkplain Nulls#UNSPECIFIED unspecified} ordering of {@code null} values
+ * for an entity attribute name or an entity attribute of the static
+ * metamodel, including the {@code asc()} and {@code desc()} methods of the
+ * static metamodel, return the same instance for each request for the same
+ * sort criterion, such that frequently used sort criteria are not created
+ * again for each query.</p>
+ *
  * @param <T>          type of entity from which query results are obtained.
  * @param expression   an expression that computes a value by which to
  *                     order results. Alternatively, {@code null} if
@@ -107,6 +119,20 @@ public record Sort<T>(@Nullable ComparableExpression<T, ? extends Comparable<?>>
                       boolean ignoreCase,
                       @Nonnull Nulls nullOrdering) {
 
+    /**
+     * Upper bound on the number of entity attributes for which instances are
+     * cached, after which the cache is cleared.
+     */
+    private static final int MAX_CACHED = 1024;
+
+    /**
+     * Cached instances with unspecified null ordering for each entity
+     * attribute name or static metamodel attribute, indexed by
+     * {@link #indexOf(boolean, boolean)}.
+     */
+    private static final ConcurrentMap<Object, Sort<?>[]> CACHE =
+            new ConcurrentHashMap<>();
+
     /**
      * Indicates how {@code null} values are ordered.
      *
@@ -307,11 +333,10 @@ public record Sort<T>(@Nullable ComparableExpression<T, ? extends Comparable<?>>
                     Messages.get("001.arg.required", "direction"));
         }
 
-        return new Sort<>(null,
-                          attribute,
-                          Direction.ASC.equals(direction),
-                          ignoreCase,
-                          Nulls.UNSPECIFIED);
+        return cached(null,
+                      attribute,
+                      Direction.ASC.equals(direction),
+                      ignoreCase);
     }
 
     /**
@@ -339,11 +364,13 @@ public record Sort<T>(@Nullable ComparableExpression<T, ? extends Comparable<?>>
                     Messages.get("001.arg.required", "direction"));
         }
 
-        return new Sort<>(null,
-                          attribute,
-                          Direction.ASC.equals(direction),
-                          ignoreCase,
-                          nullOrdering);
+        return nullOrdering == Nulls.UNSPECIFIED
+                ? cached(null, attribute, Direction.ASC.equals(direction), ignoreCase)
+                : new Sort<>(null,
+                             attribute,
+                             Direction.ASC.equals(direction),
+                             ignoreCase,
+                             nullOrdering);
     }
 
     /**
@@ -370,7 +397,7 @@ public record Sort<T>(@Nullable ComparableExpression<T, ? extends Comparable<?>>
     @Nonnull
     public static <T, V extends Comparable<?>> Sort<T> asc(
             @Nonnull ComparableExpression<T, V> expression) {
-        return new Sort<>(expression, null, true, false, Nulls.UNSPECIFIED);
+        return cached(expression, null, true, false);
     }
 
     /**
@@ -385,7 +412,7 @@ public record Sort<T>(@Nullable ComparableExpression<T, ? extends Comparable<?>>
      */
     @Nonnull
     public static <T> Sort<T> asc(@Nonnull String attribute) {
-        return new Sort<>(null, attribute, true, false, Nulls.UNSPECIFIED);
+        return cached(null, attribute, true, false);
     }
 
     /**
@@ -399,7 +426,7 @@ public record Sort<T>(@Nullable ComparableExpression<T, ? extends Comparable<?>>
      */
     @Nonnull
     public static <T> Sort<T> ascIgnoreCase(@Nonnull String attribute) {
-        return new Sort<>(null, attribute, true, true, Nulls.UNSPECIFIED);
+        return cached(null, attribute, true, true);
     }
 
     /**
@@ -424,7 +451,7 @@ public record Sort<T>(@Nullable ComparableExpression<T, ? extends Comparable<?>>
      */
     @Nonnull
     public static <T> Sort<T> ascIgnoreCase(@Nonnull TextExpression<T> expression) {
-        return new Sort<>(expression, null, true, true, Nulls.UNSPECIFIED);
+        return cached(expression, null, true, true);
     }
 
     /**
@@ -451,7 +478,7 @@ public record Sort<T>(@Nullable ComparableExpression<T, ? extends Comparable<?>>
     @Nonnull
     public static <T, V extends Comparable<?>> Sort<T> desc(
             @Nonnull ComparableExpression<T, V> expression) {
-        return new Sort<>(expression, null, false, false, Nulls.UNSPECIFIED);
+        return cached(expression, null, false, false);
     }
 
     /**
@@ -466,7 +493,7 @@ public record Sort<T>(@Nullable ComparableExpression<T, ? extends Comparable<?>>
      */
     @Nonnull
     public static <T> Sort<T> desc(@Nonnull String attribute) {
-        return new Sort<>(null, attribute, false, false, Nulls.UNSPECIFIED);
+        return cached(null, attribute, false, false);
     }
 
     /**
@@ -481,7 +508,7 @@ public record Sort<T>(@Nullable ComparableExpression<T, ? extends Comparable<?>>
      */
     @Nonnull
     public static <T> Sort<T> descIgnoreCase(@Nonnull String attribute) {
-        return new Sort<>(null, attribute, false, true, Nulls.UNSPECIFIED);
+        return cached(null, attribute, false, true);
     }
 
     /**
@@ -506,7 +533,60 @@ public record Sort<T>(@Nullable ComparableExpression<T, ? extends Comparable<?>>
      */
     @Nonnull
     public static <T> Sort<T> descIgnoreCase(@Nonnull TextExpression<T> expression) {
-        return new Sort<>(expression, null, false, true, Nulls.UNSPECIFIED);
+        return cached(expression, null, false, true);
+    }
+
+    /**
+     * Obtains the cached instance with unspecified null ordering for an
+     * entity attribute name or static metamodel attribute, creating it if
+     * needed. Instances for other expressions are not cached.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    private static <T> Sort<T> cached(@Nullable ComparableExpression<T, ? extends Comparable<?>> expression,
+                                      @Nullable String property,
+                                      boolean isAscending,
+                                      boolean ignoreCase) {
+        Object key = expression == null ? property : expression;
+        if (key == null || expression != null && !(expression instanceof Attribute<?>)) {
+            return new Sort<>(expression, property, isAscending, ignoreCase,
+                              Nulls.UNSPECIFIED);
+        }
+
+        Sort<?>[] sorts = CACHE.get(key);
+        if (sorts == null) {
+            if (CACHE.size() >= MAX_CACHED) {
+                CACHE.clear();
+            }
+            sorts = CACHE.computeIfAbsent(key, k -> new Sort<?>[4]);
+        }
+
+        int index = indexOf(isAscending, ignoreCase);
+        Sort<T> sort = (Sort<T>) sorts[index];
+        if (sort == null || lacksAccessor(sort, expression)) {
+            // Creating the instance more than once is harmless because it
+            // is immutable
+            sort = new Sort<>(expression, property, isAscending, ignoreCase,
+                              Nulls.UNSPECIFIED);
+            sorts[index] = sort;
+        }
+        return sort;
+    }
+
+    /**
+     * Determines whether a cached instance must be replaced by one for the
+     * given expression, because the expression is an attribute with an
+     * {@link AttributeAccessor} and the attribute of the cached instance,
+     * which is equal to it, is not.
+     */
+    static boolean lacksAccessor(@Nonnull Sort<?> cached,
+                                 @Nullable ComparableExpression<?, ?> expression) {
+        return expression instanceof AttributeAccessor<?, ?>
+                && !(cached.expression() instanceof AttributeAccessor<?, ?>);
+    }
+
+    private static int indexOf(boolean isAscending, boolean ignoreCase) {
+        return (isAscending ? 0 : 2) + (ignoreCase ? 1 : 0);
     }
 
     /**
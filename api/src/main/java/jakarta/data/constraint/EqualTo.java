@@ -126,14 +126,18 @@ public interface EqualTo<V> extends Constraint<V> {
      * @param <V>   type of the entity attribute or a subtype or primitive
      *              wrapper type for the entity attribute.
      * @param value a value against which the constraint target is compared.
-     * @return an {@code EqualTo} constraint.
+     * @return an {@code EqualTo} constraint, which, for a {@link Boolean}
+     *         value, is the same instance for each request for the value.
      * @throws NullPointerException if the value is {@code null}.
      */
+    @SuppressWarnings("unchecked")
     @Nonnull
     static <V> EqualTo<V> value(@Nonnull V value) {
         if (value == null) {
             throw new NullPointerException(
                     Messages.get("001.arg.required", "value"));
+        } else if (value instanceof Boolean b) {
+            return (EqualTo<V>) (b ? EqualToRecord.TRUE : EqualToRecord.FALSE);
         }
 
         return new EqualToRecord<>(Literal.of(value));
@@ -18,11 +18,20 @@
 package jakarta.data.constraint;
 
 import jakarta.data.expression.Expression;
+import jakarta.data.spi.expression.literal.BooleanLiteral;
 import jakarta.annotation.Nonnull;
 
 record EqualToRecord<V>(@Nonnull Expression<?, V> expression)
         implements EqualTo<V> {
 
+    // Canonical instances, which are returned by EqualTo.value for
+    // Boolean values
+    @Nonnull
+    static final EqualTo<Boolean> TRUE = new EqualToRecord<>(BooleanLiteral.of(true));
+
+    @Nonnull
+    static final EqualTo<Boolean> FALSE = new EqualToRecord<>(BooleanLiteral.of(false));
+
     @Override
     @Nonnull
     public NotEqualTo<V> negate() {
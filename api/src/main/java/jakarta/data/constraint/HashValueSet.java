@@ -0,0 +1,538 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.constraint;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.expression.Expression;
+import jakarta.data.messages.Messages;
+import jakarta.data.spi.expression.literal.Literal;
+
+// Internal implementation class.
+// Open addressing hash table with linear probing, in which the table holds the
+// 1-based position of each value within an array of the distinct values in
+// insertion order, and 0 indicates an empty slot. The table is sized to a power
+// of 2 that is at least twice the number of values.
+abstract class HashValueSet<V> implements ValueSet<V> {
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    /**
+     * Magnitude below which every integral double value converts from
+     * exactly one long value.
+     */
+    private static final double EXACT_DOUBLE = 0x1p53;
+
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    /**
+     * Literal expressions for the values, which are created only if requested.
+     */
+    @Nullable
+    private volatile List<Expression<?, V>> expressions;
+
+    @Nonnull
+    final int[] table;
+
+    final int mask;
+
+    HashValueSet(int size) {
+        int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Creates a set of the given values, which must not be empty or
+     * contain null.
+     *
+     * Collections of integral values of any mix of types are held as
+     * primitive values, so that they compare by number.
+     *
+     * @param argName name of the argument, for error messages.
+     */
+    @Nonnull
+    static <V> HashValueSet<V> of(@Nonnull Collection<V> values,
+                                  @Nonnull String argName) {
+        if (values == null) {
+            throw new NullPointerException(
+                    Messages.get("001.arg.required", argName));
+        }
+
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException(
+                    Messages.get("002.no.elements", argName));
+        }
+
+        boolean allLong = true;
+        boolean allIntegral = true;
+        boolean allInt = true;
+        for (V value : values) {
+            if (value == null) {
+                throw new NullPointerException(
+                        Messages.get("003.null.element", argName));
+            }
+            allLong &= value instanceof Long;
+            allIntegral &= isIntegral(value);
+            if (allIntegral) {
+                long v = ((Number) value).longValue();
+                allInt &= v == (int) v;
+            }
+        }
+
+        if (allIntegral) {
+            return allInt && !allLong
+                    ? new IntValueSet<>(values)
+                    : new LongValueSet<>(values);
+        } else {
+            return new ObjectValueSet<>(values);
+        }
+    }
+
+    static int mix(int hash) {
+        int h = hash * GOLDEN_RATIO;
+        return h ^ (h >>> 16);
+    }
+
+    static int hash(long value) {
+        return mix((int) (value ^ (value >>> 32)));
+    }
+
+    /**
+     * Hash code of a value that is consistent with {@link #same}. Numbers
+     * that are the same have the same double value, and so are hashed by
+     * their double value, with zero and negative zero hashed alike.
+     */
+    static int hashOf(@Nonnull Object value) {
+        if (value instanceof Number n) {
+            double d = n.doubleValue();
+            return mix(Double.hashCode(d == 0.0 ? 0.0 : d));
+        } else {
+            return mix(value.hashCode());
+        }
+    }
+
+    /**
+     * Compares values in the same way as the evaluation of a list of literal
+     * values: BigDecimal values ignoring scale, numbers of different types
+     * by numeric value, and other values by equality.
+     */
+    static boolean same(@Nonnull Object member, @Nonnull Object value) {
+        if (member.getClass() == value.getClass()) {
+            return member instanceof BigDecimal d
+                    ? d.compareTo((BigDecimal) value) == 0
+                    : member.equals(value);
+        } else if (member instanceof Number m && value instanceof Number v) {
+            return compareNumbers(m, v) == 0;
+        } else {
+            return member.equals(value);
+        }
+    }
+
+    /**
+     * Compares integral numbers exactly, BigDecimal and BigInteger numbers
+     * as BigDecimal, and other numbers by their double values.
+     */
+    private static int compareNumbers(@Nonnull Number a, @Nonnull Number b) {
+        if (isIntegral(a) && isIntegral(b)) {
+            return Long.compare(a.longValue(), b.longValue());
+        } else if (isBig(a) || isBig(b)) {
+            return toBigDecimal(a).compareTo(toBigDecimal(b));
+        } else {
+            return Double.compare(a.doubleValue(), b.doubleValue());
+        }
+    }
+
+    private static boolean isBig(@Nonnull Number n) {
+        return n instanceof BigDecimal || n instanceof BigInteger;
+    }
+
+    @Nonnull
+    private static BigDecimal toBigDecimal(@Nonnull Number n) {
+        if (n instanceof BigDecimal d) {
+            return d;
+        } else if (n instanceof BigInteger i) {
+            return new BigDecimal(i);
+        } else if (isIntegral(n)) {
+            return BigDecimal.valueOf(n.longValue());
+        } else {
+            return BigDecimal.valueOf(n.doubleValue());
+        }
+    }
+
+    /**
+     * Determines whether a set of integral values contains a number of a
+     * type that is not integral, as compared by {@link #same}.
+     */
+    final boolean containsNumber(@Nonnull Number n) {
+        if (isBig(n)) {
+            BigDecimal d = toBigDecimal(n);
+            return d.signum() == 0
+                    ? contains(0L)
+                    : d.stripTrailingZeros().scale() <= 0
+                            && d.compareTo(MIN_LONG) >= 0
+                            && d.compareTo(MAX_LONG) <= 0
+                            && contains(d.longValue());
+        }
+
+        double d = n.doubleValue();
+        if (Math.abs(d) < EXACT_DOUBLE) {
+            // only one long value converts to a double of this magnitude,
+            // and negative zero is not the same as zero
+            long l = (long) d;
+            return Double.compare(l, d) == 0 && contains(l);
+        }
+        for (V member : values()) {
+            if (Double.compare(((Number) member).doubleValue(), d) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Literal expressions for the values, for compatibility with
+     * {@link In#expressions()} and {@link NotIn#expressions()}.
+     */
+    @Nonnull
+    final List<Expression<?, V>> expressions() {
+        List<Expression<?, V>> list = expressions;
+        if (list == null) {
+            List<V> values = values();
+            @SuppressWarnings({ "rawtypes", "unchecked" })
+            Expression<?, V>[] array = new Expression[values.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = Literal.of(values.get(i));
+            }
+            list = List.of(array);
+            expressions = list;
+        }
+        return list;
+    }
+
+    @Override
+    public final boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof HashValueSet<?> set) || set.size() != size()) {
+            return false;
+        }
+        for (V value : values()) {
+            if (!set.contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public final int hashCode() {
+        int hash = 0;
+        for (V value : values()) {
+            hash += hashOf(value);
+        }
+        return hash;
+    }
+
+    @Override
+    @Nonnull
+    public final String toString() {
+        return values().toString();
+    }
+
+    /**
+     * Set of integral values that are all within the range of int, held as
+     * primitive int values. The values as supplied are also retained if any
+     * of them is not an Integer.
+     */
+    static final class IntValueSet<V> extends HashValueSet<V> {
+        @Nonnull
+        private final int[] values;
+
+        @Nullable
+        private final Object[] boxed;
+
+        private IntValueSet(@Nonnull Collection<V> source) {
+            super(source.size());
+            int[] distinct = new int[source.size()];
+            Object[] originals = new Object[source.size()];
+            boolean allInteger = true;
+            int size = 0;
+            for (V element : source) {
+                int value = ((Number) element).intValue();
+                int slot = mix(value) & mask;
+                boolean found = false;
+                for (int pos = table[slot]; pos != 0 && !found; pos = table[slot]) {
+                    found = distinct[pos - 1] == value;
+                    if (!found) {
+                        slot = (slot + 1) & mask;
+                    }
+                }
+                if (!found) {
+                    allInteger &= element instanceof Integer;
+                    originals[size] = element;
+                    distinct[size++] = value;
+                    table[slot] = size;
+                }
+            }
+            this.values = size == distinct.length
+                    ? distinct
+                    : Arrays.copyOf(distinct, size);
+            this.boxed = allInteger ? null : Arrays.copyOf(originals, size);
+        }
+
+        @Override
+        public boolean contains(@Nullable Object value) {
+            return isIntegral(value)
+                    ? contains(((Number) value).longValue())
+                    : value instanceof Number n && containsNumber(n);
+        }
+
+        @Override
+        public boolean contains(long value) {
+            int v = (int) value;
+            if (v != value) {
+                return false;
+            }
+            for (int slot = mix(v) & mask; ; slot = (slot + 1) & mask) {
+                int pos = table[slot];
+                if (pos == 0) {
+                    return false;
+                } else if (values[pos - 1] == v) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        @Nonnull
+        public List<V> values() {
+            return boxed == null
+                    ? (List<V>) new IntList(values)
+                    : (List<V>) Collections.unmodifiableList(Arrays.asList(boxed));
+        }
+    }
+
+    /**
+     * Set of integral values, held as primitive long values. The values as
+     * supplied are also retained if any of them is not a Long.
+     */
+    static final class LongValueSet<V> extends HashValueSet<V> {
+        @Nonnull
+        private final long[] values;
+
+        @Nullable
+        private final Object[] boxed;
+
+        private LongValueSet(@Nonnull Collection<V> source) {
+            super(source.size());
+            long[] distinct = new long[source.size()];
+            Object[] originals = new Object[source.size()];
+            boolean allLong = true;
+            int size = 0;
+            for (V element : source) {
+                long value = ((Number) element).longValue();
+                int slot = hash(value) & mask;
+                boolean found = false;
+                for (int pos = table[slot]; pos != 0 && !found; pos = table[slot]) {
+                    found = distinct[pos - 1] == value;
+                    if (!found) {
+                        slot = (slot + 1) & mask;
+                    }
+                }
+                if (!found) {
+                    allLong &= element instanceof Long;
+                    originals[size] = element;
+                    distinct[size++] = value;
+                    table[slot] = size;
+                }
+            }
+            this.values = size == distinct.length
+                    ? distinct
+                    : Arrays.copyOf(distinct, size);
+            this.boxed = allLong ? null : Arrays.copyOf(originals, size);
+        }
+
+        @Override
+        public boolean contains(@Nullable Object value) {
+            return isIntegral(value)
+                    ? contains(((Number) value).longValue())
+                    : value instanceof Number n && containsNumber(n);
+        }
+
+        @Override
+        public boolean contains(long value) {
+            for (int slot = hash(value) & mask; ; slot = (slot + 1) & mask) {
+                int pos = table[slot];
+                if (pos == 0) {
+                    return false;
+                } else if (values[pos - 1] == value) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        @Nonnull
+        public List<V> values() {
+            return boxed == null
+                    ? (List<V>) new LongList(values)
+                    : (List<V>) Collections.unmodifiableList(Arrays.asList(boxed));
+        }
+    }
+
+    /**
+     * Set of values of any other type, such as String, held by reference.
+     * Numbers of different types are compared by numeric value and BigDecimal
+     * values that differ only in scale are considered equal.
+     */
+    static final class ObjectValueSet<V> extends HashValueSet<V> {
+        @Nonnull
+        private final Object[] values;
+
+        private ObjectValueSet(@Nonnull Collection<V> source) {
+            super(source.size());
+            Object[] distinct = new Object[source.size()];
+            int size = 0;
+            for (V value : source) {
+                int slot = hashOf(value) & mask;
+                boolean found = false;
+                for (int pos = table[slot]; pos != 0 && !found; pos = table[slot]) {
+                    found = same(distinct[pos - 1], value);
+                    if (!found) {
+                        slot = (slot + 1) & mask;
+                    }
+                }
+                if (!found) {
+                    distinct[size++] = value;
+                    table[slot] = size;
+                }
+            }
+            this.values = size == distinct.length
+                    ? distinct
+                    : Arrays.copyOf(distinct, size);
+        }
+
+        @Override
+        public boolean contains(@Nullable Object value) {
+            if (value == null) {
+                return false;
+            }
+            for (int slot = hashOf(value) & mask; ; slot = (slot + 1) & mask) {
+                int pos = table[slot];
+                if (pos == 0) {
+                    return false;
+                } else if (same(values[pos - 1], value)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        @Nonnull
+        public List<V> values() {
+            return (List<V>) Collections.unmodifiableList(Arrays.asList(values));
+        }
+    }
+
+    static boolean isIntegral(@Nullable Object value) {
+        return value instanceof Integer
+                || value instanceof Long
+                || value instanceof Short
+                || value instanceof Byte;
+    }
+
+    /**
+     * Unmodifiable view of an int array.
+     */
+    private static final class IntList extends AbstractList<Integer>
+            implements RandomAccess {
+        @Nonnull
+        private final int[] values;
+
+        @SuppressWarnings({ "PMD.ArrayIsStoredDirectly", "PMD.UseVarargs" })
+        private IntList(@Nonnull int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        @Nonnull
+        public Integer get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    /**
+     * Unmodifiable view of a long array.
+     */
+    private static final class LongList extends AbstractList<Long>
+            implements RandomAccess {
+        @Nonnull
+        private final long[] values;
+
+        @SuppressWarnings({ "PMD.ArrayIsStoredDirectly", "PMD.UseVarargs" })
+        private LongList(@Nonnull long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        @Nonnull
+        public Long get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
@@ -158,6 +158,37 @@ public interface In<V> extends Constraint<V> {
         return new InRecord<>(unmodifiableList(expressions));
     }
 
+    /**
+     * <p>Requires that the constraint target equal one of the given
+     * {@code values}, which are held in a compact hash set rather than as a
+     * list of literal expressions. This is preferred over
+     * {@link #values(Collection)} when there are many values, such as
+     * thousands of identifiers. For example,</p>
+     *
+     * <pre>
+     * found = cars.identifiedByAnyOf(In.valueSet(vinNumbers));
+     * </pre>
+     *
+     * <p>The constraint that is returned by this method implements
+     * {@link ValueSet}, with which membership of a value can be tested in
+     * constant time. The {@link #expressions()} method of the constraint
+     * returns a literal expression for each distinct value, which is created
+     * only when first requested.</p>
+     *
+     * @param <V>    type of the entity attribute or a subtype or primitive
+     *               wrapper type for the entity attribute.
+     * @param values values against which the constraint target is compared.
+     * @return an {@code In} constraint that is also a {@link ValueSet}.
+     * @throws IllegalArgumentException if the collection of values is empty.
+     * @throws NullPointerException     if the collection of values or any
+     *                                  value within it is {@code null}.
+     * @since 1.1
+     */
+    @Nonnull
+    static <V> In<V> valueSet(@Nonnull Collection<V> values) {
+        return new InSetRecord<>(HashValueSet.of(values, "values"));
+    }
+
     /**
      * <p>Requires that the constraint target equal one of the values to
      * which the given {@code expressions} evaluate. For example,</p>
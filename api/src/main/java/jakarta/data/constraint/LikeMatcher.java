@@ -0,0 +1,595 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.constraint;
+
+import static jakarta.data.constraint.LikeRecord.CHAR_WILDCARD;
+import static jakarta.data.constraint.LikeRecord.STRING_WILDCARD;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.messages.Messages;
+import jakarta.data.spi.expression.literal.StringLiteral;
+
+/**
+ * <p>Matches text values in memory against the pattern of a {@link Like}
+ * or {@link NotLike} constraint, for use by Jakarta Data providers that
+ * evaluate constraints without a database.</p>
+ *
+ * <p>The pattern is compiled once. Patterns that consist of literal text
+ * with {@code %} only at the start, end, or both are matched with
+ * {@link String#equals(Object)}, {@link String#startsWith(String)},
+ * {@link String#endsWith(String)}, or {@link String#indexOf(String)}.
+ * Other patterns are split at each {@code %} into segments that are located
+ * in order, leftmost first. Because the leftmost occurrence of a segment
+ * always leaves the most room for the segments that follow it, matching
+ * never backtracks, runs in time proportional to the length of the value
+ * multiplied by the length of the pattern, and does not allocate.</p>
+ *
+ * <p>For example,</p>
+ *
+ * <pre>{@code
+ * LikeMatcher matcher = LikeMatcher.of(Like.pattern("JHM___E%"));
+ *
+ * List<Car> found = cars.stream()
+ *                       .filter(car -> matcher.matches(car.vin()))
+ *                       .toList();
+ * }</pre>
+ *
+ * <p>Matchers are cached per pattern and escape character, such that
+ * obtaining a matcher for a pattern that was previously compiled does not
+ * compile it again. Matchers are immutable and thread-safe.</p>
+ *
+ * <p>The {@code _} wildcard matches a single {@code char} of the value.</p>
+ *
+ * @since 1.1
+ */
+public abstract class LikeMatcher {
+    /**
+     * Upper bound on the number of cached matchers, after which the cache
+     * is cleared, so that applications which generate many distinct patterns
+     * cannot cause it to grow without bound.
+     */
+    private static final int MAX_CACHED = 1024;
+
+    private static final ConcurrentMap<Key, LikeMatcher> CACHE =
+            new ConcurrentHashMap<>();
+
+    @Nonnull
+    private final String pattern;
+
+    private final char escape;
+
+    LikeMatcher(@Nonnull String pattern, char escape) {
+        this.pattern = pattern;
+        this.escape = escape;
+    }
+
+    /**
+     * <p>Obtains a matcher for the pattern of a {@code Like} constraint.</p>
+     *
+     * @param like constraint with a literal pattern. Must not be
+     *             {@code null}.
+     * @return a matcher that is satisfied by values that match the pattern.
+     * @throws NullPointerException     if the constraint is {@code null}.
+     * @throws IllegalArgumentException if the pattern is not a literal.
+     */
+    @Nonnull
+    public static LikeMatcher of(@Nonnull Like like) {
+        Messages.requireNonNull(like, "like");
+
+        return cached(literal(like.pattern(), like), like.escape(), false);
+    }
+
+    /**
+     * <p>Obtains a matcher for the pattern of a {@code NotLike}
+     * constraint.</p>
+     *
+     * @param notLike constraint with a literal pattern. Must not be
+     *                {@code null}.
+     * @return a matcher that is satisfied by values that do not match the
+     *         pattern.
+     * @throws NullPointerException     if the constraint is {@code null}.
+     * @throws IllegalArgumentException if the pattern is not a literal.
+     */
+    @Nonnull
+    public static LikeMatcher of(@Nonnull NotLike notLike) {
+        Messages.requireNonNull(notLike, "notLike");
+
+        return cached(literal(notLike.pattern(), notLike),
+                      notLike.escape(),
+                      true);
+    }
+
+    /**
+     * <p>Obtains a matcher for a pattern in which {@code _} and {@code %}
+     * represent wildcards and the given escape character causes the
+     * character that follows it to be matched literally.</p>
+     *
+     * @param pattern pattern. Must not be {@code null}.
+     * @param escape  escape character.
+     * @return a matcher that is satisfied by values that match the pattern.
+     * @throws NullPointerException     if the pattern is {@code null}.
+     * @throws IllegalArgumentException if the pattern ends with an escape
+     *                                  character that does not escape
+     *                                  anything.
+     */
+    @Nonnull
+    public static LikeMatcher of(@Nonnull String pattern, char escape) {
+        Messages.requireNonNull(pattern, "pattern");
+
+        return cached(pattern, escape, false);
+    }
+
+    @Nonnull
+    private static LikeMatcher cached(@Nonnull String pattern,
+                                      char escape,
+                                      boolean negated) {
+        Key key = new Key(pattern, escape, negated);
+        LikeMatcher matcher = CACHE.get(key);
+        if (matcher == null) {
+            matcher = negated
+                    ? new Negated(cached(pattern, escape, false))
+                    : compile(pattern, escape);
+            if (CACHE.size() >= MAX_CACHED) {
+                CACHE.clear();
+            }
+            LikeMatcher existing = CACHE.putIfAbsent(key, matcher);
+            if (existing != null) {
+                matcher = existing;
+            }
+        }
+        return matcher;
+    }
+
+    /**
+     * <p>Determines whether a value satisfies the constraint from which this
+     * matcher was obtained.</p>
+     *
+     * @param value text value. Must not be {@code null}.
+     * @return {@code true} if the constraint is satisfied, otherwise
+     *         {@code false}.
+     * @throws NullPointerException if the value is {@code null}.
+     */
+    public abstract boolean matches(@Nonnull String value);
+
+    /**
+     * <p>Determines whether a sequence of characters satisfies the
+     * constraint from which this matcher was obtained, without copying the
+     * characters into a {@link String}. This allows values that are
+     * computed from other values, such as a view of part of a
+     * {@code String}, to be matched without allocating.</p>
+     *
+     * @param value text value. Must not be {@code null}.
+     * @return {@code true} if the constraint is satisfied, otherwise
+     *         {@code false}.
+     * @throws NullPointerException if the value is {@code null}.
+     */
+    public boolean matches(@Nonnull CharSequence value) {
+        return value instanceof String s ? matches(s) : matchesChars(value);
+    }
+
+    /**
+     * Matches a sequence of characters that is not a String.
+     */
+    abstract boolean matchesChars(@Nonnull CharSequence value);
+
+    /**
+     * Determines if the characters of the value at the given offset are
+     * the text, where the offset must not be negative.
+     */
+    private static boolean regionMatches(@Nonnull CharSequence value,
+                                         int offset,
+                                         @Nonnull String text) {
+        if (offset > value.length() - text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (value.charAt(offset + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return "LIKE '" + pattern + "' ESCAPE '" + escape + "'";
+    }
+
+    @Nonnull
+    private static String literal(@Nonnull Object pattern,
+                                  @Nonnull Constraint<?> constraint) {
+        if (pattern instanceof StringLiteral literal) {
+            return literal.value();
+        }
+        throw new IllegalArgumentException(Messages.get(
+                "020.pattern.not.literal", constraint));
+    }
+
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    @Nonnull
+    private static LikeMatcher compile(@Nonnull String pattern, char escape) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder text = new StringBuilder(pattern.length());
+        StringBuilder anyChar = new StringBuilder(pattern.length());
+        boolean hasCharWildcard = false;
+        boolean isPreviousCharEscape = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+            if (isPreviousCharEscape) {
+                text.append(ch);
+                anyChar.append('0');
+                isPreviousCharEscape = false;
+            } else if (ch == escape) {
+                isPreviousCharEscape = true;
+            } else if (ch == STRING_WILDCARD) {
+                segments.add(new Segment(text.toString(),
+                                         anyChar.toString()));
+                text.setLength(0);
+                anyChar.setLength(0);
+            } else if (ch == CHAR_WILDCARD) {
+                hasCharWildcard = true;
+                text.append(ch);
+                anyChar.append('1');
+            } else {
+                text.append(ch);
+                anyChar.append('0');
+            }
+        }
+        if (isPreviousCharEscape) {
+            throw new IllegalArgumentException(Messages.get(
+                    "021.escape.trailing", pattern, escape));
+        }
+        segments.add(new Segment(text.toString(), anyChar.toString()));
+
+        Segment head = segments.get(0);
+        if (segments.size() == 1) {
+            return hasCharWildcard
+                    ? new Wildcard(pattern, escape, head, new Segment[0], null)
+                    : new Exact(pattern, escape, head.text);
+        }
+
+        Segment tail = segments.get(segments.size() - 1);
+        List<Segment> middle = new ArrayList<>(segments.size());
+        for (Segment segment : segments.subList(1, segments.size() - 1)) {
+            if (!segment.text.isEmpty()) {
+                middle.add(segment);
+            }
+        }
+
+        if (!hasCharWildcard) {
+            if (middle.isEmpty() && tail.text.isEmpty()) {
+                return head.text.isEmpty()
+                        ? new Any(pattern, escape)
+                        : new Prefix(pattern, escape, head.text);
+            } else if (middle.isEmpty() && head.text.isEmpty()) {
+                return new Suffix(pattern, escape, tail.text);
+            } else if (middle.size() == 1
+                    && head.text.isEmpty()
+                    && tail.text.isEmpty()) {
+                return new Contains(pattern, escape, middle.get(0).text);
+            }
+        }
+
+        return new Wildcard(pattern,
+                            escape,
+                            head,
+                            middle.toArray(new Segment[0]),
+                            tail);
+    }
+
+    /**
+     * Cache key.
+     */
+    private record Key(String pattern, char escape, boolean negated) {
+    }
+
+    /**
+     * Literal text between {@code %} wildcards, in which some positions can
+     * be the {@code _} wildcard.
+     */
+    private static final class Segment {
+        @Nonnull
+        private final String text;
+
+        @Nonnull
+        private final char[] chars;
+
+        /**
+         * Positions of the {@code _} wildcard, or {@code null} if there are
+         * none, in which case the text can be located by
+         * {@link String#indexOf(String, int)}.
+         */
+        private final boolean[] anyChar;
+
+        private Segment(@Nonnull String text, @Nonnull String anyCharFlags) {
+            this.text = text;
+            this.chars = text.toCharArray();
+            boolean[] flags = null;
+            for (int i = 0; i < chars.length; i++) {
+                if (anyCharFlags.charAt(i) == '1') {
+                    if (flags == null) {
+                        flags = new boolean[chars.length];
+                    }
+                    flags[i] = true;
+                }
+            }
+            this.anyChar = flags;
+        }
+
+        private int length() {
+            return chars.length;
+        }
+
+        /**
+         * Determines if the segment matches the value at the given offset,
+         * which must leave room for the segment.
+         */
+        private boolean matchesAt(@Nonnull CharSequence value, int offset) {
+            if (anyChar == null && value instanceof String s) {
+                return s.startsWith(text, offset);
+            }
+            for (int i = 0; i < chars.length; i++) {
+                if ((anyChar == null || !anyChar[i])
+                        && value.charAt(offset + i) != chars[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Finds the leftmost offset at or after {@code from} at which the
+         * segment matches the value without extending past {@code to}.
+         *
+         * @return the offset, or -1 if not found.
+         */
+        private int find(@Nonnull CharSequence value, int from, int to) {
+            int last = to - chars.length;
+            if (anyChar == null && value instanceof String s) {
+                int found = s.indexOf(text, from);
+                return found <= last ? found : -1;
+            }
+            for (int offset = from; offset <= last; offset++) {
+                if (matchesAt(value, offset)) {
+                    return offset;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Pattern without wildcards.
+     */
+    private static final class Exact extends LikeMatcher {
+        @Nonnull
+        private final String text;
+
+        private Exact(@Nonnull String pattern, char escape, @Nonnull String text) {
+            super(pattern, escape);
+            this.text = text;
+        }
+
+        @Override
+        public boolean matches(@Nonnull String value) {
+            return value.equals(text);
+        }
+
+        @Override
+        boolean matchesChars(@Nonnull CharSequence value) {
+            return value.length() == text.length()
+                    && regionMatches(value, 0, text);
+        }
+    }
+
+    /**
+     * Pattern that consists only of {@code %} wildcards.
+     */
+    private static final class Any extends LikeMatcher {
+        private Any(@Nonnull String pattern, char escape) {
+            super(pattern, escape);
+        }
+
+        @Override
+        public boolean matches(@Nonnull String value) {
+            return true;
+        }
+
+        @Override
+        boolean matchesChars(@Nonnull CharSequence value) {
+            return true;
+        }
+    }
+
+    /**
+     * Pattern of the form {@code text%}.
+     */
+    private static final class Prefix extends LikeMatcher {
+        @Nonnull
+        private final String prefix;
+
+        private Prefix(@Nonnull String pattern, char escape, @Nonnull String prefix) {
+            super(pattern, escape);
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean matches(@Nonnull String value) {
+            return value.startsWith(prefix);
+        }
+
+        @Override
+        boolean matchesChars(@Nonnull CharSequence value) {
+            return regionMatches(value, 0, prefix);
+        }
+    }
+
+    /**
+     * Pattern of the form {@code %text}.
+     */
+    private static final class Suffix extends LikeMatcher {
+        @Nonnull
+        private final String suffix;
+
+        private Suffix(@Nonnull String pattern, char escape, @Nonnull String suffix) {
+            super(pattern, escape);
+            this.suffix = suffix;
+        }
+
+        @Override
+        public boolean matches(@Nonnull String value) {
+            return value.endsWith(suffix);
+        }
+
+        @Override
+        boolean matchesChars(@Nonnull CharSequence value) {
+            int offset = value.length() - suffix.length();
+            return offset >= 0 && regionMatches(value, offset, suffix);
+        }
+    }
+
+    /**
+     * Pattern of the form {@code %text%}.
+     */
+    private static final class Contains extends LikeMatcher {
+        @Nonnull
+        private final String text;
+
+        private Contains(@Nonnull String pattern, char escape, @Nonnull String text) {
+            super(pattern, escape);
+            this.text = text;
+        }
+
+        @Override
+        public boolean matches(@Nonnull String value) {
+            return value.contains(text);
+        }
+
+        @Override
+        boolean matchesChars(@Nonnull CharSequence value) {
+            int last = value.length() - text.length();
+            for (int offset = 0; offset <= last; offset++) {
+                if (regionMatches(value, offset, text)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * General pattern, which is a head segment, followed by any number of
+     * middle segments that are each preceded by {@code %}, and then a tail
+     * segment that is preceded by {@code %}. If there is no tail, the
+     * pattern has no {@code %} and must match the head exactly.
+     */
+    private static final class Wildcard extends LikeMatcher {
+        @Nonnull
+        private final Segment head;
+
+        @Nonnull
+        private final Segment[] middle;
+
+        @Nullable
+        private final Segment tail;
+
+        private final int minLength;
+
+        private Wildcard(@Nonnull String pattern,
+                         char escape,
+                         @Nonnull Segment head,
+                         @Nonnull Segment[] middle,
+                         @Nullable Segment tail) {
+            super(pattern, escape);
+            this.head = head;
+            this.middle = middle;
+            this.tail = tail;
+
+            int length = head.length() + (tail == null ? 0 : tail.length());
+            for (Segment segment : middle) {
+                length += segment.length();
+            }
+            this.minLength = length;
+        }
+
+        @Override
+        public boolean matches(@Nonnull String value) {
+            return matchesChars(value);
+        }
+
+        @Override
+        boolean matchesChars(@Nonnull CharSequence value) {
+            int length = value.length();
+            if (tail == null) {
+                return length == minLength && head.matchesAt(value, 0);
+            }
+            if (length < minLength
+                    || !head.matchesAt(value, 0)
+                    || !tail.matchesAt(value, length - tail.length())) {
+                return false;
+            }
+
+            int from = head.length();
+            int to = length - tail.length();
+            for (Segment segment : middle) {
+                int found = segment.find(value, from, to);
+                if (found < 0) {
+                    return false;
+                }
+                from = found + segment.length();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Matcher for a {@code NotLike} constraint.
+     */
+    private static final class Negated extends LikeMatcher {
+        @Nonnull
+        private final LikeMatcher matcher;
+
+        private Negated(@Nonnull LikeMatcher matcher) {
+            super(matcher.pattern, matcher.escape);
+            this.matcher = matcher;
+        }
+
+        @Override
+        public boolean matches(@Nonnull String value) {
+            return !matcher.matches(value);
+        }
+
+        @Override
+        boolean matchesChars(@Nonnull CharSequence value) {
+            return !matcher.matchesChars(value);
+        }
+
+        @Override
+        @Nonnull
+        public String toString() {
+            return "NOT " + matcher;
+        }
+    }
+}
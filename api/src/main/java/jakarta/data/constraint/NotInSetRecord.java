@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.constraint;
+
+import java.util.List;
+
+import jakarta.data.expression.Expression;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+record NotInSetRecord<V>(@Nonnull HashValueSet<V> valueSet)
+        implements NotIn<V>, ValueSet<V> {
+
+    @Override
+    public boolean contains(@Nullable Object value) {
+        return valueSet.contains(value);
+    }
+
+    @Override
+    public boolean contains(long value) {
+        return valueSet.contains(value);
+    }
+
+    @Override
+    @Nonnull
+    public List<Expression<?, V>> expressions() {
+        return valueSet.expressions();
+    }
+
+    @Override
+    @Nonnull
+    public In<V> negate() {
+        return new InSetRecord<>(valueSet);
+    }
+
+    @Override
+    public int size() {
+        return valueSet.size();
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return "NOT IN " + expressions();
+    }
+
+    @Override
+    @Nonnull
+    public List<V> values() {
+        return valueSet.values();
+    }
+}
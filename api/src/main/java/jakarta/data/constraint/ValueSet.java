@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.constraint;
+
+import java.util.List;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * <p>An immutable set of literal values against which membership can be
+ * tested in constant time.</p>
+ *
+ * <p>The {@link In} and {@link NotIn} constraints that are obtained from
+ * {@link In#valueSet(java.util.Collection) In.valueSet} and
+ * {@link NotIn#valueSet(java.util.Collection) NotIn.valueSet} implement this
+ * interface, such that Jakarta Data providers which evaluate constraints in
+ * memory can test membership without iterating over the
+ * {@link In#expressions() expressions} of the constraint. For example,</p>
+ *
+ * <pre>{@code
+ * if (constraint instanceof ValueSet<?> set) {
+ *     satisfied = set.contains(value) == constraint instanceof In;
+ * }
+ * }</pre>
+ *
+ * <p>Values of integral types, {@link Integer}, {@link Long}, {@link Short},
+ * and {@link Byte}, are held in arrays of primitive values rather than as
+ * objects, and compare by number. Values of other types, including
+ * {@link String}, are held by reference. In all cases, the hash table is an
+ * array of {@code int} positions, such that a set of {@code n} values
+ * requires a small multiple of {@code n} bytes in addition to the
+ * values themselves.</p>
+ *
+ * @param <V> type of value.
+ * @since 1.1
+ */
+public interface ValueSet<V> {
+
+    /**
+     * <p>Determines whether the set contains the given value. Numeric values
+     * are considered equal if they have the same numeric value, regardless of
+     * whether they are the same type, such as an {@link Integer},
+     * {@link Long}, {@link Double}, and {@link java.math.BigDecimal} that all
+     * represent {@code 10}, in the same way as when a constraint with a list
+     * of literal values is evaluated.</p>
+     *
+     * @param value value to look for. A {@code null} value is never
+     *              contained by the set.
+     * @return {@code true} if the set contains the value, otherwise
+     *         {@code false}.
+     */
+    boolean contains(@Nullable Object value);
+
+    /**
+     * <p>Determines whether the set contains the given integral value
+     * without boxing it, if the set consists of integral values.</p>
+     *
+     * @param value value to look for.
+     * @return {@code true} if the set contains the value, otherwise
+     *         {@code false}.
+     */
+    default boolean contains(long value) {
+        return contains(Long.valueOf(value));
+    }
+
+    /**
+     * <p>The number of distinct values in the set.</p>
+     *
+     * @return the number of values.
+     */
+    int size();
+
+    /**
+     * <p>The distinct values in the set, in the order in which they were
+     * first supplied.</p>
+     *
+     * @return an unmodifiable list of the values.
+     */
+    @Nonnull
+    List<V> values();
+}
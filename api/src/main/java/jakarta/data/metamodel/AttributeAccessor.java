@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * <p>Reads, and if the entity attribute is mutable, writes the value of an
+ * entity attribute by invoking the getter and setter of the entity directly,
+ * without reflection.</p>
+ *
+ * <p>The static metamodel attributes that are obtained from the factory
+ * methods which accept a getter, such as
+ * {@link TextAttribute#of(Class, String, java.util.function.Function,
+ * java.util.function.BiConsumer)}, implement this interface. A static
+ * metamodel class that is generated by an annotation processor supplies the
+ * getter and setter of each attribute as a method reference, such that
+ * Jakarta Data providers and the
+ * {@link jakarta.data.spi.evaluation.Evaluator} can filter and sort entities
+ * in memory with plain method calls. For example,</p>
+ *
+ * <pre>{@code
+ * if (_Book.title instanceof AttributeAccessor<Book, String> title) {
+ *     String value = title.get(book);
+ * }
+ * }</pre>
+ *
+ * @param <T> entity class of the static metamodel.
+ * @param <V> type of entity attribute (or wrapper type if primitive).
+ * @since 1.1
+ */
+public interface AttributeAccessor<T, V> {
+
+    /**
+     * <p>Reads the value of the attribute from an entity.</p>
+     *
+     * @param entity the entity.
+     * @return the value of the attribute, which can be {@code null}.
+     */
+    @Nullable
+    V get(@Nonnull T entity);
+
+    /**
+     * <p>Indicates whether the value of the attribute can be written by
+     * {@link #set(Object, Object)}.</p>
+     *
+     * @return {@code true} if the attribute has a setter, otherwise
+     *         {@code false}.
+     */
+    boolean isWritable();
+
+    /**
+     * <p>Writes the value of the attribute to an entity.</p>
+     *
+     * @param entity the entity.
+     * @param value  the new value of the attribute.
+     * @throws UnsupportedOperationException if the attribute is not
+     *         {@linkplain #isWritable() writable}.
+     */
+    void set(@Nonnull T entity, @Nullable V value);
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.messages.Messages;
+
+// Internal implementation class.
+// Base class of the attributes that are obtained from the factory methods
+// which accept a getter. Each attribute wraps the attribute record that the
+// same factory method creates without a getter, and is equal to it, such that
+// the getter and setter are not part of the identity of the attribute.
+abstract class AttributeAccessorSupport<T, V, A extends Attribute<T>>
+        implements AttributeAccessor<T, V> {
+
+    @Nonnull
+    final A attribute;
+
+    @Nonnull
+    private final Function<T, V> getter;
+
+    @Nullable
+    private final BiConsumer<T, V> setter;
+
+    AttributeAccessorSupport(@Nonnull A attribute,
+                             @Nonnull Function<T, V> getter,
+                             @Nullable BiConsumer<T, V> setter) {
+        this.attribute = attribute;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * The attribute record that an attribute wraps, or otherwise the object
+     * itself, for comparison by the attribute records.
+     */
+    @Nullable
+    static Object attributeOf(@Nullable Object object) {
+        return object instanceof AttributeAccessorSupport<?, ?, ?> accessor
+                ? accessor.attribute
+                : object;
+    }
+
+    @Nonnull
+    public final Class<T> declaringType() {
+        return attribute.declaringType();
+    }
+
+    @Nonnull
+    public final String name() {
+        return attribute.name();
+    }
+
+    @Override
+    @Nullable
+    public final V get(@Nonnull T entity) {
+        return getter.apply(entity);
+    }
+
+    @Override
+    public final boolean isWritable() {
+        return setter != null;
+    }
+
+    @Override
+    public final void set(@Nonnull T entity, @Nullable V value) {
+        if (setter == null) {
+            throw new UnsupportedOperationException(Messages.get(
+                    "029.attr.readonly", attribute.name(),
+                    attribute.declaringType().getName()));
+        }
+        setter.accept(entity, value);
+    }
+
+    @Override
+    public final boolean equals(Object other) {
+        return this == other || attribute.equals(other);
+    }
+
+    @Override
+    public final int hashCode() {
+        return attribute.hashCode();
+    }
+
+    @Override
+    @Nonnull
+    public final String toString() {
+        return attribute.toString();
+    }
+}
@@ -17,9 +17,13 @@
  */
 package jakarta.data.metamodel;
 
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
 import jakarta.data.expression.Expression;
 import jakarta.data.messages.Messages;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 
 /**
  * <p>Represents an entity attribute in the {@link StaticMetamodel} that is
@@ -63,5 +67,39 @@ public interface BasicAttribute<T, V> extends Attribute<T>, Expression<T, V> {
 
         return new BasicAttributeRecord<>(entityClass, name, attributeType);
     }
+
+    /**
+     * <p>Creates a static metamodel {@code BasicAttribute} representing the
+     * entity attribute with the specified name, which reads and writes the
+     * entity attribute with the specified getter and setter rather than by
+     * reflection. The attribute that is returned is an
+     * {@link AttributeAccessor}.</p>
+     *
+     * @param <T>           entity class of the static metamodel.
+     * @param <V>           type of entity attribute (or wrapper type if
+     *                      primitive).
+     * @param entityClass   the entity class.
+     * @param name          the name of the entity attribute.
+     * @param attributeType type of the entity attribute.
+     * @param getter        function that reads the entity attribute.
+     * @param setter        function that writes the entity attribute, or
+     *                      {@code null} if the entity attribute is read-only.
+     * @return instance of {@code BasicAttribute} that is also an
+     *         {@code AttributeAccessor}.
+     * @since 1.1
+     */
+    @Nonnull
+    static <T, V> BasicAttribute<T, V> of(
+            @Nonnull Class<T> entityClass, @Nonnull String name,
+            @Nonnull Class<V> attributeType,
+            @Nonnull Function<T, V> getter, @Nullable BiConsumer<T, V> setter) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(name, "name");
+        Messages.requireNonNull(attributeType, "attributeType");
+        Messages.requireNonNull(getter, "getter");
+
+        return new BasicAccessorAttribute<>(
+                entityClass, name, attributeType, getter, setter);
+    }
 }
 
@@ -17,6 +17,8 @@
  */
 package jakarta.data.metamodel;
 
+import java.util.Objects;
+
 import jakarta.annotation.Nonnull;
 
 
@@ -24,6 +26,19 @@ record BasicAttributeRecord<T, V>
         (@Nonnull Class<T> declaringType, @Nonnull String name, @Nonnull Class<V> type)
         implements BasicAttribute<T, V> {
 
+    @Override
+    public boolean equals(Object other) {
+        return AttributeAccessorSupport.attributeOf(other) instanceof BasicAttributeRecord<?, ?> that
+                && declaringType.equals(that.declaringType)
+                && name.equals(that.name)
+                && type.equals(that.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(declaringType, name, type);
+    }
+
     @Override
     @Nonnull
     public String toString() {
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+// Internal implementation class.
+// The proper way to obtain instances is via BooleanAttribute.of with a getter.
+final class BooleanAccessorAttribute<T>
+        extends AttributeAccessorSupport<T, Boolean, BooleanAttributeRecord<T>>
+        implements BooleanAttribute<T> {
+
+    BooleanAccessorAttribute(@Nonnull Class<T> declaringType,
+                             @Nonnull String name,
+                             @Nonnull Class<Boolean> type,
+                             @Nonnull Function<T, Boolean> getter,
+                             @Nullable BiConsumer<T, Boolean> setter) {
+        super(new BooleanAttributeRecord<>(declaringType, name, type), getter, setter);
+    }
+
+    @Override
+    @Nonnull
+    public Class<Boolean> type() {
+        return attribute.type();
+    }
+}
@@ -17,9 +17,13 @@
  */
 package jakarta.data.metamodel;
 
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
 import jakarta.data.expression.BooleanExpression;
 import jakarta.data.messages.Messages;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 
 /**
  * <p>Represents a {@linkplain Boolean boolean} entity attribute in the
@@ -70,6 +74,38 @@ public interface BooleanAttribute<T>
         return new BooleanAttributeRecord<>(entityClass, name, attributeType);
     }
 
+    /**
+     * <p>Creates a static metamodel {@code BooleanAttribute} representing the
+     * entity attribute with the specified name, which reads and writes the
+     * entity attribute with the specified getter and setter rather than by
+     * reflection. The attribute that is returned is an
+     * {@link AttributeAccessor}.</p>
+     *
+     * @param <T>           entity class of the static metamodel.
+     * @param entityClass   the entity class.
+     * @param name          the name of the entity attribute.
+     * @param attributeType type of the entity attribute.
+     * @param getter        function that reads the entity attribute.
+     * @param setter        function that writes the entity attribute, or
+     *                      {@code null} if the entity attribute is read-only.
+     * @return instance of {@code BooleanAttribute} that is also an
+     *         {@code AttributeAccessor}.
+     * @since 1.1
+     */
+    @Nonnull
+    static <T> BooleanAttribute<T> of(
+            @Nonnull Class<T> entityClass, @Nonnull String name,
+            @Nonnull Class<Boolean> attributeType,
+            @Nonnull Function<T, Boolean> getter, @Nullable BiConsumer<T, Boolean> setter) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(name, "name");
+        Messages.requireNonNull(attributeType, "attributeType");
+        Messages.requireNonNull(getter, "getter");
+
+        return new BooleanAccessorAttribute<>(
+                entityClass, name, attributeType, getter, setter);
+    }
+
     /**
      * Returns {@code boolean.class} or {@code Boolean.class} as the entity
      * attribute type for boolean attributes.
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+// Internal implementation class.
+// The proper way to obtain instances is via ComparableAttribute.of with a getter.
+final class ComparableAccessorAttribute<T, V extends Comparable<?>>
+        extends AttributeAccessorSupport<T, V, ComparableAttributeRecord<T, V>>
+        implements ComparableAttribute<T, V> {
+
+    ComparableAccessorAttribute(@Nonnull Class<T> declaringType,
+                                @Nonnull String name,
+                                @Nonnull Class<V> type,
+                                @Nonnull Function<T, V> getter,
+                                @Nullable BiConsumer<T, V> setter) {
+        super(new ComparableAttributeRecord<>(declaringType, name, type), getter, setter);
+    }
+
+    @Override
+    @Nonnull
+    public Class<V> type() {
+        return attribute.type();
+    }
+}
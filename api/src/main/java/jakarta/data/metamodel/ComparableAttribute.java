@@ -17,10 +17,14 @@
  */
 package jakarta.data.metamodel;
 
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
 import jakarta.data.Sort;
 import jakarta.data.expression.ComparableExpression;
 import jakarta.data.messages.Messages;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 
 /**
  * <p>Represents a comparable entity attribute in the {@link StaticMetamodel}.
@@ -90,6 +94,40 @@ public interface ComparableAttribute<T, V extends Comparable<?>>
         return new ComparableAttributeRecord<>(entityClass, name, attributeType);
     }
 
+    /**
+     * <p>Creates a static metamodel {@code ComparableAttribute} representing the
+     * entity attribute with the specified name, which reads and writes the
+     * entity attribute with the specified getter and setter rather than by
+     * reflection. The attribute that is returned is an
+     * {@link AttributeAccessor}.</p>
+     *
+     * @param <T>           entity class of the static metamodel.
+     * @param <V>           type of entity attribute (or wrapper type if
+     *                      primitive).
+     * @param entityClass   the entity class.
+     * @param name          the name of the entity attribute.
+     * @param attributeType type of the entity attribute.
+     * @param getter        function that reads the entity attribute.
+     * @param setter        function that writes the entity attribute, or
+     *                      {@code null} if the entity attribute is read-only.
+     * @return instance of {@code ComparableAttribute} that is also an
+     *         {@code AttributeAccessor}.
+     * @since 1.1
+     */
+    @Nonnull
+    static <T, V extends Comparable<?>> ComparableAttribute<T, V> of(
+            @Nonnull Class<T> entityClass, @Nonnull String name,
+            @Nonnull Class<V> attributeType,
+            @Nonnull Function<T, V> getter, @Nullable BiConsumer<T, V> setter) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(name, "name");
+        Messages.requireNonNull(attributeType, "attributeType");
+        Messages.requireNonNull(getter, "getter");
+
+        return new ComparableAccessorAttribute<>(
+                entityClass, name, attributeType, getter, setter);
+    }
+
     /**
      * Obtain a request for an ascending {@link Sort} based on the entity
      * attribute.
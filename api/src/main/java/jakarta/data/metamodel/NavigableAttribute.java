@@ -17,9 +17,13 @@
  */
 package jakarta.data.metamodel;
 
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
 import jakarta.data.expression.NavigableExpression;
 import jakarta.data.messages.Messages;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 
 /**
  * <p>Represents an entity attribute that is an embeddable or association to
@@ -59,5 +63,38 @@ public interface NavigableAttribute<T, U>
 
         return new NavigableAttributeRecord<>(entityClass, name, attributeType);
     }
+
+    /**
+     * <p>Creates a static metamodel {@code NavigableAttribute} representing the
+     * entity attribute with the specified name, which reads and writes the
+     * entity attribute with the specified getter and setter rather than by
+     * reflection. The attribute that is returned is an
+     * {@link AttributeAccessor}.</p>
+     *
+     * @param <T>           entity class of the static metamodel.
+     * @param <U>           type of entity attribute.
+     * @param entityClass   the entity class.
+     * @param name          the name of the entity attribute.
+     * @param attributeType type of the entity attribute.
+     * @param getter        function that reads the entity attribute.
+     * @param setter        function that writes the entity attribute, or
+     *                      {@code null} if the entity attribute is read-only.
+     * @return instance of {@code NavigableAttribute} that is also an
+     *         {@code AttributeAccessor}.
+     * @since 1.1
+     */
+    @Nonnull
+    static <T, U> NavigableAttribute<T, U> of(
+            @Nonnull Class<T> entityClass, @Nonnull String name,
+            @Nonnull Class<U> attributeType,
+            @Nonnull Function<T, U> getter, @Nullable BiConsumer<T, U> setter) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(name, "name");
+        Messages.requireNonNull(attributeType, "attributeType");
+        Messages.requireNonNull(getter, "getter");
+
+        return new NavigableAccessorAttribute<>(
+                entityClass, name, attributeType, getter, setter);
+    }
 }
 
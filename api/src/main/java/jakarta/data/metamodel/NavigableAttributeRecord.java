@@ -17,6 +17,8 @@
  */
 package jakarta.data.metamodel;
 
+import java.util.Objects;
+
 import jakarta.annotation.Nonnull;
 
 
@@ -24,6 +26,19 @@ record NavigableAttributeRecord<T, U>
         (@Nonnull Class<T> declaringType, @Nonnull String name, @Nonnull Class<U> type)
         implements NavigableAttribute<T, U> {
 
+    @Override
+    public boolean equals(Object other) {
+        return AttributeAccessorSupport.attributeOf(other) instanceof NavigableAttributeRecord<?, ?> that
+                && declaringType.equals(that.declaringType)
+                && name.equals(that.name)
+                && type.equals(that.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(declaringType, name, type);
+    }
+
     @Override
     @Nonnull
     public String toString() {
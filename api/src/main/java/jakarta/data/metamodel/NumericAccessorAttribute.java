@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+// Internal implementation class.
+// The proper way to obtain instances is via NumericAttribute.of with a getter.
+final class NumericAccessorAttribute<T, N extends Number & Comparable<N>>
+        extends AttributeAccessorSupport<T, N, NumericAttributeRecord<T, N>>
+        implements NumericAttribute<T, N> {
+
+    NumericAccessorAttribute(@Nonnull Class<T> declaringType,
+                             @Nonnull String name,
+                             @Nonnull Class<N> type,
+                             @Nonnull Function<T, N> getter,
+                             @Nullable BiConsumer<T, N> setter) {
+        super(new NumericAttributeRecord<>(declaringType, name, type), getter, setter);
+    }
+
+    @Override
+    @Nonnull
+    public Class<N> type() {
+        return attribute.type();
+    }
+}
@@ -17,9 +17,13 @@
  */
 package jakarta.data.metamodel;
 
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
 import jakarta.data.expression.NumericExpression;
 import jakarta.data.messages.Messages;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 
 /**
  * <p>Represents a {@linkplain Number numeric} entity attribute in the
@@ -71,5 +75,39 @@ public interface NumericAttribute<T, N extends Number & Comparable<N>>
 
         return new NumericAttributeRecord<>(entityClass, name, attributeType);
     }
+
+    /**
+     * <p>Creates a static metamodel {@code NumericAttribute} representing the
+     * entity attribute with the specified name, which reads and writes the
+     * entity attribute with the specified getter and setter rather than by
+     * reflection. The attribute that is returned is an
+     * {@link AttributeAccessor}.</p>
+     *
+     * @param <T>           entity class of the static metamodel.
+     * @param <N>           type of entity attribute (or wrapper type if
+     *                      primitive).
+     * @param entityClass   the entity class.
+     * @param name          the name of the entity attribute.
+     * @param attributeType type of the entity attribute.
+     * @param getter        function that reads the entity attribute.
+     * @param setter        function that writes the entity attribute, or
+     *                      {@code null} if the entity attribute is read-only.
+     * @return instance of {@code NumericAttribute} that is also an
+     *         {@code AttributeAccessor}.
+     * @since 1.1
+     */
+    @Nonnull
+    static <T, N extends Number & Comparable<N>> NumericAttribute<T, N> of(
+            @Nonnull Class<T> entityClass, @Nonnull String name,
+            @Nonnull Class<N> attributeType,
+            @Nonnull Function<T, N> getter, @Nullable BiConsumer<T, N> setter) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(name, "name");
+        Messages.requireNonNull(attributeType, "attributeType");
+        Messages.requireNonNull(getter, "getter");
+
+        return new NumericAccessorAttribute<>(
+                entityClass, name, attributeType, getter, setter);
+    }
 }
 
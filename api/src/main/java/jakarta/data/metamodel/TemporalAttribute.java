@@ -18,10 +18,13 @@
 package jakarta.data.metamodel;
 
 import java.time.temporal.Temporal;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import jakarta.data.expression.TemporalExpression;
 import jakarta.data.messages.Messages;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 
 /**
  * <p>Represents a {@linkplain Temporal temporal} entity attribute in the
@@ -70,5 +73,38 @@ public interface TemporalAttribute<T, V extends Temporal & Comparable<? extends
 
         return new TemporalAttributeRecord<>(entityClass, name, attributeType);
     }
+
+    /**
+     * <p>Creates a static metamodel {@code TemporalAttribute} representing the
+     * entity attribute with the specified name, which reads and writes the
+     * entity attribute with the specified getter and setter rather than by
+     * reflection. The attribute that is returned is an
+     * {@link AttributeAccessor}.</p>
+     *
+     * @param <T>           entity class of the static metamodel.
+     * @param <V>           type of entity attribute.
+     * @param entityClass   the entity class.
+     * @param name          the name of the entity attribute.
+     * @param attributeType type of the entity attribute.
+     * @param getter        function that reads the entity attribute.
+     * @param setter        function that writes the entity attribute, or
+     *                      {@code null} if the entity attribute is read-only.
+     * @return instance of {@code TemporalAttribute} that is also an
+     *         {@code AttributeAccessor}.
+     * @since 1.1
+     */
+    @Nonnull
+    static <T, V extends Temporal & Comparable<? extends Temporal>> TemporalAttribute<T, V> of(
+            @Nonnull Class<T> entityClass, @Nonnull String name,
+            @Nonnull Class<V> attributeType,
+            @Nonnull Function<T, V> getter, @Nullable BiConsumer<T, V> setter) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(name, "name");
+        Messages.requireNonNull(attributeType, "attributeType");
+        Messages.requireNonNull(getter, "getter");
+
+        return new TemporalAccessorAttribute<>(
+                entityClass, name, attributeType, getter, setter);
+    }
 }
 
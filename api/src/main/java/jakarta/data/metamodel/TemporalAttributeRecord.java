@@ -18,12 +18,26 @@
 package jakarta.data.metamodel;
 
 import java.time.temporal.Temporal;
+import java.util.Objects;
 import jakarta.annotation.Nonnull;
 
 record TemporalAttributeRecord<T, V extends Temporal & Comparable<? extends Temporal>>
         (@Nonnull Class<T> declaringType, @Nonnull String name, @Nonnull Class<V> type)
         implements TemporalAttribute<T, V> {
 
+    @Override
+    public boolean equals(Object other) {
+        return AttributeAccessorSupport.attributeOf(other) instanceof TemporalAttributeRecord<?, ?> that
+                && declaringType.equals(that.declaringType)
+                && name.equals(that.name)
+                && type.equals(that.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(declaringType, name, type);
+    }
+
     @Override
     @Nonnull
     public String toString() {
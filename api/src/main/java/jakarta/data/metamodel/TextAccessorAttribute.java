@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+// Internal implementation class.
+// The proper way to obtain instances is via TextAttribute.of with a getter.
+final class TextAccessorAttribute<T>
+        extends AttributeAccessorSupport<T, String, TextAttributeRecord<T>>
+        implements TextAttribute<T> {
+
+    TextAccessorAttribute(@Nonnull Class<T> declaringType,
+                          @Nonnull String name,
+                          @Nonnull Function<T, String> getter,
+                          @Nullable BiConsumer<T, String> setter) {
+        super(new TextAttributeRecord<>(declaringType, name), getter, setter);
+    }
+}
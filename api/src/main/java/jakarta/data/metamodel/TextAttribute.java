@@ -17,9 +17,13 @@
  */
 package jakarta.data.metamodel;
 
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
 import jakarta.data.expression.TextExpression;
 import jakarta.data.messages.Messages;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 
 /**
  * Represents an textual entity attribute in the {@link StaticMetamodel}.
@@ -59,4 +63,32 @@ public interface TextAttribute<T> extends ComparableAttribute<T, String>, TextEx
         return new TextAttributeRecord<>(entityClass, name);
     }
 
+    /**
+     * <p>Creates a static metamodel {@code TextAttribute} representing the
+     * entity attribute with the specified name, which reads and writes the
+     * entity attribute with the specified getter and setter rather than by
+     * reflection. The attribute that is returned is an
+     * {@link AttributeAccessor}.</p>
+     *
+     * @param <T>         entity class of the static metamodel.
+     * @param entityClass the entity class.
+     * @param name        the name of the entity attribute.
+     * @param getter      function that reads the entity attribute.
+     * @param setter      function that writes the entity attribute, or
+     *                    {@code null} if the entity attribute is read-only.
+     * @return instance of {@code TextAttribute} that is also an
+     *         {@code AttributeAccessor}.
+     * @since 1.1
+     */
+    @Nonnull
+    static <T> TextAttribute<T> of(
+            @Nonnull Class<T> entityClass, @Nonnull String name,
+            @Nonnull Function<T, String> getter, @Nullable BiConsumer<T, String> setter) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(name, "name");
+        Messages.requireNonNull(getter, "getter");
+
+        return new TextAccessorAttribute<>(entityClass, name, getter, setter);
+    }
+
 }
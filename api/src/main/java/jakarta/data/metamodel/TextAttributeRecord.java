@@ -17,12 +17,26 @@
  */
 package jakarta.data.metamodel;
 
+import java.util.Objects;
+
 import jakarta.annotation.Nonnull;
 
 
 record TextAttributeRecord<T>(@Nonnull Class<T> declaringType, @Nonnull String name)
         implements TextAttribute<T> {
 
+    @Override
+    public boolean equals(Object other) {
+        return AttributeAccessorSupport.attributeOf(other) instanceof TextAttributeRecord<?> that
+                && declaringType.equals(that.declaringType)
+                && name.equals(that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(declaringType, name);
+    }
+
     @Override
     @Nonnull
     public String toString() {
@@ -0,0 +1,776 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.messages.Messages;
+
+/**
+ * <p>Converts a {@link PageRequest.Cursor} to and from an opaque, URL-safe
+ * token, such that a cursor can be sent to a client, for example, as a query
+ * parameter of a REST request for the next page of results, and later
+ * restored from the token that the client sends back.</p>
+ *
+ * <pre>{@code
+ * CursorCodec codec = CursorCodec.create()
+ *                                .withEnums(Status.class)
+ *                                .withHmac(secret);
+ *
+ * String token = codec.encode(page.cursor(page.numberOfElements() - 1));
+ * ...
+ * PageRequest next = PageRequest.afterCursor(
+ *         codec.decode(token), pageNumber, size, false);
+ * }</pre>
+ *
+ * <p>The key elements of the cursor are written in a compact binary format,
+ * in which each element is preceded by a tag identifying its type, and which
+ * is then encoded as
+ * <a href="https://www.rfc-editor.org/rfc/rfc4648#section-5">Base64URL</a>
+ * without padding. Key elements can be {@code null} or can have any of the
+ * following types:</p>
+ * <ul>
+ * <li>{@link Boolean}, {@link Byte}, {@link Short}, {@link Integer},
+ *     {@link Long}, {@link Float}, {@link Double}, {@link Character}</li>
+ * <li>{@link String}, {@link UUID}, {@link BigInteger}, {@link BigDecimal}
+ *     </li>
+ * <li>{@link LocalDate}, {@link LocalTime}, {@link LocalDateTime},
+ *     {@link Instant}, {@link OffsetTime}, {@link OffsetDateTime},
+ *     {@link ZonedDateTime}, {@link Year}</li>
+ * <li>an {@link Enum} of a type that is supplied to
+ *     {@link #withEnums(Class[])}. Enumerated values are written by name.</li>
+ * </ul>
+ *
+ * <p>Decoding a token never loads classes or invokes constructors that are
+ * named by the token. A token is only an encoding of the cursor, not an
+ * encryption of it. If a codec is {@linkplain #withHmac(byte[]) configured}
+ * with a secret key, each token also includes a message authentication code
+ * that is computed with {@code HmacSHA256} and truncated to 128 bits, such
+ * that tokens which were modified or were produced with a different key are
+ * rejected.</p>
+ *
+ * <p>Instances of this class are immutable and thread-safe.</p>
+ *
+ * @since 1.1
+ */
+public final class CursorCodec {
+    private static final String HMAC = "HmacSHA256";
+
+    /**
+     * Number of bytes of the message authentication code that are included
+     * in a token.
+     */
+    private static final int TAG_LENGTH = 16;
+
+    private static final byte VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+    private static final byte BYTE = 3;
+    private static final byte SHORT = 4;
+    private static final byte INT = 5;
+    private static final byte LONG = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+    private static final byte CHAR = 9;
+    private static final byte STRING = 10;
+    private static final byte UUID_TAG = 11;
+    private static final byte BIG_INTEGER = 12;
+    private static final byte BIG_DECIMAL = 13;
+    private static final byte LOCAL_DATE = 14;
+    private static final byte LOCAL_TIME = 15;
+    private static final byte LOCAL_DATE_TIME = 16;
+    private static final byte INSTANT = 17;
+    private static final byte OFFSET_TIME = 18;
+    private static final byte OFFSET_DATE_TIME = 19;
+    private static final byte ZONED_DATE_TIME = 20;
+    private static final byte YEAR = 21;
+    private static final byte ENUM = 22;
+
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+                    .toCharArray();
+
+    /**
+     * Value of each Base64URL character, or -1 for other characters.
+     */
+    private static final byte[] VALUES = new byte[128];
+
+    private static final CursorCodec DEFAULT = new CursorCodec(new Class<?>[0], null);
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            VALUES[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    @Nonnull
+    private final Class<?>[] enumTypes;
+
+    /**
+     * Message authentication code for the current thread, or null if tokens
+     * are not signed.
+     */
+    @Nullable
+    private final ThreadLocal<Mac> macs;
+
+    @Nullable
+    private final SecretKeySpec key;
+
+    private CursorCodec(@Nonnull Class<?>[] enumTypes,
+                        @Nullable SecretKeySpec key) {
+        this.enumTypes = enumTypes;
+        this.key = key;
+        this.macs = key == null ? null : ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * <p>Obtains a codec for cursors with key elements of the built-in types
+     * that are listed in the {@linkplain CursorCodec class description},
+     * which does not sign tokens.</p>
+     *
+     * @return a codec without enumerated types or a secret key.
+     */
+    @Nonnull
+    public static CursorCodec create() {
+        return DEFAULT;
+    }
+
+    /**
+     * <p>Returns a codec that is the same as this codec, except that it also
+     * allows key elements that are enumerated values of the given types.
+     * A codec that decodes a token must be supplied with the same enumerated
+     * types, in the same order, as the codec that encoded it.</p>
+     *
+     * @param types enumerated types. Must not be {@code null} or contain
+     *              {@code null}.
+     * @return a new codec.
+     * @throws NullPointerException if the types or any of them are
+     *         {@code null}.
+     */
+    @SafeVarargs
+    @Nonnull
+    public final CursorCodec withEnums(@Nonnull Class<? extends Enum<?>>... types) {
+        if (types == null) {
+            throw new NullPointerException(
+                    Messages.get("001.arg.required", "types"));
+        }
+
+        Class<?>[] all = Arrays.copyOf(enumTypes, enumTypes.length + types.length);
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == null) {
+                throw new NullPointerException(
+                        Messages.get("003.null.element", "types"));
+            }
+            all[enumTypes.length + i] = types[i];
+        }
+        return new CursorCodec(all, key);
+    }
+
+    /**
+     * <p>Returns a codec that is the same as this codec, except that it
+     * includes a message authentication code that is computed from the given
+     * secret key in each token that it encodes, and that requires a valid
+     * message authentication code in each token that it decodes. The secret
+     * key should be at least 32 bytes of random data.</p>
+     *
+     * @param secret secret key. Must not be {@code null} or empty.
+     *               The array is copied.
+     * @return a new codec.
+     * @throws NullPointerException if the secret key is {@code null}.
+     * @throws IllegalArgumentException if the secret key is empty.
+     */
+    @Nonnull
+    public CursorCodec withHmac(@Nonnull byte[] secret) {
+        Messages.requireNonNull(secret, "secret");
+        if (secret.length == 0) {
+            throw new IllegalArgumentException(
+                    Messages.get("002.no.elements", "secret"));
+        }
+
+        return new CursorCodec(enumTypes, new SecretKeySpec(secret, HMAC));
+    }
+
+    /**
+     * <p>Encodes the key of a cursor as a token.</p>
+     *
+     * @param cursor cursor. Must not be {@code null}.
+     * @return a token consisting only of the characters {@code A-Z},
+     *         {@code a-z}, {@code 0-9}, {@code -}, and {@code _}.
+     * @throws NullPointerException if the cursor is {@code null}.
+     * @throws IllegalArgumentException if a key element of the cursor has a
+     *         type that cannot be encoded.
+     */
+    @Nonnull
+    public String encode(@Nonnull PageRequest.Cursor cursor) {
+        Messages.requireNonNull(cursor, "cursor");
+
+        Writer out = new Writer();
+        out.write(VERSION);
+        int size = cursor.size();
+        out.writeVarint(size);
+        for (int i = 0; i < size; i++) {
+            writeElement(out, cursor.get(i));
+        }
+
+        if (macs != null) {
+            Mac mac = macs.get();
+            mac.update(out.bytes, 0, out.length);
+            out.ensureCapacity(mac.getMacLength());
+            try {
+                mac.doFinal(out.bytes, out.length);
+            } catch (GeneralSecurityException x) {
+                throw new IllegalStateException(x);
+            }
+            out.length += TAG_LENGTH;
+        }
+
+        return toBase64(out.bytes, out.length);
+    }
+
+    /**
+     * <p>Decodes a token that was obtained from {@link #encode} into a
+     * cursor.</p>
+     *
+     * @param token token. Must not be {@code null}.
+     * @return a cursor with the same key elements as the encoded cursor.
+     * @throws NullPointerException if the token is {@code null}.
+     * @throws IllegalArgumentException if the token is not a valid token,
+     *         was modified, or was encoded by a codec with a different secret
+     *         key or enumerated types.
+     */
+    @Nonnull
+    public PageRequest.Cursor decode(@Nonnull CharSequence token) {
+        Messages.requireNonNull(token, "token");
+
+        byte[] bytes = fromBase64(token);
+        int length = bytes.length;
+        if (macs != null) {
+            length -= TAG_LENGTH;
+            if (length < 1 || !verify(bytes, length)) {
+                throw invalid();
+            }
+        }
+
+        Reader in = new Reader(bytes, length);
+        if (in.read() != VERSION) {
+            throw invalid();
+        }
+        // each element occupies at least one byte
+        int size = (int) in.readVarint(length - in.position);
+        if (size == 0) {
+            throw invalid();
+        }
+        Object[] key = new Object[size];
+        for (int i = 0; i < size; i++) {
+            key[i] = readElement(in);
+        }
+        if (in.position != length) {
+            throw invalid();
+        }
+
+        return PageRequest.Cursor.forKey(key);
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        StringBuilder s = new StringBuilder("CursorCodec");
+        if (key != null) {
+            s.append(' ').append(HMAC);
+        }
+        if (enumTypes.length > 0) {
+            s.append(" with enums");
+            for (Class<?> type : enumTypes) {
+                s.append(' ').append(type.getName());
+            }
+        }
+        return s.toString();
+    }
+
+    @Nonnull
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException x) {
+            throw new IllegalStateException(x);
+        }
+    }
+
+    /**
+     * Verifies the message authentication code that follows the content of
+     * a token, comparing all of it regardless of where it differs.
+     */
+    private boolean verify(@Nonnull byte[] bytes, int length) {
+        Mac mac = macs.get();
+        mac.update(bytes, 0, length);
+        byte[] expected = mac.doFinal();
+        int diff = 0;
+        for (int i = 0; i < TAG_LENGTH; i++) {
+            diff |= expected[i] ^ bytes[length + i];
+        }
+        return diff == 0;
+    }
+
+    @Nonnull
+    private static IllegalArgumentException invalid() {
+        return new IllegalArgumentException(
+                Messages.get("022.cursor.token.invalid"));
+    }
+
+    private void writeElement(@Nonnull Writer out, @Nullable Object value) {
+        if (value == null) {
+            out.write(NULL);
+        } else if (value instanceof String s) {
+            out.write(STRING);
+            out.writeString(s);
+        } else if (value instanceof Long n) {
+            out.write(LONG);
+            out.writeSignedVarint(n);
+        } else if (value instanceof Integer n) {
+            out.write(INT);
+            out.writeSignedVarint(n);
+        } else if (value instanceof Boolean b) {
+            out.write(b ? TRUE : FALSE);
+        } else if (value instanceof Short n) {
+            out.write(SHORT);
+            out.writeSignedVarint(n);
+        } else if (value instanceof Byte n) {
+            out.write(BYTE);
+            out.write(n);
+        } else if (value instanceof Double n) {
+            out.write(DOUBLE);
+            out.writeFixed(Double.doubleToRawLongBits(n), Long.BYTES);
+        } else if (value instanceof Float n) {
+            out.write(FLOAT);
+            out.writeFixed(Float.floatToRawIntBits(n), Integer.BYTES);
+        } else if (value instanceof Character c) {
+            out.write(CHAR);
+            out.writeVarint(c);
+        } else if (value instanceof UUID u) {
+            out.write(UUID_TAG);
+            out.writeFixed(u.getMostSignificantBits(), Long.BYTES);
+            out.writeFixed(u.getLeastSignificantBits(), Long.BYTES);
+        } else if (value instanceof BigDecimal d) {
+            out.write(BIG_DECIMAL);
+            out.writeSignedVarint(d.scale());
+            out.writeBytes(d.unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger n) {
+            out.write(BIG_INTEGER);
+            out.writeBytes(n.toByteArray());
+        } else if (value instanceof LocalDate d) {
+            out.write(LOCAL_DATE);
+            out.writeSignedVarint(d.toEpochDay());
+        } else if (value instanceof LocalTime t) {
+            out.write(LOCAL_TIME);
+            out.writeVarint(t.toNanoOfDay());
+        } else if (value instanceof LocalDateTime dt) {
+            out.write(LOCAL_DATE_TIME);
+            out.writeSignedVarint(dt.toLocalDate().toEpochDay());
+            out.writeVarint(dt.toLocalTime().toNanoOfDay());
+        } else if (value instanceof Instant i) {
+            out.write(INSTANT);
+            out.writeSignedVarint(i.getEpochSecond());
+            out.writeVarint(i.getNano());
+        } else if (value instanceof OffsetTime t) {
+            out.write(OFFSET_TIME);
+            out.writeVarint(t.toLocalTime().toNanoOfDay());
+            out.writeSignedVarint(t.getOffset().getTotalSeconds());
+        } else if (value instanceof OffsetDateTime dt) {
+            out.write(OFFSET_DATE_TIME);
+            out.writeSignedVarint(dt.toLocalDate().toEpochDay());
+            out.writeVarint(dt.toLocalTime().toNanoOfDay());
+            out.writeSignedVarint(dt.getOffset().getTotalSeconds());
+        } else if (value instanceof ZonedDateTime dt) {
+            out.write(ZONED_DATE_TIME);
+            out.writeSignedVarint(dt.toLocalDate().toEpochDay());
+            out.writeVarint(dt.toLocalTime().toNanoOfDay());
+            out.writeString(dt.getZone().getId());
+            out.writeSignedVarint(dt.getOffset().getTotalSeconds());
+        } else if (value instanceof Year y) {
+            out.write(YEAR);
+            out.writeSignedVarint(y.getValue());
+        } else if (value instanceof Enum<?> e) {
+            int index = indexOf(e.getDeclaringClass());
+            out.write(ENUM);
+            out.writeVarint(index);
+            out.writeString(e.name());
+        } else {
+            throw new IllegalArgumentException(Messages.get(
+                    "023.cursor.type.unsupported", value.getClass().getName()));
+        }
+    }
+
+    private int indexOf(@Nonnull Class<?> enumType) {
+        for (int i = 0; i < enumTypes.length; i++) {
+            if (enumTypes[i] == enumType) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(Messages.get(
+                "023.cursor.type.unsupported", enumType.getName()));
+    }
+
+    @Nullable
+    private Object readElement(@Nonnull Reader in) {
+        byte tag = in.read();
+        try {
+            switch (tag) {
+                case NULL:
+                    return null;
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                case BYTE:
+                    return in.read();
+                case SHORT:
+                    return (short) in.readSignedVarint(Short.MIN_VALUE, Short.MAX_VALUE);
+                case INT:
+                    return (int) in.readSignedVarint(Integer.MIN_VALUE, Integer.MAX_VALUE);
+                case LONG:
+                    return in.readSignedVarint(Long.MIN_VALUE, Long.MAX_VALUE);
+                case FLOAT:
+                    return Float.intBitsToFloat((int) in.readFixed(Integer.BYTES));
+                case DOUBLE:
+                    return Double.longBitsToDouble(in.readFixed(Long.BYTES));
+                case CHAR:
+                    return (char) in.readVarint(Character.MAX_VALUE);
+                case STRING:
+                    return in.readString();
+                case UUID_TAG:
+                    return new UUID(in.readFixed(Long.BYTES), in.readFixed(Long.BYTES));
+                case BIG_INTEGER:
+                    return new BigInteger(in.readBytes());
+                case BIG_DECIMAL:
+                    return readBigDecimal(in);
+                case LOCAL_DATE:
+                    return readLocalDate(in);
+                case LOCAL_TIME:
+                    return readLocalTime(in);
+                case LOCAL_DATE_TIME:
+                    return LocalDateTime.of(readLocalDate(in), readLocalTime(in));
+                case INSTANT:
+                    return Instant.ofEpochSecond(
+                            in.readSignedVarint(Long.MIN_VALUE, Long.MAX_VALUE),
+                            in.readVarint(Integer.MAX_VALUE));
+                case OFFSET_TIME:
+                    return OffsetTime.of(readLocalTime(in), readOffset(in));
+                case OFFSET_DATE_TIME:
+                    return OffsetDateTime.of(readLocalDate(in), readLocalTime(in),
+                                             readOffset(in));
+                case ZONED_DATE_TIME:
+                    return ZonedDateTime.ofLocal(
+                            LocalDateTime.of(readLocalDate(in), readLocalTime(in)),
+                            ZoneId.of(in.readString()),
+                            readOffset(in));
+                case YEAR:
+                    return Year.of((int) in.readSignedVarint(Integer.MIN_VALUE, Integer.MAX_VALUE));
+                case ENUM:
+                    return readEnum(in);
+                default:
+                    throw invalid();
+            }
+        } catch (IllegalArgumentException | DateTimeException | ArithmeticException x) {
+            // includes values that are out of range for their type
+            throw invalid();
+        }
+    }
+
+    @Nonnull
+    private static BigDecimal readBigDecimal(@Nonnull Reader in) {
+        int scale = (int) in.readSignedVarint(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return new BigDecimal(new BigInteger(in.readBytes()), scale);
+    }
+
+    @Nonnull
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Enum<?> readEnum(@Nonnull Reader in) {
+        Class type = enumTypes[(int) in.readVarint(enumTypes.length - 1L)];
+        return Enum.valueOf(type, in.readString());
+    }
+
+    @Nonnull
+    private static LocalDate readLocalDate(@Nonnull Reader in) {
+        return LocalDate.ofEpochDay(in.readSignedVarint(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Nonnull
+    private static LocalTime readLocalTime(@Nonnull Reader in) {
+        return LocalTime.ofNanoOfDay(in.readVarint(Long.MAX_VALUE));
+    }
+
+    @Nonnull
+    private static ZoneOffset readOffset(@Nonnull Reader in) {
+        return ZoneOffset.ofTotalSeconds(
+                (int) in.readSignedVarint(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Nonnull
+    private static String toBase64(@Nonnull byte[] bytes, int length) {
+        byte[] chars = new byte[(length * 4 + 2) / 3];
+        int c = 0;
+        int i = 0;
+        for (; i + 2 < length; i += 3) {
+            int bits = (bytes[i] & 0xFF) << 16 | (bytes[i + 1] & 0xFF) << 8 | bytes[i + 2] & 0xFF;
+            chars[c++] = (byte) ALPHABET[bits >>> 18];
+            chars[c++] = (byte) ALPHABET[bits >>> 12 & 0x3F];
+            chars[c++] = (byte) ALPHABET[bits >>> 6 & 0x3F];
+            chars[c++] = (byte) ALPHABET[bits & 0x3F];
+        }
+        if (i < length) {
+            int bits = (bytes[i] & 0xFF) << 16
+                    | (i + 1 < length ? (bytes[i + 1] & 0xFF) << 8 : 0);
+            chars[c++] = (byte) ALPHABET[bits >>> 18];
+            chars[c++] = (byte) ALPHABET[bits >>> 12 & 0x3F];
+            if (i + 1 < length) {
+                chars[c] = (byte) ALPHABET[bits >>> 6 & 0x3F];
+            }
+        }
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+
+    @Nonnull
+    private static byte[] fromBase64(@Nonnull CharSequence token) {
+        int length = token.length();
+        if (length % 4 == 1) {
+            throw invalid();
+        }
+        byte[] bytes = new byte[length * 3 / 4];
+        int b = 0;
+        int bits = 0;
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            char ch = token.charAt(i);
+            int value = ch < VALUES.length ? VALUES[ch] : -1;
+            if (value < 0) {
+                throw invalid();
+            }
+            bits = bits << 6 | value;
+            if (++count == 4) {
+                bytes[b++] = (byte) (bits >>> 16);
+                bytes[b++] = (byte) (bits >>> 8);
+                bytes[b++] = (byte) bits;
+                bits = 0;
+                count = 0;
+            }
+        }
+        if (count == 3) {
+            bytes[b++] = (byte) (bits >>> 10);
+            bytes[b] = (byte) (bits >>> 2);
+        } else if (count == 2) {
+            bytes[b] = (byte) (bits >>> 4);
+        }
+        return bytes;
+    }
+
+    /**
+     * Growable buffer to which a token is written before it is encoded.
+     */
+    private static final class Writer {
+        @Nonnull
+        byte[] bytes = new byte[64];
+
+        int length;
+
+        void ensureCapacity(int additional) {
+            if (length + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+            }
+        }
+
+        void write(byte b) {
+            ensureCapacity(1);
+            bytes[length++] = b;
+        }
+
+        void writeVarint(long value) {
+            ensureCapacity(10);
+            long v = value;
+            while ((v & ~0x7FL) != 0) {
+                bytes[length++] = (byte) (v & 0x7F | 0x80);
+                v >>>= 7;
+            }
+            bytes[length++] = (byte) v;
+        }
+
+        void writeSignedVarint(long value) {
+            writeVarint(value << 1 ^ value >> 63);
+        }
+
+        void writeFixed(long value, int size) {
+            ensureCapacity(size);
+            for (int shift = (size - 1) * 8; shift >= 0; shift -= 8) {
+                bytes[length++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeBytes(@Nonnull byte[] value) {
+            writeVarint(value.length);
+            ensureCapacity(value.length);
+            System.arraycopy(value, 0, bytes, length, value.length);
+            length += value.length;
+        }
+
+        /**
+         * Writes the length in bytes and the UTF-8 encoding of the string,
+         * without first converting it to an array of bytes.
+         */
+        void writeString(@Nonnull String value) {
+            int chars = value.length();
+            int utf8 = chars;
+            for (int i = 0; i < chars; i++) {
+                char ch = value.charAt(i);
+                if (ch >= 0x800) {
+                    utf8 += Character.isSurrogate(ch) ? 1 : 2;
+                } else if (ch >= 0x80) {
+                    utf8++;
+                }
+            }
+            if (utf8 == chars) {
+                writeVarint(chars);
+                ensureCapacity(chars);
+                for (int i = 0; i < chars; i++) {
+                    bytes[length++] = (byte) value.charAt(i);
+                }
+            } else {
+                writeBytes(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    /**
+     * Reads a token after it is decoded, rejecting content that is
+     * incomplete or out of range.
+     */
+    private static final class Reader {
+        @Nonnull
+        private final byte[] bytes;
+
+        private final int length;
+
+        int position;
+
+        private Reader(@Nonnull byte[] bytes, int length) {
+            this.bytes = bytes;
+            this.length = length;
+        }
+
+        byte read() {
+            if (position >= length) {
+                throw invalid();
+            }
+            return bytes[position++];
+        }
+
+        long readVarint(long max) {
+            long value = readRawVarint();
+            if (value < 0 || value > max) {
+                throw invalid();
+            }
+            return value;
+        }
+
+        long readSignedVarint(long min, long max) {
+            long raw = readRawVarint();
+            long value = raw >>> 1 ^ -(raw & 1);
+            if (value < min || value > max) {
+                throw invalid();
+            }
+            return value;
+        }
+
+        private long readRawVarint() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (shift > 63) {
+                    throw invalid();
+                }
+                b = read();
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+
+        long readFixed(int size) {
+            long value = 0;
+            for (int i = 0; i < size; i++) {
+                value = value << 8 | read() & 0xFF;
+            }
+            return value;
+        }
+
+        /**
+         * Reads the number of bytes of a value that follows.
+         */
+        private int readLength() {
+            int size = (int) readVarint(Integer.MAX_VALUE);
+            if (size > length - position) {
+                throw invalid();
+            }
+            return size;
+        }
+
+        @Nonnull
+        byte[] readBytes() {
+            int size = readLength();
+            if (size == 0) {
+                throw invalid();
+            }
+            byte[] value = Arrays.copyOfRange(bytes, position, position + size);
+            position += size;
+            return value;
+        }
+
+        @Nonnull
+        String readString() {
+            int size = readLength();
+            String value = new String(bytes, position, size, StandardCharsets.UTF_8);
+            position += size;
+            return value;
+        }
+    }
+}
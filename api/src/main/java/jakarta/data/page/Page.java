@@ -41,7 +41,9 @@ import jakarta.annotation.Nonnull;
  * <p>If {@link PageRequest#requestTotal()} is enabled, the {@link Page} also
  * contains information about the {@linkplain #totalPages total number of pages}
  * and the {@linkplain #totalElements total number of elements} that can be
- * retrieved by the query.</p>
+ * retrieved by the query. If {@link PageRequest#estimateTotal()} is also
+ * enabled, these totals might be {@linkplain #hasEstimatedTotals() estimates}
+ * rather than exact counts.</p>
  *
  * @param <T> the type of elements in this page.
  */
@@ -164,6 +166,22 @@ public interface Page<T> extends Iterable<T> {
      */
     boolean hasTotals();
 
+    /**
+     * <p>Returns {@code true} if {@linkplain #hasTotals() totals are available}
+     * but might be estimates rather than exact counts, because the
+     * {@link #pageRequest()} {@linkplain PageRequest#estimateTotal() allowed}
+     * the total number of elements to be estimated. An application might
+     * present an estimated total as an approximation, such as
+     * "about 1.2M results".</p>
+     *
+     * @return {@code true} if the totals might be estimates, or
+     *         {@code false} if the totals are exact or are not available.
+     * @since 1.1
+     */
+    default boolean hasEstimatedTotals() {
+        return false;
+    }
+
     /**
      * Returns the total number of elements across all pages of query results,
      * if the {@link #pageRequest()} specified that
@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.exceptions.DataException;
+import jakarta.data.messages.Messages;
+
+/**
+ * <p>Iterates over the results of every page of a query, starting from a
+ * given page request and following the {@linkplain Page#nextPageRequest()
+ * next page request} of each page until a page
+ * {@linkplain Page#hasNext() has no next page}. Pages are obtained from a
+ * function, which is typically a repository method that accepts a
+ * {@link PageRequest}. For example,</p>
+ *
+ * <pre>{@code
+ * try (Stream<Product> products = PageIterator.of(
+ *         PageRequest.ofSize(500),
+ *         req -> products.findAll(req, Order.by(_Product.id.asc())),
+ *         executor,
+ *         2).stream()) {
+ *     products.forEach(exporter::write);
+ * }
+ * }</pre>
+ *
+ * <p>When supplied with an {@link Executor} and a prefetch depth greater than
+ * {@code 0}, the iterator requests the next page on the executor while the
+ * results of the current page are being consumed, such that obtaining the
+ * results from the database overlaps with processing them. At most the
+ * given number of pages are obtained ahead of the page that is being
+ * consumed. Because the request for a page depends on the page before it,
+ * such as for {@linkplain PageRequest.Mode#CURSOR_NEXT cursor-based
+ * pagination}, at most one page is requested at a time.</p>
+ *
+ * <p>An exception that is raised when obtaining a page is raised to the
+ * consumer by {@link #hasNext()} or {@link #next()} after the results of the
+ * preceding pages have been consumed. An iterator that is
+ * {@linkplain #close() closed}, either directly or by closing its
+ * {@linkplain #stream() stream}, does not request any more pages and
+ * discards the pages it has already obtained. A request for a page that is
+ * in progress when the iterator is closed is allowed to complete.</p>
+ *
+ * <p>An instance of this class must only be consumed by one thread at a
+ * time, although it can be closed from any thread.</p>
+ *
+ * @param <T> the type of result.
+ * @since 1.1
+ */
+public final class PageIterator<T> implements Iterator<T>, AutoCloseable {
+
+    @Nonnull
+    private final Function<? super PageRequest, ? extends Page<T>> fetcher;
+
+    /**
+     * Executor on which pages are obtained, or null to obtain each page on
+     * the consuming thread when it is needed.
+     */
+    @Nullable
+    private final Executor executor;
+
+    private final int prefetch;
+
+    @Nonnull
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Nonnull
+    private final Condition arrived = lock.newCondition();
+
+    // The following fields are guarded by the lock.
+
+    /**
+     * Pages that are obtained but not yet consumed.
+     */
+    @Nonnull
+    private final ArrayDeque<Page<T>> ready = new ArrayDeque<>();
+
+    /**
+     * Request for the next page that is not yet requested, or null if there
+     * are no more pages or the request is in progress.
+     */
+    @Nullable
+    private PageRequest nextRequest;
+
+    private boolean fetching;
+
+    private boolean closed;
+
+    /**
+     * Exception or error that was raised when obtaining a page on the
+     * executor.
+     */
+    @Nullable
+    private Throwable failure;
+
+    // The following field is accessed only by the consuming thread.
+
+    @Nonnull
+    private Iterator<T> current = Collections.emptyIterator();
+
+    private PageIterator(@Nonnull PageRequest first,
+                         @Nonnull Function<? super PageRequest, ? extends Page<T>> fetcher,
+                         @Nullable Executor executor,
+                         int prefetch) {
+        this.nextRequest = first;
+        this.fetcher = fetcher;
+        this.executor = executor;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * <p>Creates an iterator that obtains each page on the consuming thread
+     * when the results of the previous page have been consumed.</p>
+     *
+     * @param <T>     the type of result.
+     * @param first   request for the first page. Must not be {@code null}.
+     * @param fetcher function that obtains the page for a page request.
+     *                Must not be {@code null}.
+     * @return a new iterator.
+     * @throws NullPointerException if either argument is {@code null}.
+     */
+    @Nonnull
+    public static <T> PageIterator<T> of(@Nonnull PageRequest first,
+                                         @Nonnull Function<? super PageRequest, ? extends Page<T>> fetcher) {
+        Messages.requireNonNull(first, "first");
+        Messages.requireNonNull(fetcher, "fetcher");
+
+        return new PageIterator<>(first, fetcher, null, 0);
+    }
+
+    /**
+     * <p>Creates an iterator that obtains pages on the given executor, up to
+     * the given number of pages ahead of the page that is being consumed.
+     * The first page is requested immediately.</p>
+     *
+     * @param <T>      the type of result.
+     * @param first    request for the first page. Must not be {@code null}.
+     * @param fetcher  function that obtains the page for a page request.
+     *                 Must not be {@code null}.
+     * @param executor executor on which to obtain pages.
+     *                 Must not be {@code null}.
+     * @param prefetch maximum number of pages to obtain ahead of the page
+     *                 that is being consumed. Must be at least {@code 1}.
+     * @return a new iterator.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if the prefetch depth is less than
+     *         {@code 1}.
+     */
+    @Nonnull
+    public static <T> PageIterator<T> of(@Nonnull PageRequest first,
+                                         @Nonnull Function<? super PageRequest, ? extends Page<T>> fetcher,
+                                         @Nonnull Executor executor,
+                                         int prefetch) {
+        Messages.requireNonNull(first, "first");
+        Messages.requireNonNull(fetcher, "fetcher");
+        Messages.requireNonNull(executor, "executor");
+        if (prefetch < 1) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "prefetch", prefetch));
+        }
+
+        PageIterator<T> iterator = new PageIterator<>(first, fetcher, executor, prefetch);
+        iterator.lock.lock();
+        try {
+            iterator.requestNextPage();
+        } finally {
+            iterator.lock.unlock();
+        }
+        return iterator;
+    }
+
+    /**
+     * <p>Returns a sequential stream of the remaining results, which closes
+     * this iterator when the stream is closed.</p>
+     *
+     * @return a stream of the results.
+     */
+    @Nonnull
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(
+                this, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            Page<T> page = nextPage();
+            if (page == null) {
+                return false;
+            }
+            current = page.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    @Nonnull
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * <p>Stops requesting pages and discards the pages that were obtained
+     * but not yet consumed.</p>
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            nextRequest = null;
+            ready.clear();
+            arrived.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        current = Collections.emptyIterator();
+    }
+
+    /**
+     * Takes the next page that is obtained, waiting for it if necessary, or
+     * obtains it on the current thread if there is no executor.
+     *
+     * @return the next page, or null if there are no more pages.
+     */
+    @Nullable
+    private Page<T> nextPage() {
+        PageRequest request;
+        lock.lock();
+        try {
+            while (ready.isEmpty() && fetching && failure == null && !closed) {
+                arrived.await();
+            }
+            Page<T> page = ready.poll();
+            if (page != null) {
+                requestNextPage();
+                return page;
+            } else if (failure != null) {
+                Throwable x = failure;
+                failure = null;
+                closed = true;
+                if (x instanceof Error e) {
+                    throw e;
+                }
+                throw (RuntimeException) x;
+            } else if (closed || nextRequest == null) {
+                return null;
+            }
+            // obtain the page on this thread
+            request = nextRequest;
+            nextRequest = null;
+        } catch (InterruptedException x) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new DataException(Messages.get("024.page.wait.interrupted"), x);
+        } finally {
+            lock.unlock();
+        }
+
+        Page<T> page = fetcher.apply(request);
+        lock.lock();
+        try {
+            if (!closed && page.hasNext()) {
+                nextRequest = page.nextPageRequest();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return page;
+    }
+
+    /**
+     * Requests the next page on the executor if there is one, there is no
+     * request in progress, and fewer pages than the prefetch depth are
+     * waiting to be consumed. The lock must be held.
+     */
+    private void requestNextPage() {
+        if (executor != null
+                && !fetching
+                && !closed
+                && nextRequest != null
+                && ready.size() < prefetch) {
+            PageRequest request = nextRequest;
+            nextRequest = null;
+            fetching = true;
+            try {
+                executor.execute(() -> fetch(request));
+            } catch (RuntimeException x) {
+                fetching = false;
+                failure = x;
+            }
+        }
+    }
+
+    /**
+     * Obtains a page on the executor and makes it available to the consumer.
+     */
+    private void fetch(@Nonnull PageRequest request) {
+        Page<T> page = null;
+        PageRequest next = null;
+        Throwable x = null;
+        try {
+            page = fetcher.apply(request);
+            next = page.hasNext() ? page.nextPageRequest() : null;
+        } catch (RuntimeException | Error e) {
+            x = e;
+        } finally {
+            lock.lock();
+            try {
+                fetching = false;
+                // the page is discarded if the iterator was closed
+                if (!closed && x == null) {
+                    ready.add(page);
+                    nextRequest = next;
+                    requestNextPage();
+                } else if (!closed) {
+                    failure = x;
+                }
+                arrived.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
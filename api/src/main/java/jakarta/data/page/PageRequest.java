@@ -299,6 +299,30 @@ public interface PageRequest {
      */
     boolean requestTotal();
 
+    /**
+     * <p>Indicates that a query method which returns a {@link Page} may
+     * retrieve an estimate of the
+     * {@linkplain Page#totalElements() total number of elements} available
+     * across all pages rather than an exact count, such as from the statistics
+     * that the database keeps for a table, from a count that was cached for an
+     * earlier request, or by counting a sample of the elements. This avoids
+     * the cost of counting every element where the count would cost more than
+     * retrieving the page. A page request that allows an estimate also
+     * {@linkplain #requestTotal() requests a total}, and is obtained from
+     * {@link #withEstimatedTotal()}.</p>
+     *
+     * <p>A repository implementation that is incapable of estimating the total
+     * retrieves an exact total instead. {@link Page#hasEstimatedTotals()}
+     * indicates whether the totals of a page are estimates.</p>
+     *
+     * @return {@code true} if an estimate of the total number of elements is
+     * acceptable in place of an exact count.
+     * @since 1.1
+     */
+    default boolean estimateTotal() {
+        return false;
+    }
+
     /**
      * Creates a new page request with the same pagination information,
      * but with the specified page number. The first page number is {@code 1}.
@@ -382,13 +406,39 @@ public interface PageRequest {
 
     /**
      * Returns an otherwise-equivalent page request with {@link #requestTotal()}
-     * set to {@code true}, so that totals will be retrieved from the database.
+     * set to {@code true} and {@link #estimateTotal()} set to {@code false},
+     * so that exact totals will be retrieved from the database.
      *
      * @return a page request with {@link #requestTotal()} set to {@code true}.
      */
     @Nonnull
     PageRequest withTotal();
 
+    /**
+     * <p>Returns an otherwise-equivalent page request with
+     * {@link #requestTotal()} and {@link #estimateTotal()} set to
+     * {@code true}, so that totals will be retrieved from the database, but
+     * might be estimates rather than exact counts. For example,</p>
+     *
+     * <pre>{@code
+     * Page<Product> page = products.search(name, PageRequest.ofSize(50).withEstimatedTotal());
+     * if (page.hasEstimatedTotals()) {
+     *     System.out.println("About " + page.totalElements() + " results");
+     * }
+     * }</pre>
+     *
+     * <p>The default implementation returns {@link #withTotal()}, because an
+     * exact total is also an acceptable estimate.</p>
+     *
+     * @return a page request with {@link #requestTotal()} and
+     * {@link #estimateTotal()} set to {@code true}.
+     * @since 1.1
+     */
+    @Nonnull
+    default PageRequest withEstimatedTotal() {
+        return withTotal();
+    }
+
     /**
      * The type of pagination: offset-based or cursor-based, which includes a
      * direction.
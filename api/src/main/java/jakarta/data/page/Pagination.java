@@ -27,7 +27,12 @@ import jakarta.data.messages.Messages;
  * Built-in implementation of PageRequest.
  */
 record Pagination(long pageNumber, int size, @Nonnull Mode mode, @Nullable Cursor type,
-                  boolean requestTotal) implements PageRequest {
+                  boolean requestTotal, boolean estimateTotal) implements PageRequest {
+
+    Pagination(long pageNumber, int size, @Nonnull Mode mode, @Nullable Cursor type,
+               boolean requestTotal) {
+        this(pageNumber, size, mode, type, requestTotal, false);
+    }
 
     Pagination {
         if (pageNumber < 1) {
@@ -45,13 +50,19 @@ record Pagination(long pageNumber, int size, @Nonnull Mode mode, @Nullable Curso
     @Override
     @Nonnull
     public PageRequest withoutTotal() {
-        return new Pagination(pageNumber, size, mode, type, false);
+        return new Pagination(pageNumber, size, mode, type, false, false);
     }
 
     @Override
     @Nonnull
     public PageRequest withTotal() {
-        return new Pagination(pageNumber, size, mode, type, true);
+        return new Pagination(pageNumber, size, mode, type, true, false);
+    }
+
+    @Override
+    @Nonnull
+    public PageRequest withEstimatedTotal() {
+        return new Pagination(pageNumber, size, mode, type, true, true);
     }
 
     @Override
@@ -61,7 +72,8 @@ record Pagination(long pageNumber, int size, @Nonnull Mode mode, @Nullable Curso
                               size,
                               Mode.CURSOR_NEXT,
                               cursor,
-                              requestTotal);
+                              requestTotal,
+                              estimateTotal);
     }
 
     @Override
@@ -71,7 +83,8 @@ record Pagination(long pageNumber, int size, @Nonnull Mode mode, @Nullable Curso
                               size,
                               Mode.CURSOR_PREVIOUS,
                               cursor,
-                              requestTotal);
+                              requestTotal,
+                              estimateTotal);
     }
 
     @Override
@@ -90,19 +103,22 @@ record Pagination(long pageNumber, int size, @Nonnull Mode mode, @Nullable Curso
         if (type != null) {
             s.append(", cursor size=").append(type.size());
         }
+        if (estimateTotal) {
+            s.append(", estimated total");
+        }
         return s.append('}').toString();
     }
 
     @Override
     @Nonnull
     public PageRequest size(int maxPageSize) {
-        return new Pagination(pageNumber, maxPageSize, mode, type, requestTotal);
+        return new Pagination(pageNumber, maxPageSize, mode, type, requestTotal, estimateTotal);
     }
 
     @Override
     @Nonnull
     public PageRequest pageNumber(long pageNumber) {
-        return new Pagination(pageNumber, size, mode, type, requestTotal);
+        return new Pagination(pageNumber, size, mode, type, requestTotal, estimateTotal);
     }
 
 }
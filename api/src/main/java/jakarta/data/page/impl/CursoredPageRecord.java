@@ -24,6 +24,7 @@ import jakarta.data.page.PageRequest;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.Function;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
@@ -41,7 +42,10 @@ import jakarta.annotation.Nullable;
  *                            {@link #nextPageRequest()},
  *                            {@link #previousPageRequest()}
  * @param totalElements       The total number of elements across all pages that
- *                            can be requested for the query
+ *                            can be requested for the query, which might be
+ *                            an estimate if the page request
+ *                            {@linkplain PageRequest#estimateTotal() allows
+ *                            an estimate}
  * @param pageRequest         The {@link PageRequest page request} for which
  *                            this page was obtained
  * @param nextPageRequest     A {@link PageRequest page request} for the next
@@ -63,8 +67,8 @@ public record CursoredPageRecord<T>
                       @Nonnull PageRequest pageRequest,
                       @Nullable PageRequest nextPageRequest,
                       @Nullable PageRequest previousPageRequest) {
-        this.content = List.copyOf(content);
-        this.cursors = List.copyOf(cursors);
+        this.content = OwnedList.copyOf(content);
+        this.cursors = OwnedList.copyOf(cursors);
         this.totalElements = totalElements;
         this.pageRequest = pageRequest;
         this.nextPageRequest = nextPageRequest;
@@ -87,20 +91,182 @@ public record CursoredPageRecord<T>
     (@Nonnull List<T> content, @Nonnull List<PageRequest.Cursor> cursors, long totalElements, @Nonnull PageRequest pageRequest,
      boolean firstPage, boolean lastPage) {
         this(content, cursors, totalElements, pageRequest,
-                lastPage ? null : PageRequest.afterCursor(
+                lastPage ? null : totals(pageRequest, PageRequest.afterCursor(
                         cursors.get(cursors.size() - 1),
                         pageRequest.pageNumber() + 1,
                         pageRequest.size(),
-                        pageRequest.requestTotal()),
-                firstPage ? null : PageRequest.beforeCursor(
+                        pageRequest.requestTotal())),
+                firstPage ? null : totals(pageRequest, PageRequest.beforeCursor(
                         cursors.get(0),
                         pageRequest.pageNumber() == 1
                                 ? 1
                                 : pageRequest.pageNumber() - 1,
                         pageRequest.size(),
-                        pageRequest.requestTotal()));
+                        pageRequest.requestTotal())));
     }
 
+    /**
+     * Obtains a request for another page that allows an estimate of the
+     * total if the page request of this page does.
+     */
+    @Nonnull
+    private static PageRequest totals(@Nonnull PageRequest pageRequest,
+                                      @Nonnull PageRequest request) {
+        return pageRequest.estimateTotal()
+                ? request.withEstimatedTotal()
+                : request;
+    }
+
+    /**
+     * <p>Creates a new instance that takes ownership of the given
+     * {@code content} and {@code cursors} rather than copying them, for use by
+     * a Jakarta Data provider that builds new lists of results and cursors for
+     * each page. The record constructors make unmodifiable copies of the lists
+     * so that they cannot be changed by whoever supplied them. This method
+     * instead holds unmodifiable views of the lists, and so the caller must
+     * not modify the lists, or allow them to be modified, after calling this
+     * method.</p>
+     *
+     * <p>A list that does not support efficient random access, such as a
+     * {@link java.util.LinkedList}, is copied regardless.</p>
+     *
+     * @param content             The page content, that is, the query results,
+     *                            in order, which must not contain {@code null}
+     *                            elements.
+     * @param cursors             A list of {@link PageRequest.Cursor} instances
+     *                            for result, in order.
+     * @param totalElements       The total number of elements across all pages
+     *                            that can be requested for the query.
+     * @param pageRequest         The {@link PageRequest page request} for which
+     *                            this page was obtained.
+     * @param nextPageRequest     A {@link PageRequest page request} for the
+     *                            next page of results.
+     * @param previousPageRequest A {@link PageRequest page request} for the
+     *                            previous page of results.
+     * @param <T>                 The type of elements on the page.
+     * @return a new page record.
+     * @since 1.1
+     */
+    @Nonnull
+    public static <T> CursoredPageRecord<T> ofOwned(
+            @Nonnull List<T> content,
+            @Nonnull List<PageRequest.Cursor> cursors,
+            long totalElements,
+            @Nonnull PageRequest pageRequest,
+            @Nullable PageRequest nextPageRequest,
+            @Nullable PageRequest previousPageRequest) {
+        return new CursoredPageRecord<>(
+                OwnedList.of(content, "content"),
+                OwnedList.of(cursors, "cursors"),
+                totalElements,
+                pageRequest,
+                nextPageRequest,
+                previousPageRequest);
+    }
+
+    /**
+     * <p>Creates a new instance that takes ownership of the given
+     * {@code content} and {@code cursors} rather than copying them, computing
+     * the next and previous page requests in the same way as
+     * {@link #CursoredPageRecord(List, List, long, PageRequest, boolean, boolean)}.
+     * The caller must not modify the lists, or allow them to be modified,
+     * after calling this method.</p>
+     *
+     * @param content       The page content, that is, the query results, in
+     *                      order, which must not contain {@code null}
+     *                      elements.
+     * @param cursors       A list of {@link PageRequest.Cursor} instances for
+     *                      result, in order.
+     * @param totalElements The total number of elements across all pages that
+     *                      can be requested for the query.
+     * @param pageRequest   The {@link PageRequest page request} for which this
+     *                      page was obtained.
+     * @param firstPage     True, if this is the first page of results.
+     * @param lastPage      True, if this is the last page of results.
+     * @param <T>           The type of elements on the page.
+     * @return a new page record.
+     * @see #ofOwned(List, List, long, PageRequest, PageRequest, PageRequest)
+     * @since 1.1
+     */
+    @Nonnull
+    public static <T> CursoredPageRecord<T> ofOwned(
+            @Nonnull List<T> content,
+            @Nonnull List<PageRequest.Cursor> cursors,
+            long totalElements,
+            @Nonnull PageRequest pageRequest,
+            boolean firstPage,
+            boolean lastPage) {
+        return new CursoredPageRecord<>(
+                OwnedList.of(content, "content"),
+                OwnedList.of(cursors, "cursors"),
+                totalElements,
+                pageRequest,
+                firstPage,
+                lastPage);
+    }
+
+    /**
+     * <p>Creates a new instance that takes ownership of the given
+     * {@code content} rather than copying it, and that computes the cursor
+     * for each result from the result itself, using the given function to
+     * obtain the values of the key. Only the cursors for the first and last
+     * results are computed when the instance is created, in order to
+     * determine the next and previous page requests. The cursor for any
+     * other result is computed when it is requested, such as by
+     * {@link #cursor(int)}, and so each request for a cursor computes a new
+     * cursor that is equal to the previous one.</p>
+     *
+     * <p>The key extractor obtains the values of the sort criteria from a
+     * result, in the same order as the sort criteria, and must return a new
+     * array for each result. For example,</p>
+     *
+     * <pre>{@code
+     * CursoredPage<Car> page = CursoredPageRecord.ofOwned(
+     *         results,
+     *         car -> new Object[] { car.getPrice(), car.getVin() },
+     *         -1,
+     *         pageRequest,
+     *         pageRequest.mode() == PageRequest.Mode.OFFSET,
+     *         results.size() < pageRequest.size());
+     * }</pre>
+     *
+     * <p>The caller must not modify the content, or allow it to be modified,
+     * after calling this method.</p>
+     *
+     * @param content       The page content, that is, the query results, in
+     *                      order, which must not contain {@code null}
+     *                      elements.
+     * @param keyExtractor  Function that obtains the values of the key of
+     *                      the cursor for a result.
+     * @param totalElements The total number of elements across all pages that
+     *                      can be requested for the query.
+     * @param pageRequest   The {@link PageRequest page request} for which this
+     *                      page was obtained.
+     * @param firstPage     True, if this is the first page of results.
+     * @param lastPage      True, if this is the last page of results.
+     * @param <T>           The type of elements on the page.
+     * @return a new page record.
+     * @since 1.1
+     */
+    @Nonnull
+    public static <T> CursoredPageRecord<T> ofOwned(
+            @Nonnull List<T> content,
+            @Nonnull Function<? super T, Object[]> keyExtractor,
+            long totalElements,
+            @Nonnull PageRequest pageRequest,
+            boolean firstPage,
+            boolean lastPage) {
+        Messages.requireNonNull(keyExtractor, "keyExtractor");
+
+        List<T> owned = OwnedList.of(content, "content");
+        return new CursoredPageRecord<>(
+                owned,
+                new KeyedCursorList<>(owned, keyExtractor),
+                totalElements,
+                pageRequest,
+                firstPage,
+                lastPage);
+    }
 
     @Override
     public boolean hasContent() {
@@ -165,6 +331,11 @@ public record CursoredPageRecord<T>
         return totalElements >= 0;
     }
 
+    @Override
+    public boolean hasEstimatedTotals() {
+        return totalElements >= 0 && pageRequest.estimateTotal();
+    }
+
     @Override
     public long totalElements() {
         if (totalElements < 0) {
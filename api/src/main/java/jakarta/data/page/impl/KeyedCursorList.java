@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2024,2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.page.PageRequest;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+// Internal implementation class.
+// Unmodifiable list of the cursors for the results on a page, where each
+// cursor is computed from the corresponding result when it is requested rather
+// than being held by the list. The list of results must be one that cannot be
+// modified, such that the list of cursors is also unmodifiable.
+final class KeyedCursorList<T> extends AbstractList<PageRequest.Cursor>
+        implements RandomAccess {
+    @Nonnull
+    private final List<T> content;
+
+    @Nonnull
+    private final Function<? super T, Object[]> keyExtractor;
+
+    KeyedCursorList(@Nonnull List<T> content,
+                    @Nonnull Function<? super T, Object[]> keyExtractor) {
+        this.content = content;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Computes a new cursor from the key of the result at the given
+     * position.
+     */
+    @Override
+    @Nonnull
+    public PageRequest.Cursor get(int index) {
+        return PageRequest.Cursor.forKey(keyExtractor.apply(content.get(index)));
+    }
+
+    @Override
+    public int size() {
+        return content.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return content.isEmpty();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024,2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.messages.Messages;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+// Internal implementation class.
+// Unmodifiable view of a list that the caller of one of the ofOwned factory
+// methods of a page record has handed over, such that the page record can hold
+// the list without copying it. Instances are never created for lists that
+// could be modified by anyone other than the caller, and so a record
+// constructor can safely accept an instance from another page record without
+// copying it.
+final class OwnedList<E> extends AbstractList<E> implements RandomAccess {
+    @Nonnull
+    private final List<E> list;
+
+    private OwnedList(@Nonnull List<E> list) {
+        this.list = list;
+    }
+
+    /**
+     * Takes ownership of a list, which must not contain null elements,
+     * without copying it. A list that does not have efficient random
+     * access is copied instead.
+     *
+     * @param argName name of the argument, for error messages.
+     */
+    @Nonnull
+    static <E> List<E> of(@Nonnull List<E> list, @Nonnull String argName) {
+        Messages.requireNonNull(list, argName);
+
+        if (list instanceof OwnedList) {
+            return list;
+        } else if (!(list instanceof RandomAccess)) {
+            return List.copyOf(list);
+        }
+
+        for (int i = list.size() - 1; i >= 0; i--) {
+            if (list.get(i) == null) {
+                throw new NullPointerException(
+                        Messages.get("003.null.element", argName));
+            }
+        }
+        return new OwnedList<>(list);
+    }
+
+    /**
+     * Returns the list if it is already owned by a page record or is a list
+     * of cursors that are computed from the results of a page, otherwise an
+     * unmodifiable copy of it.
+     */
+    @Nonnull
+    static <E> List<E> copyOf(@Nonnull List<E> list) {
+        return list instanceof OwnedList || list instanceof KeyedCursorList
+                ? list
+                : List.copyOf(list);
+    }
+
+    @Override
+    public E get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+}
@@ -36,7 +36,13 @@ import jakarta.annotation.Nonnull;
  * @param totalElements The total number of elements across all pages that can
  *                      be requested for the query. A negative value indicates
  *                      that a total count of elements and pages is not
- *                      available.
+ *                      available. If the page request
+ *                      {@linkplain PageRequest#estimateTotal() allows an
+ *                      estimate}, the value might be an estimate, in which
+ *                      case {@link #totalElements()} reports no fewer
+ *                      elements than are known to exist from the content and
+ *                      position of the page, and reports the exact total for
+ *                      the last page.
  * @param moreResults   whether there is a (nonempty) next page of results
  * @param <T>           The type of elements on the page
  */
@@ -50,7 +56,7 @@ public record PageRecord<T>(@Nonnull PageRequest pageRequest, @Nonnull List<T> c
                       long totalElements,
                       boolean moreResults) {
         this.pageRequest = pageRequest;
-        this.content = List.copyOf(content);
+        this.content = OwnedList.copyOf(content);
         this.totalElements = totalElements;
         this.moreResults = moreResults;
     }
@@ -61,7 +67,9 @@ public record PageRecord<T>(@Nonnull PageRequest pageRequest, @Nonnull List<T> c
      * the {@code totalElements} is either unavailable (indicated by a negative
      * value) or it exceeds the current
      * {@linkplain PageRequest#pageNumber() page number} multiplied by the
-     * {@link PageRequest#size() size} of a full page.
+     * {@link PageRequest#size() size} of a full page. An
+     * {@linkplain PageRequest#estimateTotal() estimated} total is not used to
+     * compute the {@link #moreResults} component.
      *
      * @param pageRequest   The {@link PageRequest page request} for which this
      *                      page was obtained.
@@ -75,9 +83,75 @@ public record PageRecord<T>(@Nonnull PageRequest pageRequest, @Nonnull List<T> c
         this(pageRequest, content, totalElements,
                 content.size() == pageRequest.size()
                         && (totalElements < 0
+                        || pageRequest.estimateTotal()
                         || totalElements > pageRequest.size() * pageRequest.pageNumber()));
     }
 
+    /**
+     * <p>Creates a new instance that takes ownership of the given page
+     * {@code content} rather than copying it, for use by a Jakarta Data
+     * provider that builds a new list of results for each page. The record
+     * constructors make an unmodifiable copy of the content so that it cannot
+     * be changed by whoever supplied it. This method instead holds an
+     * unmodifiable view of the list, and so the caller must not modify the
+     * list, or allow it to be modified, after calling this method.</p>
+     *
+     * <p>A list that does not support efficient random access, such as a
+     * {@link java.util.LinkedList}, is copied regardless.</p>
+     *
+     * @param pageRequest   The {@link PageRequest page request} for which this
+     *                      page was obtained.
+     * @param content       The page content, which must not contain
+     *                      {@code null} elements.
+     * @param totalElements The total number of elements across all pages that
+     *                      can be requested for the query. A negative value
+     *                      indicates that a total count of elements and pages
+     *                      is not available.
+     * @param moreResults   whether there is a (nonempty) next page of results.
+     * @param <T>           The type of elements on the page.
+     * @return a new page record.
+     * @since 1.1
+     */
+    @Nonnull
+    public static <T> PageRecord<T> ofOwned(@Nonnull PageRequest pageRequest,
+                                            @Nonnull List<T> content,
+                                            long totalElements,
+                                            boolean moreResults) {
+        return new PageRecord<>(pageRequest,
+                OwnedList.of(content, "content"),
+                totalElements,
+                moreResults);
+    }
+
+    /**
+     * <p>Creates a new instance that takes ownership of the given page
+     * {@code content} rather than copying it, computing the
+     * {@link #moreResults} component in the same way as
+     * {@link #PageRecord(PageRequest, List, long)}. The caller must not modify
+     * the list, or allow it to be modified, after calling this method.</p>
+     *
+     * @param pageRequest   The {@link PageRequest page request} for which this
+     *                      page was obtained.
+     * @param content       The page content, which must not contain
+     *                      {@code null} elements.
+     * @param totalElements The total number of elements across all pages that
+     *                      can be requested for the query. A negative value
+     *                      indicates that a total count of elements and pages
+     *                      is not available.
+     * @param <T>           The type of elements on the page.
+     * @return a new page record.
+     * @see #ofOwned(PageRequest, List, long, boolean)
+     * @since 1.1
+     */
+    @Nonnull
+    public static <T> PageRecord<T> ofOwned(@Nonnull PageRequest pageRequest,
+                                            @Nonnull List<T> content,
+                                            long totalElements) {
+        return new PageRecord<>(pageRequest,
+                OwnedList.of(content, "content"),
+                totalElements);
+    }
+
     @Override
     public boolean hasContent() {
         return !content.isEmpty();
@@ -100,9 +174,7 @@ public record PageRecord<T>(@Nonnull PageRequest pageRequest, @Nonnull List<T> c
             throw new NoSuchElementException();
         }
 
-        return PageRequest.ofPage(pageRequest.pageNumber() + 1,
-                pageRequest.size(),
-                pageRequest.requestTotal());
+        return page(pageRequest.pageNumber() + 1);
     }
 
     @Override
@@ -117,9 +189,21 @@ public record PageRecord<T>(@Nonnull PageRequest pageRequest, @Nonnull List<T> c
             throw new NoSuchElementException();
         }
 
-        return PageRequest.ofPage(pageRequest.pageNumber() - 1,
+        return page(pageRequest.pageNumber() - 1);
+    }
+
+    /**
+     * Obtains a request for another page, which requests totals in the same
+     * way as the page request of this page.
+     */
+    @Nonnull
+    private PageRequest page(long pageNumber) {
+        PageRequest request = PageRequest.ofPage(pageNumber,
                 pageRequest.size(),
                 pageRequest.requestTotal());
+        return pageRequest.estimateTotal()
+                ? request.withEstimatedTotal()
+                : request;
     }
 
     @Override
@@ -133,20 +217,40 @@ public record PageRecord<T>(@Nonnull PageRequest pageRequest, @Nonnull List<T> c
         return totalElements >= 0;
     }
 
+    @Override
+    public boolean hasEstimatedTotals() {
+        return totalElements >= 0
+                && pageRequest.estimateTotal()
+                && (moreResults || content.isEmpty());
+    }
+
     @Override
     public long totalElements() {
         if (totalElements < 0) {
             throw new IllegalStateException(Messages.get("010.unknown.total"));
         }
-        return totalElements;
+        if (!pageRequest.estimateTotal() || content.isEmpty()) {
+            return totalElements;
+        }
+
+        // An estimate is corrected by the elements that are known to exist,
+        // which are all of the elements if this is the last page. A position
+        // beyond the range of long saturates to the largest total.
+        long known;
+        try {
+            known = Math.addExact(Math.multiplyExact(pageRequest.pageNumber() - 1,
+                                                     (long) pageRequest.size()),
+                                  moreResults ? content.size() + 1L : content.size());
+        } catch (ArithmeticException x) {
+            known = Long.MAX_VALUE;
+        }
+        return moreResults ? Math.max(totalElements, known) : known;
     }
 
     @Override
     public long totalPages() {
-        if (totalElements < 0) {
-            throw new IllegalStateException(Messages.get("010.unknown.total"));
-        }
+        long total = totalElements();
         int size = pageRequest.size();
-        return (totalElements + size - 1) / size;
+        return total / size + (total % size == 0 ? 0 : 1);
     }
 }
@@ -204,6 +204,56 @@ public class Restrict {
                 List.copyOf(restrictions));
     }
 
+    /**
+     * <p>Returns a canonical form of the specified restriction that is
+     * satisfied by exactly the same entities. The canonical form is obtained
+     * by,</p>
+     * <ul>
+     * <li>pushing negation down into the constraints of basic restrictions,
+     *     by way of {@link jakarta.data.constraint.Constraint#negate()},
+     *     such that no composite restriction is negated,</li>
+     * <li>flattening composite restrictions into enclosing composite
+     *     restrictions of the same {@linkplain CompositeRestriction.Type
+     *     type},</li>
+     * <li>removing restrictions that are always satisfied from an
+     *     {@link CompositeRestriction.Type#ALL ALL} composite and
+     *     restrictions that are never satisfied from an
+     *     {@link CompositeRestriction.Type#ANY ANY} composite, and replacing
+     *     an {@code ALL} composite that includes a restriction that is never
+     *     satisfied, or an {@code ANY} composite that includes a restriction
+     *     that is always satisfied, with that restriction,</li>
+     * <li>removing duplicate restrictions,</li>
+     * <li>combining an {@code AtLeast} constraint and an {@code AtMost}
+     *     constraint on the same expression within an {@code ALL} composite
+     *     into a {@code Between} constraint, and</li>
+     * <li>ordering the restrictions of each composite restriction in a
+     *     consistent, but otherwise unspecified, order.</li>
+     * </ul>
+     *
+     * <p>Restrictions that are equivalent by the above rules have canonical
+     * forms that are equal, and the basic and composite restrictions of the
+     * canonical form are shared instances where possible, such that the
+     * canonical form is suitable as the key of a cache, for example, of
+     * queries that are generated from restrictions. Restrictions of types
+     * that are not defined by this API are included in the canonical form
+     * as they are, or by invoking {@link Restriction#negate()} when they
+     * must be negated.</p>
+     *
+     * @param <T>         entity type.
+     * @param restriction the restriction. Must not be {@code null}.
+     * @return the canonical form of the restriction.
+     * @throws NullPointerException if the supplied restriction is
+     *                              {@code null}.
+     * @since 1.1
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public static <T> Restriction<T> normalize(@Nonnull Restriction<T> restriction) {
+        Messages.requireNonNull(restriction, "restriction");
+
+        return (Restriction<T>) RestrictionNormalizer.normalize(restriction, false);
+    }
+
     /**
      * <p>Returns the negation of the specified restriction.</p>
      *
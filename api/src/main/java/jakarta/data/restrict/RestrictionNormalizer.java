@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.constraint.AtLeast;
+import jakarta.data.constraint.AtMost;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.Constraint;
+import jakarta.data.expression.ComparableExpression;
+import jakarta.data.restrict.CompositeRestriction.Type;
+
+// Internal implementation class.
+// The proper way for users to normalize restrictions is via Restrict.normalize.
+// Negation is pushed down to the basic restrictions by De Morgan's laws as the
+// tree is rebuilt bottom-up, such that composite restrictions in the result are
+// never negated. Each basic and composite restriction in the result is interned,
+// such that equal subtrees are the same instance.
+final class RestrictionNormalizer {
+    /**
+     * Upper bound on the number of interned restrictions, after which the
+     * table is cleared.
+     */
+    private static final int MAX_INTERNED = 4096;
+
+    private static final ConcurrentMap<Restriction<?>, Restriction<?>> INTERNED =
+            new ConcurrentHashMap<>();
+
+    // prevent instantiation
+    private RestrictionNormalizer() {
+    }
+
+    /**
+     * Normalizes a restriction, or the negation of it.
+     */
+    @Nonnull
+    static Restriction<?> normalize(@Nonnull Restriction<?> restriction,
+                                    boolean negate) {
+        if (restriction instanceof BasicRestriction<?, ?> basic) {
+            return intern(negate ? basic.negate() : basic);
+        } else if (restriction instanceof CompositeRestriction<?> composite) {
+            return composite(composite, negate ^ composite.isNegated());
+        } else {
+            // a restriction type that is not known to the API
+            return negate ? restriction.negate() : restriction;
+        }
+    }
+
+    @Nonnull
+    private static Restriction<?> composite(@Nonnull CompositeRestriction<?> composite,
+                                            boolean negate) {
+        Type type = composite.type();
+        if (negate) {
+            type = type == Type.ALL ? Type.ANY : Type.ALL;
+        }
+
+        Set<Restriction<?>> distinct = new LinkedHashSet<>();
+        for (Restriction<?> restriction : composite.restrictions()) {
+            Restriction<?> normalized = normalize(restriction, negate);
+            if (normalized instanceof CompositeRestriction<?> c && !c.isNegated()) {
+                if (c.type() == type) {
+                    // flatten, which also removes the identity element,
+                    // Unrestricted for ALL or Unmatchable for ANY
+                    distinct.addAll(c.restrictions());
+                } else if (c.restrictions().isEmpty()) {
+                    // absorbing element,
+                    // Unmatchable for ALL or Unrestricted for ANY
+                    return c;
+                } else {
+                    distinct.add(c);
+                }
+            } else {
+                distinct.add(normalized);
+            }
+        }
+
+        List<Restriction<?>> restrictions = new ArrayList<>(distinct);
+        sort(restrictions);
+        if (type == Type.ALL && mergeRanges(restrictions)) {
+            sort(restrictions);
+        }
+
+        switch (restrictions.size()) {
+            case 0:
+                return type == Type.ALL
+                        ? Unrestricted.INSTANCE
+                        : Unmatchable.INSTANCE;
+            case 1:
+                return restrictions.get(0);
+            default:
+                @SuppressWarnings({ "rawtypes", "unchecked" })
+                Restriction<?> result = new CompositeRestrictionRecord(
+                        type, List.copyOf(restrictions));
+                return intern(result);
+        }
+    }
+
+    /**
+     * Replaces each pair of AtLeast and AtMost restrictions on the same
+     * expression with a Between restriction.
+     *
+     * @return whether any restrictions were replaced.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static boolean mergeRanges(@Nonnull List<Restriction<?>> restrictions) {
+        boolean merged = false;
+        for (int i = 0; i < restrictions.size(); i++) {
+            if (restrictions.get(i) instanceof BasicRestriction<?, ?> min
+                    && min.constraint() instanceof AtLeast<?> atLeast) {
+                int j = indexOfAtMost(restrictions, min);
+                if (j >= 0) {
+                    BasicRestriction<?, ?> max = (BasicRestriction<?, ?>) restrictions.get(j);
+                    AtMost<?> atMost = (AtMost<?>) max.constraint();
+                    Constraint between = Between.bounds(
+                            (ComparableExpression) atLeast.bound(),
+                            (ComparableExpression) atMost.bound());
+                    restrictions.set(i, intern(
+                            BasicRestriction.of(min.expression(), between)));
+                    restrictions.remove(j);
+                    if (j < i) {
+                        // the merged restriction moved down to take its place
+                        i--;
+                    }
+                    merged = true;
+                }
+            }
+        }
+        return merged;
+    }
+
+    private static int indexOfAtMost(@Nonnull List<Restriction<?>> restrictions,
+                                     @Nonnull BasicRestriction<?, ?> min) {
+        for (int j = 0; j < restrictions.size(); j++) {
+            if (restrictions.get(j) instanceof BasicRestriction<?, ?> max
+                    && max.constraint() instanceof AtMost<?>
+                    && max.expression().equals(min.expression())) {
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Orders restrictions by their text, which, unlike hash codes that
+     * include those of enum constants and classes, is the same in every run.
+     * The text of each restriction is computed once.
+     */
+    private static void sort(@Nonnull List<Restriction<?>> restrictions) {
+        if (restrictions.size() > 1) {
+            Map<Restriction<?>, String> text = new IdentityHashMap<>();
+            restrictions.sort(Comparator.comparing(
+                    r -> text.computeIfAbsent(r, Object::toString)));
+        }
+    }
+
+    @Nonnull
+    private static Restriction<?> intern(@Nonnull Restriction<?> restriction) {
+        Restriction<?> interned = INTERNED.get(restriction);
+        if (interned == null) {
+            if (INTERNED.size() >= MAX_INTERNED) {
+                INTERNED.clear();
+            }
+            interned = INTERNED.putIfAbsent(restriction, restriction);
+            if (interned == null) {
+                interned = restriction;
+            }
+        }
+        return interned;
+    }
+}
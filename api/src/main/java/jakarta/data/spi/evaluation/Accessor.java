@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.exceptions.MappingException;
+import jakarta.data.messages.Messages;
+
+// Internal implementation class.
+// Reads the value of a single entity attribute. Reflection is used only while
+// resolving the accessor. After that, reads go through a lambda that is spun by
+// the LambdaMetafactory, or through a method handle if the lambda cannot be
+// spun because of access restrictions.
+final class Accessor {
+    @Nonnull
+    private static final MethodHandles.Lookup SELF = MethodHandles.lookup();
+
+    @Nonnull
+    private final String name;
+
+    /**
+     * Declared type of the attribute, which can be a primitive type.
+     */
+    @Nonnull
+    private final Class<?> type;
+
+    /**
+     * Method handle of type (declaringClass)type.
+     */
+    @Nonnull
+    private final MethodHandle getter;
+
+    @Nonnull
+    private final Function<Object, Object> function;
+
+    private Accessor(@Nonnull String name,
+                     @Nonnull Class<?> type,
+                     @Nonnull MethodHandle getter) {
+        this.name = name;
+        this.type = type;
+        this.getter = getter;
+        this.function = toFunction(getter);
+    }
+
+    /**
+     * Resolves an accessor for the named attribute, preferring a record
+     * accessor or fluent getter {@code name()}, then {@code getName()},
+     * then {@code isName()}, and finally the field itself.
+     *
+     * @throws MappingException if none of these are accessible to the lookup.
+     */
+    @Nonnull
+    static Accessor resolve(@Nonnull Class<?> entityClass,
+                            @Nonnull String name,
+                            @Nonnull MethodHandles.Lookup lookup) {
+        Module module = entityClass.getModule();
+        if (module.isNamed()) {
+            // Lambdas spun by this class link directly against the entity.
+            Accessor.class.getModule().addReads(module);
+        }
+
+        String capitalized = Character.toUpperCase(name.charAt(0))
+                + name.substring(1);
+
+        String[] methodNames = { name, "get" + capitalized, "is" + capitalized };
+        for (int i = 0; i < methodNames.length; i++) {
+            MethodHandle getter = unreflect(
+                    findMethod(entityClass, methodNames[i], i == 2), lookup);
+            if (getter != null) {
+                return new Accessor(name, getter.type().returnType(), getter);
+            }
+        }
+
+        for (Class<?> c = entityClass; c != null; c = c.getSuperclass()) {
+            try {
+                Field field = c.getDeclaredField(name);
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    MethodHandle getter = lookup.unreflectGetter(field);
+                    return new Accessor(name, field.getType(), getter);
+                }
+            } catch (NoSuchFieldException | IllegalAccessException x) {
+                // try the superclass
+            }
+        }
+
+        throw new MappingException(Messages.get("019.attribute.inaccessible",
+                                                name,
+                                                entityClass.getName()));
+    }
+
+    @Nullable
+    private static Method findMethod(@Nonnull Class<?> c,
+                                     @Nonnull String methodName,
+                                     boolean requireBoolean) {
+        try {
+            Method method = c.getMethod(methodName);
+            if (isGetter(method, requireBoolean)) {
+                return method;
+            }
+        } catch (NoSuchMethodException x) {
+            // look for a non-public method
+        }
+
+        for (Class<?> s = c; s != null; s = s.getSuperclass()) {
+            try {
+                Method method = s.getDeclaredMethod(methodName);
+                if (isGetter(method, requireBoolean)) {
+                    return method;
+                }
+            } catch (NoSuchMethodException x) {
+                // try the superclass
+            }
+        }
+        return null;
+    }
+
+    private static boolean isGetter(@Nonnull Method method, boolean requireBoolean) {
+        Class<?> returnType = method.getReturnType();
+        return returnType != void.class
+                && !Modifier.isStatic(method.getModifiers())
+                && (!requireBoolean
+                    || returnType == boolean.class
+                    || returnType == Boolean.class);
+    }
+
+    @Nullable
+    private static MethodHandle unreflect(@Nullable Method method,
+                                          @Nonnull MethodHandles.Lookup lookup) {
+        if (method == null) {
+            return null;
+        }
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException x) {
+            return null;
+        }
+    }
+
+    /**
+     * Spins an implementation of a functional interface around the getter.
+     *
+     * @return the implementation, or null if the lookup of this class is not
+     *         permitted to link against the getter.
+     */
+    @Nullable
+    private static Object spin(@Nonnull Class<?> functionalInterface,
+                               @Nonnull String methodName,
+                               @Nonnull MethodType samType,
+                               @Nonnull MethodHandle getter,
+                               @Nonnull MethodType instantiatedType) {
+        CallSite site;
+        try {
+            site = LambdaMetafactory.metafactory(
+                    SELF,
+                    methodName,
+                    MethodType.methodType(functionalInterface),
+                    samType,
+                    getter,
+                    instantiatedType);
+        } catch (LambdaConversionException | IllegalArgumentException | SecurityException x) {
+            return null;
+        }
+
+        try {
+            return site.getTarget().invoke();
+        } catch (RuntimeException | Error x) {
+            throw x;
+        } catch (Throwable x) {
+            throw new MappingException(x);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    private static Function<Object, Object> toFunction(@Nonnull MethodHandle getter) {
+        MethodType type = getter.type();
+        Object lambda = spin(Function.class,
+                             "apply",
+                             MethodType.methodType(Object.class, Object.class),
+                             getter,
+                             type.wrap().changeParameterType(0, type.parameterType(0)));
+        if (lambda != null) {
+            return (Function<Object, Object>) lambda;
+        }
+
+        MethodHandle handle = getter.asType(
+                MethodType.methodType(Object.class, Object.class));
+        return entity -> {
+            try {
+                return handle.invokeExact(entity);
+            } catch (RuntimeException | Error x) {
+                throw x;
+            } catch (Throwable x) {
+                throw new MappingException(x);
+            }
+        };
+    }
+
+    /**
+     * Returns a reader of the attribute, which is never a primitive
+     * attribute, or null if the entity is null.
+     */
+    @Nonnull
+    Function<Object, Object> function() {
+        return function;
+    }
+
+    /**
+     * Indicates if the attribute has a primitive integral type for which
+     * {@link #toLong()} can read values without boxing.
+     */
+    boolean isIntegral() {
+        return type == int.class
+                || type == long.class
+                || type == short.class
+                || type == byte.class;
+    }
+
+    /**
+     * Indicates if the attribute has a primitive type for which
+     * {@link #toDouble()} can read values without boxing.
+     */
+    boolean isFloatingPoint() {
+        return type == double.class || type == float.class;
+    }
+
+    @Nonnull
+    String name() {
+        return name;
+    }
+
+    /**
+     * Reads a primitive integral attribute without boxing.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    ToLongFunction<Object> toLong() {
+        Class<?> owner = getter.type().parameterType(0);
+        Object lambda = spin(ToLongFunction.class,
+                             "applyAsLong",
+                             MethodType.methodType(long.class, Object.class),
+                             getter,
+                             MethodType.methodType(long.class, owner));
+        if (lambda != null) {
+            return (ToLongFunction<Object>) lambda;
+        }
+
+        MethodHandle handle = getter.asType(
+                MethodType.methodType(long.class, Object.class));
+        return entity -> {
+            try {
+                return (long) handle.invokeExact(entity);
+            } catch (RuntimeException | Error x) {
+                throw x;
+            } catch (Throwable x) {
+                throw new MappingException(x);
+            }
+        };
+    }
+
+    /**
+     * Reads a primitive floating point attribute without boxing.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    ToDoubleFunction<Object> toDouble() {
+        Class<?> owner = getter.type().parameterType(0);
+        Object lambda = spin(ToDoubleFunction.class,
+                             "applyAsDouble",
+                             MethodType.methodType(double.class, Object.class),
+                             getter,
+                             MethodType.methodType(double.class, owner));
+        if (lambda != null) {
+            return (ToDoubleFunction<Object>) lambda;
+        }
+
+        MethodHandle handle = getter.asType(
+                MethodType.methodType(double.class, Object.class));
+        return entity -> {
+            try {
+                return (double) handle.invokeExact(entity);
+            } catch (RuntimeException | Error x) {
+                throw x;
+            } catch (Throwable x) {
+                throw new MappingException(x);
+            }
+        };
+    }
+
+    /**
+     * Declared type of the attribute, which can be a primitive type.
+     */
+    @Nonnull
+    Class<?> type() {
+        return type;
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return "Accessor@" + Integer.toHexString(hashCode()) + " for " + name;
+    }
+}
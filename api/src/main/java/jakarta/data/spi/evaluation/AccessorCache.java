@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import jakarta.annotation.Nonnull;
+
+// Internal implementation class.
+// Resolves each attribute of each class at most once per lookup.
+final class AccessorCache {
+    @Nonnull
+    private final MethodHandles.Lookup lookup;
+
+    @Nonnull
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, Accessor>> resolved =
+            new ConcurrentHashMap<>();
+
+    AccessorCache(@Nonnull MethodHandles.Lookup lookup) {
+        this.lookup = lookup;
+    }
+
+    /**
+     * Obtains the accessor for an attribute that is declared directly by the
+     * given class, without navigating through other attributes.
+     */
+    @Nonnull
+    Accessor get(@Nonnull Class<?> type, @Nonnull String name) {
+        return resolved
+                .computeIfAbsent(type, t -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, n -> Accessor.resolve(type, n, lookup));
+    }
+
+    /**
+     * Obtains a function that reads the value of an attribute, which can be
+     * a dot-separated path through embeddables or relations, such as
+     * {@code address.city}. The function returns {@code null} if any value
+     * along the path is {@code null}.
+     */
+    @Nonnull
+    Function<Object, Object> path(@Nonnull Class<?> type, @Nonnull String name) {
+        int dot = name.indexOf('.');
+        if (dot < 0) {
+            return get(type, name).function();
+        }
+
+        Accessor first = get(type, name.substring(0, dot));
+        Function<Object, Object> head = first.function();
+        Function<Object, Object> rest =
+                path(Values.wrap(first.type()), name.substring(dot + 1));
+        return entity -> {
+            Object value = head.apply(entity);
+            return value == null ? null : rest.apply(value);
+        };
+    }
+
+    /**
+     * Obtains a function that reads an attribute from instances of a class
+     * that is not known until values are read, such as when the type of an
+     * embeddable is not available from the static metamodel.
+     */
+    @Nonnull
+    Function<Object, Object> dynamic(@Nonnull String name) {
+        return value -> value == null
+                ? null
+                : path(value.getClass(), name).apply(value);
+    }
+}
@@ -0,0 +1,595 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.messages.Messages;
+import jakarta.data.metamodel.Attribute;
+import jakarta.data.page.PageRequest;
+import jakarta.data.restrict.Restriction;
+
+/**
+ * <p>Evaluates restrictions against entity instances that are held in memory,
+ * for use by Jakarta Data providers that filter results without a database,
+ * such as providers for in-memory or key-value stores, and by tests.</p>
+ *
+ * <p>A restriction is compiled once into a {@link Predicate} that can be
+ * applied to any number of entities. Compilation resolves each entity
+ * attribute that the restriction references to an accessor method, record
+ * component accessor, or field, and links it via the
+ * {@link java.lang.invoke.LambdaMetafactory} so that evaluating the predicate
+ * does not use reflection. Literal values of the restriction are extracted at
+ * compile time, and comparisons of primitive numeric attributes with numeric
+ * literals are performed without boxing.</p>
+ *
+ * <p>For example,</p>
+ *
+ * <pre>{@code
+ * Predicate<Book> filter = Evaluator.of(Book.class).compile(
+ *         Restrict.all(_Book.title.contains("Jakarta"),
+ *                      _Book.numPages.lessThan(400)));
+ *
+ * List<Book> found = books.stream().filter(filter).toList();
+ * }</pre>
+ *
+ * <p>Sort criteria are compiled into a single {@link Comparator}, or are
+ * applied by {@link #sort(Collection, Order)}, which computes the sort keys
+ * of each entity only once, including the values of expressions and the
+ * case-folded values of criteria that ignore case, and compares primitive
+ * numeric sort keys without boxing. Where only the first entities of the
+ * sorted order are needed, such as for a {@link Limit} or a
+ * {@link PageRequest}, they are selected without sorting the rest of the
+ * entities.</p>
+ *
+ * <p>Large collections of entities, such as read-only reference data that
+ * is held in memory, are queried in parallel by
+ * {@link #find(Collection, Restriction, Order, Limit, ForkJoinPool) find},
+ * which filters partitions of the entities in a {@link ForkJoinPool}.</p>
+ *
+ * <p>The {@link jakarta.data.spi.expression.function.CurrentDate current
+ * date}, {@link jakarta.data.spi.expression.function.CurrentTime time}, and
+ * {@link jakarta.data.spi.expression.function.CurrentDateTime date and time}
+ * are obtained from a single reading of the {@link #clock() clock} of the
+ * evaluator per query, which is when a restriction or sort criteria are
+ * compiled, or when {@code find} or {@code sort} is invoked, such that they
+ * have the same value for every entity. Comparisons with them are compared
+ * against constant bounds, in the same way as comparisons with literals. An
+ * evaluator with a different clock, such as a fixed clock for tests, is
+ * obtained from {@link #withClock(Clock)}.</p>
+ *
+ * <p>Consistent with how a database evaluates a restriction, a comparison
+ * involving a {@code null} value is never satisfied, even when negated.
+ * Only the {@link jakarta.data.constraint.Null} and
+ * {@link jakarta.data.constraint.NotNull} constraints are satisfied based on
+ * whether a value is {@code null}.</p>
+ *
+ * <p>Instances of this class are thread-safe. Compiled predicates are
+ * thread-safe if the entity accessors are.</p>
+ *
+ * @param <T> entity type.
+ * @since 1.1
+ */
+public final class Evaluator<T> {
+    private static final ClassValue<Evaluator<?>> PUBLIC = new ClassValue<>() {
+        @Override
+        protected Evaluator<?> computeValue(Class<?> entityClass) {
+            return new Evaluator<>(entityClass,
+                                   new AccessorCache(MethodHandles.publicLookup()),
+                                   null);
+        }
+    };
+
+    @Nonnull
+    private final Class<T> entityClass;
+
+    @Nonnull
+    private final AccessorCache accessors;
+
+    // Clock from which the current date and time are obtained, or null for
+    // the system clock in the default time zone as of each query
+    @Nullable
+    private final Clock clock;
+
+    private Evaluator(@Nonnull Class<T> entityClass,
+                      @Nonnull AccessorCache accessors,
+                      @Nullable Clock clock) {
+        this.entityClass = entityClass;
+        this.accessors = accessors;
+        this.clock = clock;
+    }
+
+    /**
+     * <p>Obtains an evaluator for entities of the given class, which must
+     * make its attributes available via public methods or fields.</p>
+     *
+     * <p>The same evaluator is returned for each request for the same
+     * class, so that attributes are resolved at most once.</p>
+     *
+     * @param <T>         entity type.
+     * @param entityClass entity class. Must not be {@code null}.
+     * @return evaluator for the entity class.
+     * @throws NullPointerException if the entity class is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public static <T> Evaluator<T> of(@Nonnull Class<T> entityClass) {
+        Messages.requireNonNull(entityClass, "entityClass");
+
+        return (Evaluator<T>) PUBLIC.get(entityClass);
+    }
+
+    /**
+     * <p>Obtains an evaluator for entities of the given class that reads
+     * attributes with the access rights of the given lookup, such as a lookup
+     * from {@link MethodHandles#lookup()} within the entity class or from
+     * {@link MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)}.
+     * This allows non-public getter methods and fields to be read.</p>
+     *
+     * <p>A new evaluator is returned for each invocation of this method.
+     * Callers should retain and reuse the evaluator.</p>
+     *
+     * @param <T>         entity type.
+     * @param entityClass entity class. Must not be {@code null}.
+     * @param lookup      lookup with access to the entity attributes.
+     *                    Must not be {@code null}.
+     * @return evaluator for the entity class.
+     * @throws NullPointerException if either argument is {@code null}.
+     */
+    @Nonnull
+    public static <T> Evaluator<T> of(@Nonnull Class<T> entityClass,
+                                      @Nonnull MethodHandles.Lookup lookup) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(lookup, "lookup");
+
+        return new Evaluator<>(entityClass, new AccessorCache(lookup), null);
+    }
+
+    /**
+     * <p>Obtains an evaluator that is the same as this evaluator, except
+     * that it obtains the current date and time from the given clock. The
+     * attributes that are resolved by either evaluator are shared with the
+     * other. For example,</p>
+     *
+     * <pre>{@code
+     * Evaluator<Book> evaluator = Evaluator.of(Book.class).withClock(
+     *         Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC));
+     *
+     * List<Book> published = evaluator.find(books,
+     *         _Book.published.lessThan(CurrentDate.now()),
+     *         Order.by(), null);
+     * }</pre>
+     *
+     * @param clock clock from which to obtain the current date and time.
+     *              Must not be {@code null}.
+     * @return evaluator that uses the clock.
+     * @throws NullPointerException if the clock is {@code null}.
+     */
+    @Nonnull
+    public Evaluator<T> withClock(@Nonnull Clock clock) {
+        Messages.requireNonNull(clock, "clock");
+
+        return new Evaluator<>(entityClass, accessors, clock);
+    }
+
+    /**
+     * <p>The clock from which this evaluator obtains the current date and
+     * time, which, unless another clock is supplied to
+     * {@link #withClock(Clock)}, is the
+     * {@linkplain Clock#systemDefaultZone() system clock} in the default
+     * time zone.</p>
+     *
+     * @return the clock.
+     */
+    @Nonnull
+    public Clock clock() {
+        return clock == null ? Clock.systemDefaultZone() : clock;
+    }
+
+    /**
+     * Creates a compiler for a single query, which reads the clock at most
+     * once.
+     */
+    @Nonnull
+    private ExpressionCompiler expressions() {
+        return new ExpressionCompiler(entityClass, accessors, clock());
+    }
+
+    /**
+     * <p>Compiles a restriction into a predicate that tests whether an
+     * entity satisfies the restriction.</p>
+     *
+     * @param restriction restriction on the entity. Must not be {@code null}.
+     * @return predicate that is equivalent to the restriction.
+     * @throws NullPointerException if the restriction is {@code null}.
+     * @throws UnsupportedOperationException if the restriction involves a
+     *         type of restriction, constraint, or expression that cannot be
+     *         evaluated in memory.
+     * @throws jakarta.data.exceptions.MappingException if an attribute that
+     *         is referenced by the restriction cannot be read.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public Predicate<T> compile(@Nonnull Restriction<? super T> restriction) {
+        Messages.requireNonNull(restriction, "restriction");
+
+        return (Predicate<T>) new RestrictionCompiler(expressions())
+                .compile(restriction, false);
+    }
+
+    /**
+     * <p>Finds the entities that satisfy a restriction, in parallel in the
+     * {@link ForkJoinPool#commonPool() common pool}. This method is
+     * equivalent to
+     * {@link #find(Collection, Restriction, Order, Limit, ForkJoinPool)
+     * find(entities, restriction, order, limit, ForkJoinPool.commonPool())}.
+     * </p>
+     *
+     * @param entities    entities to query. Must not be {@code null}.
+     * @param restriction restriction on the entities. Must not be
+     *                    {@code null}.
+     * @param order       sort criteria, which might be empty. Must not be
+     *                    {@code null}.
+     * @param limit       limit on the positions of the results to obtain,
+     *                    or {@code null} to obtain all results.
+     * @return a new list of the entities that satisfy the restriction.
+     * @throws NullPointerException if a required argument is {@code null}.
+     * @throws UnsupportedOperationException if the restriction or sort
+     *         criteria involve a type of restriction, constraint, or
+     *         expression that cannot be evaluated in memory.
+     * @throws jakarta.data.exceptions.MappingException if an attribute that
+     *         is referenced by the restriction or sort criteria cannot be
+     *         read.
+     */
+    @Nonnull
+    public List<T> find(@Nonnull Collection<? extends T> entities,
+                        @Nonnull Restriction<? super T> restriction,
+                        @Nonnull Order<? super T> order,
+                        @Nullable Limit limit) {
+        return find(entities, restriction, order, limit, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>Finds the entities that satisfy a restriction, in parallel in the
+     * given pool. The entities are split into partitions of equal size,
+     * which are filtered by the worker threads of the pool, after which the
+     * matching entities of the partitions are combined in the iteration
+     * order of the collection. The results are the same as filtering the
+     * entities sequentially with the {@link #compile(Restriction) predicate}
+     * for the restriction, then sorting them with
+     * {@link #sort(Collection, Order, Limit)}.</p>
+     *
+     * <p>If the sort criteria are empty, the results are in the iteration
+     * order of the collection. In this case, a limit is honored by ceasing
+     * to filter the entities of partitions that follow enough results, such
+     * that a query for the first few results of a large collection does not
+     * filter all of the entities. For example,</p>
+     *
+     * <pre>{@code
+     * List<NaturalNumber> found = Evaluator.of(NaturalNumber.class).find(
+     *         numbers,
+     *         _NaturalNumber.numType.equalTo(NumberType.PRIME),
+     *         Order.by(),
+     *         Limit.of(100),
+     *         pool);
+     * }</pre>
+     *
+     * <p>The predicate for the restriction and the sort criteria are
+     * evaluated concurrently, and so the entity accessors must be
+     * thread-safe.</p>
+     *
+     * @param entities    entities to query. Must not be {@code null}.
+     * @param restriction restriction on the entities. Must not be
+     *                    {@code null}.
+     * @param order       sort criteria, which might be empty. Must not be
+     *                    {@code null}.
+     * @param limit       limit on the positions of the results to obtain,
+     *                    or {@code null} to obtain all results.
+     * @param pool        pool in which to query the entities. Must not be
+     *                    {@code null}.
+     * @return a new list of the entities that satisfy the restriction.
+     * @throws NullPointerException if a required argument is {@code null}.
+     * @throws UnsupportedOperationException if the restriction or sort
+     *         criteria involve a type of restriction, constraint, or
+     *         expression that cannot be evaluated in memory.
+     * @throws jakarta.data.exceptions.MappingException if an attribute that
+     *         is referenced by the restriction or sort criteria cannot be
+     *         read.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public List<T> find(@Nonnull Collection<? extends T> entities,
+                        @Nonnull Restriction<? super T> restriction,
+                        @Nonnull Order<? super T> order,
+                        @Nullable Limit limit,
+                        @Nonnull ForkJoinPool pool) {
+        Messages.requireNonNull(entities, "entities");
+        Messages.requireNonNull(restriction, "restriction");
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(pool, "pool");
+
+        ExpressionCompiler expressions = expressions();
+        OrderCompiler orders = new OrderCompiler(expressions);
+        Predicate<Object> predicate = new RestrictionCompiler(expressions)
+                .compile(restriction, false);
+        Object[] elements = entities.toArray();
+        boolean sorted = !order.sorts().isEmpty();
+        long offset = limit == null ? 0 : limit.startAt() - 1;
+        long needed = limit == null || sorted
+                ? Long.MAX_VALUE
+                : offset + Math.min(limit.maxResults(), Long.MAX_VALUE - offset);
+
+        // Sorting also runs in the pool, because it is invoked by a task
+        Object[] results = pool.invoke(ForkJoinTask.adapt(() -> {
+            Object[] matches = new ParallelFilter(
+                    elements, predicate, needed, pool.getParallelism())
+                    .task()
+                    .invoke();
+            if (limit == null) {
+                return sorted
+                        ? orders.sort(Arrays.asList(matches), order)
+                        : matches;
+            } else if (sorted) {
+                return orders.select(Arrays.asList(matches), order,
+                                     offset, limit.maxResults());
+            } else {
+                return offset >= matches.length
+                        ? new Object[0]
+                        : Arrays.copyOfRange(matches, (int) offset,
+                                             (int) Math.min(matches.length, needed));
+            }
+        }));
+        return (List<T>) Arrays.asList(results);
+    }
+
+    /**
+     * <p>Compiles sort criteria into a comparator that orders entities
+     * according to each sort criterion in order of precedence. Entities are
+     * ordered by each criterion in ascending or descending order, ignoring
+     * case if the sort criterion so indicates, with {@code null} values
+     * ordered according to the {@link Sort#nullOrdering() null ordering}
+     * of the sort criterion. Where the null ordering is
+     * {@link Sort.Nulls#UNSPECIFIED UNSPECIFIED}, {@code null} values are
+     * ordered as if greater than all other values.</p>
+     *
+     * <p>The comparator computes the sort keys of both entities for each
+     * comparison. To sort many entities, {@link #sort(Collection, Order)}
+     * is more efficient.</p>
+     *
+     * @param order sort criteria. Must not be {@code null}.
+     * @return comparator that is equivalent to the sort criteria.
+     * @throws NullPointerException if the order is {@code null}.
+     * @throws UnsupportedOperationException if a sort criterion involves a
+     *         type of expression that cannot be evaluated in memory.
+     * @throws jakarta.data.exceptions.MappingException if an attribute that
+     *         is referenced by the sort criteria cannot be read.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public Comparator<T> comparator(@Nonnull Order<? super T> order) {
+        Messages.requireNonNull(order, "order");
+
+        return (Comparator<T>) new OrderCompiler(expressions()).comparator(order);
+    }
+
+    /**
+     * <p>Sorts entities according to sort criteria, in the same order as
+     * the {@link #comparator(Order) comparator} for the sort criteria. The
+     * sort is stable, such that entities with equal sort keys remain in the
+     * order of the collection.</p>
+     *
+     * <p>The sort keys of each entity are computed only once, and numeric
+     * sort keys are compared without boxing. For example,</p>
+     *
+     * <pre>{@code
+     * List<Book> sorted = Evaluator.of(Book.class).sort(books,
+     *         Order.by(_Book.title.ascIgnoreCase(), _Book.numPages.desc()));
+     * }</pre>
+     *
+     * @param entities entities to sort. Must not be {@code null}.
+     * @param order    sort criteria. Must not be {@code null}.
+     * @return a new list of the entities in sorted order.
+     * @throws NullPointerException if either argument is {@code null}.
+     * @throws UnsupportedOperationException if a sort criterion involves a
+     *         type of expression that cannot be evaluated in memory.
+     * @throws jakarta.data.exceptions.MappingException if an attribute that
+     *         is referenced by the sort criteria cannot be read.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public List<T> sort(@Nonnull Collection<? extends T> entities,
+                        @Nonnull Order<? super T> order) {
+        Messages.requireNonNull(entities, "entities");
+        Messages.requireNonNull(order, "order");
+
+        return (List<T>) Arrays.asList(
+                new OrderCompiler(expressions()).sort(entities, order));
+    }
+
+    /**
+     * <p>Obtains the entities within a limit of the sorted order of
+     * entities, which are the same entities in the same order as those
+     * within the limit of the list that is returned by
+     * {@link #sort(Collection, Order)}. For example, {@code Limit.of(20)}
+     * obtains the first 20 entities, as does a repository method that is
+     * annotated {@code @First(20)}.</p>
+     *
+     * <p>Where the limit is small relative to the number of entities, the
+     * entities within the limit are selected with a bounded heap, which
+     * requires time that is proportional to {@code n log k} and memory
+     * that is proportional to {@code k}, where {@code n} is the number of
+     * entities and {@code k} is the position of the end of the limit,
+     * rather than sorting all of the entities. The entities of large
+     * collections are partitioned and the partitions are processed in
+     * parallel in the {@link java.util.concurrent.ForkJoinPool#commonPool()
+     * common pool}.</p>
+     *
+     * @param entities entities to sort. Must not be {@code null}.
+     * @param order    sort criteria. Must not be {@code null}.
+     * @param limit    limit on the positions of the sorted entities to
+     *                 obtain. Must not be {@code null}.
+     * @return a new list of the entities within the limit, in sorted order.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws UnsupportedOperationException if a sort criterion involves a
+     *         type of expression that cannot be evaluated in memory.
+     * @throws jakarta.data.exceptions.MappingException if an attribute that
+     *         is referenced by the sort criteria cannot be read.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public List<T> sort(@Nonnull Collection<? extends T> entities,
+                        @Nonnull Order<? super T> order,
+                        @Nonnull Limit limit) {
+        Messages.requireNonNull(entities, "entities");
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(limit, "limit");
+
+        return (List<T>) Arrays.asList(new OrderCompiler(expressions()).select(
+                entities, order, limit.startAt() - 1, limit.maxResults()));
+    }
+
+    /**
+     * <p>Obtains the entities of the requested page of the sorted order of
+     * entities, which are the same entities in the same order as those of
+     * the page of the list that is returned by
+     * {@link #sort(Collection, Order)}. As with
+     * {@link #sort(Collection, Order, Limit)}, the entities of the page are
+     * selected without sorting all of the entities where the page is small
+     * relative to the number of entities.</p>
+     *
+     * @param entities    entities to sort. Must not be {@code null}.
+     * @param order       sort criteria. Must not be {@code null}.
+     * @param pageRequest the requested page, which must be in
+     *                    {@link PageRequest.Mode#OFFSET OFFSET} mode.
+     *                    Must not be {@code null}.
+     * @return a new list of the entities of the page, in sorted order.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if the page request is not in
+     *         {@link PageRequest.Mode#OFFSET OFFSET} mode. Pages that are
+     *         relative to a cursor depend on a restriction on the sort
+     *         keys, which this method does not apply.
+     * @throws UnsupportedOperationException if a sort criterion involves a
+     *         type of expression that cannot be evaluated in memory.
+     * @throws jakarta.data.exceptions.MappingException if an attribute that
+     *         is referenced by the sort criteria cannot be read.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public List<T> sort(@Nonnull Collection<? extends T> entities,
+                        @Nonnull Order<? super T> order,
+                        @Nonnull PageRequest pageRequest) {
+        Messages.requireNonNull(entities, "entities");
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(pageRequest, "pageRequest");
+
+        if (pageRequest.mode() != PageRequest.Mode.OFFSET) {
+            throw new IllegalArgumentException(Messages.get(
+                    "014.mode.disallows.offset", pageRequest.mode()));
+        }
+        long offset = pageRequest.pageNumber() - 1 > Long.MAX_VALUE / pageRequest.size()
+                ? Long.MAX_VALUE
+                : (pageRequest.pageNumber() - 1) * pageRequest.size();
+        return (List<T>) Arrays.asList(new OrderCompiler(expressions()).select(
+                entities, order, offset, pageRequest.size()));
+    }
+
+    /**
+     * <p>Compiles sort criteria into a function that obtains the values of
+     * the sort criteria from an entity, in order of precedence, as the key
+     * of a {@link jakarta.data.page.PageRequest.Cursor cursor} for the
+     * entity. A new array is returned for each entity. For example,</p>
+     *
+     * <pre>{@code
+     * Function<Book, Object[]> keys = Evaluator.of(Book.class)
+     *         .keyExtractor(Order.by(_Book.numPages.desc(), _Book.id.asc()));
+     *
+     * CursoredPage<Book> page = CursoredPageRecord.ofOwned(
+     *         results, keys, -1, pageRequest, firstPage, lastPage);
+     * }</pre>
+     *
+     * @param order sort criteria. Must not be {@code null}.
+     * @return function that obtains the key of the cursor for an entity.
+     * @throws NullPointerException if the order is {@code null}.
+     * @throws UnsupportedOperationException if a sort criterion is an
+     *         expression other than an entity attribute, from which a cursor
+     *         cannot be computed.
+     * @throws jakarta.data.exceptions.MappingException if an attribute that
+     *         is referenced by the sort criteria cannot be read.
+     */
+    @Nonnull
+    public Function<T, Object[]> keyExtractor(@Nonnull Order<? super T> order) {
+        Messages.requireNonNull(order, "order");
+
+        List<? extends Sort<?>> sorts = order.sorts();
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        Function<Object, Object>[] getters = new Function[sorts.size()];
+        for (int i = 0; i < getters.length; i++) {
+            Sort<?> sort = sorts.get(i);
+            Function<Object, Object> getter = sort.expression() instanceof Attribute<?> attribute
+                    ? ExpressionCompiler.getterOf(attribute, entityClass)
+                    : null;
+            if (getter != null) {
+                getters[i] = getter;
+            } else if (sort.property() != null) {
+                getters[i] = accessors.path(entityClass, sort.property());
+            } else {
+                throw new UnsupportedOperationException(
+                        Messages.get("015.cursor.uncomputable"));
+            }
+        }
+
+        return entity -> {
+            Object[] key = new Object[getters.length];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = getters[i].apply(entity);
+            }
+            return key;
+        };
+    }
+
+    /**
+     * <p>The entity class of this evaluator.</p>
+     *
+     * @return the entity class.
+     */
+    @Nonnull
+    public Class<T> entityClass() {
+        return entityClass;
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return "Evaluator@" + Integer.toHexString(hashCode()) +
+                " for " + entityClass.getName();
+    }
+}
@@ -0,0 +1,503 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.expression.Expression;
+import jakarta.data.expression.NavigableExpression;
+import jakarta.data.messages.Messages;
+import jakarta.data.metamodel.Attribute;
+import jakarta.data.metamodel.AttributeAccessor;
+import jakarta.data.metamodel.NavigableAttribute;
+import jakarta.data.spi.expression.function.CurrentDate;
+import jakarta.data.spi.expression.function.CurrentDateTime;
+import jakarta.data.spi.expression.function.CurrentTime;
+import jakarta.data.spi.expression.function.NumericCast;
+import jakarta.data.spi.expression.function.NumericFunctionExpression;
+import jakarta.data.spi.expression.function.NumericOperatorExpression;
+import jakarta.data.spi.expression.function.TextFunctionExpression;
+import jakarta.data.spi.expression.literal.Literal;
+import jakarta.data.spi.expression.path.Path;
+
+// Internal implementation class.
+// Compiles an expression into a function that computes its value from an
+// entity. Functions return null when the value is null, including when any
+// entity along a navigation path is null. An instance is used to compile a
+// single query, for which the clock is read at most once, such that the
+// current date and time are the same for all entities.
+final class ExpressionCompiler {
+    @Nonnull
+    private final Class<?> entityClass;
+
+    @Nonnull
+    private final AccessorCache accessors;
+
+    @Nonnull
+    private final NumericCompiler numerics;
+
+    @Nonnull
+    private final TextCompiler texts;
+
+    @Nonnull
+    private final Clock clock;
+
+    // Snapshot of the clock, which is read when first needed
+    private LocalDateTime now;
+
+    ExpressionCompiler(@Nonnull Class<?> entityClass,
+                       @Nonnull AccessorCache accessors,
+                       @Nonnull Clock clock) {
+        this.entityClass = entityClass;
+        this.accessors = accessors;
+        this.clock = clock;
+        this.numerics = new NumericCompiler(this);
+        this.texts = new TextCompiler(this);
+    }
+
+    @Nonnull
+    AccessorCache accessors() {
+        return accessors;
+    }
+
+    @Nonnull
+    Class<?> entityClass() {
+        return entityClass;
+    }
+
+    @Nonnull
+    NumericCompiler numerics() {
+        return numerics;
+    }
+
+    @Nonnull
+    TextCompiler texts() {
+        return texts;
+    }
+
+    /**
+     * Obtains the value of the expression if it is a literal or the current
+     * date, time, or date and time, which are resolved from a single snapshot
+     * of the clock, otherwise null.
+     */
+    Object constantOf(@Nonnull Expression<?, ?> expression) {
+        if (expression instanceof Literal<?> literal) {
+            return literal.value();
+        } else if (expression instanceof CurrentDate<?>) {
+            return now().toLocalDate();
+        } else if (expression instanceof CurrentDateTime<?>) {
+            return now();
+        } else if (expression instanceof CurrentTime<?>) {
+            return now().toLocalTime();
+        } else {
+            return null;
+        }
+    }
+
+    @Nonnull
+    private LocalDateTime now() {
+        if (now == null) {
+            now = LocalDateTime.now(clock);
+        }
+        return now;
+    }
+
+    /**
+     * Obtains the accessor if the expression is an entity attribute that can
+     * be read directly from the entity without navigating, otherwise null.
+     * Attributes of a static metamodel that supplies a getter are read with
+     * the getter instead.
+     */
+    Accessor accessorOf(@Nonnull Expression<?, ?> expression) {
+        if (expression instanceof Attribute<?> attribute
+                && getterOf(attribute, entityClass) == null
+                && attribute.name().indexOf('.') < 0) {
+            return accessors.get(entityClass, attribute.name());
+        }
+        return null;
+    }
+
+    @Nonnull
+    Function<Object, Object> compile(@Nonnull Expression<?, ?> expression) {
+        Object constant = constantOf(expression);
+        if (constant != null) {
+            return entity -> constant;
+        } else if (expression instanceof Attribute<?> attribute) {
+            Function<Object, Object> getter = getterOf(attribute, entityClass);
+            return getter == null
+                    ? accessors.path(entityClass, attribute.name())
+                    : getter;
+        } else if (expression instanceof Path<?, ?> path) {
+            return navigate(path.expression(), path.attribute());
+        } else if (expression instanceof NumericOperatorExpression<?, ?>
+                || expression instanceof NumericCast<?, ?>
+                || expression instanceof NumericFunctionExpression<?, ?>) {
+            Function<Object, Object> function = numerics.compile(expression);
+            return function == null ? boxed(expression) : function;
+        } else if (expression instanceof TextFunctionExpression<?> fn) {
+            Function<Object, Object> function = texts.compile(fn);
+            return function == null ? textFunction(fn) : function;
+        } else {
+            throw new UnsupportedOperationException(Messages.get(
+                    "017.unsupported.expression",
+                    expression.getClass().getName()));
+        }
+    }
+
+    /**
+     * Compiles a numeric operator, cast, or function, or a text function,
+     * into a function that computes the value of the expression from the
+     * value of each of its arguments, rather than as a pipeline of
+     * primitive values or a view of text.
+     */
+    @Nonnull
+    Function<Object, Object> boxed(@Nonnull Expression<?, ?> expression) {
+        if (expression instanceof NumericOperatorExpression<?, ?> op) {
+            return operator(op);
+        } else if (expression instanceof NumericCast<?, ?> cast) {
+            return cast(cast);
+        } else if (expression instanceof NumericFunctionExpression<?, ?> fn) {
+            return numericFunction(fn);
+        } else if (expression instanceof TextFunctionExpression<?> fn) {
+            return textFunction(fn);
+        } else {
+            return compile(expression);
+        }
+    }
+
+    /**
+     * Compiles navigation to an entity, embeddable, or relation, followed by
+     * reading the specified attribute of it.
+     */
+    @Nonnull
+    private Function<Object, Object> navigate(@Nonnull NavigableExpression<?, ?> navigable,
+                                              @Nonnull Attribute<?> attr) {
+        Function<Object, Object> target;
+        Function<Object, Object> attribute = getterOf(attr, null);
+        if (navigable instanceof NavigableAttribute<?, ?> nav) {
+            target = getterOf(nav, entityClass);
+            if (target == null) {
+                target = accessors.path(entityClass, nav.name());
+            }
+            if (attribute == null) {
+                attribute = attributeOf(nav, attr.name());
+            }
+        } else if (navigable instanceof Path<?, ?> path) {
+            target = navigate(path.expression(), path.attribute());
+            if (attribute == null) {
+                attribute = path.attribute() instanceof NavigableAttribute<?, ?> nav
+                        ? attributeOf(nav, attr.name())
+                        : accessors.dynamic(attr.name());
+            }
+        } else {
+            throw new UnsupportedOperationException(Messages.get(
+                    "017.unsupported.expression",
+                    navigable.getClass().getName()));
+        }
+
+        Function<Object, Object> from = target;
+        Function<Object, Object> getter = attribute;
+        return entity -> {
+            Object value = from.apply(entity);
+            return value == null ? null : getter.apply(value);
+        };
+    }
+
+    @Nonnull
+    private Function<Object, Object> attributeOf(@Nonnull NavigableAttribute<?, ?> navigable,
+                                                 @Nonnull String attributeName) {
+        Class<?> type;
+        try {
+            type = navigable.type();
+        } catch (UnsupportedOperationException x) {
+            return accessors.dynamic(attributeName);
+        }
+        return accessors.path(type, attributeName);
+    }
+
+    /**
+     * Obtains a function that reads the attribute with the getter that is
+     * supplied by the static metamodel, or null if the attribute does not
+     * supply a getter or if the getter does not apply to the specified
+     * class. A null class indicates that the attribute is navigated to,
+     * in which case the declaring type of the attribute is trusted.
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> getterOf(@Nonnull Attribute<?> attribute,
+                                             Class<?> type) {
+        if (attribute instanceof AttributeAccessor<?, ?> accessor
+                && (type == null || attribute.declaringType().isAssignableFrom(type))) {
+            AttributeAccessor<Object, ?> getter = (AttributeAccessor<Object, ?>) accessor;
+            return getter::get;
+        }
+        return null;
+    }
+
+    @Nonnull
+    private Function<Object, Object> operator(@Nonnull NumericOperatorExpression<?, ?> op) {
+        Function<Object, Object> left = compile(op.left());
+        Function<Object, Object> right = compile(op.right());
+        Class<?> type = Values.wrap(op.type());
+        NumericOperatorExpression.Operator operator = op.operator();
+        return entity -> {
+            Object l = left.apply(entity);
+            if (l == null) {
+                return null;
+            }
+            Object r = right.apply(entity);
+            return r == null
+                    ? null
+                    : arithmetic(operator, (Number) l, (Number) r, type);
+        };
+    }
+
+    @Nonnull
+    static Number arithmetic(@Nonnull NumericOperatorExpression.Operator operator,
+                             @Nonnull Number l,
+                             @Nonnull Number r,
+                             @Nonnull Class<?> type) {
+        if (type == Integer.class || type == Short.class || type == Byte.class) {
+            int x = l.intValue();
+            int y = r.intValue();
+            int result = switch (operator) {
+                case PLUS -> x + y;
+                case MINUS -> x - y;
+                case TIMES -> x * y;
+                case DIVIDE -> x / y;
+            };
+            return narrow(result, type);
+        } else if (type == Long.class) {
+            long x = l.longValue();
+            long y = r.longValue();
+            return switch (operator) {
+                case PLUS -> x + y;
+                case MINUS -> x - y;
+                case TIMES -> x * y;
+                case DIVIDE -> x / y;
+            };
+        } else if (type == Double.class || type == Float.class) {
+            double x = l.doubleValue();
+            double y = r.doubleValue();
+            double result = switch (operator) {
+                case PLUS -> x + y;
+                case MINUS -> x - y;
+                case TIMES -> x * y;
+                case DIVIDE -> x / y;
+            };
+            return type == Float.class ? (Number) (float) result : (Number) result;
+        } else if (type == BigInteger.class) {
+            BigInteger x = Values.toBigInteger(l);
+            BigInteger y = Values.toBigInteger(r);
+            return switch (operator) {
+                case PLUS -> x.add(y);
+                case MINUS -> x.subtract(y);
+                case TIMES -> x.multiply(y);
+                case DIVIDE -> x.divide(y);
+            };
+        } else {
+            BigDecimal x = Values.toBigDecimal(l);
+            BigDecimal y = Values.toBigDecimal(r);
+            return switch (operator) {
+                case PLUS -> x.add(y);
+                case MINUS -> x.subtract(y);
+                case TIMES -> x.multiply(y);
+                case DIVIDE -> x.divide(y, MathContext.DECIMAL128);
+            };
+        }
+    }
+
+    @Nonnull
+    private static Number narrow(int value, @Nonnull Class<?> type) {
+        if (type == Short.class) {
+            return (short) value;
+        } else if (type == Byte.class) {
+            return (byte) value;
+        } else {
+            return value;
+        }
+    }
+
+    @Nonnull
+    private Function<Object, Object> cast(@Nonnull NumericCast<?, ?> cast) {
+        Function<Object, Object> value = compile(cast.expression());
+        Class<?> type = cast.type();
+        return entity -> {
+            Object n = value.apply(entity);
+            return n == null ? null : convert((Number) n, type);
+        };
+    }
+
+    @Nonnull
+    static Number convert(@Nonnull Number n, @Nonnull Class<?> type) {
+        if (type == Long.class) {
+            return n.longValue();
+        } else if (type == Double.class) {
+            return n.doubleValue();
+        } else if (type == BigInteger.class) {
+            return Values.toBigInteger(n);
+        } else if (type == BigDecimal.class) {
+            return Values.toBigDecimal(n);
+        } else if (type == Integer.class) {
+            return n.intValue();
+        } else if (type == Float.class) {
+            return n.floatValue();
+        } else {
+            return n;
+        }
+    }
+
+    @Nonnull
+    private Function<Object, Object> numericFunction(@Nonnull NumericFunctionExpression<?, ?> fn) {
+        if (NumericFunctionExpression.LENGTH.equals(fn.name())) {
+            Function<Object, CharSequence> text = texts.view(fn.arguments().get(0));
+            if (text != null) {
+                return entity -> {
+                    CharSequence s = text.apply(entity);
+                    return s == null ? null : s.length();
+                };
+            }
+        }
+
+        Function<Object, Object> arg = compile(fn.arguments().get(0));
+        switch (fn.name()) {
+            case NumericFunctionExpression.ABS:
+                return entity -> {
+                    Object n = arg.apply(entity);
+                    return n == null ? null : abs((Number) n);
+                };
+            case NumericFunctionExpression.NEG:
+                return entity -> {
+                    Object n = arg.apply(entity);
+                    return n == null ? null : negate((Number) n);
+                };
+            case NumericFunctionExpression.LENGTH:
+                return entity -> {
+                    Object s = arg.apply(entity);
+                    return s == null ? null : ((CharSequence) s).length();
+                };
+            default:
+                throw new UnsupportedOperationException(Messages.get(
+                        "017.unsupported.expression", fn.name()));
+        }
+    }
+
+    @Nonnull
+    private static Number abs(@Nonnull Number n) {
+        if (n instanceof Integer i) {
+            return Math.abs(i);
+        } else if (n instanceof Long l) {
+            return Math.abs(l);
+        } else if (n instanceof Double d) {
+            return Math.abs(d);
+        } else if (n instanceof Float f) {
+            return Math.abs(f);
+        } else if (n instanceof BigDecimal d) {
+            return d.abs();
+        } else if (n instanceof BigInteger i) {
+            return i.abs();
+        } else if (n instanceof Short s) {
+            return (short) Math.abs(s);
+        } else {
+            return (byte) Math.abs(n.byteValue());
+        }
+    }
+
+    @Nonnull
+    private static Number negate(@Nonnull Number n) {
+        if (n instanceof Integer i) {
+            return -i;
+        } else if (n instanceof Long l) {
+            return -l;
+        } else if (n instanceof Double d) {
+            return -d;
+        } else if (n instanceof Float f) {
+            return -f;
+        } else if (n instanceof BigDecimal d) {
+            return d.negate();
+        } else if (n instanceof BigInteger i) {
+            return i.negate();
+        } else if (n instanceof Short s) {
+            return (short) -s;
+        } else {
+            return (byte) -n.byteValue();
+        }
+    }
+
+    @Nonnull
+    private Function<Object, Object> textFunction(@Nonnull TextFunctionExpression<?> fn) {
+        List<? extends Expression<?, ?>> args = fn.arguments();
+        Function<Object, Object> arg = compile(args.get(0));
+        switch (fn.name()) {
+            case TextFunctionExpression.UPPER:
+                return entity -> {
+                    Object s = arg.apply(entity);
+                    return s == null ? null : s.toString().toUpperCase(Locale.ROOT);
+                };
+            case TextFunctionExpression.LOWER:
+                return entity -> {
+                    Object s = arg.apply(entity);
+                    return s == null ? null : s.toString().toLowerCase(Locale.ROOT);
+                };
+            case TextFunctionExpression.LEFT: {
+                Function<Object, Object> length = compile(args.get(1));
+                return entity -> {
+                    Object s = arg.apply(entity);
+                    Object n = s == null ? null : length.apply(entity);
+                    return n == null ? null : left(s.toString(), ((Number) n).intValue());
+                };
+            }
+            case TextFunctionExpression.RIGHT: {
+                Function<Object, Object> length = compile(args.get(1));
+                return entity -> {
+                    Object s = arg.apply(entity);
+                    Object n = s == null ? null : length.apply(entity);
+                    return n == null ? null : right(s.toString(), ((Number) n).intValue());
+                };
+            }
+            case TextFunctionExpression.CONCAT: {
+                Function<Object, Object> second = compile(args.get(1));
+                return entity -> {
+                    Object s = arg.apply(entity);
+                    Object t = s == null ? null : second.apply(entity);
+                    return t == null ? null : s.toString().concat(t.toString());
+                };
+            }
+            default:
+                throw new UnsupportedOperationException(Messages.get(
+                        "017.unsupported.expression", fn.name()));
+        }
+    }
+
+    @Nonnull
+    static String left(@Nonnull String s, int length) {
+        return length >= s.length() ? s : s.substring(0, length);
+    }
+
+    @Nonnull
+    static String right(@Nonnull String s, int length) {
+        return length >= s.length() ? s : s.substring(s.length() - length);
+    }
+}
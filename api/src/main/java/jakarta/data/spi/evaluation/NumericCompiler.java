@@ -0,0 +1,459 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.expression.Expression;
+import jakarta.data.spi.expression.function.NumericCast;
+import jakarta.data.spi.expression.function.NumericFunctionExpression;
+import jakarta.data.spi.expression.function.NumericOperatorExpression;
+import jakarta.data.spi.expression.literal.Literal;
+
+// Internal implementation class.
+// Compiles trees of numeric expressions over primitive entity attributes and
+// numeric literals into functions that compute primitive long and double
+// values without boxing at each node. The results are identical to those
+// of the boxed arithmetic of ExpressionCompiler. BigInteger and BigDecimal
+// values are computed exactly as long values that are scaled by a power of
+// ten that is known when compiling, falling back to the boxed arithmetic
+// when a value overflows. Methods return null for expressions that cannot
+// be compiled in this way, such as expressions that can have null values.
+final class NumericCompiler {
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L,
+            10_000_000L, 100_000_000L, 1_000_000_000L, 10_000_000_000L,
+            100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L,
+            100_000_000_000_000L, 1_000_000_000_000_000L,
+            10_000_000_000_000_000L, 100_000_000_000_000_000L,
+            1_000_000_000_000_000_000L };
+
+    private static final int MAX_SCALE = POWERS_OF_TEN.length - 1;
+
+    @Nonnull
+    private final ExpressionCompiler expressions;
+
+    NumericCompiler(@Nonnull ExpressionCompiler expressions) {
+        this.expressions = expressions;
+    }
+
+    /**
+     * A compiled expression. The type is the class of the values that the
+     * boxed arithmetic computes, which determines whether the longs
+     * function computes an integral value, the doubles function computes a
+     * floating point value, or the longs function computes the unscaled
+     * value of a BigInteger or BigDecimal.
+     */
+    private record Node(@Nonnull Class<?> type,
+                        ToLongFunction<Object> longs,
+                        ToDoubleFunction<Object> doubles,
+                        int scale) {
+
+        static Node ofLong(@Nonnull Class<?> type, @Nonnull ToLongFunction<Object> longs) {
+            return new Node(type, longs, null, 0);
+        }
+
+        static Node ofDouble(@Nonnull Class<?> type, @Nonnull ToDoubleFunction<Object> doubles) {
+            return new Node(type, null, doubles, 0);
+        }
+
+        boolean isIntegral() {
+            return type == Integer.class
+                    || type == Long.class
+                    || type == Short.class
+                    || type == Byte.class;
+        }
+
+        boolean isFloatingPoint() {
+            return doubles != null;
+        }
+
+        boolean isBig() {
+            return type == BigInteger.class || type == BigDecimal.class;
+        }
+
+        /**
+         * Unscaled value at the specified scale, which is not less than the
+         * scale of this node, or null if not representable.
+         */
+        ToLongFunction<Object> unscaled(int toScale) {
+            if (doubles != null || toScale - scale > MAX_SCALE) {
+                return null;
+            } else if (toScale == scale) {
+                return longs;
+            }
+            ToLongFunction<Object> value = longs;
+            long factor = POWERS_OF_TEN[toScale - scale];
+            return entity -> Math.multiplyExact(value.applyAsLong(entity), factor);
+        }
+
+        /**
+         * Value truncated to a whole number, as computed by toBigInteger.
+         */
+        @Nonnull
+        ToLongFunction<Object> truncated() {
+            if (scale == 0) {
+                return longs;
+            }
+            ToLongFunction<Object> value = longs;
+            long divisor = POWERS_OF_TEN[scale];
+            return entity -> value.applyAsLong(entity) / divisor;
+        }
+    }
+
+    /**
+     * Compiles an expression of an integral type into a function that
+     * computes its value without boxing, or returns null.
+     */
+    ToLongFunction<Object> toLong(@Nonnull Expression<?, ?> expression) {
+        Node node = node(expression);
+        return node != null && node.isIntegral() ? node.longs : null;
+    }
+
+    /**
+     * Compiles an expression of an integral or floating point type into a
+     * function that computes its value as a double without boxing, or
+     * returns null. Integral values are converted to double in the same way
+     * that numbers of different types are compared.
+     */
+    ToDoubleFunction<Object> toDouble(@Nonnull Expression<?, ?> expression) {
+        Node node = node(expression);
+        if (node == null) {
+            return null;
+        } else if (node.isFloatingPoint()) {
+            return node.doubles;
+        } else if (node.isIntegral()) {
+            ToLongFunction<Object> value = node.longs;
+            return entity -> (double) value.applyAsLong(entity);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Compiles an expression into a function that computes its value with
+     * primitive arithmetic and boxes only the result, or returns null.
+     */
+    Function<Object, Object> compile(@Nonnull Expression<?, ?> expression) {
+        Node node = node(expression);
+        if (node == null) {
+            return null;
+        }
+
+        Class<?> type = node.type;
+        if (node.isFloatingPoint()) {
+            ToDoubleFunction<Object> value = node.doubles;
+            return type == Float.class
+                    ? entity -> (float) value.applyAsDouble(entity)
+                    : entity -> value.applyAsDouble(entity);
+        }
+
+        ToLongFunction<Object> value = node.longs;
+        if (type == Long.class) {
+            return entity -> value.applyAsLong(entity);
+        } else if (type == Integer.class) {
+            return entity -> (int) value.applyAsLong(entity);
+        } else if (type == Short.class) {
+            return entity -> (short) value.applyAsLong(entity);
+        } else if (type == Byte.class) {
+            return entity -> (byte) value.applyAsLong(entity);
+        }
+
+        // BigInteger or BigDecimal, with the boxed arithmetic for overflow
+        Function<Object, Object> boxed = expressions.boxed(expression);
+        int scale = node.scale;
+        boolean decimal = type == BigDecimal.class;
+        return entity -> {
+            long unscaled;
+            try {
+                unscaled = value.applyAsLong(entity);
+            } catch (ArithmeticException x) {
+                return boxed.apply(entity);
+            }
+            return decimal
+                    ? BigDecimal.valueOf(unscaled, scale)
+                    : BigInteger.valueOf(unscaled);
+        };
+    }
+
+    private Node node(@Nonnull Expression<?, ?> expression) {
+        if (expression instanceof Literal<?> literal) {
+            return literal.value() instanceof Number n ? constant(n) : null;
+        }
+
+        Accessor accessor = expressions.accessorOf(expression);
+        if (accessor != null) {
+            Class<?> type = Values.wrap(accessor.type());
+            if (accessor.isIntegral()) {
+                return Node.ofLong(type, accessor.toLong());
+            } else if (accessor.isFloatingPoint()) {
+                return Node.ofDouble(type, accessor.toDouble());
+            } else {
+                return null;
+            }
+        }
+
+        try {
+            if (expression instanceof NumericOperatorExpression<?, ?> op) {
+                Node left = node(op.left());
+                Node right = left == null ? null : node(op.right());
+                return right == null
+                        ? null
+                        : operator(op.operator(), left, right, Values.wrap(op.type()));
+            } else if (expression instanceof NumericCast<?, ?> cast) {
+                Node value = node(cast.expression());
+                return value == null ? null : cast(value, cast.type());
+            } else if (expression instanceof NumericFunctionExpression<?, ?> fn
+                    && (NumericFunctionExpression.ABS.equals(fn.name())
+                    || NumericFunctionExpression.NEG.equals(fn.name()))) {
+                Node value = node(fn.arguments().get(0));
+                return value == null
+                        ? null
+                        : function(NumericFunctionExpression.ABS.equals(fn.name()), value);
+            }
+        } catch (UnsupportedOperationException x) {
+            // the type of the expression is unknown
+        }
+        return null;
+    }
+
+    private static Node constant(@Nonnull Number n) {
+        if (Values.isIntegral(n)) {
+            long value = n.longValue();
+            return Node.ofLong(n.getClass(), entity -> value);
+        } else if (n instanceof Double || n instanceof Float) {
+            double value = n.doubleValue();
+            return Node.ofDouble(n.getClass(), entity -> value);
+        } else if (n instanceof BigInteger i && i.bitLength() < Long.SIZE) {
+            long value = i.longValue();
+            return new Node(BigInteger.class, entity -> value, null, 0);
+        } else if (n instanceof BigDecimal d
+                && d.scale() >= 0
+                && d.scale() <= MAX_SCALE
+                && d.unscaledValue().bitLength() < Long.SIZE) {
+            long value = d.unscaledValue().longValue();
+            return new Node(BigDecimal.class, entity -> value, null, d.scale());
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Mirrors ExpressionCompiler.arithmetic.
+     */
+    private static Node operator(@Nonnull NumericOperatorExpression.Operator operator,
+                                 @Nonnull Node left,
+                                 @Nonnull Node right,
+                                 @Nonnull Class<?> type) {
+        if (type == Integer.class || type == Short.class || type == Byte.class) {
+            if (!left.isIntegral() || !right.isIntegral()) {
+                return null;
+            }
+            ToLongFunction<Object> l = left.longs;
+            ToLongFunction<Object> r = right.longs;
+            ToLongFunction<Object> result = switch (operator) {
+                case PLUS -> e -> (int) l.applyAsLong(e) + (int) r.applyAsLong(e);
+                case MINUS -> e -> (int) l.applyAsLong(e) - (int) r.applyAsLong(e);
+                case TIMES -> e -> (int) l.applyAsLong(e) * (int) r.applyAsLong(e);
+                case DIVIDE -> e -> (int) l.applyAsLong(e) / (int) r.applyAsLong(e);
+            };
+            return Node.ofLong(type, narrow(result, type));
+        } else if (type == Long.class) {
+            if (!left.isIntegral() || !right.isIntegral()) {
+                return null;
+            }
+            ToLongFunction<Object> l = left.longs;
+            ToLongFunction<Object> r = right.longs;
+            return Node.ofLong(type, switch (operator) {
+                case PLUS -> e -> l.applyAsLong(e) + r.applyAsLong(e);
+                case MINUS -> e -> l.applyAsLong(e) - r.applyAsLong(e);
+                case TIMES -> e -> l.applyAsLong(e) * r.applyAsLong(e);
+                case DIVIDE -> e -> l.applyAsLong(e) / r.applyAsLong(e);
+            });
+        } else if (type == Double.class || type == Float.class) {
+            ToDoubleFunction<Object> l = doubles(left);
+            ToDoubleFunction<Object> r = doubles(right);
+            if (l == null || r == null) {
+                return null;
+            }
+            ToDoubleFunction<Object> result = switch (operator) {
+                case PLUS -> e -> l.applyAsDouble(e) + r.applyAsDouble(e);
+                case MINUS -> e -> l.applyAsDouble(e) - r.applyAsDouble(e);
+                case TIMES -> e -> l.applyAsDouble(e) * r.applyAsDouble(e);
+                case DIVIDE -> e -> l.applyAsDouble(e) / r.applyAsDouble(e);
+            };
+            if (type == Float.class) {
+                ToDoubleFunction<Object> value = result;
+                result = e -> (float) value.applyAsDouble(e);
+            }
+            return Node.ofDouble(type, result);
+        } else if (type == BigInteger.class) {
+            if (left.isFloatingPoint() || right.isFloatingPoint()) {
+                return null;
+            }
+            return exact(operator, left.truncated(), right.truncated(), 0, type);
+        } else if (type == BigDecimal.class) {
+            if (operator == NumericOperatorExpression.Operator.DIVIDE) {
+                return null; // the scale of the quotient depends on its value
+            }
+            int scale = operator == NumericOperatorExpression.Operator.TIMES
+                    ? left.scale + right.scale
+                    : Math.max(left.scale, right.scale);
+            if (scale > MAX_SCALE) {
+                return null;
+            }
+            return operator == NumericOperatorExpression.Operator.TIMES
+                    ? exact(operator, left.unscaled(left.scale), right.unscaled(right.scale), scale, type)
+                    : exact(operator, left.unscaled(scale), right.unscaled(scale), scale, type);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Arithmetic on unscaled values that raises ArithmeticException if the
+     * result does not fit in a long.
+     */
+    private static Node exact(@Nonnull NumericOperatorExpression.Operator operator,
+                              ToLongFunction<Object> l,
+                              ToLongFunction<Object> r,
+                              int scale,
+                              @Nonnull Class<?> type) {
+        if (l == null || r == null) {
+            return null;
+        }
+        LongBinaryOperator op = switch (operator) {
+            case PLUS -> Math::addExact;
+            case MINUS -> Math::subtractExact;
+            case TIMES -> Math::multiplyExact;
+            case DIVIDE -> NumericCompiler::divideExact;
+        };
+        return new Node(type, e -> op.applyAsLong(l.applyAsLong(e), r.applyAsLong(e)), null, scale);
+    }
+
+    private static long divideExact(long x, long y) {
+        if (x == Long.MIN_VALUE && y == -1L) {
+            throw new ArithmeticException();
+        }
+        return x / y;
+    }
+
+    /**
+     * Mirrors ExpressionCompiler.convert.
+     */
+    private static Node cast(@Nonnull Node value, @Nonnull Class<?> type) {
+        if (type == Long.class || type == Integer.class) {
+            ToLongFunction<Object> result;
+            if (value.isBig()) {
+                return null; // only the root falls back when unscaled values overflow
+            } else if (value.isFloatingPoint()) {
+                ToDoubleFunction<Object> d = value.doubles;
+                result = type == Long.class
+                        ? e -> (long) d.applyAsDouble(e)
+                        : e -> (int) d.applyAsDouble(e);
+            } else {
+                result = narrow(value.truncated(), type);
+            }
+            return Node.ofLong(type, result);
+        } else if (type == Double.class || type == Float.class) {
+            ToDoubleFunction<Object> result = doubles(value);
+            if (result != null && type == Float.class) {
+                ToDoubleFunction<Object> d = result;
+                result = e -> (float) d.applyAsDouble(e);
+            }
+            return result == null ? null : Node.ofDouble(type, result);
+        } else if (type == BigInteger.class) {
+            return value.isFloatingPoint()
+                    ? null
+                    : new Node(type, value.truncated(), null, 0);
+        } else if (type == BigDecimal.class) {
+            return value.isFloatingPoint()
+                    ? null
+                    : new Node(type, value.longs, null, value.scale);
+        } else {
+            return value; // not converted
+        }
+    }
+
+    /**
+     * Mirrors ExpressionCompiler.abs and ExpressionCompiler.negate, which
+     * compute values of the same type as their argument.
+     */
+    private static Node function(boolean abs, @Nonnull Node value) {
+        Class<?> type = value.type;
+        if (value.isFloatingPoint()) {
+            ToDoubleFunction<Object> d = value.doubles;
+            return Node.ofDouble(type, abs
+                    ? e -> Math.abs(d.applyAsDouble(e))
+                    : e -> -d.applyAsDouble(e));
+        }
+
+        ToLongFunction<Object> l = value.longs;
+        if (value.isBig()) {
+            return new Node(type, abs
+                    ? e -> Math.absExact(l.applyAsLong(e))
+                    : e -> Math.negateExact(l.applyAsLong(e)), null, value.scale);
+        } else if (type == Long.class) {
+            return Node.ofLong(type, abs
+                    ? e -> Math.abs(l.applyAsLong(e))
+                    : e -> -l.applyAsLong(e));
+        } else {
+            return Node.ofLong(type, narrow(abs
+                    ? e -> Math.abs((int) l.applyAsLong(e))
+                    : e -> -(int) l.applyAsLong(e), type));
+        }
+    }
+
+    /**
+     * Converts integral values to double, or returns null for values of
+     * other types.
+     */
+    private static ToDoubleFunction<Object> doubles(@Nonnull Node value) {
+        if (value.isFloatingPoint()) {
+            return value.doubles;
+        } else if (value.isIntegral()) {
+            ToLongFunction<Object> l = value.longs;
+            return e -> (double) l.applyAsLong(e);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Narrows to the range of int, short, or byte values.
+     */
+    @Nonnull
+    private static ToLongFunction<Object> narrow(@Nonnull ToLongFunction<Object> value,
+                                                 @Nonnull Class<?> type) {
+        if (type == Integer.class) {
+            return e -> (int) value.applyAsLong(e);
+        } else if (type == Short.class) {
+            return e -> (short) value.applyAsLong(e);
+        } else if (type == Byte.class) {
+            return e -> (byte) value.applyAsLong(e);
+        } else {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+
+// Internal implementation class.
+// Compiles sort criteria into a single comparator, or into columns of sort
+// keys that are computed once per entity, after which the entities are
+// sorted by index. Numeric sort keys that are computed from primitive
+// attributes are read and compared without boxing. Null values are ordered before or after non-null values according
+// to the Nulls of the sort criterion. Where the application does not specify,
+// null is ordered as if it were greater than all other values, which is the
+// behavior of many relational databases.
+// When only the first entities of the sorted order are needed, they are
+// selected with bounded heaps, which are built in parallel for partitions of
+// large collections and then merged.
+final class OrderCompiler {
+    // Kinds of sort key
+    private static final int LONG = 0;
+    private static final int DOUBLE = 1;
+    private static final int OBJECT = 2;
+    private static final int NULLABLE = 3;
+
+    /**
+     * Ranges of this size or smaller are sorted by insertion.
+     */
+    private static final int INSERTION_SORT_MAX = 24;
+
+    /**
+     * Collections of this size or larger are partitioned when selecting the
+     * first entities, such that the partitions are processed in parallel.
+     */
+    private static final int PARALLEL_MIN = 1 << 15;
+
+    @Nonnull
+    private final ExpressionCompiler expressions;
+
+    OrderCompiler(@Nonnull ExpressionCompiler expressions) {
+        this.expressions = expressions;
+    }
+
+    /**
+     * A compiled sort criterion. Exactly one of the functions is non-null,
+     * according to the kind, which is LONG, DOUBLE, or NULLABLE.
+     *
+     * @param sign       1 if ascending, -1 if descending.
+     * @param nulls      the result of comparing null with a non-null value.
+     * @param ignoreCase whether text objects are compared in lower case.
+     */
+    private record Key(int kind,
+                       ToLongFunction<Object> longs,
+                       ToDoubleFunction<Object> doubles,
+                       Function<Object, Object> objects,
+                       int sign,
+                       int nulls,
+                       boolean ignoreCase) {
+    }
+
+    /**
+     * Sort keys of all of the entities for one sort criterion, indexed by
+     * the position of the entity. Exactly one of the arrays is non-null,
+     * according to the kind.
+     */
+    private static final class Column {
+        int kind;
+        long[] longs;
+        double[] doubles;
+        Object[] objects;
+        int sign;
+        int nulls;
+    }
+
+    @Nonnull
+    Comparator<Object> comparator(@Nonnull Order<?> order) {
+        Key[] keys = keys(order);
+        return (a, b) -> {
+            for (Key key : keys) {
+                int result = switch (key.kind) {
+                    case LONG -> Long.compare(key.longs.applyAsLong(a),
+                                              key.longs.applyAsLong(b));
+                    case DOUBLE -> Double.compare(key.doubles.applyAsDouble(a),
+                                                  key.doubles.applyAsDouble(b));
+                    default -> key.ignoreCase
+                            ? compareIgnoreCase(key.objects.apply(a),
+                                                key.objects.apply(b),
+                                                key.nulls)
+                            : compare(key.objects.apply(a),
+                                      key.objects.apply(b),
+                                      key.nulls);
+                };
+                if (result != 0) {
+                    return key.sign * result;
+                }
+            }
+            return 0;
+        };
+    }
+
+    @Nonnull
+    Object[] sort(@Nonnull Collection<?> entities, @Nonnull Order<?> order) {
+        Key[] keys = keys(order);
+        Object[] elements = entities.toArray();
+        if (elements.length < 2 || keys.length == 0) {
+            return elements;
+        }
+
+        Column[] columns = new Column[keys.length];
+        for (int c = 0; c < keys.length; c++) {
+            columns[c] = column(keys[c], elements);
+        }
+
+        int[] indexes = new int[elements.length];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        mergeSort(indexes, indexes.clone(), 0, indexes.length, columns);
+
+        Object[] sorted = new Object[elements.length];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = elements[indexes[i]];
+        }
+        return sorted;
+    }
+
+    /**
+     * Selects the entities at the positions from offset (inclusive) to
+     * offset + max (exclusive) of the sorted order, which are the same
+     * entities in the same order as a stable sort followed by slicing.
+     * Where few entities are selected relative to the size of the
+     * collection, bounded heaps are used instead of a sort.
+     */
+    @Nonnull
+    Object[] select(@Nonnull Collection<?> entities, @Nonnull Order<?> order,
+                    long offset, int max) {
+        Object[] elements = entities.toArray();
+        if (offset >= elements.length || max == 0) {
+            return new Object[0];
+        }
+        int end = (int) Math.min(offset + max, elements.length);
+        if ((long) end * 8 >= elements.length) {
+            return Arrays.copyOfRange(sort(Arrays.asList(elements), order),
+                                      (int) offset, end);
+        }
+
+        Comparator<Object> comparator = comparator(order);
+        IndexComparator byPosition = (i, j) -> {
+            int result = comparator.compare(elements[i], elements[j]);
+            return result == 0 ? Integer.compare(i, j) : result;
+        };
+
+        int[] candidates;
+        int partitions = Math.min(elements.length / PARALLEL_MIN,
+                                  Runtime.getRuntime().availableProcessors());
+        if (partitions > 1) {
+            int[][] heaps = IntStream.range(0, partitions)
+                    .parallel()
+                    .mapToObj(p -> heap(byPosition,
+                            (int) ((long) elements.length * p / partitions),
+                            (int) ((long) elements.length * (p + 1) / partitions),
+                            end))
+                    .toArray(int[][]::new);
+            candidates = new int[Arrays.stream(heaps).mapToInt(h -> h.length).sum()];
+            int count = 0;
+            for (int[] heap : heaps) {
+                System.arraycopy(heap, 0, candidates, count, heap.length);
+                count += heap.length;
+            }
+        } else {
+            candidates = heap(byPosition, 0, elements.length, end);
+        }
+
+        Integer[] ordered = new Integer[candidates.length];
+        for (int i = 0; i < ordered.length; i++) {
+            ordered[i] = candidates[i];
+        }
+        Arrays.sort(ordered, byPosition::compare);
+
+        Object[] selected = new Object[end - (int) offset];
+        for (int i = 0; i < selected.length; i++) {
+            selected[i] = elements[ordered[(int) offset + i]];
+        }
+        return selected;
+    }
+
+    /**
+     * Compares entities by their positions in the collection.
+     */
+    @FunctionalInterface
+    private interface IndexComparator {
+        int compare(int i, int j);
+    }
+
+    /**
+     * Selects the positions of the first k entities in sorted order from the
+     * positions between from (inclusive) and to (exclusive), using a heap in
+     * which the last of the k entities is at the root. The positions are
+     * returned in the order of the heap.
+     */
+    @Nonnull
+    private static int[] heap(@Nonnull IndexComparator comparator,
+                              int from, int to, int k) {
+        int[] heap = new int[Math.min(k, to - from)];
+        int size = 0;
+        for (int index = from; index < to; index++) {
+            if (size < heap.length) {
+                int child = size++;
+                while (child > 0) {
+                    int parent = (child - 1) >>> 1;
+                    if (comparator.compare(heap[parent], index) >= 0) {
+                        break;
+                    }
+                    heap[child] = heap[parent];
+                    child = parent;
+                }
+                heap[child] = index;
+            } else if (comparator.compare(index, heap[0]) < 0) {
+                int parent = 0;
+                while (true) {
+                    int child = 2 * parent + 1;
+                    if (child >= size) {
+                        break;
+                    }
+                    if (child + 1 < size
+                            && comparator.compare(heap[child + 1], heap[child]) > 0) {
+                        child++;
+                    }
+                    if (comparator.compare(heap[child], index) <= 0) {
+                        break;
+                    }
+                    heap[parent] = heap[child];
+                    parent = child;
+                }
+                heap[parent] = index;
+            }
+        }
+        return heap;
+    }
+
+    @Nonnull
+    private Key[] keys(@Nonnull Order<?> order) {
+        List<? extends Sort<?>> sorts = order.sorts();
+        Key[] keys = new Key[sorts.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = key(sorts.get(i));
+        }
+        return keys;
+    }
+
+    @Nonnull
+    private Key key(@Nonnull Sort<?> sort) {
+        int sign = sort.isAscending() ? 1 : -1;
+        int nulls = switch (sort.nullOrdering()) {
+            case FIRST -> -sign;
+            case LAST -> sign;
+            default -> 1;
+        };
+
+        Accessor accessor;
+        Function<Object, Object> function;
+        if (sort.expression() != null) {
+            if (!sort.ignoreCase()) {
+                NumericCompiler numerics = expressions.numerics();
+                ToLongFunction<Object> longs = numerics.toLong(sort.expression());
+                if (longs != null) {
+                    return new Key(LONG, longs, null, null, sign, nulls, false);
+                }
+                ToDoubleFunction<Object> doubles = numerics.toDouble(sort.expression());
+                if (doubles != null) {
+                    return new Key(DOUBLE, null, doubles, null, sign, nulls, false);
+                }
+            }
+            accessor = expressions.accessorOf(sort.expression());
+            function = accessor == null ? expressions.compile(sort.expression()) : null;
+        } else if (sort.property().indexOf('.') < 0) {
+            accessor = expressions.accessors()
+                    .get(expressions.entityClass(), sort.property());
+            function = null;
+        } else {
+            accessor = null;
+            function = expressions.accessors()
+                    .path(expressions.entityClass(), sort.property());
+        }
+
+        if (accessor != null && !sort.ignoreCase()) {
+            if (accessor.isIntegral()) {
+                return new Key(LONG, accessor.toLong(), null, null, sign, nulls, false);
+            } else if (accessor.isFloatingPoint()) {
+                return new Key(DOUBLE, null, accessor.toDouble(), null, sign, nulls, false);
+            }
+        }
+        if (function == null) {
+            function = accessor.function();
+        }
+        return new Key(NULLABLE, null, null, function, sign, nulls, sort.ignoreCase());
+    }
+
+    /**
+     * Computes the sort keys of all entities for a sort criterion. Objects
+     * that turn out to be all non-null integral or floating point numbers
+     * are unboxed, and columns of objects without null values are compared
+     * without checking for null.
+     */
+    @Nonnull
+    private static Column column(@Nonnull Key key, @Nonnull Object[] elements) {
+        Column column = new Column();
+        column.kind = key.kind;
+        column.sign = key.sign;
+        column.nulls = key.nulls;
+        int n = elements.length;
+        switch (key.kind) {
+            case LONG -> {
+                column.longs = new long[n];
+                for (int i = 0; i < n; i++) {
+                    column.longs[i] = key.longs.applyAsLong(elements[i]);
+                }
+            }
+            case DOUBLE -> {
+                column.doubles = new double[n];
+                for (int i = 0; i < n; i++) {
+                    column.doubles[i] = key.doubles.applyAsDouble(elements[i]);
+                }
+            }
+            default -> {
+                Object[] objects = new Object[n];
+                boolean integral = true;
+                boolean floatingPoint = true;
+                boolean nonNull = true;
+                for (int i = 0; i < n; i++) {
+                    Object value = key.objects.apply(elements[i]);
+                    if (key.ignoreCase) {
+                        value = lowerCase(value);
+                    }
+                    objects[i] = value;
+                    nonNull &= value != null;
+                    integral &= value instanceof Integer || value instanceof Long
+                            || value instanceof Short || value instanceof Byte;
+                    floatingPoint &= value instanceof Double || value instanceof Float;
+                }
+                if (integral) {
+                    column.kind = LONG;
+                    column.longs = new long[n];
+                    for (int i = 0; i < n; i++) {
+                        column.longs[i] = ((Number) objects[i]).longValue();
+                    }
+                } else if (floatingPoint) {
+                    column.kind = DOUBLE;
+                    column.doubles = new double[n];
+                    for (int i = 0; i < n; i++) {
+                        column.doubles[i] = ((Number) objects[i]).doubleValue();
+                    }
+                } else {
+                    column.kind = nonNull ? OBJECT : NULLABLE;
+                    column.objects = objects;
+                }
+            }
+        }
+        return column;
+    }
+
+    /**
+     * Compares the entities at two positions by their sort keys.
+     */
+    private static int compare(int i, int j, @Nonnull Column[] columns) {
+        for (Column column : columns) {
+            int result = switch (column.kind) {
+                case LONG -> Long.compare(column.longs[i], column.longs[j]);
+                case DOUBLE -> Double.compare(column.doubles[i], column.doubles[j]);
+                case OBJECT -> Values.compare(column.objects[i], column.objects[j]);
+                default -> compare(column.objects[i], column.objects[j], column.nulls);
+            };
+            if (result != 0) {
+                return column.sign * result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Compares values that might be null, where nulls is the result of
+     * comparing null with a non-null value in ascending order.
+     */
+    private static int compare(Object a, Object b, int nulls) {
+        if (a == null) {
+            return b == null ? 0 : nulls;
+        } else if (b == null) {
+            return -nulls;
+        } else {
+            return Values.compare(a, b);
+        }
+    }
+
+    /**
+     * Compares values that might be null, in lower case if they are text,
+     * without computing the lower case of Latin-1 strings.
+     */
+    private static int compareIgnoreCase(Object a, Object b, int nulls) {
+        if (a == null || b == null) {
+            return compare(a, b, nulls);
+        } else if (a instanceof String s && b instanceof String t) {
+            return TextCompiler.compareLowerCase(s, t);
+        } else {
+            return Values.compare(lowerCase(a), lowerCase(b));
+        }
+    }
+
+    private static Object lowerCase(Object value) {
+        return value instanceof CharSequence s
+                ? s.toString().toLowerCase(Locale.ROOT)
+                : value;
+    }
+
+    /**
+     * Stable merge sort of the indexes between from (inclusive) and to
+     * (exclusive), using the copy as working space.
+     */
+    private static void mergeSort(int[] indexes, int[] copy, int from, int to,
+                                  Column[] columns) {
+        if (to - from <= INSERTION_SORT_MAX) {
+            for (int i = from + 1; i < to; i++) {
+                int index = indexes[i];
+                int j = i - 1;
+                while (j >= from && compare(indexes[j], index, columns) > 0) {
+                    indexes[j + 1] = indexes[j];
+                    j--;
+                }
+                indexes[j + 1] = index;
+            }
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        mergeSort(indexes, copy, from, mid, columns);
+        mergeSort(indexes, copy, mid, to, columns);
+        if (compare(indexes[mid - 1], indexes[mid], columns) <= 0) {
+            return; // already in order
+        }
+
+        System.arraycopy(indexes, from, copy, from, to - from);
+        int left = from;
+        int right = mid;
+        int i = from;
+        while (left < mid && right < to) {
+            indexes[i++] = compare(copy[right], copy[left], columns) < 0
+                    ? copy[right++]
+                    : copy[left++];
+        }
+        // Remaining indexes from the right are already in position
+        System.arraycopy(copy, left, indexes, i, mid - left);
+    }
+}
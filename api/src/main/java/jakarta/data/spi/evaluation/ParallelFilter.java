@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Predicate;
+
+import jakarta.annotation.Nonnull;
+
+// Internal implementation class.
+// Filters the elements of an array with fork/join, splitting the array into
+// ranges of equal size, which are scanned in parallel. The matching elements
+// of the ranges are concatenated in encounter order. If only the first
+// matches are needed, no range holds more of them than are needed, and ranges
+// that follow enough matches in preceding ranges are not scanned.
+final class ParallelFilter {
+    private static final Object[] NONE = new Object[0];
+
+    /**
+     * Ranges are no smaller than this, such that the overhead of a task is
+     * small relative to the work of scanning its range.
+     */
+    private static final int MIN_RANGE = 1024;
+
+    /**
+     * Number of ranges per worker thread, which allows for the balancing of
+     * work between threads when some ranges match more than others.
+     */
+    private static final int RANGES_PER_THREAD = 8;
+
+    @Nonnull
+    private final Object[] elements;
+
+    @Nonnull
+    private final Predicate<Object> predicate;
+
+    /**
+     * The number of matches, in encounter order, that are needed.
+     */
+    private final long needed;
+
+    private final int rangeSize;
+
+    /**
+     * The number of matches in each range, or -1 if not yet known.
+     */
+    @Nonnull
+    private final AtomicIntegerArray counts;
+
+    ParallelFilter(@Nonnull Object[] elements,
+                   @Nonnull Predicate<Object> predicate,
+                   long needed,
+                   int parallelism) {
+        this.elements = elements;
+        this.predicate = predicate;
+        this.needed = needed;
+        int ranges = Math.max(1, parallelism * RANGES_PER_THREAD);
+        this.rangeSize = Math.max(MIN_RANGE, (elements.length + ranges - 1) / ranges);
+        this.counts = new AtomicIntegerArray((elements.length + rangeSize - 1) / rangeSize);
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, -1);
+        }
+    }
+
+    /**
+     * Task that is run in the fork/join pool to filter the elements.
+     */
+    @Nonnull
+    RecursiveTask<Object[]> task() {
+        return new Task(this, 0, counts.length());
+    }
+
+    /**
+     * Filters the ranges from first (inclusive) to end (exclusive) by
+     * forking the latter half and filtering the former half.
+     */
+    private static final class Task extends RecursiveTask<Object[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient ParallelFilter filter;
+
+        private final int first;
+
+        private final int end;
+
+        Task(ParallelFilter filter, int first, int end) {
+            this.filter = filter;
+            this.first = first;
+            this.end = end;
+        }
+
+        @Override
+        protected Object[] compute() {
+            if (end - first <= 1) {
+                return first < end ? filter.scan(first) : NONE;
+            }
+            int mid = (first + end) >>> 1;
+            Task latter = new Task(filter, mid, end);
+            latter.fork();
+            Object[] former = new Task(filter, first, mid).compute();
+            return filter.concat(former, latter.join());
+        }
+    }
+
+    @Nonnull
+    private Object[] scan(int range) {
+        if (isPrecededByEnough(range)) {
+            counts.set(range, 0);
+            return NONE;
+        }
+
+        int from = range * rangeSize;
+        int to = Math.min(elements.length, from + rangeSize);
+        Object[] matches = new Object[(int) Math.min(to - from, needed)];
+        int count = 0;
+        for (int i = from; i < to && count < matches.length; i++) {
+            if (predicate.test(elements[i])) {
+                matches[count++] = elements[i];
+            }
+        }
+        counts.set(range, count);
+        return count == matches.length ? matches : Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Whether the ranges that precede a range are known to have at least
+     * as many matches as are needed.
+     */
+    private boolean isPrecededByEnough(int range) {
+        long total = 0;
+        for (int i = 0; i < range && total < needed; i++) {
+            int count = counts.get(i);
+            if (count < 0) {
+                return false;
+            }
+            total += count;
+        }
+        return total >= needed;
+    }
+
+    @Nonnull
+    private Object[] concat(@Nonnull Object[] former, @Nonnull Object[] latter) {
+        if (latter.length == 0 || former.length >= needed) {
+            return former;
+        } else if (former.length == 0) {
+            return latter;
+        }
+        int length = (int) Math.min(needed, (long) former.length + latter.length);
+        Object[] matches = Arrays.copyOf(former, length);
+        System.arraycopy(latter, 0, matches, former.length, length - former.length);
+        return matches;
+    }
+}
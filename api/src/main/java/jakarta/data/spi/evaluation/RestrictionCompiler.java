@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.constraint.AtLeast;
+import jakarta.data.constraint.AtMost;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.Constraint;
+import jakarta.data.constraint.EqualTo;
+import jakarta.data.constraint.GreaterThan;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.LessThan;
+import jakarta.data.constraint.Like;
+import jakarta.data.constraint.LikeMatcher;
+import jakarta.data.constraint.NotBetween;
+import jakarta.data.constraint.NotEqualTo;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.constraint.NotLike;
+import jakarta.data.constraint.NotNull;
+import jakarta.data.constraint.Null;
+import jakarta.data.constraint.ValueSet;
+import jakarta.data.expression.Expression;
+import jakarta.data.expression.TextExpression;
+import jakarta.data.messages.Messages;
+import jakarta.data.restrict.BasicRestriction;
+import jakarta.data.restrict.CompositeRestriction;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.spi.expression.literal.StringLiteral;
+
+// Internal implementation class.
+// Compiles a restriction tree into a tree of predicates. Negation of composite
+// restrictions is pushed down to the basic restrictions by De Morgan's laws
+// and Constraint.negate(), so that a comparison against a null value is
+// unsatisfied regardless of whether it is negated, consistent with how a
+// database evaluates it.
+final class RestrictionCompiler {
+    @Nonnull
+    private static final Predicate<Object> ALWAYS = entity -> true;
+
+    @Nonnull
+    private static final Predicate<Object> NEVER = entity -> false;
+
+    @Nonnull
+    private final ExpressionCompiler expressions;
+
+    RestrictionCompiler(@Nonnull ExpressionCompiler expressions) {
+        this.expressions = expressions;
+    }
+
+    @Nonnull
+    Predicate<Object> compile(@Nonnull Restriction<?> restriction, boolean negate) {
+        if (restriction instanceof BasicRestriction<?, ?> basic) {
+            Constraint<?> constraint = basic.constraint();
+            return compile(basic.expression(),
+                           negate ? constraint.negate() : constraint);
+        } else if (restriction instanceof CompositeRestriction<?> composite) {
+            boolean negated = negate ^ composite.isNegated();
+            boolean all = composite.type() == CompositeRestriction.Type.ALL ^ negated;
+
+            List<? extends Restriction<?>> list = composite.restrictions();
+            @SuppressWarnings({ "rawtypes", "unchecked" })
+            Predicate<Object>[] predicates = new Predicate[list.size()];
+            for (int i = 0; i < predicates.length; i++) {
+                predicates[i] = compile(list.get(i), negated);
+            }
+            return all ? all(predicates) : any(predicates);
+        } else {
+            throw new UnsupportedOperationException(Messages.get(
+                    "016.unsupported.restriction",
+                    restriction.getClass().getName()));
+        }
+    }
+
+    @Nonnull
+    @SuppressWarnings("PMD.UseVarargs")
+    private static Predicate<Object> all(@Nonnull Predicate<Object>[] predicates) {
+        switch (predicates.length) {
+            case 0:
+                return ALWAYS;
+            case 1:
+                return predicates[0];
+            case 2: {
+                Predicate<Object> p0 = predicates[0];
+                Predicate<Object> p1 = predicates[1];
+                return entity -> p0.test(entity) && p1.test(entity);
+            }
+            default:
+                return entity -> {
+                    for (Predicate<Object> p : predicates) {
+                        if (!p.test(entity)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+        }
+    }
+
+    @Nonnull
+    @SuppressWarnings("PMD.UseVarargs")
+    private static Predicate<Object> any(@Nonnull Predicate<Object>[] predicates) {
+        switch (predicates.length) {
+            case 0:
+                return NEVER;
+            case 1:
+                return predicates[0];
+            case 2: {
+                Predicate<Object> p0 = predicates[0];
+                Predicate<Object> p1 = predicates[1];
+                return entity -> p0.test(entity) || p1.test(entity);
+            }
+            default:
+                return entity -> {
+                    for (Predicate<Object> p : predicates) {
+                        if (p.test(entity)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+        }
+    }
+
+    @Nonnull
+    private Predicate<Object> compile(@Nonnull Expression<?, ?> expression,
+                                      @Nonnull Constraint<?> constraint) {
+        if (constraint instanceof Null<?>) {
+            Function<Object, Object> value = expressions.compile(expression);
+            return entity -> value.apply(entity) == null;
+        } else if (constraint instanceof NotNull<?>) {
+            Function<Object, Object> value = expressions.compile(expression);
+            return entity -> value.apply(entity) != null;
+        } else if (constraint instanceof EqualTo<?> c) {
+            return comparison(expression, c.expression(), Comparison.EQ);
+        } else if (constraint instanceof NotEqualTo<?> c) {
+            return comparison(expression, c.expression(), Comparison.NE);
+        } else if (constraint instanceof GreaterThan<?> c) {
+            return comparison(expression, c.bound(), Comparison.GT);
+        } else if (constraint instanceof AtLeast<?> c) {
+            return comparison(expression, c.bound(), Comparison.GE);
+        } else if (constraint instanceof LessThan<?> c) {
+            return comparison(expression, c.bound(), Comparison.LT);
+        } else if (constraint instanceof AtMost<?> c) {
+            return comparison(expression, c.bound(), Comparison.LE);
+        } else if (constraint instanceof Between<?> c) {
+            Predicate<Object> lower = comparison(expression, c.lowerBound(), Comparison.GE);
+            Predicate<Object> upper = comparison(expression, c.upperBound(), Comparison.LE);
+            return entity -> lower.test(entity) && upper.test(entity);
+        } else if (constraint instanceof NotBetween<?> c) {
+            Predicate<Object> lower = comparison(expression, c.lowerBound(), Comparison.LT);
+            Predicate<Object> upper = comparison(expression, c.upperBound(), Comparison.GT);
+            return entity -> lower.test(entity) || upper.test(entity);
+        } else if (constraint instanceof ValueSet<?> set
+                && (constraint instanceof In<?> || constraint instanceof NotIn<?>)) {
+            return member(expression, set, constraint instanceof NotIn<?>);
+        } else if (constraint instanceof In<?> c) {
+            return in(expression, c.expressions(), false);
+        } else if (constraint instanceof NotIn<?> c) {
+            return in(expression, c.expressions(), true);
+        } else if (constraint instanceof Like c) {
+            return like(expression, c.pattern(), c.escape(), false);
+        } else if (constraint instanceof NotLike c) {
+            return like(expression, c.pattern(), c.escape(), true);
+        } else {
+            throw new UnsupportedOperationException(Messages.get(
+                    "018.unsupported.constraint",
+                    constraint.getClass().getName()));
+        }
+    }
+
+    /**
+     * Compiles a comparison of an expression with another expression, using
+     * primitive values rather than boxed values if the expression is
+     * computed from primitive entity attributes and numeric literals and
+     * the other is a numeric literal, and comparing a view of the value of
+     * text functions, rather than a copy, with text literals. The current
+     * date, time, and date and time are resolved to constant bounds before
+     * any entity is compared with them.
+     */
+    @Nonnull
+    private Predicate<Object> comparison(@Nonnull Expression<?, ?> expression,
+                                         @Nonnull Expression<?, ?> other,
+                                         @Nonnull Comparison op) {
+        Object constant = expressions.constantOf(other);
+        if (constant instanceof Number bound) {
+            NumericCompiler numerics = expressions.numerics();
+            ToLongFunction<Object> longs;
+            ToDoubleFunction<Object> doubles;
+            if (Values.isIntegral(bound)
+                    && (longs = numerics.toLong(expression)) != null) {
+                return longComparison(longs, bound.longValue(), op);
+            } else if (!Values.isBig(bound)
+                    && (doubles = numerics.toDouble(expression)) != null) {
+                return doubleComparison(doubles, bound.doubleValue(), op);
+            }
+        } else if (constant instanceof String bound) {
+            Function<Object, CharSequence> text = expressions.texts().view(expression);
+            if (text != null) {
+                return entity -> {
+                    CharSequence value = text.apply(entity);
+                    return value != null
+                            && op.test(CharSequence.compare(value, bound));
+                };
+            }
+        }
+
+        Function<Object, Object> left = expressions.compile(expression);
+        if (constant != null) {
+            return entity -> {
+                Object value = left.apply(entity);
+                return value != null && op.test(value, constant);
+            };
+        }
+
+        Function<Object, Object> right = expressions.compile(other);
+        return entity -> {
+            Object value = left.apply(entity);
+            Object otherValue;
+            return value != null
+                    && (otherValue = right.apply(entity)) != null
+                    && op.test(value, otherValue);
+        };
+    }
+
+    @Nonnull
+    private static Predicate<Object> longComparison(@Nonnull ToLongFunction<Object> value,
+                                                    long bound,
+                                                    @Nonnull Comparison op) {
+        return switch (op) {
+            case EQ -> entity -> value.applyAsLong(entity) == bound;
+            case NE -> entity -> value.applyAsLong(entity) != bound;
+            case GT -> entity -> value.applyAsLong(entity) > bound;
+            case GE -> entity -> value.applyAsLong(entity) >= bound;
+            case LT -> entity -> value.applyAsLong(entity) < bound;
+            case LE -> entity -> value.applyAsLong(entity) <= bound;
+        };
+    }
+
+    @Nonnull
+    private static Predicate<Object> doubleComparison(@Nonnull ToDoubleFunction<Object> value,
+                                                      double bound,
+                                                      @Nonnull Comparison op) {
+        return switch (op) {
+            case EQ -> entity -> Double.compare(value.applyAsDouble(entity), bound) == 0;
+            case NE -> entity -> Double.compare(value.applyAsDouble(entity), bound) != 0;
+            case GT -> entity -> Double.compare(value.applyAsDouble(entity), bound) > 0;
+            case GE -> entity -> Double.compare(value.applyAsDouble(entity), bound) >= 0;
+            case LT -> entity -> Double.compare(value.applyAsDouble(entity), bound) < 0;
+            case LE -> entity -> Double.compare(value.applyAsDouble(entity), bound) <= 0;
+        };
+    }
+
+    /**
+     * Compiles a membership test against a hash set of values, computing
+     * integral values from primitive attributes without boxing.
+     */
+    @Nonnull
+    private Predicate<Object> member(@Nonnull Expression<?, ?> expression,
+                                     @Nonnull ValueSet<?> set,
+                                     boolean negated) {
+        ToLongFunction<Object> longs = expressions.numerics().toLong(expression);
+        if (longs != null) {
+            return entity -> set.contains(longs.applyAsLong(entity)) != negated;
+        }
+
+        Function<Object, Object> left = expressions.compile(expression);
+        return entity -> {
+            Object value = left.apply(entity);
+            return value != null && set.contains(value) != negated;
+        };
+    }
+
+    @Nonnull
+    private Predicate<Object> in(@Nonnull Expression<?, ?> expression,
+                                 @Nonnull List<? extends Expression<?, ?>> list,
+                                 boolean negated) {
+        Function<Object, Object> left = expressions.compile(expression);
+
+        Object[] constants = new Object[list.size()];
+        boolean allConstants = true;
+        for (int i = 0; i < constants.length && allConstants; i++) {
+            constants[i] = expressions.constantOf(list.get(i));
+            allConstants = constants[i] != null;
+        }
+
+        if (allConstants) {
+            return entity -> {
+                Object value = left.apply(entity);
+                if (value == null) {
+                    return false;
+                }
+                for (Object v : constants) {
+                    if (Values.equal(value, v)) {
+                        return !negated;
+                    }
+                }
+                return negated;
+            };
+        }
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        Function<Object, Object>[] values = new Function[list.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = expressions.compile(list.get(i));
+        }
+        return entity -> {
+            Object value = left.apply(entity);
+            if (value == null) {
+                return false;
+            }
+            for (Function<Object, Object> v : values) {
+                Object other = v.apply(entity);
+                if (other != null && Values.equal(value, other)) {
+                    return !negated;
+                }
+            }
+            return negated;
+        };
+    }
+
+    /**
+     * Compiles a match against a pattern, matching a view of the value of
+     * text functions rather than a copy if the pattern is a literal.
+     */
+    @Nonnull
+    private Predicate<Object> like(@Nonnull Expression<?, ?> expression,
+                                   @Nonnull TextExpression<?> pattern,
+                                   char escape,
+                                   boolean negated) {
+        if (pattern instanceof StringLiteral literal) {
+            LikeMatcher matcher = LikeMatcher.of(literal.value(), escape);
+            Function<Object, CharSequence> view = expressions.texts().view(expression);
+            if (view != null) {
+                return entity -> {
+                    CharSequence value = view.apply(entity);
+                    return value != null && matcher.matches(value) != negated;
+                };
+            }
+            Function<Object, Object> text = expressions.compile(expression);
+            return entity -> {
+                Object value = text.apply(entity);
+                return value != null
+                        && matcher.matches(value.toString()) != negated;
+            };
+        }
+
+        Function<Object, Object> text = expressions.compile(expression);
+        Function<Object, Object> patterns = expressions.compile(pattern);
+        return entity -> {
+            Object value = text.apply(entity);
+            Object p = value == null ? null : patterns.apply(entity);
+            return p != null
+                    && LikeMatcher.of(p.toString(), escape)
+                            .matches(value.toString()) != negated;
+        };
+    }
+
+    /**
+     * Comparison operators.
+     */
+    enum Comparison {
+        EQ, NE, GT, GE, LT, LE;
+
+        boolean test(@Nonnull Object value, @Nullable Object other) {
+            return switch (this) {
+                case EQ -> Values.equal(value, other);
+                case NE -> !Values.equal(value, other);
+                case GT -> Values.compare(value, other) > 0;
+                case GE -> Values.compare(value, other) >= 0;
+                case LT -> Values.compare(value, other) < 0;
+                case LE -> Values.compare(value, other) <= 0;
+            };
+        }
+
+        /**
+         * Tests the result of comparing a value with another value.
+         */
+        boolean test(int comparison) {
+            return switch (this) {
+                case EQ -> comparison == 0;
+                case NE -> comparison != 0;
+                case GT -> comparison > 0;
+                case GE -> comparison >= 0;
+                case LT -> comparison < 0;
+                case LE -> comparison <= 0;
+            };
+        }
+    }
+}
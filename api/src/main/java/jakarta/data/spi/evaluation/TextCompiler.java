@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.expression.Expression;
+import jakarta.data.spi.expression.function.TextFunctionExpression;
+import jakarta.data.spi.expression.literal.Literal;
+
+// Internal implementation class.
+// Fuses chains of the UPPER, LOWER, LEFT, RIGHT, and CONCAT text functions
+// into views of the text to which the functions are applied, such that the
+// value of a chain can be matched and compared in one pass over the
+// characters, without computing a String for each function. A view consists
+// of constant text that is prepended, the characters of the source text, and
+// constant text that is appended, of which the characters between two
+// positions are visible. Case is changed per character as characters are
+// read. This computes the same value as String.toUpperCase and
+// String.toLowerCase with Locale.ROOT for Latin-1 text other than the upper
+// case of the German sharp s, which is two characters, and, where case is
+// changed more than once, for ASCII text. Views of other text are computed
+// by the String functions instead.
+final class TextCompiler {
+    private static final int NONE = 0;
+    private static final int UPPER = 1;
+    private static final int LOWER = 2;
+
+    private static final char SHARP_S = 'ß';
+
+    @Nonnull
+    private final ExpressionCompiler expressions;
+
+    TextCompiler(@Nonnull ExpressionCompiler expressions) {
+        this.expressions = expressions;
+    }
+
+    /**
+     * A chain of functions that is being fused into a view of source text.
+     * LEFT(n) is recorded in the trims as n and RIGHT(n) as ~n.
+     */
+    private static final class Chain {
+        Expression<?, ?> top;
+        Function<Object, ? extends CharSequence> source;
+        String prefix = "";
+        String suffix = "";
+        int fold = NONE;
+        int folds;
+        int[] trims = new int[0];
+        boolean left;
+        boolean right;
+        int functions;
+
+        Chain(@Nonnull Function<Object, ? extends CharSequence> source) {
+            this.source = source;
+        }
+
+        void trim(int trim) {
+            trims = Arrays.copyOf(trims, trims.length + 1);
+            trims[trims.length - 1] = trim;
+        }
+
+        /**
+         * Lengthens all trims by the length of text that is added on the
+         * side from which they are measured.
+         */
+        void shift(int length) {
+            for (int i = 0; i < trims.length; i++) {
+                int n = trims[i] < 0 ? ~trims[i] : trims[i];
+                n = n > Integer.MAX_VALUE - length ? Integer.MAX_VALUE : n + length;
+                trims[i] = trims[i] < 0 ? ~n : n;
+            }
+        }
+    }
+
+    /**
+     * Compiles a chain of text functions into a function that computes a
+     * view of its value, or null if the expression is not a text function
+     * that can be fused.
+     */
+    Function<Object, CharSequence> view(@Nonnull Expression<?, ?> expression) {
+        Chain chain = chain(expression);
+        return chain == null ? null : close(chain);
+    }
+
+    /**
+     * Compiles a chain of at least two text functions into a function that
+     * computes the value in one pass, or returns null.
+     */
+    Function<Object, Object> compile(@Nonnull Expression<?, ?> expression) {
+        Chain chain = chain(expression);
+        if (chain == null || chain.functions < 2) {
+            return null;
+        }
+        Function<Object, CharSequence> view = close(chain);
+        return entity -> {
+            CharSequence text = view.apply(entity);
+            return text == null ? null : text.toString();
+        };
+    }
+
+    private Chain chain(@Nonnull Expression<?, ?> expression) {
+        if (!(expression instanceof TextFunctionExpression<?> fn)) {
+            return null;
+        }
+
+        List<? extends Expression<?, ?>> args = fn.arguments();
+        Chain chain;
+        switch (fn.name()) {
+            case TextFunctionExpression.UPPER:
+                chain = fold(open(args.get(0)), UPPER);
+                break;
+            case TextFunctionExpression.LOWER:
+                chain = fold(open(args.get(0)), LOWER);
+                break;
+            case TextFunctionExpression.LEFT:
+            case TextFunctionExpression.RIGHT: {
+                if (!(args.get(1) instanceof Literal<?> literal
+                        && literal.value() instanceof Number length
+                        && length.intValue() >= 0)) {
+                    return null;
+                }
+                chain = open(args.get(0));
+                if (TextFunctionExpression.LEFT.equals(fn.name())) {
+                    chain.trim(length.intValue());
+                    chain.left = true;
+                } else {
+                    chain.trim(~length.intValue());
+                    chain.right = true;
+                }
+                break;
+            }
+            case TextFunctionExpression.CONCAT:
+                if (args.get(0) instanceof Literal<?> literal
+                        && literal.value() instanceof String prefix) {
+                    chain = open(args.get(1));
+                    if (chain.right) {
+                        chain = new Chain(close(chain));
+                    }
+                    chain.shift(prefix.length());
+                    chain.prefix = prefix.concat(chain.prefix);
+                } else if (args.get(1) instanceof Literal<?> literal
+                        && literal.value() instanceof String suffix) {
+                    chain = open(args.get(0));
+                    if (chain.left) {
+                        chain = new Chain(close(chain));
+                    }
+                    chain.shift(suffix.length());
+                    chain.suffix = chain.suffix.concat(suffix);
+                } else {
+                    return null;
+                }
+                break;
+            default:
+                return null;
+        }
+        chain.top = expression;
+        chain.functions++;
+        return chain;
+    }
+
+    /**
+     * Obtains the chain of functions of the argument of a function, or a new
+     * chain with the argument as its source text.
+     */
+    @Nonnull
+    private Chain open(@Nonnull Expression<?, ?> argument) {
+        Chain chain = chain(argument);
+        if (chain == null) {
+            Function<Object, Object> value = expressions.compile(argument);
+            chain = new Chain(entity -> {
+                Object text = value.apply(entity);
+                return text == null || text instanceof CharSequence
+                        ? (CharSequence) text
+                        : text.toString();
+            });
+        }
+        return chain;
+    }
+
+    @Nonnull
+    private Chain fold(@Nonnull Chain chain, int fold) {
+        if (!isLatin1(chain.prefix, fold) || !isLatin1(chain.suffix, fold)) {
+            chain = new Chain(close(chain));
+        }
+        chain.prefix = fold == UPPER
+                ? chain.prefix.toUpperCase(Locale.ROOT)
+                : chain.prefix.toLowerCase(Locale.ROOT);
+        chain.suffix = fold == UPPER
+                ? chain.suffix.toUpperCase(Locale.ROOT)
+                : chain.suffix.toLowerCase(Locale.ROOT);
+        chain.fold = fold;
+        chain.folds++;
+        return chain;
+    }
+
+    /**
+     * Compiles a chain into a function that computes the view. If the case
+     * of the source text cannot be changed per character, the value is
+     * computed by the String functions instead.
+     */
+    @Nonnull
+    private Function<Object, CharSequence> close(@Nonnull Chain chain) {
+        Function<Object, ? extends CharSequence> source = chain.source;
+        String prefix = chain.prefix;
+        String suffix = chain.suffix;
+        int fold = chain.fold;
+        boolean latin1 = chain.folds <= 1;
+        int[] trims = chain.trims;
+        // The least length to which LEFT trims, if there are no RIGHT trims
+        int leftmost = Integer.MAX_VALUE;
+        if (!chain.right) {
+            for (int trim : trims) {
+                leftmost = Math.min(leftmost, trim);
+            }
+        }
+        int visible = leftmost;
+        Function<Object, Object> exact = fold == NONE
+                ? null
+                : expressions.boxed(chain.top);
+        return entity -> {
+            CharSequence text = source.apply(entity);
+            if (text == null) {
+                return null;
+            } else if (fold != NONE) {
+                // Characters after those that LEFT keeps cannot move or
+                // change those that it keeps
+                int end = visible - prefix.length() <= text.length()
+                        ? Math.max(0, visible - prefix.length())
+                        : text.length();
+                if (!isFoldable(text, end, fold, latin1)) {
+                    return (CharSequence) exact.apply(entity);
+                }
+            }
+
+            int from = 0;
+            int to = prefix.length() + text.length() + suffix.length();
+            for (int trim : trims) {
+                int n = trim < 0 ? ~trim : trim;
+                if (n < to - from) {
+                    if (trim < 0) {
+                        from = to - n;
+                    } else {
+                        to = from + n;
+                    }
+                }
+            }
+            if (from == 0
+                    && fold == NONE
+                    && prefix.isEmpty()
+                    && suffix.isEmpty()
+                    && to == text.length()) {
+                return text;
+            }
+            return new TextView(prefix, text, suffix, fold, from, to);
+        };
+    }
+
+    /**
+     * Determines if the case of constant text can be changed per character.
+     */
+    private static boolean isLatin1(@Nonnull String text, int fold) {
+        return isFoldable(text, text.length(), fold, true);
+    }
+
+    /**
+     * Determines if the case of the characters of the text before the end
+     * position can be changed per character, which is true for ASCII text
+     * and, if the case is changed only once, for Latin-1 text other than
+     * the upper case of the German sharp s.
+     */
+    private static boolean isFoldable(@Nonnull CharSequence text,
+                                      int end,
+                                      int fold,
+                                      boolean latin1) {
+        for (int i = 0; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80
+                    && (!latin1 || c > 0xFF || c == SHARP_S && fold == UPPER)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static char toUpperCase(char c) {
+        if (c < 0x80) {
+            return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+        }
+        return Character.toUpperCase(c);
+    }
+
+    static char toLowerCase(char c) {
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    /**
+     * Compares the lower case of two strings, as computed by
+     * String.toLowerCase with Locale.ROOT, without computing it for Latin-1
+     * text. Only the sign of the result is significant.
+     */
+    static int compareLowerCase(@Nonnull String a, @Nonnull String b) {
+        int length = Math.min(a.length(), b.length());
+        for (int i = 0; i < length; i++) {
+            char x = a.charAt(i);
+            char y = b.charAt(i);
+            if (x > 0xFF || y > 0xFF) {
+                return a.toLowerCase(Locale.ROOT)
+                        .compareTo(b.toLowerCase(Locale.ROOT));
+            } else if (x != y) {
+                x = toLowerCase(x);
+                y = toLowerCase(y);
+                if (x != y) {
+                    return x - y;
+                }
+            }
+        }
+        // The lower case of a character is never fewer characters
+        return a.length() - b.length();
+    }
+
+    /**
+     * View of the characters between two positions of constant text, the
+     * source text, and more constant text, where the case of the source
+     * text is changed per character as it is read.
+     */
+    private static final class TextView implements CharSequence {
+        @Nonnull
+        private final String prefix;
+
+        @Nonnull
+        private final CharSequence text;
+
+        @Nonnull
+        private final String suffix;
+
+        private final int fold;
+
+        private final int from;
+
+        private final int to;
+
+        private TextView(@Nonnull String prefix,
+                         @Nonnull CharSequence text,
+                         @Nonnull String suffix,
+                         int fold,
+                         int from,
+                         int to) {
+            this.prefix = prefix;
+            this.text = text;
+            this.suffix = suffix;
+            this.fold = fold;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public int length() {
+            return to - from;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, to - from);
+            int i = from + index;
+            if (i < prefix.length()) {
+                return prefix.charAt(i);
+            }
+            i -= prefix.length();
+            if (i < text.length()) {
+                char c = text.charAt(i);
+                return switch (fold) {
+                    case UPPER -> toUpperCase(c);
+                    case LOWER -> toLowerCase(c);
+                    default -> c;
+                };
+            }
+            return suffix.charAt(i - text.length());
+        }
+
+        @Override
+        @Nonnull
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        @Nonnull
+        public String toString() {
+            char[] chars = new char[to - from];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = charAt(i);
+            }
+            return new String(chars);
+        }
+    }
+}
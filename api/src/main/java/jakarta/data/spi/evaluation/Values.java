@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import jakarta.annotation.Nonnull;
+
+// Internal implementation class.
+// Comparison of non-null attribute and literal values, allowing for numeric
+// values of different types, such as an int attribute compared with a long
+// literal.
+final class Values {
+
+    // prevent instantiation
+    private Values() {
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static int compare(@Nonnull Object a, @Nonnull Object b) {
+        if (a.getClass() != b.getClass()
+                && a instanceof Number x
+                && b instanceof Number y) {
+            return compareNumbers(x, y);
+        }
+        return ((Comparable) a).compareTo(b);
+    }
+
+    static boolean equal(@Nonnull Object a, @Nonnull Object b) {
+        if (a.getClass() == b.getClass()) {
+            return a instanceof BigDecimal x
+                    ? x.compareTo((BigDecimal) b) == 0
+                    : a.equals(b);
+        }
+        if (a instanceof Number x && b instanceof Number y) {
+            return compareNumbers(x, y) == 0;
+        }
+        return a.equals(b);
+    }
+
+    static int compareNumbers(@Nonnull Number a, @Nonnull Number b) {
+        if (isIntegral(a) && isIntegral(b)) {
+            return Long.compare(a.longValue(), b.longValue());
+        }
+        if (!isBig(a) && !isBig(b)) {
+            return Double.compare(a.doubleValue(), b.doubleValue());
+        }
+        return toBigDecimal(a).compareTo(toBigDecimal(b));
+    }
+
+    static boolean isIntegral(@Nonnull Number n) {
+        return n instanceof Integer
+                || n instanceof Long
+                || n instanceof Short
+                || n instanceof Byte;
+    }
+
+    static boolean isBig(@Nonnull Number n) {
+        return n instanceof BigDecimal || n instanceof BigInteger;
+    }
+
+    @Nonnull
+    static BigDecimal toBigDecimal(@Nonnull Number n) {
+        if (n instanceof BigDecimal d) {
+            return d;
+        } else if (n instanceof BigInteger i) {
+            return new BigDecimal(i);
+        } else if (isIntegral(n)) {
+            return BigDecimal.valueOf(n.longValue());
+        } else {
+            return BigDecimal.valueOf(n.doubleValue());
+        }
+    }
+
+    @Nonnull
+    static BigInteger toBigInteger(@Nonnull Number n) {
+        if (n instanceof BigInteger i) {
+            return i;
+        } else if (n instanceof BigDecimal d) {
+            return d.toBigInteger();
+        } else if (isIntegral(n)) {
+            return BigInteger.valueOf(n.longValue());
+        } else {
+            return BigDecimal.valueOf(n.doubleValue()).toBigInteger();
+        }
+    }
+
+    /**
+     * Obtains the wrapper class for a primitive class.
+     */
+    @Nonnull
+    static Class<?> wrap(@Nonnull Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        } else if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == char.class) {
+            return Character.class;
+        } else {
+            return Void.class;
+        }
+    }
+}
@@ -32,14 +32,15 @@ public interface BooleanLiteral
                 BooleanExpression<Object> {
 
     /**
-     * <p>Creates a {@code BooleanLiteral} that represents the given value.</p>
+     * <p>Obtains a {@code BooleanLiteral} that represents the given value.
+     * The same instance is returned for each request for the same value.</p>
      *
      * @param value a {@code boolean} value.
      * @return a {@code BooleanLiteral} representing the value.
      */
     @Nonnull
     static BooleanLiteral of(boolean value) {
-        return new BooleanLiteralRecord(value);
+        return value ? BooleanLiteralRecord.TRUE : BooleanLiteralRecord.FALSE;
     }
 
     /**
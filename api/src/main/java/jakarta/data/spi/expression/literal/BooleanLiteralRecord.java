@@ -23,6 +23,13 @@ import jakarta.annotation.Nonnull;
 record BooleanLiteralRecord(@Nonnull Boolean value)
         implements BooleanLiteral {
 
+    // Canonical instances, which are returned by BooleanLiteral.of
+    @Nonnull
+    static final BooleanLiteral TRUE = new BooleanLiteralRecord(true);
+
+    @Nonnull
+    static final BooleanLiteral FALSE = new BooleanLiteralRecord(false);
+
     @Override
     @Nonnull
     public String toString() {
@@ -49,18 +49,22 @@ public interface NumericLiteral<N extends Number & Comparable<N>>
 
     /**
      * Create a {@code NumericLiteral} representing the given {@code int}.
+     * The same instance is returned for each request for the same value
+     * from {@code -128} to {@code 127}.
      */
     @Nonnull
     static NumericLiteral<Integer> of(int value) {
-        return of(Integer.class, value);
+        return NumericLiteralRecord.of(value);
     }
 
     /**
      * Create a {@code NumericLiteral} representing the given {@code long}.
+     * The same instance is returned for each request for the same value
+     * from {@code -128} to {@code 127}.
      */
     @Nonnull
     static NumericLiteral<Long> of(long value) {
-        return of(Long.class, value);
+        return NumericLiteralRecord.of(value);
     }
 
     /**
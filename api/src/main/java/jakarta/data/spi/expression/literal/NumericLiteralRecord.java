@@ -27,11 +27,55 @@ record NumericLiteralRecord<N extends Number & Comparable<N>>
         (@Nonnull Class<? extends N> type, @Nonnull N value)
         implements NumericLiteral<N> {
 
+    // Bounds of the values for which canonical instances are cached,
+    // which are the same as for Integer.valueOf and Long.valueOf
+    private static final int MIN_CACHED = -128;
+    private static final int MAX_CACHED = 127;
+
+    @Nonnull
+    private static final NumericLiteral<?>[] INTEGERS =
+            new NumericLiteral<?>[MAX_CACHED - MIN_CACHED + 1];
+
+    @Nonnull
+    private static final NumericLiteral<?>[] LONGS =
+            new NumericLiteral<?>[MAX_CACHED - MIN_CACHED + 1];
+
+    static {
+        for (int i = 0; i < INTEGERS.length; i++) {
+            INTEGERS[i] = new NumericLiteralRecord<>(Integer.class, i + MIN_CACHED);
+            LONGS[i] = new NumericLiteralRecord<>(Long.class, (long) i + MIN_CACHED);
+        }
+    }
+
     NumericLiteralRecord {
         Messages.requireNonNull(type, "type");
         Messages.requireNonNull(value, "value");
     }
 
+    /**
+     * Obtains the canonical instance for a small value, otherwise a new
+     * instance.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    static NumericLiteral<Integer> of(int value) {
+        return value >= MIN_CACHED && value <= MAX_CACHED
+                ? (NumericLiteral<Integer>) INTEGERS[value - MIN_CACHED]
+                : new NumericLiteralRecord<>(Integer.class, value);
+    }
+
+    /**
+     * Obtains the canonical instance for a small value, otherwise a new
+     * instance.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    static NumericLiteral<Long> of(long value) {
+        return value >= MIN_CACHED && value <= MAX_CACHED
+                ? (NumericLiteral<Long>) LONGS[(int) value - MIN_CACHED]
+                : new NumericLiteralRecord<>(Long.class, value);
+    }
+
     @Override
     @Nonnull
     public String toString() {
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.expression.ComparableExpression;
+
+// Internal implementation class.
+// The proper way to obtain instances is via JdqlParser.
+record ComparableParameterRecord<V extends Comparable<?>>(
+        @Nullable String name, int position, @Nonnull Class<V> type)
+        implements InputParameter<V>, ComparableExpression<Object, V> {
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return name == null ? "?" + position : ":" + name;
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.Order;
+import jakarta.data.messages.Messages;
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import jakarta.data.restrict.Restriction;
+
+/**
+ * <p>A bounded index of the {@linkplain PageRequest.Cursor cursors} at the
+ * boundaries of pages that have been served for queries, for use by
+ * Jakarta Data providers that offer random access to pages, such as a
+ * request for page 57, without reading and discarding all of the results
+ * of the preceding pages. The provider records the last cursor of each
+ * page that it serves, and obtains from the index the nearest known
+ * boundary before the first result of a requested page, from which it can
+ * seek with a {@link Keyset} condition and then skip the few results that
+ * remain. For example,</p>
+ *
+ * <pre>{@code
+ * Optional<CursorIndex.Seek> seek = index.seek(Car.class, restriction, order, pageRequest);
+ * if (seek.isPresent()) {
+ *     Keyset<Car> keyset = Keyset.of(Car.class, order, seek.get().pageRequest());
+ *     // query with the keyset condition, skipping seek.get().skip() results
+ * }
+ * ...
+ * index.record(Car.class, restriction, order, page);
+ * }</pre>
+ *
+ * <p>Boundaries are recorded by the position of the result in the order of
+ * the query, and so are shared by requests for different page sizes.
+ * Queries are distinguished by their entity class,
+ * {@linkplain QueryShape shape}, and literal values. When the number of
+ * queries exceeds the bound, the query that was least recently used is
+ * evicted. When the number of boundaries of a query exceeds the bound,
+ * every other boundary is evicted, such that the remaining boundaries are
+ * spread across the results.</p>
+ *
+ * <p>A cursor continues to identify a position in the results when
+ * entities are added or removed, but the number of results before that
+ * position changes, and so page numbers that are reached by seeking from a
+ * boundary are approximate if the data changes, as is the case for
+ * {@link CursoredPage}. Providers should {@linkplain #invalidate
+ * invalidate} the boundaries of a query when exact page numbers are
+ * required after changes to the data.</p>
+ *
+ * <p>Instances are thread-safe.</p>
+ *
+ * @since 1.1
+ */
+public final class CursorIndex {
+
+    private final int maxQueries;
+
+    private final int maxBoundaries;
+
+    private final ConcurrentMap<Key, Boundaries> queries =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Counter from which queries obtain the time at which they were last
+     * used, for eviction.
+     */
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * A query, identified by its entity class, its shape, and the values of
+     * its parameters. The entity class distinguishes queries of different
+     * entities with sort criteria that name attributes only by name.
+     */
+    record Key(@Nonnull Class<?> entityClass,
+               @Nonnull QueryShape shape,
+               @Nonnull List<Object> parameters) {
+
+        @Nonnull
+        static Key of(@Nonnull Class<?> entityClass,
+                      @Nullable Restriction<?> restriction,
+                      @Nonnull Order<?> order) {
+            QueryShape shape = QueryShape.of(restriction, order, null);
+            return new Key(entityClass, shape, Arrays.asList(shape.parameters()));
+        }
+    }
+
+    /**
+     * The cursors of the boundaries of a query, by the position of the
+     * result, starting from 1.
+     */
+    private static final class Boundaries {
+        final ConcurrentNavigableMap<Long, PageRequest.Cursor> cursors =
+                new ConcurrentSkipListMap<>();
+
+        volatile long used;
+    }
+
+    /**
+     * <p>The position from which to seek to a requested page.</p>
+     *
+     * @param pageRequest a request for the page, relative to the cursor of
+     *                    the nearest known boundary before the first
+     *                    result of the page, from which a {@link Keyset}
+     *                    condition can be obtained.
+     * @param skip        the number of results after the cursor that
+     *                    precede the first result of the page, which is
+     *                    {@code 0} if the boundary is the end of the
+     *                    preceding page.
+     */
+    public record Seek(@Nonnull PageRequest pageRequest, long skip) {
+    }
+
+    private CursorIndex(int maxQueries, int maxBoundaries) {
+        this.maxQueries = maxQueries;
+        this.maxBoundaries = maxBoundaries;
+    }
+
+    /**
+     * <p>Creates an empty index.</p>
+     *
+     * @param maxQueries    the number of queries for which boundaries are
+     *                      retained, after which the least recently used
+     *                      query is evicted. Must be positive.
+     * @param maxBoundaries the number of boundaries that are retained for
+     *                      each query. Must be at least {@code 2}.
+     * @return the index.
+     * @throws IllegalArgumentException if a bound is too small.
+     */
+    @Nonnull
+    public static CursorIndex of(int maxQueries, int maxBoundaries) {
+        if (maxQueries < 1) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "maxQueries", maxQueries));
+        }
+        if (maxBoundaries < 2) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "maxBoundaries", maxBoundaries));
+        }
+
+        return new CursorIndex(maxQueries, maxBoundaries);
+    }
+
+    /**
+     * <p>Records the cursor of the last result of a page, for the query with
+     * the specified restriction and sort criteria. A page without results,
+     * or with a position that exceeds the range of {@code long}, is
+     * ignored.</p>
+     *
+     * @param entityClass the entity class of the query. Must not be
+     *                    {@code null}.
+     * @param restriction the restriction of the query, or {@code null} if
+     *                    unrestricted.
+     * @param order       the sort criteria of the query. Must not be
+     *                    {@code null}.
+     * @param page        the page. Must not be {@code null}.
+     * @throws NullPointerException if a required argument is {@code null}.
+     * @throws UnsupportedOperationException if the restriction or sort
+     *         criteria include a restriction, expression, or constraint of a
+     *         type that is not defined by this API.
+     */
+    public void record(@Nonnull Class<?> entityClass,
+                       @Nullable Restriction<?> restriction,
+                       @Nonnull Order<?> order,
+                       @Nonnull CursoredPage<?> page) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(page, "page");
+
+        int count = page.numberOfElements();
+        long position = count > 0 ? position(page.pageRequest(), count) : -1;
+        if (position > 0) {
+            record(entityClass, restriction, order, position, page.cursor(count - 1));
+        }
+    }
+
+    /**
+     * <p>Records the cursor of the result at the specified position of the
+     * query with the specified restriction and sort criteria.</p>
+     *
+     * @param entityClass the entity class of the query. Must not be
+     *                    {@code null}.
+     * @param restriction the restriction of the query, or {@code null} if
+     *                    unrestricted.
+     * @param order       the sort criteria of the query. Must not be
+     *                    {@code null}.
+     * @param position    position of the result, where {@code 1} is the
+     *                    first result.
+     * @param cursor      the cursor of the result. Must not be
+     *                    {@code null}.
+     * @throws NullPointerException if a required argument is {@code null}.
+     * @throws IllegalArgumentException if the position is less than
+     *         {@code 1}.
+     * @throws UnsupportedOperationException if the restriction or sort
+     *         criteria include a restriction, expression, or constraint of a
+     *         type that is not defined by this API.
+     */
+    public void record(@Nonnull Class<?> entityClass,
+                       @Nullable Restriction<?> restriction,
+                       @Nonnull Order<?> order,
+                       long position,
+                       @Nonnull PageRequest.Cursor cursor) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(cursor, "cursor");
+        if (position < 1) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "position", position));
+        }
+
+        Key key = Key.of(entityClass, restriction, order);
+        Boundaries boundaries = queries.get(key);
+        if (boundaries == null) {
+            if (queries.size() >= maxQueries) {
+                evict(queries, b -> b.used);
+            }
+            boundaries = queries.computeIfAbsent(key, k -> new Boundaries());
+        }
+        boundaries.used = clock.incrementAndGet();
+
+        if (boundaries.cursors.put(position, cursor) == null
+                && boundaries.cursors.size() > maxBoundaries) {
+            // keep the new boundary and every other of the remainder
+            int index = 0;
+            for (Iterator<Long> it = boundaries.cursors.keySet().iterator(); it.hasNext();) {
+                if (it.next() != position && index++ % 2 == 0) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>Obtains the nearest known boundary from which to seek to a
+     * requested page of the query with the specified restriction and sort
+     * criteria. The page request of the result is in
+     * {@link PageRequest.Mode#CURSOR_NEXT CURSOR_NEXT} mode, with the page
+     * number, size, and total retrieval of the requested page.</p>
+     *
+     * @param entityClass the entity class of the query. Must not be
+     *                    {@code null}.
+     * @param restriction the restriction of the query, or {@code null} if
+     *                    unrestricted.
+     * @param order       the sort criteria of the query. Must not be
+     *                    {@code null}.
+     * @param pageRequest the requested page. Must not be {@code null}.
+     * @return the boundary from which to seek, or an empty {@code Optional}
+     *         if the request is for the first page, is already relative to
+     *         a cursor, has a position that exceeds the range of
+     *         {@code long}, or if no boundary before the page is known.
+     * @throws NullPointerException if a required argument is {@code null}.
+     * @throws UnsupportedOperationException if the restriction or sort
+     *         criteria include a restriction, expression, or constraint of a
+     *         type that is not defined by this API.
+     */
+    @Nonnull
+    public Optional<Seek> seek(@Nonnull Class<?> entityClass,
+                               @Nullable Restriction<?> restriction,
+                               @Nonnull Order<?> order,
+                               @Nonnull PageRequest pageRequest) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(pageRequest, "pageRequest");
+
+        long start = position(pageRequest, 0);
+        if (start <= 0 || pageRequest.mode() != PageRequest.Mode.OFFSET) {
+            return Optional.empty();
+        }
+
+        Boundaries boundaries = queries.get(Key.of(entityClass, restriction, order));
+        Map.Entry<Long, PageRequest.Cursor> boundary =
+                boundaries == null ? null : boundaries.cursors.floorEntry(start);
+        if (boundary == null) {
+            return Optional.empty();
+        }
+        boundaries.used = clock.incrementAndGet();
+
+        PageRequest request = pageRequest.afterCursor(boundary.getValue());
+        return Optional.of(new Seek(request, start - boundary.getKey()));
+    }
+
+    /**
+     * The position of the result that is at the specified offset within a
+     * page, where the first result of the first page is at position 1 when
+     * the offset is 1, or -1 if the position exceeds the range of long.
+     */
+    static long position(@Nonnull PageRequest pageRequest, int offset) {
+        try {
+            return Math.addExact(Math.multiplyExact(pageRequest.pageNumber() - 1,
+                                                    (long) pageRequest.size()),
+                                 offset);
+        } catch (ArithmeticException x) {
+            return -1;
+        }
+    }
+
+    /**
+     * <p>Removes the boundaries of the query with the specified restriction
+     * and sort criteria.</p>
+     *
+     * @param entityClass the entity class of the query. Must not be
+     *                    {@code null}.
+     * @param restriction the restriction of the query, or {@code null} if
+     *                    unrestricted.
+     * @param order       the sort criteria of the query. Must not be
+     *                    {@code null}.
+     * @throws NullPointerException if the entity class or order is
+     *         {@code null}.
+     */
+    public void invalidate(@Nonnull Class<?> entityClass,
+                           @Nullable Restriction<?> restriction,
+                           @Nonnull Order<?> order) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(order, "order");
+
+        queries.remove(Key.of(entityClass, restriction, order));
+    }
+
+    /**
+     * <p>Removes the boundaries of all queries.</p>
+     */
+    public void clear() {
+        queries.clear();
+    }
+
+    /**
+     * <p>Returns the number of queries for which boundaries are known.</p>
+     *
+     * @return the number of queries.
+     */
+    public int size() {
+        return queries.size();
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return "CursorIndex@" + Integer.toHexString(hashCode()) +
+                " for " + queries.size() + '/' + maxQueries + " queries";
+    }
+
+    /**
+     * Removes the query that was least recently used.
+     *
+     * @param used obtains the time at which a query was last used.
+     */
+    static <V> void evict(@Nonnull Map<Key, V> queries,
+                          @Nonnull ToLongFunction<V> used) {
+        Key eldest = null;
+        long eldestUsed = Long.MAX_VALUE;
+        for (Map.Entry<Key, V> entry : queries.entrySet()) {
+            long time = used.applyAsLong(entry.getValue());
+            if (time < eldestUsed) {
+                eldest = entry.getKey();
+                eldestUsed = time;
+            }
+        }
+        if (eldest != null) {
+            queries.remove(eldest);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import jakarta.annotation.Nullable;
+import jakarta.data.expression.Expression;
+
+/**
+ * <p>An input parameter of a query that is parsed by {@link JdqlParser},
+ * which is either a named parameter, such as {@code :name}, or a positional
+ * parameter, such as {@code ?1}.</p>
+ *
+ * <p>The type of the parameter is inferred from where it appears in the
+ * query. A parameter that is the pattern of a {@code LIKE} expression or an
+ * argument of a text function is a {@link jakarta.data.expression.TextExpression},
+ * a parameter that is an operand of an arithmetic operator is a
+ * {@link jakarta.data.expression.NumericExpression}, and any other parameter
+ * is a {@link jakarta.data.expression.ComparableExpression}.</p>
+ *
+ * @param <V> type of the parameter value.
+ * @since 1.1
+ */
+public interface InputParameter<V> extends Expression<Object, V> {
+
+    /**
+     * <p>Returns the name of a named parameter.</p>
+     *
+     * @return the name, without the leading colon, or {@code null} if the
+     *         parameter is positional.
+     */
+    @Nullable
+    String name();
+
+    /**
+     * <p>Returns the position of a positional parameter.</p>
+     *
+     * @return the position, starting from {@code 1}, or {@code 0} if the
+     *         parameter is named.
+     */
+    int position();
+}
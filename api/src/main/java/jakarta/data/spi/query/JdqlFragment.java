@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * <p>The {@code WHERE} and {@code ORDER BY} clauses of a Jakarta Data Query
+ * Language query that is rendered by {@link JdqlRenderer}, along with the
+ * values of its positional parameters.</p>
+ *
+ * <p>The literal values of the restriction and sort criteria are rendered
+ * as the positional parameters {@code ?1} to {@code ?n}, in the order in
+ * which they appear in the text, such that the value of {@code ?1} is
+ * {@code parameter(0)}.</p>
+ *
+ * @since 1.1
+ */
+public final class JdqlFragment {
+
+    @Nonnull
+    private final String where;
+
+    @Nonnull
+    private final String orderBy;
+
+    @Nonnull
+    private final QueryShape shape;
+
+    JdqlFragment(@Nonnull String where,
+                 @Nonnull String orderBy,
+                 @Nonnull QueryShape shape) {
+        this.where = where;
+        this.orderBy = orderBy;
+        this.shape = shape;
+    }
+
+    /**
+     * <p>Returns the {@code WHERE} clause, including the {@code WHERE}
+     * keyword, or an empty string if the query is unrestricted.</p>
+     *
+     * @return the {@code WHERE} clause.
+     */
+    @Nonnull
+    public String where() {
+        return where;
+    }
+
+    /**
+     * <p>Returns the {@code ORDER BY} clause, including the
+     * {@code ORDER BY} keywords, or an empty string if the query is
+     * unsorted.</p>
+     *
+     * @return the {@code ORDER BY} clause.
+     */
+    @Nonnull
+    public String orderBy() {
+        return orderBy;
+    }
+
+    /**
+     * <p>Returns the shape of the restriction and sort criteria from which
+     * the fragment was rendered.</p>
+     *
+     * @return the query shape.
+     */
+    @Nonnull
+    public QueryShape shape() {
+        return shape;
+    }
+
+    /**
+     * <p>Returns the number of positional parameters.</p>
+     *
+     * @return the number of positional parameters.
+     */
+    public int parameterCount() {
+        return shape.parameterCount();
+    }
+
+    /**
+     * <p>Returns the value of a positional parameter, where index {@code 0}
+     * is the value of {@code ?1}.</p>
+     *
+     * @param index position of the parameter, starting from {@code 0}.
+     * @return the value of the parameter.
+     * @throws IndexOutOfBoundsException if the index is negative or not
+     *         less than the number of parameters.
+     */
+    @Nullable
+    public Object parameter(int index) {
+        return shape.parameter(index);
+    }
+
+    /**
+     * <p>Returns the values of the positional parameters, where the first
+     * element is the value of {@code ?1}.</p>
+     *
+     * @return a new array of the parameter values.
+     */
+    @Nonnull
+    public Object[] parameters() {
+        return shape.parameters();
+    }
+
+    /**
+     * <p>Returns the {@code WHERE} clause followed by the
+     * {@code ORDER BY} clause.</p>
+     */
+    @Override
+    @Nonnull
+    public String toString() {
+        if (where.isEmpty()) {
+            return orderBy;
+        } else if (orderBy.isEmpty()) {
+            return where;
+        } else {
+            return where + ' ' + orderBy;
+        }
+    }
+}
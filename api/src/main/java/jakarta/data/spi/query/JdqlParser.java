@@ -0,0 +1,1018 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.Sort;
+import jakarta.data.constraint.AtLeast;
+import jakarta.data.constraint.AtMost;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.Constraint;
+import jakarta.data.constraint.EqualTo;
+import jakarta.data.constraint.GreaterThan;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.LessThan;
+import jakarta.data.constraint.Like;
+import jakarta.data.constraint.NotBetween;
+import jakarta.data.constraint.NotEqualTo;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.constraint.NotLike;
+import jakarta.data.constraint.NotNull;
+import jakarta.data.constraint.Null;
+import jakarta.data.expression.ComparableExpression;
+import jakarta.data.expression.Expression;
+import jakarta.data.expression.NavigableExpression;
+import jakarta.data.expression.NumericExpression;
+import jakarta.data.expression.TextExpression;
+import jakarta.data.messages.Messages;
+import jakarta.data.metamodel.ComparableAttribute;
+import jakarta.data.metamodel.NavigableAttribute;
+import jakarta.data.metamodel.NumericAttribute;
+import jakarta.data.metamodel.TextAttribute;
+import jakarta.data.restrict.BasicRestriction;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.spi.expression.function.CurrentDate;
+import jakarta.data.spi.expression.function.CurrentDateTime;
+import jakarta.data.spi.expression.function.CurrentTime;
+import jakarta.data.spi.expression.function.NumericFunctionExpression;
+import jakarta.data.spi.expression.function.NumericOperatorExpression;
+import jakarta.data.spi.expression.function.TextFunctionExpression;
+import jakarta.data.spi.expression.literal.BooleanLiteral;
+import jakarta.data.spi.expression.literal.NumericLiteral;
+import jakarta.data.spi.expression.literal.StringLiteral;
+import jakarta.data.spi.expression.path.ComparablePath;
+import jakarta.data.spi.expression.path.NavigablePath;
+import jakarta.data.spi.expression.path.NumericPath;
+import jakarta.data.spi.expression.path.TextPath;
+
+/**
+ * <p>Parses queries of the Jakarta Data Query Language into
+ * {@link JdqlStatement} instances, for use by Jakarta Data providers that
+ * process the queries of {@link jakarta.data.repository.Query @Query}
+ * methods. For example,</p>
+ *
+ * <pre>{@code
+ * JdqlStatement.Select select = (JdqlStatement.Select) JdqlParser.parse(
+ *         "FROM Car WHERE make = :make AND price < ?2 ORDER BY price DESC");
+ *
+ * Predicate<Car> filter = evaluator.compile(select.where());
+ * }</pre>
+ *
+ * <p>The parser accepts the {@code SELECT}, {@code UPDATE}, and
+ * {@code DELETE} statements of the query language, including comparison,
+ * {@code BETWEEN}, {@code LIKE}, {@code IN}, and {@code IS NULL}
+ * conditions combined with {@code AND}, {@code OR}, {@code NOT}, and
+ * parentheses; the arithmetic operators and the {@code ||} operator; the
+ * {@code ABS}, {@code LENGTH}, {@code LOWER}, {@code UPPER}, {@code LEFT},
+ * {@code RIGHT}, and {@code CONCAT} functions; {@code LOCAL DATE},
+ * {@code LOCAL DATETIME}, and {@code LOCAL TIME}; string, numeric, and
+ * boolean literals; and named and positional input parameters. Keywords are
+ * case insensitive. The second argument of {@code LEFT} and {@code RIGHT}
+ * must be an integer literal. Because the parser does not resolve entity
+ * names to classes, a fully qualified enum literal is parsed as a path.</p>
+ *
+ * <p>The {@link #parse(String)} method caches the statement for each query,
+ * such that parsing the same query again does not repeat the work. The cache
+ * is bounded and is safe to use from multiple threads.</p>
+ *
+ * @since 1.1
+ */
+public final class JdqlParser {
+    /**
+     * Upper bound on the number of cached statements, after which the cache
+     * is cleared.
+     */
+    private static final int MAX_CACHED = 1024;
+
+    private static final ConcurrentMap<String, JdqlStatement> CACHE =
+            new ConcurrentHashMap<>();
+
+    // token types
+    private static final int END = 0;
+    private static final int IDENTIFIER = 1;
+    private static final int STRING = 2;
+    private static final int INTEGER = 3;
+    private static final int DECIMAL = 4;
+    private static final int NAMED_PARAMETER = 5;
+    private static final int POSITIONAL_PARAMETER = 6;
+    private static final int SYMBOL = 7;
+
+    @Nonnull
+    private final String query;
+
+    private final int length;
+
+    // The current token
+
+    private int type;
+
+    private int start;
+
+    private int end;
+
+    private JdqlParser(@Nonnull String query) {
+        this.query = query;
+        this.length = query.length();
+        advance();
+    }
+
+    /**
+     * <p>Parses a query, or obtains the statement from the cache if the same
+     * query was parsed before.</p>
+     *
+     * @param query the query. Must not be {@code null}.
+     * @return the statement.
+     * @throws NullPointerException if the query is {@code null}.
+     * @throws IllegalArgumentException if the query is not valid.
+     */
+    @Nonnull
+    public static JdqlStatement parse(@Nonnull String query) {
+        Messages.requireNonNull(query, "query");
+
+        JdqlStatement statement = CACHE.get(query);
+        if (statement == null) {
+            statement = parseUncached(query);
+            if (CACHE.size() >= MAX_CACHED) {
+                CACHE.clear();
+            }
+            JdqlStatement previous = CACHE.putIfAbsent(query, statement);
+            if (previous != null) {
+                statement = previous;
+            }
+        }
+        return statement;
+    }
+
+    /**
+     * <p>Parses a query without consulting or updating the cache.</p>
+     *
+     * @param query the query. Must not be {@code null}.
+     * @return the statement.
+     * @throws NullPointerException if the query is {@code null}.
+     * @throws IllegalArgumentException if the query is not valid.
+     */
+    @Nonnull
+    public static JdqlStatement parseUncached(@Nonnull String query) {
+        Messages.requireNonNull(query, "query");
+
+        try {
+            return new JdqlParser(query).statement();
+        } catch (SyntaxError x) {
+            throw new IllegalArgumentException(Messages.get(
+                    "026.query.syntax",
+                    x.expected,
+                    String.valueOf(x.position + 1),
+                    query), x);
+        }
+    }
+
+    // Statements
+
+    @Nonnull
+    private JdqlStatement statement() {
+        JdqlStatement statement;
+        if (accept("UPDATE")) {
+            statement = update();
+        } else if (accept("DELETE")) {
+            statement = delete();
+        } else {
+            statement = select();
+        }
+        if (type != END) {
+            throw error("the end of the query");
+        }
+        return statement;
+    }
+
+    @Nonnull
+    private JdqlStatement select() {
+        List<Expression<Object, ?>> selections = List.of();
+        boolean count = false;
+        if (accept("SELECT")) {
+            if (isKeyword("COUNT") && nextChar() == '(') {
+                advance();
+                expectSymbol('(');
+                expect("THIS");
+                expectSymbol(')');
+                count = true;
+            } else if (isKeyword("THIS") && nextChar() != '.') {
+                advance();
+            } else {
+                selections = new ArrayList<>();
+                do {
+                    selections.add(scalar());
+                } while (acceptSymbol(','));
+            }
+        }
+
+        String entityName = accept("FROM") ? identifier() : null;
+        Restriction<Object> where = where();
+
+        List<Sort<Object>> orderBy = List.of();
+        if (accept("ORDER")) {
+            expect("BY");
+            orderBy = new ArrayList<>();
+            do {
+                String path = path();
+                if (accept("DESC")) {
+                    orderBy.add(Sort.desc(path));
+                } else {
+                    accept("ASC");
+                    orderBy.add(Sort.asc(path));
+                }
+            } while (acceptSymbol(','));
+        }
+
+        return new JdqlStatement.Select(selections, count, entityName, where, orderBy);
+    }
+
+    @Nonnull
+    private JdqlStatement update() {
+        String entityName = identifier();
+        expect("SET");
+        List<JdqlStatement.Assignment> assignments = new ArrayList<>();
+        do {
+            Expression<Object, ?> attribute = scalar();
+            if (!isAttribute(attribute)) {
+                throw error("an entity attribute");
+            }
+            expectSymbol('=');
+            Expression<Object, ?> value = null;
+            if (!accept("NULL")) {
+                value = scalar();
+                attribute = typedAs(attribute, value);
+            }
+            assignments.add(new JdqlStatement.Assignment(attribute, value));
+        } while (acceptSymbol(','));
+
+        return new JdqlStatement.Update(entityName, assignments, where());
+    }
+
+    @Nonnull
+    private JdqlStatement delete() {
+        expect("FROM");
+        String entityName = identifier();
+        return new JdqlStatement.Delete(entityName, where());
+    }
+
+    @Nonnull
+    private Restriction<Object> where() {
+        return accept("WHERE") ? condition() : Restrict.unrestricted();
+    }
+
+    // Conditions
+
+    @Nonnull
+    private Restriction<Object> condition() {
+        Restriction<Object> first = conjunction();
+        if (!isKeyword("OR")) {
+            return first;
+        }
+        List<Restriction<Object>> restrictions = new ArrayList<>();
+        restrictions.add(first);
+        while (accept("OR")) {
+            restrictions.add(conjunction());
+        }
+        return Restrict.any(restrictions);
+    }
+
+    @Nonnull
+    private Restriction<Object> conjunction() {
+        Restriction<Object> first = negation();
+        if (!isKeyword("AND")) {
+            return first;
+        }
+        List<Restriction<Object>> restrictions = new ArrayList<>();
+        restrictions.add(first);
+        while (accept("AND")) {
+            restrictions.add(negation());
+        }
+        return Restrict.all(restrictions);
+    }
+
+    @Nonnull
+    private Restriction<Object> negation() {
+        if (accept("NOT")) {
+            return negation().negate();
+        }
+        if (isSymbol('(')) {
+            // A parenthesis starts either a condition or an operand of a
+            // predicate, such as (price + 10) > 100. Try the former first.
+            int position = start;
+            try {
+                advance();
+                Restriction<Object> restriction = condition();
+                expectSymbol(')');
+                return restriction;
+            } catch (SyntaxError x) {
+                reset(position);
+            }
+        }
+        return predicate();
+    }
+
+    @Nonnull
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Restriction<Object> predicate() {
+        Expression<Object, ?> left = scalar();
+        boolean not = accept("NOT");
+
+        if (accept("BETWEEN")) {
+            Expression<Object, ?> min = scalar();
+            expect("AND");
+            Expression<Object, ?> max = scalar();
+            left = typedAs(typedAs(left, min), max);
+            ComparableExpression lower = comparable(typedAs(min, left));
+            ComparableExpression upper = comparable(typedAs(max, left));
+            return restriction(comparable(left), not
+                    ? NotBetween.bounds(lower, upper)
+                    : Between.bounds(lower, upper));
+        } else if (accept("LIKE")) {
+            TextExpression<Object> pattern = text(scalar());
+            char escape = '\\';
+            if (accept("ESCAPE")) {
+                String value = type == STRING ? string() : "";
+                if (value.length() != 1) {
+                    throw error("a single character escape");
+                }
+                escape = value.charAt(0);
+                advance();
+            }
+            return restriction(text(left), not
+                    ? NotLike.pattern(pattern, escape)
+                    : Like.pattern(pattern, escape));
+        } else if (accept("IN")) {
+            expectSymbol('(');
+            List<Expression<?, ?>> values = new ArrayList<>();
+            do {
+                values.add(scalar());
+            } while (acceptSymbol(','));
+            expectSymbol(')');
+            left = typedAs(left, values.get(0));
+            for (int i = 0; i < values.size(); i++) {
+                values.set(i, typedAs(values.get(i), left));
+            }
+            return restriction(left, not
+                    ? NotIn.expressions((List) values)
+                    : In.expressions((List) values));
+        } else if (not) {
+            throw error("BETWEEN, LIKE, or IN");
+        } else if (accept("IS")) {
+            boolean isNot = accept("NOT");
+            expect("NULL");
+            return restriction(left, isNot ? NotNull.instance() : Null.instance());
+        }
+
+        String operator = comparisonOperator();
+        Expression<Object, ?> right = scalar();
+        left = typedAs(left, right);
+        right = typedAs(right, left);
+        Constraint<?> constraint = switch (operator) {
+            case "=" -> EqualTo.expression((Expression) right);
+            case "<>", "!=" -> NotEqualTo.expression((Expression) right);
+            case ">" -> GreaterThan.bound(comparable(right));
+            case ">=" -> AtLeast.min(comparable(right));
+            case "<" -> LessThan.bound(comparable(right));
+            default -> AtMost.max(comparable(right));
+        };
+        return restriction(left, constraint);
+    }
+
+    @Nonnull
+    private String comparisonOperator() {
+        if (type == SYMBOL) {
+            for (String operator : new String[] { "=", "<>", "!=", ">", ">=", "<", "<=" }) {
+                if (isSymbol(operator)) {
+                    advance();
+                    return operator;
+                }
+            }
+        }
+        throw error("a comparison operator");
+    }
+
+    @Nonnull
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Restriction<Object> restriction(@Nonnull Expression<Object, ?> expression,
+                                                   @Nonnull Constraint<?> constraint) {
+        return BasicRestriction.of((Expression) expression, (Constraint) constraint);
+    }
+
+    // Scalar expressions
+
+    @Nonnull
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Expression<Object, ?> scalar() {
+        Expression<Object, ?> left = term();
+        while (true) {
+            if (isSymbol('+') || isSymbol('-')) {
+                NumericOperatorExpression.Operator operator = isSymbol('+')
+                        ? NumericOperatorExpression.Operator.PLUS
+                        : NumericOperatorExpression.Operator.MINUS;
+                advance();
+                left = arithmetic(operator, left, term());
+            } else if (isSymbol("||")) {
+                advance();
+                TextExpression<Object> right = text(term());
+                left = TextFunctionExpression.of(
+                        TextFunctionExpression.CONCAT, text(left), right);
+            } else {
+                return left;
+            }
+        }
+    }
+
+    @Nonnull
+    private Expression<Object, ?> term() {
+        Expression<Object, ?> left = factor();
+        while (true) {
+            if (isSymbol('*') || isSymbol('/')) {
+                NumericOperatorExpression.Operator operator = isSymbol('*')
+                        ? NumericOperatorExpression.Operator.TIMES
+                        : NumericOperatorExpression.Operator.DIVIDE;
+                advance();
+                left = arithmetic(operator, left, factor());
+            } else {
+                return left;
+            }
+        }
+    }
+
+    @Nonnull
+    private Expression<Object, ?> factor() {
+        if (isSymbol('-')) {
+            advance();
+            if (type == INTEGER || type == DECIMAL) {
+                return number(true);
+            }
+            return numeric(factor(), Number.class).negated();
+        } else if (isSymbol('+')) {
+            advance();
+            return numeric(factor(), Number.class);
+        }
+        return primary();
+    }
+
+    @Nonnull
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Expression<Object, ?> arithmetic(@Nonnull NumericOperatorExpression.Operator operator,
+                                             @Nonnull Expression<Object, ?> left,
+                                             @Nonnull Expression<Object, ?> right) {
+        NumericExpression l = numeric(left, right.type());
+        NumericExpression r = numeric(right, l.type());
+        return NumericOperatorExpression.of(operator, l, r);
+    }
+
+    /**
+     * Obtains the value of the current string token, without the enclosing
+     * quotes and with each doubled quote replaced by a single quote.
+     */
+    @Nonnull
+    private String string() {
+        return end - start > 2
+                ? query.substring(start + 1, end - 1).replace("''", "'")
+                : "";
+    }
+
+    @Nonnull
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Expression<Object, ?> primary() {
+        switch (type) {
+            case STRING: {
+                String value = string();
+                advance();
+                return StringLiteral.of(value);
+            }
+            case INTEGER:
+            case DECIMAL:
+                return number(false);
+            case NAMED_PARAMETER: {
+                String name = query.substring(start + 1, end);
+                advance();
+                return new ComparableParameterRecord(name, 0, Comparable.class);
+            }
+            case POSITIONAL_PARAMETER: {
+                int position;
+                try {
+                    position = Integer.parseInt(query, start + 1, end, 10);
+                } catch (NumberFormatException x) {
+                    throw error("a parameter position");
+                }
+                advance();
+                return new ComparableParameterRecord(null, position, Comparable.class);
+            }
+            case IDENTIFIER:
+                if (nextChar() == '(') {
+                    return function();
+                } else if (accept("TRUE")) {
+                    return BooleanLiteral.of(true);
+                } else if (accept("FALSE")) {
+                    return BooleanLiteral.of(false);
+                } else if (isKeyword("LOCAL") && nextChar() != '.') {
+                    advance();
+                    if (accept("DATE")) {
+                        return CurrentDate.now();
+                    } else if (accept("DATETIME")) {
+                        return CurrentDateTime.now();
+                    } else {
+                        expect("TIME");
+                        return CurrentTime.now();
+                    }
+                }
+                return attribute();
+            default:
+                if (acceptSymbol('(')) {
+                    Expression<Object, ?> expression = scalar();
+                    expectSymbol(')');
+                    return expression;
+                }
+                throw error("an expression");
+        }
+    }
+
+    @Nonnull
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Expression<Object, ?> function() {
+        String name = identifier().toUpperCase();
+        expectSymbol('(');
+        Expression<Object, ?> result;
+        switch (name) {
+            case NumericFunctionExpression.ABS: {
+                NumericExpression argument = numeric(scalar(), Number.class);
+                result = NumericFunctionExpression.of(name, argument.type(), argument);
+                break;
+            }
+            case NumericFunctionExpression.LENGTH:
+                result = NumericFunctionExpression.of(name, Integer.class, text(scalar()));
+                break;
+            case TextFunctionExpression.LOWER:
+            case TextFunctionExpression.UPPER:
+                result = TextFunctionExpression.of(name, text(scalar()));
+                break;
+            case TextFunctionExpression.LEFT:
+            case TextFunctionExpression.RIGHT: {
+                TextExpression<Object> argument = text(scalar());
+                expectSymbol(',');
+                if (type != INTEGER) {
+                    throw error("an integer literal");
+                }
+                int count;
+                try {
+                    count = Integer.parseInt(query, start, end, 10);
+                } catch (NumberFormatException x) {
+                    throw error("an integer literal");
+                }
+                advance();
+                result = TextFunctionExpression.of(name, argument, count);
+                break;
+            }
+            case TextFunctionExpression.CONCAT: {
+                TextExpression<Object> concatenated = text(scalar());
+                expectSymbol(',');
+                do {
+                    concatenated = TextFunctionExpression.of(name, concatenated, text(scalar()));
+                } while (acceptSymbol(','));
+                result = concatenated;
+                break;
+            }
+            default:
+                throw error("a function name");
+        }
+        expectSymbol(')');
+        return result;
+    }
+
+    @Nonnull
+    private Expression<Object, ?> number(boolean negative) {
+        int from = negative ? start - 1 : start;
+        int to = end;
+        char last = query.charAt(to - 1);
+        boolean suffixed = last > '9';
+        String digits = query.substring(start, suffixed ? to - 1 : to);
+        String text = negative ? '-' + digits : digits;
+        int tokenType = type;
+        try {
+            Expression<Object, ?> literal;
+            if (last == 'F' || last == 'f') {
+                literal = NumericLiteral.of(Float.parseFloat(text));
+            } else if (tokenType == DECIMAL || last == 'D' || last == 'd') {
+                literal = NumericLiteral.of(Double.parseDouble(text));
+            } else if (last == 'L' || last == 'l') {
+                literal = NumericLiteral.of(Long.parseLong(text));
+            } else {
+                long value = Long.parseLong(text);
+                literal = value == (int) value
+                        ? NumericLiteral.of((int) value)
+                        : NumericLiteral.of(value);
+            }
+            advance();
+            return literal;
+        } catch (NumberFormatException x) {
+            start = from;
+            throw error("a number");
+        }
+    }
+
+    /**
+     * Parses a path of one or more entity attribute names separated by
+     * periods, optionally qualified by {@code this}, into an attribute or a
+     * path with an attribute type that is not yet known.
+     */
+    @Nonnull
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Expression<Object, ?> attribute() {
+        String name = qualifiedName();
+        if (!isSymbol('.')) {
+            return ComparableAttribute.of(Object.class, name, (Class) Comparable.class);
+        }
+        NavigableExpression navigable = NavigableAttribute.of(Object.class, name, Object.class);
+        while (true) {
+            advance();
+            String next = identifier();
+            if (isSymbol('.')) {
+                navigable = NavigablePath.of(navigable,
+                        NavigableAttribute.of(Object.class, next, Object.class));
+            } else {
+                return (Expression<Object, ?>) ComparablePath.of(navigable,
+                        ComparableAttribute.of(Object.class, next, (Class) Comparable.class));
+            }
+        }
+    }
+
+    /**
+     * Parses a path of one or more entity attribute names separated by
+     * periods, optionally qualified by {@code this}, as a single name.
+     */
+    @Nonnull
+    private String path() {
+        int from = start;
+        qualifiedName();
+        while (acceptSymbol('.')) {
+            identifier();
+        }
+        String path = query.substring(from, end(from));
+        return path.regionMatches(true, 0, "this.", 0, 5)
+                ? path.substring(5).strip()
+                : path.strip();
+    }
+
+    /**
+     * Returns the end of the previous token, which is the current position
+     * less any whitespace preceding the current token.
+     */
+    private int end(int from) {
+        int i = start;
+        while (i > from && Character.isWhitespace(query.charAt(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    @Nonnull
+    private String qualifiedName() {
+        if (isKeyword("THIS") && nextChar() == '.') {
+            advance();
+            advance();
+        }
+        return identifier();
+    }
+
+    @Nonnull
+    private String identifier() {
+        if (type != IDENTIFIER) {
+            throw error("an identifier");
+        }
+        String identifier = query.substring(start, end);
+        advance();
+        return identifier;
+    }
+
+    // Types
+
+    /**
+     * Whether an expression is an entity attribute or path to one.
+     */
+    private static boolean isAttribute(@Nonnull Expression<?, ?> expression) {
+        return expression instanceof ComparableAttribute<?, ?>
+                || expression instanceof ComparablePath<?, ?, ?>;
+    }
+
+    /**
+     * Whether an expression is an entity attribute, path, or input parameter
+     * of which the type is not yet known.
+     */
+    private static boolean isUntyped(@Nonnull Expression<?, ?> expression) {
+        return expression.type() == Comparable.class
+                && (isAttribute(expression)
+                    || expression instanceof ComparableParameterRecord<?>);
+    }
+
+    /**
+     * Assigns an expression of which the type is not yet known the type of
+     * another expression, if known.
+     */
+    @Nonnull
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Expression<Object, ?> typedAs(@Nonnull Expression<?, ?> expression,
+                                          @Nonnull Expression<?, ?> other) {
+        if (isUntyped(expression) && !isUntyped(other)) {
+            if (other instanceof TextExpression<?>) {
+                return text(expression);
+            } else if (other instanceof NumericExpression<?, ?>) {
+                return numeric(expression, other.type());
+            } else if (other instanceof ComparableExpression<?, ?>) {
+                return retype(expression, (Class) other.type());
+            }
+        }
+        return (Expression<Object, ?>) expression;
+    }
+
+    @Nonnull
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private TextExpression<Object> text(@Nonnull Expression<?, ?> expression) {
+        if (expression instanceof TextExpression<?>) {
+            return (TextExpression<Object>) expression;
+        } else if (isUntyped(expression)) {
+            if (expression instanceof ComparableAttribute<?, ?> attribute) {
+                return TextAttribute.of(Object.class, attribute.name());
+            } else if (expression instanceof ComparablePath<?, ?, ?> path) {
+                return TextPath.of((NavigableExpression) path.expression(),
+                        TextAttribute.of(Object.class, path.attribute().name()));
+            } else if (expression instanceof ComparableParameterRecord<?> p) {
+                return new TextParameterRecord(p.name(), p.position());
+            }
+        }
+        throw error("a text expression");
+    }
+
+    @Nonnull
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private NumericExpression<Object, ?> numeric(@Nonnull Expression<?, ?> expression,
+                                                 @Nonnull Class<?> type) {
+        Class numericType = Number.class.isAssignableFrom(type) ? type : Number.class;
+        if (expression instanceof NumericExpression<?, ?>) {
+            return (NumericExpression<Object, ?>) expression;
+        } else if (isUntyped(expression)) {
+            if (expression instanceof ComparableAttribute<?, ?> attribute) {
+                return NumericAttribute.of(Object.class, attribute.name(), numericType);
+            } else if (expression instanceof ComparablePath<?, ?, ?> path) {
+                return NumericPath.of((NavigableExpression) path.expression(),
+                        NumericAttribute.of(Object.class, path.attribute().name(), numericType));
+            } else if (expression instanceof ComparableParameterRecord<?> p) {
+                return new NumericParameterRecord(p.name(), p.position(), numericType);
+            }
+        }
+        throw error("a numeric expression");
+    }
+
+    @Nonnull
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Expression<Object, ?> retype(@Nonnull Expression<?, ?> expression,
+                                                @Nonnull Class type) {
+        if (expression instanceof ComparableAttribute<?, ?> attribute) {
+            return ComparableAttribute.of(Object.class, attribute.name(), type);
+        } else if (expression instanceof ComparablePath<?, ?, ?> path) {
+            return ComparablePath.of((NavigableExpression) path.expression(),
+                    ComparableAttribute.of(Object.class, path.attribute().name(), type));
+        } else {
+            ComparableParameterRecord<?> p = (ComparableParameterRecord<?>) expression;
+            return new ComparableParameterRecord(p.name(), p.position(), type);
+        }
+    }
+
+    @Nonnull
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private ComparableExpression<Object, ?> comparable(@Nonnull Expression<?, ?> expression) {
+        if (expression instanceof ComparableExpression<?, ?>) {
+            return (ComparableExpression<Object, ?>) expression;
+        }
+        throw error("a comparable expression");
+    }
+
+    // Tokens
+
+    /**
+     * Reads the next token.
+     */
+    private void advance() {
+        int i = end;
+        while (i < length && Character.isWhitespace(query.charAt(i))) {
+            i++;
+        }
+        start = i;
+        if (i >= length) {
+            type = END;
+        } else {
+            char c = query.charAt(i);
+            if (Character.isJavaIdentifierStart(c)) {
+                type = IDENTIFIER;
+                i = identifierEnd(i + 1);
+            } else if (isDigit(c) || c == '.' && i + 1 < length && isDigit(query.charAt(i + 1))) {
+                i = numberEnd(i);
+            } else if (c == '\'') {
+                type = STRING;
+                i = stringEnd(i + 1);
+            } else if (c == ':' && i + 1 < length
+                    && Character.isJavaIdentifierStart(query.charAt(i + 1))) {
+                type = NAMED_PARAMETER;
+                i = identifierEnd(i + 2);
+            } else if (c == '?' && i + 1 < length && isDigit(query.charAt(i + 1))) {
+                type = POSITIONAL_PARAMETER;
+                i = digitsEnd(i + 1);
+            } else {
+                type = SYMBOL;
+                if (i + 1 < length && isTwoCharacterSymbol(c, query.charAt(i + 1))) {
+                    i += 2;
+                } else {
+                    i++;
+                }
+            }
+        }
+        end = i;
+    }
+
+    /**
+     * Resets the current token to the token that starts at the given
+     * position.
+     */
+    private void reset(int position) {
+        end = position;
+        advance();
+    }
+
+    private int identifierEnd(int from) {
+        int i = from;
+        while (i < length && Character.isJavaIdentifierPart(query.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private int digitsEnd(int from) {
+        int i = from;
+        while (i < length && isDigit(query.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private int numberEnd(int from) {
+        type = INTEGER;
+        int i = digitsEnd(from);
+        if (i + 1 < length && query.charAt(i) == '.' && isDigit(query.charAt(i + 1))) {
+            type = DECIMAL;
+            i = digitsEnd(i + 1);
+        }
+        if (i < length && (query.charAt(i) == 'E' || query.charAt(i) == 'e')) {
+            int j = i + 1;
+            if (j < length && (query.charAt(j) == '+' || query.charAt(j) == '-')) {
+                j++;
+            }
+            if (j < length && isDigit(query.charAt(j))) {
+                type = DECIMAL;
+                i = digitsEnd(j);
+            }
+        }
+        if (i < length) {
+            char suffix = query.charAt(i);
+            if (suffix == 'L' || suffix == 'l') {
+                if (type == INTEGER) {
+                    i++;
+                }
+            } else if (suffix == 'F' || suffix == 'f' || suffix == 'D' || suffix == 'd') {
+                type = DECIMAL;
+                i++;
+            }
+        }
+        return i;
+    }
+
+    private int stringEnd(int from) {
+        int i = from;
+        while (true) {
+            if (i >= length) {
+                start = from - 1;
+                throw error("a closing quote");
+            } else if (query.charAt(i) != '\'') {
+                i++;
+            } else if (i + 1 < length && query.charAt(i + 1) == '\'') {
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isTwoCharacterSymbol(char c1, char c2) {
+        return c1 == '<' && (c2 == '=' || c2 == '>')
+                || c1 == '>' && c2 == '='
+                || c1 == '!' && c2 == '='
+                || c1 == '|' && c2 == '|';
+    }
+
+    /**
+     * Returns the first character after the current token that is not
+     * whitespace, or {@code 0} if there is none.
+     */
+    private char nextChar() {
+        int i = end;
+        while (i < length && Character.isWhitespace(query.charAt(i))) {
+            i++;
+        }
+        return i < length ? query.charAt(i) : 0;
+    }
+
+    private boolean isKeyword(@Nonnull String keyword) {
+        return type == IDENTIFIER
+                && end - start == keyword.length()
+                && query.regionMatches(true, start, keyword, 0, keyword.length());
+    }
+
+    private boolean accept(@Nonnull String keyword) {
+        if (isKeyword(keyword)) {
+            advance();
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(@Nonnull String keyword) {
+        if (!accept(keyword)) {
+            throw error(keyword);
+        }
+    }
+
+    private boolean isSymbol(char symbol) {
+        return type == SYMBOL && end - start == 1 && query.charAt(start) == symbol;
+    }
+
+    private boolean isSymbol(@Nonnull String symbol) {
+        return type == SYMBOL
+                && end - start == symbol.length()
+                && query.startsWith(symbol, start);
+    }
+
+    private boolean acceptSymbol(char symbol) {
+        if (isSymbol(symbol)) {
+            advance();
+            return true;
+        }
+        return false;
+    }
+
+    private void expectSymbol(char symbol) {
+        if (!acceptSymbol(symbol)) {
+            throw error(String.valueOf(symbol));
+        }
+    }
+
+    @Nonnull
+    private SyntaxError error(@Nonnull String expected) {
+        return new SyntaxError(expected, start);
+    }
+
+    /**
+     * Indicates that the query does not match the grammar at a position.
+     * The stack trace is not filled in because the parser backtracks by
+     * catching this exception.
+     */
+    private static final class SyntaxError extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        @Nonnull
+        private final String expected;
+
+        private final int position;
+
+        SyntaxError(@Nonnull String expected, int position) {
+            super(expected, null, false, false);
+            this.expected = expected;
+            this.position = position;
+        }
+    }
+}
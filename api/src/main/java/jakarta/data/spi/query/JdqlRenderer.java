@@ -0,0 +1,527 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.constraint.AtLeast;
+import jakarta.data.constraint.AtMost;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.Constraint;
+import jakarta.data.constraint.EqualTo;
+import jakarta.data.constraint.GreaterThan;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.LessThan;
+import jakarta.data.constraint.Like;
+import jakarta.data.constraint.NotBetween;
+import jakarta.data.constraint.NotEqualTo;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.constraint.NotLike;
+import jakarta.data.constraint.NotNull;
+import jakarta.data.constraint.Null;
+import jakarta.data.constraint.ValueSet;
+import jakarta.data.expression.Expression;
+import jakarta.data.expression.NavigableExpression;
+import jakarta.data.messages.Messages;
+import jakarta.data.metamodel.Attribute;
+import jakarta.data.restrict.BasicRestriction;
+import jakarta.data.restrict.CompositeRestriction;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.spi.expression.function.CurrentDate;
+import jakarta.data.spi.expression.function.CurrentDateTime;
+import jakarta.data.spi.expression.function.CurrentTime;
+import jakarta.data.spi.expression.function.FunctionExpression;
+import jakarta.data.spi.expression.function.NumericCast;
+import jakarta.data.spi.expression.function.NumericFunctionExpression;
+import jakarta.data.spi.expression.function.NumericOperatorExpression;
+import jakarta.data.spi.expression.literal.Literal;
+import jakarta.data.spi.expression.path.Path;
+
+/**
+ * <p>Renders a {@link Restriction} and {@link Order} as the {@code WHERE}
+ * and {@code ORDER BY} clauses of a Jakarta Data Query Language query, for
+ * use by Jakarta Data providers that translate dynamic queries into JDQL.
+ * Literal values are rendered as the positional parameters {@code ?1} to
+ * {@code ?n}, and are available from the resulting {@link JdqlFragment}.
+ * For example,</p>
+ *
+ * <pre>{@code
+ * JdqlFragment fragment = JdqlRenderer.render(
+ *         Restrict.all(_Car.make.equalTo("Jakarta"),
+ *                      _Car.price.between(20000, 30000)),
+ *         Order.by(_Car.price.desc()));
+ *
+ * // WHERE make = ?1 AND price BETWEEN ?2 AND ?3 ORDER BY price DESC
+ * String query = "FROM Car " + fragment;
+ * }</pre>
+ *
+ * <p>The rendered text is cached per {@linkplain QueryShape query shape},
+ * such that rendering a restriction and sort criteria that differ from
+ * those of a previous invocation only in their literal values does not
+ * build any text. Attributes are rendered by name, without an
+ * identification variable.</p>
+ *
+ * <p>The rendered text is accepted by {@link JdqlParser}. Sort criteria
+ * are rendered only if they sort by an entity attribute in a case-sensitive
+ * order without specifying the ordering of {@code null} values, and numeric
+ * casts are not rendered, because the query language cannot express
+ * them.</p>
+ *
+ * @since 1.1
+ */
+public final class JdqlRenderer {
+    /**
+     * Upper bound on the number of cached query shapes, after which the
+     * cache is cleared.
+     */
+    private static final int MAX_CACHED = 1024;
+
+    /**
+     * Capacity beyond which the builder of a thread is discarded after use,
+     * rather than retained for the next query.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+
+    private static final ConcurrentMap<QueryShape, Text> CACHE =
+            new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<StringBuilder> BUILDER =
+            ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    /**
+     * The rendered clauses of a query shape.
+     */
+    private record Text(@Nonnull String where, @Nonnull String orderBy) {
+    }
+
+    // prevent instantiation
+    private JdqlRenderer() {
+    }
+
+    /**
+     * <p>Renders a restriction as a {@code WHERE} clause.</p>
+     *
+     * @param restriction the restriction. Must not be {@code null}.
+     * @return the rendered {@code WHERE} clause and its parameters.
+     * @throws NullPointerException if the restriction is {@code null}.
+     * @throws UnsupportedOperationException if the restriction includes a
+     *         restriction, expression, or constraint of a type that is not
+     *         defined by this API, or a numeric cast.
+     */
+    @Nonnull
+    public static JdqlFragment render(@Nonnull Restriction<?> restriction) {
+        Messages.requireNonNull(restriction, "restriction");
+
+        return render(restriction, null);
+    }
+
+    /**
+     * <p>Renders a restriction and sort criteria as a {@code WHERE} clause
+     * and an {@code ORDER BY} clause.</p>
+     *
+     * @param restriction the restriction, or {@code null} if unrestricted.
+     * @param order       the sort criteria, or {@code null} if unsorted.
+     * @return the rendered clauses and their parameters.
+     * @throws UnsupportedOperationException if the restriction or sort
+     *         criteria include a restriction, expression, or constraint of a
+     *         type that is not defined by this API, or a numeric cast, or if
+     *         a sort criterion ignores case, specifies the ordering of
+     *         {@code null} values, or sorts by an expression that is not an
+     *         entity attribute.
+     */
+    @Nonnull
+    public static JdqlFragment render(@Nullable Restriction<?> restriction,
+                                      @Nullable Order<?> order) {
+        QueryShape shape = QueryShape.of(restriction, order, null);
+
+        Text text = CACHE.get(shape);
+        if (text == null) {
+            text = text(restriction, order);
+            if (CACHE.size() >= MAX_CACHED) {
+                CACHE.clear();
+            }
+            Text previous = CACHE.putIfAbsent(shape, text);
+            if (previous != null) {
+                text = previous;
+            }
+        }
+        return new JdqlFragment(text.where(), text.orderBy(), shape);
+    }
+
+    @Nonnull
+    private static Text text(@Nullable Restriction<?> restriction,
+                             @Nullable Order<?> order) {
+        StringBuilder builder = BUILDER.get();
+        try {
+            Writer writer = new Writer(builder);
+
+            String where = "";
+            if (restriction != null && !isUnrestricted(restriction)) {
+                builder.append("WHERE ");
+                writer.restriction(restriction);
+                where = builder.toString();
+                builder.setLength(0);
+            }
+
+            String orderBy = "";
+            if (order != null && !order.sorts().isEmpty()) {
+                builder.append("ORDER BY ");
+                writer.order(order);
+                orderBy = builder.toString();
+            }
+            return new Text(where, orderBy);
+        } finally {
+            builder.setLength(0);
+            if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+                BUILDER.remove();
+            }
+        }
+    }
+
+    /**
+     * Renders a comparison of the row value of the sort keys of sort criteria
+     * with a row value of positional parameters, for {@link Keyset}. The
+     * parameters are numbered after the first {@code parameterOffset}
+     * parameters, starting with any literal values within the sort criteria.
+     */
+    @Nonnull
+    static String rowValue(@Nonnull Order<?> order,
+                           boolean greater,
+                           int parameterOffset) {
+        StringBuilder builder = BUILDER.get();
+        try {
+            new Writer(builder, parameterOffset).rowValue(order, greater);
+            return builder.toString();
+        } finally {
+            builder.setLength(0);
+            if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+                BUILDER.remove();
+            }
+        }
+    }
+
+    private static boolean isUnrestricted(@Nonnull Restriction<?> restriction) {
+        return restriction instanceof CompositeRestriction<?> composite
+                && composite.restrictions().isEmpty()
+                && composite.type() == CompositeRestriction.Type.ALL
+                && !composite.isNegated();
+    }
+
+    /**
+     * Appends the text of a restriction and sort criteria to a builder,
+     * numbering parameters in the same order in which {@link QueryShape}
+     * collects them.
+     */
+    private static final class Writer {
+        @Nonnull
+        private final StringBuilder builder;
+
+        private int parameters;
+
+        Writer(@Nonnull StringBuilder builder) {
+            this(builder, 0);
+        }
+
+        Writer(@Nonnull StringBuilder builder, int parameters) {
+            this.builder = builder;
+            this.parameters = parameters;
+        }
+
+        void restriction(@Nonnull Restriction<?> restriction) {
+            if (restriction instanceof BasicRestriction<?, ?> basic) {
+                expression(basic.expression());
+                builder.append(' ');
+                constraint(basic.constraint());
+            } else if (restriction instanceof CompositeRestriction<?> composite) {
+                composite(composite);
+            } else {
+                // QueryShape rejects other types before they are rendered
+                throw new UnsupportedOperationException(Messages.get(
+                        "025.query.element.unsupported",
+                        "restriction",
+                        restriction.getClass().getName()));
+            }
+        }
+
+        private void composite(@Nonnull CompositeRestriction<?> composite) {
+            List<? extends Restriction<?>> list = composite.restrictions();
+            boolean all = composite.type() == CompositeRestriction.Type.ALL;
+            if (composite.isNegated()) {
+                builder.append("NOT (");
+            }
+
+            if (list.isEmpty()) {
+                builder.append(all ? "1 = 1" : "1 <> 1");
+            } else if (list.size() == 1) {
+                operand(list.get(0));
+            } else {
+                String operator = all ? " AND " : " OR ";
+                for (int i = 0; i < list.size(); i++) {
+                    if (i > 0) {
+                        builder.append(operator);
+                    }
+                    operand(list.get(i));
+                }
+            }
+
+            if (composite.isNegated()) {
+                builder.append(')');
+            }
+        }
+
+        private void operand(@Nonnull Restriction<?> restriction) {
+            if (restriction instanceof CompositeRestriction<?> composite
+                    && !composite.isNegated()
+                    && composite.restrictions().size() > 1) {
+                builder.append('(');
+                composite(composite);
+                builder.append(')');
+            } else {
+                restriction(restriction);
+            }
+        }
+
+        void expression(@Nonnull Expression<?, ?> expression) {
+            if (expression instanceof Literal<?>) {
+                builder.append('?').append(++parameters);
+            } else if (expression instanceof Attribute<?> attribute) {
+                builder.append(attribute.name());
+            } else if (expression instanceof Path<?, ?> path) {
+                path(path);
+            } else if (expression instanceof NumericOperatorExpression<?, ?> op) {
+                operand(op.left());
+                builder.append(switch (op.operator()) {
+                    case PLUS -> " + ";
+                    case MINUS -> " - ";
+                    case TIMES -> " * ";
+                    case DIVIDE -> " / ";
+                });
+                operand(op.right());
+            } else if (expression instanceof NumericCast<?, ?>) {
+                throw new UnsupportedOperationException(Messages.get(
+                        "033.query.jdql.unsupported",
+                        "expression",
+                        expression));
+            } else if (expression instanceof FunctionExpression<?, ?> fn) {
+                function(fn);
+            } else if (expression instanceof CurrentDate<?>) {
+                builder.append("LOCAL DATE");
+            } else if (expression instanceof CurrentDateTime<?>) {
+                builder.append("LOCAL DATETIME");
+            } else if (expression instanceof CurrentTime<?>) {
+                builder.append("LOCAL TIME");
+            } else {
+                throw new UnsupportedOperationException(Messages.get(
+                        "025.query.element.unsupported",
+                        "expression",
+                        expression.getClass().getName()));
+            }
+        }
+
+        private void operand(@Nonnull Expression<?, ?> expression) {
+            if (expression instanceof NumericOperatorExpression<?, ?>) {
+                builder.append('(');
+                expression(expression);
+                builder.append(')');
+            } else {
+                expression(expression);
+            }
+        }
+
+        private void path(@Nonnull Path<?, ?> path) {
+            NavigableExpression<?, ?> navigable = path.expression();
+            if (navigable instanceof Attribute<?> attribute) {
+                builder.append(attribute.name());
+            } else if (navigable instanceof Path<?, ?> p) {
+                path(p);
+            } else {
+                throw new UnsupportedOperationException(Messages.get(
+                        "025.query.element.unsupported",
+                        "expression",
+                        navigable.getClass().getName()));
+            }
+            builder.append('.').append(path.attribute().name());
+        }
+
+        private void function(@Nonnull FunctionExpression<?, ?> fn) {
+            List<? extends Expression<?, ?>> arguments = fn.arguments();
+            if (NumericFunctionExpression.NEG.equals(fn.name())
+                    && arguments.size() == 1) {
+                builder.append('-');
+                operand(arguments.get(0));
+            } else {
+                builder.append(fn.name()).append('(');
+                for (int i = 0; i < arguments.size(); i++) {
+                    if (i > 0) {
+                        builder.append(", ");
+                    }
+                    if (QueryShape.isLength(fn, i)) {
+                        // the query language requires an integer literal
+                        builder.append(((Literal<?>) arguments.get(i)).value());
+                    } else {
+                        expression(arguments.get(i));
+                    }
+                }
+                builder.append(')');
+            }
+        }
+
+        void constraint(@Nonnull Constraint<?> constraint) {
+            if (constraint instanceof Null<?>) {
+                builder.append("IS NULL");
+            } else if (constraint instanceof NotNull<?>) {
+                builder.append("IS NOT NULL");
+            } else if (constraint instanceof EqualTo<?> c) {
+                builder.append("= ");
+                expression(c.expression());
+            } else if (constraint instanceof NotEqualTo<?> c) {
+                builder.append("<> ");
+                expression(c.expression());
+            } else if (constraint instanceof GreaterThan<?> c) {
+                builder.append("> ");
+                expression(c.bound());
+            } else if (constraint instanceof AtLeast<?> c) {
+                builder.append(">= ");
+                expression(c.bound());
+            } else if (constraint instanceof LessThan<?> c) {
+                builder.append("< ");
+                expression(c.bound());
+            } else if (constraint instanceof AtMost<?> c) {
+                builder.append("<= ");
+                expression(c.bound());
+            } else if (constraint instanceof Between<?> c) {
+                builder.append("BETWEEN ");
+                expression(c.lowerBound());
+                builder.append(" AND ");
+                expression(c.upperBound());
+            } else if (constraint instanceof NotBetween<?> c) {
+                builder.append("NOT BETWEEN ");
+                expression(c.lowerBound());
+                builder.append(" AND ");
+                expression(c.upperBound());
+            } else if (constraint instanceof ValueSet<?> set
+                    && (constraint instanceof In<?> || constraint instanceof NotIn<?>)) {
+                builder.append(constraint instanceof In<?> ? "IN (" : "NOT IN (");
+                for (int i = 0; i < set.size(); i++) {
+                    if (i > 0) {
+                        builder.append(", ");
+                    }
+                    builder.append('?').append(++parameters);
+                }
+                builder.append(')');
+            } else if (constraint instanceof In<?> c) {
+                builder.append("IN ");
+                expressions(c.expressions());
+            } else if (constraint instanceof NotIn<?> c) {
+                builder.append("NOT IN ");
+                expressions(c.expressions());
+            } else if (constraint instanceof Like c) {
+                builder.append("LIKE ");
+                like(c.pattern(), c.escape());
+            } else if (constraint instanceof NotLike c) {
+                builder.append("NOT LIKE ");
+                like(c.pattern(), c.escape());
+            } else {
+                throw new UnsupportedOperationException(Messages.get(
+                        "025.query.element.unsupported",
+                        "constraint",
+                        constraint.getClass().getName()));
+            }
+        }
+
+        private void expressions(@Nonnull List<? extends Expression<?, ?>> expressions) {
+            builder.append('(');
+            for (int i = 0; i < expressions.size(); i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                expression(expressions.get(i));
+            }
+            builder.append(')');
+        }
+
+        private void like(@Nonnull Expression<?, ?> pattern, char escape) {
+            expression(pattern);
+            builder.append(" ESCAPE '");
+            if (escape == '\'') {
+                builder.append('\'');
+            }
+            builder.append(escape).append('\'');
+        }
+
+        void order(@Nonnull Order<?> order) {
+            List<? extends Sort<?>> sorts = order.sorts();
+            for (int i = 0; i < sorts.size(); i++) {
+                Sort<?> sort = sorts.get(i);
+                if (sort.property() == null
+                        || sort.ignoreCase()
+                        || sort.nullOrdering() != Sort.Nulls.UNSPECIFIED) {
+                    throw new UnsupportedOperationException(Messages.get(
+                            "033.query.jdql.unsupported",
+                            "sort criterion",
+                            sort));
+                }
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(sort.property())
+                       .append(sort.isAscending() ? " ASC" : " DESC");
+            }
+        }
+
+        void rowValue(@Nonnull Order<?> order, boolean greater) {
+            List<? extends Sort<?>> sorts = order.sorts();
+            builder.append('(');
+            for (int i = 0; i < sorts.size(); i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                sortKey(sorts.get(i));
+            }
+            builder.append(greater ? ") > (" : ") < (");
+            for (int i = 0; i < sorts.size(); i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append('?').append(++parameters);
+            }
+            builder.append(')');
+        }
+
+        private void sortKey(@Nonnull Sort<?> sort) {
+            if (sort.ignoreCase()) {
+                builder.append("LOWER(");
+            }
+            String property = sort.property();
+            if (property == null) {
+                expression(sort.expression());
+            } else {
+                builder.append(property);
+            }
+            if (sort.ignoreCase()) {
+                builder.append(')');
+            }
+        }
+    }
+}
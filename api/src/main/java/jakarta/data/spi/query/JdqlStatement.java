@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import java.util.List;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.Sort;
+import jakarta.data.expression.Expression;
+import jakarta.data.messages.Messages;
+import jakarta.data.restrict.Restriction;
+
+/**
+ * <p>A statement of the Jakarta Data Query Language that is parsed by
+ * {@link JdqlParser}. A statement is a {@link Select}, {@link Update}, or
+ * {@link Delete} statement.</p>
+ *
+ * <p>Statements are immutable. Conditions of the {@code WHERE} clause are
+ * represented as a {@link Restriction}, and items of the {@code ORDER BY}
+ * clause as {@link Sort} instances. Entity attributes are represented by
+ * the attribute and path types of the static metamodel and
+ * {@code jakarta.data.spi.expression.path}, literal values by the types of
+ * {@code jakarta.data.spi.expression.literal}, functions and arithmetic
+ * operators by the types of {@code jakarta.data.spi.expression.function},
+ * and input parameters by {@link InputParameter}. Because the parser does
+ * not resolve the entity name to a class, the declaring type of each entity
+ * attribute is {@code Object}, and the type of the attribute is inferred
+ * from where it appears in the query.</p>
+ *
+ * @since 1.1
+ */
+public sealed interface JdqlStatement
+        permits JdqlStatement.Select, JdqlStatement.Update, JdqlStatement.Delete {
+
+    /**
+     * <p>Returns the name of the entity that is queried.</p>
+     *
+     * @return the entity name, or {@code null} if the statement is a
+     *         {@code SELECT} statement that omits the {@code FROM} clause.
+     */
+    @Nullable
+    String entityName();
+
+    /**
+     * <p>Returns the conditions of the {@code WHERE} clause.</p>
+     *
+     * @return the restriction, which is
+     *         {@link jakarta.data.restrict.Restrict#unrestricted()} if the
+     *         statement has no {@code WHERE} clause.
+     */
+    @Nonnull
+    Restriction<Object> where();
+
+    /**
+     * <p>A {@code SELECT} statement.</p>
+     *
+     * @param selections  the expressions of the {@code SELECT} clause, which
+     *                    is empty if the statement selects the entity or
+     *                    counts the results.
+     * @param count       whether the {@code SELECT} clause is
+     *                    {@code COUNT(THIS)}.
+     * @param entityName  the name of the entity of the {@code FROM} clause,
+     *                    or {@code null} if omitted.
+     * @param where       the conditions of the {@code WHERE} clause.
+     * @param orderBy     the items of the {@code ORDER BY} clause.
+     */
+    record Select(@Nonnull List<Expression<Object, ?>> selections,
+                  boolean count,
+                  @Nullable String entityName,
+                  @Nonnull Restriction<Object> where,
+                  @Nonnull List<Sort<Object>> orderBy)
+            implements JdqlStatement {
+
+        public Select {
+            Messages.requireNonNull(where, "where");
+            selections = List.copyOf(selections);
+            orderBy = List.copyOf(orderBy);
+        }
+    }
+
+    /**
+     * <p>An {@code UPDATE} statement.</p>
+     *
+     * @param entityName  the name of the entity.
+     * @param assignments the assignments of the {@code SET} clause.
+     * @param where       the conditions of the {@code WHERE} clause.
+     */
+    record Update(@Nonnull String entityName,
+                  @Nonnull List<Assignment> assignments,
+                  @Nonnull Restriction<Object> where)
+            implements JdqlStatement {
+
+        public Update {
+            Messages.requireNonNull(entityName, "entityName");
+            Messages.requireNonNull(where, "where");
+            assignments = List.copyOf(assignments);
+        }
+    }
+
+    /**
+     * <p>A {@code DELETE} statement.</p>
+     *
+     * @param entityName the name of the entity.
+     * @param where      the conditions of the {@code WHERE} clause.
+     */
+    record Delete(@Nonnull String entityName,
+                  @Nonnull Restriction<Object> where)
+            implements JdqlStatement {
+
+        public Delete {
+            Messages.requireNonNull(entityName, "entityName");
+            Messages.requireNonNull(where, "where");
+        }
+    }
+
+    /**
+     * <p>An assignment of the {@code SET} clause of an {@code UPDATE}
+     * statement.</p>
+     *
+     * @param attribute the entity attribute that is assigned.
+     * @param value     the value that is assigned, or {@code null} to assign
+     *                  a {@code null} value.
+     */
+    record Assignment(@Nonnull Expression<Object, ?> attribute,
+                      @Nullable Expression<Object, ?> value) {
+
+        public Assignment {
+            Messages.requireNonNull(attribute, "attribute");
+        }
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.annotation.Nonnull;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.expression.ComparableExpression;
+import jakarta.data.expression.TextExpression;
+import jakarta.data.messages.Messages;
+import jakarta.data.metamodel.ComparableAttribute;
+import jakarta.data.metamodel.TextAttribute;
+import jakarta.data.page.PageRequest;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+
+/**
+ * <p>The condition that matches the results after or before the key of a
+ * {@linkplain PageRequest.Cursor cursor} in the order of sort criteria, for
+ * use by Jakarta Data providers that implement cursor-based pagination by
+ * adding the condition to the query. The condition compares the sort keys
+ * of each result with the key of the cursor in order of precedence, such
+ * that a result matches if it is after the key for the first sort
+ * criterion, or equal for the first and after for the second, and so on.
+ * For example, for the sort criteria
+ * {@code Order.by(_Car.price.desc(), _Car.id.asc())}, the results after
+ * the key {@code (25000, 87)} are those that satisfy</p>
+ *
+ * <pre>{@code
+ * price <= 25000 AND (price < 25000 OR (price = 25000 AND id > 87))
+ * }</pre>
+ *
+ * <p>where the first comparison is implied by the remainder of the
+ * condition, but allows a data store to seek to the key in an index on the
+ * first sort key instead of scanning. The condition is a standard
+ * {@link Restriction}, which can be combined with the restriction of the
+ * query, for example,</p>
+ *
+ * <pre>{@code
+ * Keyset<Car> keyset = Keyset.of(Car.class, order, pageRequest);
+ * JdqlFragment fragment = JdqlRenderer.render(
+ *         Restrict.all(restriction, keyset.restriction()), order);
+ * }</pre>
+ *
+ * <p>Sort criteria that ignore case compare the keys in lower case. The
+ * condition matches {@code null} values according to the
+ * {@linkplain Sort#nullOrdering() null ordering} of each sort criterion.
+ * Where the null ordering is {@link Sort.Nulls#UNSPECIFIED UNSPECIFIED},
+ * the entity attributes are assumed to be non-null, as is usual for the
+ * unique key that cursor-based pagination requires, and a {@code null}
+ * value in the key of the cursor is ordered as if greater than all other
+ * values, which is consistent with
+ * {@link jakarta.data.spi.evaluation.Evaluator Evaluator}.</p>
+ *
+ * <p>Data stores that can compare row values, such as many relational
+ * databases, can match the same results with a single comparison, for
+ * example {@code (price, id) > (?1, ?2)}, which is obtained from
+ * {@link #rowValue(int)}. The row value form is available when all sort
+ * criteria have the same direction and the condition does not involve
+ * {@code null} values, as indicated by {@link #isRowValueComparable()}.</p>
+ *
+ * @param <T> entity type.
+ * @since 1.1
+ */
+public final class Keyset<T> {
+
+    @Nonnull
+    private final Order<T> order;
+
+    @Nonnull
+    private final Restriction<T> restriction;
+
+    /**
+     * The key of the cursor, in lower case where sort criteria ignore case.
+     */
+    @Nonnull
+    private final Object[] key;
+
+    /**
+     * Whether the row value of the sort keys is greater than, rather than
+     * less than, that of the key.
+     */
+    private final boolean greater;
+
+    private final boolean rowValueComparable;
+
+    @SuppressWarnings("unchecked")
+    private Keyset(@Nonnull Class<T> entityClass,
+                   @Nonnull Order<T> order,
+                   @Nonnull PageRequest.Cursor cursor,
+                   boolean before) {
+        List<Sort<? super T>> sorts = order.sorts();
+        if (cursor.size() != sorts.size()) {
+            throw new IllegalArgumentException(Messages.get(
+                    "030.cursor.size.mismatch", cursor.size(), sorts.size()));
+        }
+
+        this.order = order;
+        this.key = new Object[sorts.size()];
+        this.greater = sorts.get(0).isAscending() != before;
+
+        // built from the last sort criterion to the first, where null
+        // stands for a condition that nothing satisfies
+        Restriction<T> condition = null;
+        boolean comparable = true;
+        for (int i = key.length - 1; i >= 0; i--) {
+            Sort<? super T> sort = sorts.get(i);
+            ComparableExpression<T, Comparable<Object>> expression =
+                    expressionOf(entityClass, (Sort<T>) sort);
+            boolean ascending = sort.isAscending() != before;
+            boolean nullsAfter = switch (sort.nullOrdering()) {
+                case FIRST -> before;
+                case LAST -> !before;
+                default -> ascending;
+            };
+
+            Object value = cursor.get(i);
+            if (sort.ignoreCase() && value instanceof CharSequence text) {
+                value = text.toString().toLowerCase(Locale.ROOT);
+            }
+            key[i] = value;
+
+            Restriction<T> after;
+            Restriction<T> equal;
+            boolean seekable = false;
+            if (value == null) {
+                after = nullsAfter ? null : expression.notNull();
+                equal = expression.isNull();
+                comparable = false;
+            } else {
+                Comparable<Object> bound = (Comparable<Object>) value;
+                after = ascending
+                        ? expression.greaterThan(bound)
+                        : expression.lessThan(bound);
+                equal = expression.equalTo(bound);
+                if (nullsAfter && sort.nullOrdering() != Sort.Nulls.UNSPECIFIED) {
+                    after = Restrict.any(after, expression.isNull());
+                    comparable = false;
+                } else {
+                    seekable = condition != null;
+                }
+            }
+            comparable &= ascending == greater;
+
+            if (condition == null) {
+                condition = after;
+            } else if (after == null) {
+                condition = Restrict.all(equal, condition);
+            } else {
+                condition = Restrict.any(after, Restrict.all(equal, condition));
+            }
+
+            if (i == 0 && seekable) {
+                Comparable<Object> bound = (Comparable<Object>) value;
+                condition = Restrict.all(ascending
+                                         ? expression.greaterThanEqual(bound)
+                                         : expression.lessThanEqual(bound),
+                                         condition);
+            }
+        }
+
+        this.restriction = condition == null
+                ? Restrict.<T>unrestricted().negate()
+                : condition;
+        this.rowValueComparable = comparable;
+    }
+
+    /**
+     * <p>Obtains the condition that matches the results of a page request
+     * that is relative to a cursor, which are the results after the key of
+     * the cursor for {@link PageRequest.Mode#CURSOR_NEXT CURSOR_NEXT} and
+     * the results before it for
+     * {@link PageRequest.Mode#CURSOR_PREVIOUS CURSOR_PREVIOUS}.</p>
+     *
+     * @param <T>         entity type.
+     * @param entityClass the entity class, which declares the entity
+     *                    attributes of sort criteria that are specified by
+     *                    name. Must not be {@code null}.
+     * @param order       the sort criteria of the query. Must not be
+     *                    {@code null}.
+     * @param pageRequest the page request. Must not be {@code null}.
+     * @return the condition.
+     * @throws NullPointerException if a required argument is {@code null}.
+     * @throws IllegalArgumentException if the page request is not relative
+     *         to a cursor, or if the number of sort criteria differs from
+     *         the number of values in the key of the cursor.
+     */
+    @Nonnull
+    public static <T> Keyset<T> of(@Nonnull Class<T> entityClass,
+                                   @Nonnull Order<T> order,
+                                   @Nonnull PageRequest pageRequest) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(pageRequest, "pageRequest");
+
+        PageRequest.Cursor cursor = pageRequest.cursor().orElse(null);
+        if (cursor == null) {
+            throw new IllegalArgumentException(Messages.get(
+                    "031.cursor.required", pageRequest.mode()));
+        }
+        return new Keyset<>(entityClass, order, cursor,
+                            pageRequest.mode() == PageRequest.Mode.CURSOR_PREVIOUS);
+    }
+
+    /**
+     * <p>Obtains the condition that matches the results after the key of a
+     * cursor.</p>
+     *
+     * @param <T>         entity type.
+     * @param entityClass the entity class, which declares the entity
+     *                    attributes of sort criteria that are specified by
+     *                    name. Must not be {@code null}.
+     * @param order       the sort criteria of the query. Must not be
+     *                    {@code null}.
+     * @param cursor      the cursor. Must not be {@code null}.
+     * @return the condition.
+     * @throws NullPointerException if a required argument is {@code null}.
+     * @throws IllegalArgumentException if the number of sort criteria
+     *         differs from the number of values in the key of the cursor.
+     */
+    @Nonnull
+    public static <T> Keyset<T> after(@Nonnull Class<T> entityClass,
+                                      @Nonnull Order<T> order,
+                                      @Nonnull PageRequest.Cursor cursor) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(cursor, "cursor");
+
+        return new Keyset<>(entityClass, order, cursor, false);
+    }
+
+    /**
+     * <p>Obtains the condition that matches the results before the key of
+     * a cursor.</p>
+     *
+     * @param <T>         entity type.
+     * @param entityClass the entity class, which declares the entity
+     *                    attributes of sort criteria that are specified by
+     *                    name. Must not be {@code null}.
+     * @param order       the sort criteria of the query. Must not be
+     *                    {@code null}.
+     * @param cursor      the cursor. Must not be {@code null}.
+     * @return the condition.
+     * @throws NullPointerException if a required argument is {@code null}.
+     * @throws IllegalArgumentException if the number of sort criteria
+     *         differs from the number of values in the key of the cursor.
+     */
+    @Nonnull
+    public static <T> Keyset<T> before(@Nonnull Class<T> entityClass,
+                                       @Nonnull Order<T> order,
+                                       @Nonnull PageRequest.Cursor cursor) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(cursor, "cursor");
+
+        return new Keyset<>(entityClass, order, cursor, true);
+    }
+
+    /**
+     * <p>Returns the condition as a restriction, which compares each sort
+     * key separately and can be evaluated by any data store.</p>
+     *
+     * @return the restriction.
+     */
+    @Nonnull
+    public Restriction<T> restriction() {
+        return restriction;
+    }
+
+    /**
+     * <p>Returns the sort criteria from which the condition was obtained.</p>
+     *
+     * @return the sort criteria.
+     */
+    @Nonnull
+    public Order<T> order() {
+        return order;
+    }
+
+    /**
+     * <p>Indicates whether the condition can be expressed as a single
+     * comparison of row values, which is the case when all sort criteria
+     * have the same direction, none of the values in the key of the cursor
+     * are {@code null}, and no sort criterion orders {@code null} values
+     * after the key.</p>
+     *
+     * @return whether {@link #rowValue(int)} is available.
+     */
+    public boolean isRowValueComparable() {
+        return rowValueComparable;
+    }
+
+    /**
+     * <p>Renders the condition as a comparison of row values, such as
+     * {@code (price, LOWER(make), id) > (?3, ?4, ?5)}, in which the sort
+     * keys are rendered as by {@link JdqlRenderer}. Positional parameters
+     * are numbered after the parameters of the remainder of the query, and
+     * their values are obtained from {@link #rowValueParameters()}.</p>
+     *
+     * @param parameterOffset number of positional parameters that precede
+     *                        those of the comparison in the query.
+     * @return the comparison.
+     * @throws IllegalArgumentException if the parameter offset is negative.
+     * @throws IllegalStateException if the condition cannot be expressed as
+     *         a comparison of row values.
+     * @throws UnsupportedOperationException if a sort criterion includes an
+     *         expression of a type that is not defined by this API.
+     */
+    @Nonnull
+    public String rowValue(int parameterOffset) {
+        if (parameterOffset < 0) {
+            throw new IllegalArgumentException(
+                    Messages.get("004.arg.negative", "parameterOffset"));
+        }
+        if (!rowValueComparable) {
+            throw new IllegalStateException(
+                    Messages.get("032.row.value.incomparable"));
+        }
+        return JdqlRenderer.rowValue(order, greater, parameterOffset);
+    }
+
+    /**
+     * <p>Returns the values of the positional parameters of
+     * {@link #rowValue(int)}, which are the literal values within the sort
+     * criteria followed by the key of the cursor, in lower case where sort
+     * criteria ignore case.</p>
+     *
+     * @return a new array of the parameter values.
+     */
+    @Nonnull
+    public Object[] rowValueParameters() {
+        Object[] literals = QueryShape.of(null, order, null).parameters();
+        Object[] parameters = new Object[literals.length + key.length];
+        System.arraycopy(literals, 0, parameters, 0, literals.length);
+        System.arraycopy(key, 0, parameters, literals.length, key.length);
+        return parameters;
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return restriction.toString();
+    }
+
+    /**
+     * Obtains the expression that computes the sort key of a sort criterion,
+     * in lower case if the sort criterion ignores case.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Nonnull
+    private static <T> ComparableExpression<T, Comparable<Object>> expressionOf(
+            @Nonnull Class<T> entityClass,
+            @Nonnull Sort<T> sort) {
+        ComparableExpression expression = sort.expression();
+        if (expression == null) {
+            expression = sort.ignoreCase()
+                    ? TextAttribute.of(entityClass, sort.property())
+                    : ComparableAttribute.of(entityClass, sort.property(), (Class) Comparable.class);
+        }
+        if (sort.ignoreCase() && expression instanceof TextExpression text) {
+            expression = text.lower();
+        }
+        return expression;
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.messages.Messages;
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import jakarta.data.restrict.Restriction;
+
+/**
+ * <p>A pagination strategy for Jakarta Data providers that runs requests
+ * for offset-based pages as cursor-based queries when the application
+ * requests the pages in sequence, such as by following
+ * {@link Page#nextPageRequest()}, so that each page costs the same to
+ * obtain regardless of how many pages precede it. The application
+ * continues to request pages by page number, and the provider continues
+ * to return pages of offset-based pagination.</p>
+ *
+ * <p>After obtaining each page, the provider supplies the page to
+ * {@link #served served}, which retains the page number and size of the
+ * page and the key of its last result, computed from the sort criteria of
+ * the query, in place of those of the page that was previously served for
+ * the query. When the provider receives a request for exactly the page
+ * that follows the most recently served page, with the same size,
+ * {@link #promote promote} returns an equivalent request that is relative
+ * to a cursor with that key, from which a {@link Keyset} condition is
+ * obtained. Requests for other pages, for example after the application
+ * jumps ahead or back, repeats a request, or starts again from the first
+ * page, are not promoted and continue to be run with an offset. For
+ * example,</p>
+ *
+ * <pre>{@code
+ * Optional<PageRequest> promoted = promotion.promote(Car.class, restriction, order, pageRequest);
+ * List<Car> results = promoted.isPresent()
+ *         ? query(Restrict.all(restriction,
+ *                              Keyset.of(Car.class, order, promoted.get()).restriction()),
+ *                 order, Limit.of(pageRequest.size()))
+ *         : query(restriction, order, Limit.range(first, last));
+ * Page<Car> page = new PageRecord<>(pageRequest, results, -1);
+ * promotion.served(Car.class, restriction, order, page, evaluator.keyExtractor(order));
+ * }</pre>
+ *
+ * <p>When the data changes between requests, a promoted request continues
+ * from the last result of the preceding page, without the results being
+ * missed or repeated as they can be with an offset.</p>
+ *
+ * <p>A cursor identifies a single position in the results only when no two
+ * results have the same values for the sort keys. Otherwise, results that
+ * have the same sort key values as the last result of the preceding page
+ * would be missed. Requests are therefore promoted only when the last sort
+ * criterion of the query is a case-sensitive sort on an entity attribute
+ * that the provider declares to be unique, such as the
+ * {@code Order.by(_Car.price.asc(), _Car.id.asc())} sort criteria when the
+ * {@code id} attribute is unique.</p>
+ *
+ * <p>Instances are thread-safe.</p>
+ *
+ * @since 1.1
+ */
+public final class OffsetPromotion {
+
+    private final int maxQueries;
+
+    /**
+     * Determines whether the attribute with a name is unique among the
+     * entities of an entity class.
+     */
+    private final BiPredicate<Class<?>, String> uniqueAttributes;
+
+    /**
+     * The most recently served page of each query.
+     */
+    private final ConcurrentMap<CursorIndex.Key, Served> queries =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Counter from which queries obtain the time at which they were last
+     * used, for eviction.
+     */
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * The page number and size of a page, and the cursor of its last
+     * result.
+     */
+    private static final class Served {
+        final long pageNumber;
+
+        final int size;
+
+        @Nonnull
+        final PageRequest.Cursor cursor;
+
+        volatile long used;
+
+        Served(long pageNumber, int size, @Nonnull PageRequest.Cursor cursor) {
+            this.pageNumber = pageNumber;
+            this.size = size;
+            this.cursor = cursor;
+        }
+    }
+
+    private OffsetPromotion(int maxQueries,
+                            BiPredicate<Class<?>, String> uniqueAttributes) {
+        this.maxQueries = maxQueries;
+        this.uniqueAttributes = uniqueAttributes;
+    }
+
+    /**
+     * <p>Creates a strategy that retains the keys of pages for a bounded
+     * number of queries.</p>
+     *
+     * @param maxQueries       the number of queries for which keys are
+     *                         retained, after which the least recently used
+     *                         query is forgotten. Must be positive.
+     * @param uniqueAttributes determines whether the entity attribute with
+     *                         the specified name is unique among the
+     *                         entities of the specified entity class, such
+     *                         as the {@code Id} attribute. Requests are
+     *                         promoted only for queries with sort criteria
+     *                         that end with a unique attribute. Must not be
+     *                         {@code null}.
+     * @return the strategy.
+     * @throws IllegalArgumentException if the number of queries is not
+     *         positive.
+     * @throws NullPointerException if the predicate is {@code null}.
+     */
+    @Nonnull
+    public static OffsetPromotion of(int maxQueries,
+                                     @Nonnull BiPredicate<Class<?>, String> uniqueAttributes) {
+        if (maxQueries < 1) {
+            throw new IllegalArgumentException(
+                    Messages.get("013.arg.invalid", "maxQueries", maxQueries));
+        }
+        Messages.requireNonNull(uniqueAttributes, "uniqueAttributes");
+
+        return new OffsetPromotion(maxQueries, uniqueAttributes);
+    }
+
+    /**
+     * <p>Obtains a request that is relative to the cursor of the last result
+     * of the preceding page, with the same page number, size, and total
+     * retrieval as the requested page, if the preceding page is the page
+     * that was most recently {@linkplain #served served} for the same query,
+     * with the same page size, and the sort criteria of the query end with
+     * a unique attribute.</p>
+     *
+     * @param entityClass the entity class of the query. Must not be
+     *                    {@code null}.
+     * @param restriction the restriction of the query, or {@code null} if
+     *                    unrestricted.
+     * @param order       the sort criteria of the query. Must not be
+     *                    {@code null}.
+     * @param pageRequest the requested page. Must not be {@code null}.
+     * @return the request in {@link PageRequest.Mode#CURSOR_NEXT CURSOR_NEXT}
+     *         mode, or an empty {@code Optional} if the request is for the
+     *         first page, is already relative to a cursor, does not
+     *         immediately follow the page that was most recently served, or
+     *         the sort criteria do not end with a unique attribute.
+     * @throws NullPointerException if a required argument is {@code null}.
+     * @throws UnsupportedOperationException if the restriction or sort
+     *         criteria include a restriction, expression, or constraint of a
+     *         type that is not defined by this API.
+     */
+    @Nonnull
+    public Optional<PageRequest> promote(@Nonnull Class<?> entityClass,
+                                         @Nullable Restriction<?> restriction,
+                                         @Nonnull Order<?> order,
+                                         @Nonnull PageRequest pageRequest) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(pageRequest, "pageRequest");
+
+        if (pageRequest.pageNumber() == 1
+                || pageRequest.mode() != PageRequest.Mode.OFFSET
+                || !isUnique(entityClass, order)) {
+            return Optional.empty();
+        }
+
+        Served last = queries.get(CursorIndex.Key.of(entityClass, restriction, order));
+        if (last == null
+                || last.pageNumber != pageRequest.pageNumber() - 1
+                || last.size != pageRequest.size()) {
+            return Optional.empty();
+        }
+        last.used = clock.incrementAndGet();
+
+        return Optional.of(pageRequest.afterCursor(last.cursor));
+    }
+
+    /**
+     * <p>Retains the key of the last result of a page that was obtained for
+     * an offset-based request or a promoted request, in place of any page
+     * that was previously served for the query, such that a request for the
+     * page that follows can be {@linkplain #promote promoted}. A page
+     * without results, or of a query with sort criteria that do not end
+     * with a unique attribute, is ignored.</p>
+     *
+     * @param <T>          entity type.
+     * @param entityClass  the entity class of the query. Must not be
+     *                     {@code null}.
+     * @param restriction  the restriction of the query, or {@code null} if
+     *                     unrestricted.
+     * @param order        the sort criteria of the query. Must not be
+     *                     {@code null}.
+     * @param page         the page, with the page request that the
+     *                     application made. Must not be {@code null}.
+     * @param keyExtractor function that obtains the values of the sort keys
+     *                     of a result, such as
+     *                     {@link jakarta.data.spi.evaluation.Evaluator#keyExtractor
+     *                     Evaluator.keyExtractor}. Must not be {@code null}.
+     * @throws NullPointerException if a required argument is {@code null}.
+     * @throws UnsupportedOperationException if the restriction or sort
+     *         criteria include a restriction, expression, or constraint of a
+     *         type that is not defined by this API.
+     */
+    public <T> void served(@Nonnull Class<?> entityClass,
+                           @Nullable Restriction<?> restriction,
+                           @Nonnull Order<?> order,
+                           @Nonnull Page<T> page,
+                           @Nonnull Function<? super T, Object[]> keyExtractor) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(order, "order");
+        Messages.requireNonNull(page, "page");
+        Messages.requireNonNull(keyExtractor, "keyExtractor");
+
+        List<T> content = page.content();
+        if (content.isEmpty() || !isUnique(entityClass, order)) {
+            return;
+        }
+
+        PageRequest pageRequest = page.pageRequest();
+        Served served = new Served(pageRequest.pageNumber(), pageRequest.size(),
+                PageRequest.Cursor.forKey(keyExtractor.apply(content.get(content.size() - 1))));
+        served.used = clock.incrementAndGet();
+
+        CursorIndex.Key key = CursorIndex.Key.of(entityClass, restriction, order);
+        if (!queries.containsKey(key) && queries.size() >= maxQueries) {
+            CursorIndex.evict(queries, q -> q.used);
+        }
+        queries.put(key, served);
+    }
+
+    /**
+     * <p>Forgets the page that was served for the query with the specified
+     * restriction and sort criteria, such that the next request is run with
+     * an offset.</p>
+     *
+     * @param entityClass the entity class of the query. Must not be
+     *                    {@code null}.
+     * @param restriction the restriction of the query, or {@code null} if
+     *                    unrestricted.
+     * @param order       the sort criteria of the query. Must not be
+     *                    {@code null}.
+     * @throws NullPointerException if the entity class or order is
+     *         {@code null}.
+     */
+    public void invalidate(@Nonnull Class<?> entityClass,
+                           @Nullable Restriction<?> restriction,
+                           @Nonnull Order<?> order) {
+        Messages.requireNonNull(entityClass, "entityClass");
+        Messages.requireNonNull(order, "order");
+
+        queries.remove(CursorIndex.Key.of(entityClass, restriction, order));
+    }
+
+    /**
+     * Determines whether the last sort criterion is a case-sensitive sort on
+     * a unique attribute, such that no two results have the same sort keys.
+     */
+    private boolean isUnique(Class<?> entityClass, Order<?> order) {
+        List<? extends Sort<?>> sorts = order.sorts();
+        if (sorts.isEmpty()) {
+            return false;
+        }
+        Sort<?> last = sorts.get(sorts.size() - 1);
+        return last.property() != null
+                && !last.ignoreCase()
+                && uniqueAttributes.test(entityClass, last.property());
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return "OffsetPromotion@" + Integer.toHexString(hashCode()) +
+                " for " + queries.size() + '/' + maxQueries + " queries";
+    }
+}
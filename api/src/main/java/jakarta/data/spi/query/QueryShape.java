@@ -0,0 +1,601 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.constraint.AtLeast;
+import jakarta.data.constraint.AtMost;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.Constraint;
+import jakarta.data.constraint.EqualTo;
+import jakarta.data.constraint.GreaterThan;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.LessThan;
+import jakarta.data.constraint.Like;
+import jakarta.data.constraint.NotBetween;
+import jakarta.data.constraint.NotEqualTo;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.constraint.NotLike;
+import jakarta.data.constraint.NotNull;
+import jakarta.data.constraint.Null;
+import jakarta.data.constraint.ValueSet;
+import jakarta.data.expression.Expression;
+import jakarta.data.expression.NavigableExpression;
+import jakarta.data.messages.Messages;
+import jakarta.data.metamodel.Attribute;
+import jakarta.data.page.PageRequest;
+import jakarta.data.restrict.BasicRestriction;
+import jakarta.data.restrict.CompositeRestriction;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.spi.expression.function.CurrentDate;
+import jakarta.data.spi.expression.function.CurrentDateTime;
+import jakarta.data.spi.expression.function.CurrentTime;
+import jakarta.data.spi.expression.function.FunctionExpression;
+import jakarta.data.spi.expression.function.NumericCast;
+import jakarta.data.spi.expression.function.NumericOperatorExpression;
+import jakarta.data.spi.expression.function.TextFunctionExpression;
+import jakarta.data.spi.expression.literal.Literal;
+import jakarta.data.spi.expression.path.Path;
+
+/**
+ * <p>The shape of a query, which consists of a {@link Restriction},
+ * {@link Order}, and {@link PageRequest} with the literal values removed,
+ * for use by Jakarta Data providers that cache the translation of dynamic
+ * queries.</p>
+ *
+ * <p>The shape is identified by a 128-bit fingerprint of the entity
+ * attributes and the entity classes that declare them, functions,
+ * operators, constraints, and sort criteria that make up the query, along
+ * with the type of each literal value. The literal values themselves are
+ * excluded from the fingerprint and are instead available, in the order in
+ * which they are encountered, as the {@linkplain #parameters() parameters}
+ * of the shape. Two query shapes are equal if they have the same structure,
+ * regardless of their parameters, such that a query shape can be used as
+ * the key of a cache of translated queries. The fingerprint is compared
+ * first, and the structure is compared only if the fingerprints match. For
+ * example,</p>
+ *
+ * <pre>{@code
+ * QueryShape shape = QueryShape.of(restriction, order, pageRequest);
+ * TranslatedQuery query = cache.computeIfAbsent(shape, this::translate);
+ * query.execute(shape.parameters());
+ * }</pre>
+ *
+ * <p>The following are part of the shape rather than parameters: the
+ * number of values of an {@link In} or {@link NotIn} constraint, the escape
+ * character of a {@link Like} or {@link NotLike} constraint, the length
+ * argument of the {@code LEFT} and {@code RIGHT} functions, and the mode,
+ * size, and whether to request a total of a page request. The page number of
+ * an offset-based page request is a parameter, as are the elements of the key
+ * of the cursor of a cursor-based page request.</p>
+ *
+ * <p>Computing a query shape walks the restriction, order, and page request
+ * without building any text and allocates little beyond the array of
+ * parameters and an array of the elements of the structure.</p>
+ *
+ * @since 1.1
+ */
+public final class QueryShape {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private static final int NONE = 0;
+    private static final int BASIC = 1;
+    private static final int COMPOSITE = 2;
+    private static final int LITERAL = 3;
+    private static final int ATTRIBUTE = 4;
+    private static final int PATH = 5;
+    private static final int OPERATOR = 6;
+    private static final int CAST = 7;
+    private static final int FUNCTION = 8;
+    private static final int CURRENT_DATE = 9;
+    private static final int CURRENT_DATE_TIME = 10;
+    private static final int CURRENT_TIME = 11;
+    private static final int NULL = 12;
+    private static final int NOT_NULL = 13;
+    private static final int EQUAL_TO = 14;
+    private static final int NOT_EQUAL_TO = 15;
+    private static final int GREATER_THAN = 16;
+    private static final int AT_LEAST = 17;
+    private static final int LESS_THAN = 18;
+    private static final int AT_MOST = 19;
+    private static final int BETWEEN = 20;
+    private static final int NOT_BETWEEN = 21;
+    private static final int IN = 22;
+    private static final int NOT_IN = 23;
+    private static final int LIKE = 24;
+    private static final int NOT_LIKE = 25;
+    private static final int ORDER = 26;
+    private static final int SORT_PROPERTY = 27;
+    private static final int SORT_EXPRESSION = 28;
+    private static final int PAGE_REQUEST = 29;
+
+    private static final Object[] NO_PARAMETERS = {};
+
+    private final long mostSignificantBits;
+
+    private final long leastSignificantBits;
+
+    /**
+     * The values from which the fingerprint is computed, which identify the
+     * structure of the query.
+     */
+    @Nonnull
+    private final long[] structure;
+
+    private final int structureLength;
+
+    @Nonnull
+    private final Object[] parameters;
+
+    private final int parameterCount;
+
+    private QueryShape(long mostSignificantBits,
+                       long leastSignificantBits,
+                       @Nonnull long[] structure,
+                       int structureLength,
+                       @Nonnull Object[] parameters,
+                       int parameterCount) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+        this.structure = structure;
+        this.structureLength = structureLength;
+        this.parameters = parameters;
+        this.parameterCount = parameterCount;
+    }
+
+    /**
+     * <p>Computes the shape of a restriction.</p>
+     *
+     * @param restriction the restriction. Must not be {@code null}.
+     * @return the shape of the restriction.
+     * @throws NullPointerException if the restriction is {@code null}.
+     * @throws UnsupportedOperationException if the restriction includes a
+     *         restriction, expression, or constraint of a type that is not
+     *         defined by this API.
+     */
+    @Nonnull
+    public static QueryShape of(@Nonnull Restriction<?> restriction) {
+        Messages.requireNonNull(restriction, "restriction");
+
+        return of(restriction, null, null);
+    }
+
+    /**
+     * <p>Computes the shape of a query that is made up of any combination
+     * of a restriction, sort criteria, and a page request.</p>
+     *
+     * @param restriction the restriction, or {@code null} if unrestricted.
+     * @param order       the sort criteria, or {@code null} if unsorted.
+     * @param pageRequest the page request, or {@code null} if unpaginated.
+     * @return the shape of the query.
+     * @throws UnsupportedOperationException if the restriction or sort
+     *         criteria include a restriction, expression, or constraint of a
+     *         type that is not defined by this API.
+     */
+    @Nonnull
+    public static QueryShape of(@Nullable Restriction<?> restriction,
+                                @Nullable Order<?> order,
+                                @Nullable PageRequest pageRequest) {
+        Hasher hasher = new Hasher();
+        if (restriction == null) {
+            hasher.mix(NONE);
+        } else {
+            hasher.restriction(restriction);
+        }
+        if (order == null) {
+            hasher.mix(NONE);
+        } else {
+            hasher.order(order);
+        }
+        if (pageRequest == null) {
+            hasher.mix(NONE);
+        } else {
+            hasher.pageRequest(pageRequest);
+        }
+        return hasher.finish();
+    }
+
+    /**
+     * <p>Returns the most significant 64 bits of the fingerprint.</p>
+     *
+     * @return the most significant 64 bits of the fingerprint.
+     */
+    public long mostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    /**
+     * <p>Returns the least significant 64 bits of the fingerprint.</p>
+     *
+     * @return the least significant 64 bits of the fingerprint.
+     */
+    public long leastSignificantBits() {
+        return leastSignificantBits;
+    }
+
+    /**
+     * <p>Returns the number of parameters.</p>
+     *
+     * @return the number of parameters.
+     */
+    public int parameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * <p>Returns the parameter at the given position, starting from
+     * {@code 0}.</p>
+     *
+     * @param index position of the parameter.
+     * @return the parameter, which can be {@code null} only if it is an
+     *         element of the key of a cursor.
+     * @throws IndexOutOfBoundsException if the index is negative or not
+     *         less than the number of parameters.
+     */
+    @Nullable
+    public Object parameter(int index) {
+        Objects.checkIndex(index, parameterCount);
+        return parameters[index];
+    }
+
+    /**
+     * <p>Returns the literal values of the query, in the order in which they
+     * are encountered.</p>
+     *
+     * @return a new array of the parameters.
+     */
+    @Nonnull
+    public Object[] parameters() {
+        return parameterCount == 0
+                ? NO_PARAMETERS
+                : Arrays.copyOf(parameters, parameterCount);
+    }
+
+    /**
+     * <p>Query shapes are equal if they have the same structure, regardless
+     * of their parameters.</p>
+     */
+    @Override
+    public boolean equals(@Nullable Object other) {
+        return this == other
+                || other instanceof QueryShape s
+                && mostSignificantBits == s.mostSignificantBits
+                && leastSignificantBits == s.leastSignificantBits
+                && Arrays.equals(structure, 0, structureLength,
+                                 s.structure, 0, s.structureLength);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (leastSignificantBits ^ leastSignificantBits >>> 32);
+    }
+
+    /**
+     * <p>Returns the fingerprint as 32 hexadecimal digits, followed by the
+     * number of parameters.</p>
+     */
+    @Override
+    @Nonnull
+    public String toString() {
+        String hex = Long.toHexString(mostSignificantBits);
+        String hex2 = Long.toHexString(leastSignificantBits);
+        return "0".repeat(16 - hex.length()) + hex
+                + "0".repeat(16 - hex2.length()) + hex2
+                + " (" + parameterCount + " parameters)";
+    }
+
+    /**
+     * Determines whether an argument of a function is the length argument of
+     * {@code LEFT} or {@code RIGHT}, which is part of the shape because the
+     * query language requires it to be an integer literal.
+     */
+    static boolean isLength(@Nonnull FunctionExpression<?, ?> fn, int index) {
+        return index == 1
+                && (TextFunctionExpression.LEFT.equals(fn.name())
+                        || TextFunctionExpression.RIGHT.equals(fn.name()))
+                && fn.arguments().get(index) instanceof Literal<?>;
+    }
+
+    /**
+     * Walks a query, accumulating a 128-bit hash of its shape and collecting
+     * its parameters.
+     */
+    private static final class Hasher {
+        private long h1 = C2;
+
+        private long h2 = C1;
+
+        @Nonnull
+        private long[] structure = new long[32];
+
+        private int length;
+
+        @Nonnull
+        private Object[] parameters = NO_PARAMETERS;
+
+        private int count;
+
+        void mix(long value) {
+            h1 = Long.rotateLeft(h1 ^ value * C1, 31) * C2 + h2;
+            h2 = Long.rotateLeft(h2 ^ value * C2, 33) * C1 + h1;
+            if (length == structure.length) {
+                structure = Arrays.copyOf(structure, length * 2);
+            }
+            structure[length++] = value;
+        }
+
+        void mix(@Nonnull String value) {
+            int len = value.length();
+            mix(len);
+            int i = 0;
+            for (; i + 4 <= len; i += 4) {
+                mix((long) value.charAt(i)
+                        | (long) value.charAt(i + 1) << 16
+                        | (long) value.charAt(i + 2) << 32
+                        | (long) value.charAt(i + 3) << 48);
+            }
+            long last = 0L;
+            for (int shift = 0; i < len; i++, shift += 16) {
+                last |= (long) value.charAt(i) << shift;
+            }
+            mix(last);
+        }
+
+        void parameter(@Nullable Object value) {
+            if (count == parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(8, count * 2));
+            }
+            parameters[count++] = value;
+        }
+
+        @Nonnull
+        QueryShape finish() {
+            long a = h1 ^ length;
+            long b = h2 ^ length;
+            a += b;
+            b += a;
+            a = fmix(a);
+            b = fmix(b);
+            a += b;
+            b += a;
+            return new QueryShape(a, b, structure, length, parameters, count);
+        }
+
+        private static long fmix(long k) {
+            long h = k;
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+
+        void restriction(@Nonnull Restriction<?> restriction) {
+            if (restriction instanceof BasicRestriction<?, ?> basic) {
+                mix(BASIC);
+                expression(basic.expression());
+                constraint(basic.constraint());
+            } else if (restriction instanceof CompositeRestriction<?> composite) {
+                List<? extends Restriction<?>> list = composite.restrictions();
+                mix(COMPOSITE);
+                mix(composite.type().ordinal());
+                mix(composite.isNegated() ? 1 : 0);
+                mix(list.size());
+                for (Restriction<?> r : list) {
+                    restriction(r);
+                }
+            } else {
+                throw unsupported("restriction", restriction);
+            }
+        }
+
+        void expression(@Nonnull Expression<?, ?> expression) {
+            if (expression instanceof Literal<?> literal) {
+                Object value = literal.value();
+                mix(LITERAL);
+                mix(value.getClass().getName());
+                parameter(value);
+            } else if (expression instanceof Attribute<?> attribute) {
+                attribute(attribute);
+            } else if (expression instanceof Path<?, ?> path) {
+                path(path);
+            } else if (expression instanceof NumericOperatorExpression<?, ?> op) {
+                mix(OPERATOR);
+                mix(op.operator().ordinal());
+                expression(op.left());
+                expression(op.right());
+            } else if (expression instanceof NumericCast<?, ?> cast) {
+                mix(CAST);
+                mix(cast.type().getName());
+                expression(cast.expression());
+            } else if (expression instanceof FunctionExpression<?, ?> fn) {
+                List<? extends Expression<?, ?>> arguments = fn.arguments();
+                mix(FUNCTION);
+                mix(fn.name());
+                mix(arguments.size());
+                for (int i = 0; i < arguments.size(); i++) {
+                    if (isLength(fn, i)) {
+                        mix(LITERAL);
+                        mix(((Number) ((Literal<?>) arguments.get(i)).value()).longValue());
+                    } else {
+                        expression(arguments.get(i));
+                    }
+                }
+            } else if (expression instanceof CurrentDate<?>) {
+                mix(CURRENT_DATE);
+            } else if (expression instanceof CurrentDateTime<?>) {
+                mix(CURRENT_DATE_TIME);
+            } else if (expression instanceof CurrentTime<?>) {
+                mix(CURRENT_TIME);
+            } else {
+                throw unsupported("expression", expression);
+            }
+        }
+
+        private void path(@Nonnull Path<?, ?> path) {
+            NavigableExpression<?, ?> navigable = path.expression();
+            mix(PATH);
+            if (navigable instanceof Attribute<?> attribute) {
+                attribute(attribute);
+            } else if (navigable instanceof Path<?, ?> p) {
+                path(p);
+            } else {
+                throw unsupported("expression", navigable);
+            }
+            mix(path.attribute().name());
+        }
+
+        /**
+         * Mixes in an entity attribute and the entity class that declares it,
+         * or, if the declaring class is not known, the class of the
+         * attribute.
+         */
+        private void attribute(@Nonnull Attribute<?> attribute) {
+            Class<?> declaringType;
+            try {
+                declaringType = attribute.declaringType();
+            } catch (UnsupportedOperationException x) {
+                declaringType = attribute.getClass();
+            }
+            mix(ATTRIBUTE);
+            mix(declaringType.getName());
+            mix(attribute.name());
+        }
+
+        void constraint(@Nonnull Constraint<?> constraint) {
+            if (constraint instanceof Null<?>) {
+                mix(NULL);
+            } else if (constraint instanceof NotNull<?>) {
+                mix(NOT_NULL);
+            } else if (constraint instanceof EqualTo<?> c) {
+                mix(EQUAL_TO);
+                expression(c.expression());
+            } else if (constraint instanceof NotEqualTo<?> c) {
+                mix(NOT_EQUAL_TO);
+                expression(c.expression());
+            } else if (constraint instanceof GreaterThan<?> c) {
+                mix(GREATER_THAN);
+                expression(c.bound());
+            } else if (constraint instanceof AtLeast<?> c) {
+                mix(AT_LEAST);
+                expression(c.bound());
+            } else if (constraint instanceof LessThan<?> c) {
+                mix(LESS_THAN);
+                expression(c.bound());
+            } else if (constraint instanceof AtMost<?> c) {
+                mix(AT_MOST);
+                expression(c.bound());
+            } else if (constraint instanceof Between<?> c) {
+                mix(BETWEEN);
+                expression(c.lowerBound());
+                expression(c.upperBound());
+            } else if (constraint instanceof NotBetween<?> c) {
+                mix(NOT_BETWEEN);
+                expression(c.lowerBound());
+                expression(c.upperBound());
+            } else if (constraint instanceof ValueSet<?> set
+                    && (constraint instanceof In<?> || constraint instanceof NotIn<?>)) {
+                List<?> values = set.values();
+                mix(constraint instanceof In<?> ? IN : NOT_IN);
+                mix(values.size());
+                for (Object value : values) {
+                    mix(LITERAL);
+                    mix(value.getClass().getName());
+                    parameter(value);
+                }
+            } else if (constraint instanceof In<?> c) {
+                mix(IN);
+                expressions(c.expressions());
+            } else if (constraint instanceof NotIn<?> c) {
+                mix(NOT_IN);
+                expressions(c.expressions());
+            } else if (constraint instanceof Like c) {
+                mix(LIKE);
+                mix(c.escape());
+                expression(c.pattern());
+            } else if (constraint instanceof NotLike c) {
+                mix(NOT_LIKE);
+                mix(c.escape());
+                expression(c.pattern());
+            } else {
+                throw unsupported("constraint", constraint);
+            }
+        }
+
+        private void expressions(@Nonnull List<? extends Expression<?, ?>> expressions) {
+            mix(expressions.size());
+            for (Expression<?, ?> expression : expressions) {
+                expression(expression);
+            }
+        }
+
+        void order(@Nonnull Order<?> order) {
+            List<? extends Sort<?>> sorts = order.sorts();
+            mix(ORDER);
+            mix(sorts.size());
+            for (Sort<?> sort : sorts) {
+                String property = sort.property();
+                if (property == null) {
+                    mix(SORT_EXPRESSION);
+                    expression(sort.expression());
+                } else {
+                    mix(SORT_PROPERTY);
+                    mix(property);
+                }
+                mix((sort.isAscending() ? 1 : 0)
+                        | (sort.ignoreCase() ? 2 : 0)
+                        | sort.nullOrdering().ordinal() << 2);
+            }
+        }
+
+        void pageRequest(@Nonnull PageRequest pageRequest) {
+            mix(PAGE_REQUEST);
+            mix(pageRequest.mode().ordinal());
+            mix(pageRequest.size());
+            mix((pageRequest.requestTotal() ? 1 : 0)
+                    | (pageRequest.estimateTotal() ? 2 : 0));
+            if (pageRequest.mode() == PageRequest.Mode.OFFSET) {
+                parameter(pageRequest.pageNumber());
+            } else {
+                PageRequest.Cursor cursor = pageRequest.cursor().orElseThrow();
+                int size = cursor.size();
+                mix(size);
+                for (int i = 0; i < size; i++) {
+                    parameter(cursor.get(i));
+                }
+            }
+        }
+
+        @Nonnull
+        private static UnsupportedOperationException unsupported(@Nonnull String kind,
+                                                                 @Nonnull Object o) {
+            return new UnsupportedOperationException(Messages.get(
+                    "025.query.element.unsupported", kind, o.getClass().getName()));
+        }
+    }
+}
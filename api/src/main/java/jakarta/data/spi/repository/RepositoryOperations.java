@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.repository;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.exceptions.EmptyResultException;
+import jakarta.data.exceptions.NonUniqueResultException;
+import jakarta.data.messages.Messages;
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.spi.query.JdqlStatement;
+
+/**
+ * <p>The operations of a data store that repository implementations which
+ * are generated at compile time by the Jakarta Data annotation processor
+ * delegate to. A Jakarta Data provider that supports generated repository
+ * implementations supplies an implementation of this interface to the
+ * constructor of each generated class.</p>
+ *
+ * <p>A generated repository implementation resolves the annotations of the
+ * repository interface when the repository is compiled. It creates the
+ * entity attributes, sort criteria, and limits that the repository methods
+ * use once, when the class is initialized, and it parses the query of each
+ * {@link jakarta.data.repository.Query @Query} method once, such that each
+ * method invocation only binds the method arguments and invokes one of the
+ * operations of this interface. For example, the method</p>
+ *
+ * <pre>{@code
+ * @Find
+ * @OrderBy("price")
+ * List<Car> ofMake(@By("make") String make, Limit limit);
+ * }</pre>
+ *
+ * <p>is implemented as</p>
+ *
+ * <pre>{@code
+ * return operations.find(Car.class,
+ *                        BasicRestriction.of(ATTRIBUTE_0, EqualTo.value(make)),
+ *                        ORDER_0,
+ *                        limit).toList();
+ * }</pre>
+ *
+ * <p>The entities and results that are supplied to and returned by the
+ * operations are never {@code null}.</p>
+ *
+ * @since 1.1
+ */
+public interface RepositoryOperations {
+
+    /**
+     * <p>Finds the entities that satisfy a restriction.</p>
+     *
+     * @param <T>         entity type.
+     * @param entityClass entity class.
+     * @param restriction restriction on the entities.
+     * @param order       sort criteria, which might be empty.
+     * @param limit       limit on the results, or {@code null} if
+     *                    unlimited.
+     * @return the entities, in order.
+     */
+    @Nonnull
+    <T> Stream<T> find(@Nonnull Class<T> entityClass,
+                       @Nonnull Restriction<T> restriction,
+                       @Nonnull Order<T> order,
+                       @Nullable Limit limit);
+
+    /**
+     * <p>Finds a page of the entities that satisfy a restriction, using
+     * offset-based pagination.</p>
+     *
+     * @param <T>         entity type.
+     * @param entityClass entity class.
+     * @param restriction restriction on the entities.
+     * @param order       sort criteria, which might be empty.
+     * @param pageRequest the requested page.
+     * @return the page.
+     */
+    @Nonnull
+    <T> Page<T> findPage(@Nonnull Class<T> entityClass,
+                         @Nonnull Restriction<T> restriction,
+                         @Nonnull Order<T> order,
+                         @Nonnull PageRequest pageRequest);
+
+    /**
+     * <p>Finds a page of the entities that satisfy a restriction, using
+     * cursor-based pagination.</p>
+     *
+     * @param <T>         entity type.
+     * @param entityClass entity class.
+     * @param restriction restriction on the entities.
+     * @param order       sort criteria, which might be empty.
+     * @param pageRequest the requested page.
+     * @return the page.
+     */
+    @Nonnull
+    <T> CursoredPage<T> findCursoredPage(@Nonnull Class<T> entityClass,
+                                         @Nonnull Restriction<T> restriction,
+                                         @Nonnull Order<T> order,
+                                         @Nonnull PageRequest pageRequest);
+
+    /**
+     * <p>Deletes the entities that satisfy a restriction.</p>
+     *
+     * @param <T>         entity type.
+     * @param entityClass entity class.
+     * @param restriction restriction on the entities.
+     * @return the number of deleted entities.
+     */
+    <T> long delete(@Nonnull Class<T> entityClass,
+                    @Nonnull Restriction<T> restriction);
+
+    /**
+     * <p>Inserts an entity.</p>
+     *
+     * @param <T>    entity type.
+     * @param entity the entity.
+     * @return the inserted entity.
+     * @see jakarta.data.repository.Insert
+     */
+    @Nonnull
+    <T> T insert(@Nonnull T entity);
+
+    /**
+     * <p>Inserts entities.</p>
+     *
+     * @param <T>      entity type.
+     * @param entities the entities.
+     * @return the inserted entities, in the same order.
+     * @see jakarta.data.repository.Insert
+     */
+    @Nonnull
+    <T> List<T> insertAll(@Nonnull List<T> entities);
+
+    /**
+     * <p>Updates an entity.</p>
+     *
+     * @param <T>    entity type.
+     * @param entity the entity.
+     * @return the updated entity.
+     * @see jakarta.data.repository.Update
+     */
+    @Nonnull
+    <T> T update(@Nonnull T entity);
+
+    /**
+     * <p>Updates entities.</p>
+     *
+     * @param <T>      entity type.
+     * @param entities the entities.
+     * @return the updated entities, in the same order.
+     * @see jakarta.data.repository.Update
+     */
+    @Nonnull
+    <T> List<T> updateAll(@Nonnull List<T> entities);
+
+    /**
+     * <p>Inserts or updates an entity.</p>
+     *
+     * @param <T>    entity type.
+     * @param entity the entity.
+     * @return the saved entity.
+     * @see jakarta.data.repository.Save
+     */
+    @Nonnull
+    <T> T save(@Nonnull T entity);
+
+    /**
+     * <p>Inserts or updates entities.</p>
+     *
+     * @param <T>      entity type.
+     * @param entities the entities.
+     * @return the saved entities, in the same order.
+     * @see jakarta.data.repository.Save
+     */
+    @Nonnull
+    <T> List<T> saveAll(@Nonnull List<T> entities);
+
+    /**
+     * <p>Deletes an entity.</p>
+     *
+     * @param entity the entity.
+     * @see jakarta.data.repository.Delete
+     */
+    void delete(@Nonnull Object entity);
+
+    /**
+     * <p>Deletes entities.</p>
+     *
+     * @param entities the entities.
+     * @see jakarta.data.repository.Delete
+     */
+    void deleteAll(@Nonnull List<?> entities);
+
+    /**
+     * <p>Runs a {@code SELECT} statement of a
+     * {@link jakarta.data.repository.Query @Query} method.</p>
+     *
+     * <p>The arguments are the values of the input parameters of the query.
+     * If the query has named parameters, the argument at index {@code i} is
+     * the value of the parameter that is named by element {@code i} of the
+     * parameter names. Otherwise, the parameter names are empty and the
+     * argument at index {@code i} is the value of parameter
+     * {@code ?(i + 1)}.</p>
+     *
+     * @param <R>            result type.
+     * @param statement      the statement.
+     * @param entityClass    the primary entity class of the repository,
+     *                       which is queried if the statement does not
+     *                       specify an entity.
+     * @param resultClass    class of the results.
+     * @param parameterNames names of the input parameters.
+     * @param arguments      values of the input parameters.
+     * @param order          additional sort criteria, which might be empty.
+     * @param limit          limit on the results, or {@code null} if
+     *                       unlimited.
+     * @return the results, in order.
+     */
+    @Nonnull
+    <R> Stream<R> select(@Nonnull JdqlStatement.Select statement,
+                         @Nonnull Class<?> entityClass,
+                         @Nonnull Class<R> resultClass,
+                         @Nonnull List<String> parameterNames,
+                         @Nonnull Object[] arguments,
+                         @Nonnull Order<?> order,
+                         @Nullable Limit limit);
+
+    /**
+     * <p>Runs an {@code UPDATE} or {@code DELETE} statement of a
+     * {@link jakarta.data.repository.Query @Query} method. The parameter
+     * names and arguments are as described for
+     * {@link #select(JdqlStatement.Select, Class, Class, List, Object[], Order, Limit)
+     * select}.</p>
+     *
+     * @param statement      the statement.
+     * @param entityClass    the primary entity class of the repository.
+     * @param parameterNames names of the input parameters.
+     * @param arguments      values of the input parameters.
+     * @return the number of updated or deleted entities.
+     */
+    long execute(@Nonnull JdqlStatement statement,
+                 @Nonnull Class<?> entityClass,
+                 @Nonnull List<String> parameterNames,
+                 @Nonnull Object[] arguments);
+
+    /**
+     * <p>Obtains the only result of a stream of at most one result, closing
+     * the stream.</p>
+     *
+     * @param <R>     result type.
+     * @param results the results.
+     * @return the result, or {@link Optional#empty()} if there is none.
+     * @throws NonUniqueResultException if there is more than one result.
+     */
+    @Nonnull
+    static <R> Optional<R> optional(@Nonnull Stream<R> results) {
+        try (results) {
+            Iterator<R> it = results.iterator();
+            if (!it.hasNext()) {
+                return Optional.empty();
+            }
+            R result = it.next();
+            if (it.hasNext()) {
+                throw new NonUniqueResultException(
+                        Messages.get("027.result.nonunique"));
+            }
+            return Optional.of(result);
+        }
+    }
+
+    /**
+     * <p>Obtains the only result of a stream of exactly one result, closing
+     * the stream.</p>
+     *
+     * @param <R>     result type.
+     * @param results the results.
+     * @return the result.
+     * @throws EmptyResultException if there is no result.
+     * @throws NonUniqueResultException if there is more than one result.
+     */
+    @Nonnull
+    static <R> R single(@Nonnull Stream<R> results) {
+        return optional(results).orElseThrow(() -> new EmptyResultException(
+                Messages.get("028.result.empty")));
+    }
+}
@@ -1447,7 +1447,10 @@ module jakarta.data {
     exports jakarta.data.restrict;
     opens jakarta.data.repository;
     exports jakarta.data.spi;
+    exports jakarta.data.spi.evaluation;
     exports jakarta.data.spi.expression.function;
     exports jakarta.data.spi.expression.literal;
     exports jakarta.data.spi.expression.path;
+    exports jakarta.data.spi.query;
+    exports jakarta.data.spi.repository;
 }
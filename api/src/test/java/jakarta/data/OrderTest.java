@@ -23,6 +23,8 @@ import org.junit.jupiter.api.Test;
 
 import jakarta.data.mock.entity.Book;
 import jakarta.data.mock.entity._Book;
+import jakarta.data.metamodel.AttributeAccessor;
+import jakarta.data.metamodel.TextAttribute;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -96,4 +98,43 @@ class OrderTest {
 
         SoftAssertions.assertSoftly(soft -> soft.assertThat(order.toString()).contains("published"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should return the same instance for no sorts or a single sort on an entity attribute")
+    void shouldShareInstances() {
+        Order<Book> byTitle = Order.by(_Book.title.asc());
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Order.by()).isSameAs(Order.by(List.of()));
+            soft.assertThat(Order.by().sorts()).isEmpty();
+            soft.assertThat(Order.by(_Book.title.asc())).isSameAs(byTitle);
+            soft.assertThat(Order.by(List.of(_Book.title.asc()))).isSameAs(byTitle);
+            soft.assertThat(Order.by(Sort.asc("title"))).isSameAs(Order.by(Sort.asc("title")));
+            soft.assertThat(Order.by(_Book.numPages.plus(1).asc()))
+                    .isNotSameAs(Order.by(_Book.numPages.plus(1).asc()));
+            soft.assertThat(Order.by(_Book.title.asc(), _Book.id.asc()))
+                    .isNotSameAs(Order.by(_Book.title.asc(), _Book.id.asc()))
+                    .isEqualTo(Order.by(_Book.title.asc(), _Book.id.asc()))
+                    .isNotEqualTo(Order.by(_Book.id.asc(), _Book.title.asc()))
+                    .hasSameHashCodeAs(Order.by(List.of(_Book.title.asc(), _Book.id.asc())));
+        });
+    }
+
+    @Test
+    @DisplayName("should replace a shared instance whose equal attribute has no accessor")
+    void shouldPreferAccessors() {
+        TextAttribute<Book> plain = TextAttribute.of(Book.class, "id");
+        TextAttribute<Book> id = TextAttribute.of(Book.class, "id",
+                Book::getId, Book::setId);
+
+        Order<Book> byPlain = Order.by(Sort.desc(plain));
+        Order<Book> byId = Order.by(Sort.desc(id));
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(byId).isEqualTo(byPlain);
+            soft.assertThat(byId.sorts().get(0).expression()).isSameAs(id)
+                    .isInstanceOf(AttributeAccessor.class);
+            soft.assertThat(Order.by(Sort.desc(id))).isSameAs(byId);
+            soft.assertThat(Order.by(Sort.desc(plain))).isSameAs(byId);
+        });
+    }
+}
@@ -20,6 +20,8 @@ package jakarta.data;
 import jakarta.data.mock.entity._Book;
 import jakarta.data.mock.entity.Book;
 import jakarta.data.Sort.Nulls;
+import jakarta.data.metamodel.AttributeAccessor;
+import jakarta.data.metamodel.TextAttribute;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -176,4 +178,43 @@ class SortTest {
             softly.assertThat(sort.nullOrdering()).isEqualTo(Nulls.LAST);
         });
     }
+
+    @Test
+    @DisplayName("should return the same instance for the same sort criterion on an entity attribute")
+    void shouldShareInstances() {
+        assertSoftly(softly -> {
+            softly.assertThat(Sort.asc(NAME)).isSameAs(Sort.asc(NAME));
+            softly.assertThat(Sort.descIgnoreCase(NAME)).isSameAs(Sort.descIgnoreCase(NAME));
+            softly.assertThat(Sort.of(NAME, Direction.DESC, true)).isSameAs(Sort.descIgnoreCase(NAME));
+            softly.assertThat(Sort.of(NAME, Direction.ASC, false, Nulls.UNSPECIFIED))
+                    .isSameAs(Sort.asc(NAME));
+            softly.assertThat(_Book.numChapters.desc()).isSameAs(_Book.numChapters.desc());
+            softly.assertThat(_Book.title.ascIgnoreCase()).isSameAs(Sort.ascIgnoreCase(_Book.title));
+            softly.assertThat(_Book.numChapters.asc()).isNotSameAs(Sort.asc(_Book.NUMCHAPTERS));
+            softly.assertThat(_Book.numChapters.asc()).isNotSameAs(_Book.numChapters.desc());
+            softly.assertThat(_Book.numChapters.asc().nullsFirst())
+                    .isNotSameAs(_Book.numChapters.asc().nullsFirst())
+                    .isEqualTo(_Book.numChapters.asc().nullsFirst());
+            softly.assertThat(_Book.numChapters.plus(1).asc())
+                    .isNotSameAs(_Book.numChapters.plus(1).asc());
+        });
+    }
+
+    @Test
+    @DisplayName("should replace a shared instance whose equal attribute has no accessor")
+    void shouldPreferAccessors() {
+        TextAttribute<Book> plain = TextAttribute.of(Book.class, "author");
+        TextAttribute<Book> author = TextAttribute.of(Book.class, "author",
+                Book::getAuthor, Book::setAuthor);
+
+        Sort<Book> byPlain = Sort.desc(plain);
+        Sort<Book> byAuthor = Sort.desc(author);
+        assertSoftly(softly -> {
+            softly.assertThat(byAuthor).isEqualTo(byPlain);
+            softly.assertThat(byAuthor.expression()).isSameAs(author)
+                    .isInstanceOf(AttributeAccessor.class);
+            softly.assertThat(Sort.desc(author)).isSameAs(byAuthor);
+            softly.assertThat(Sort.desc(plain)).isSameAs(byAuthor);
+        });
+    }
 }
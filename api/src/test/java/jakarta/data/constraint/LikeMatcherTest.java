@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.constraint;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.data.mock.entity._Book;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for matching text values against Like and NotLike constraints.
+ */
+class LikeMatcherTest {
+
+    @Test
+    void exact() {
+        LikeMatcher matcher = LikeMatcher.of(Like.literal("100% real_data"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matcher.matches("100% real_data")).isTrue();
+            soft.assertThat(matcher.matches("100x realXdata")).isFalse();
+            soft.assertThat(matcher.matches("100% real_data!")).isFalse();
+        });
+    }
+
+    @Test
+    void prefixSuffixContains() {
+        LikeMatcher prefix = LikeMatcher.of(Like.prefix("Jakarta"));
+        LikeMatcher suffix = LikeMatcher.of(Like.suffix("Data"));
+        LikeMatcher contains = LikeMatcher.of(Like.substring("ta D"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(prefix.matches("Jakarta Data")).isTrue();
+            soft.assertThat(prefix.matches("Jakart")).isFalse();
+            soft.assertThat(suffix.matches("Jakarta Data")).isTrue();
+            soft.assertThat(suffix.matches("Data Jakarta")).isFalse();
+            soft.assertThat(contains.matches("Jakarta Data")).isTrue();
+            soft.assertThat(contains.matches("Jakarta  Data")).isFalse();
+        });
+    }
+
+    @Test
+    void wildcards() {
+        // Usage is from Javadoc example
+        LikeMatcher matcher = LikeMatcher.of(Like.pattern("JHM___E%"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matcher.matches("JHMABCE")).isTrue();
+            soft.assertThat(matcher.matches("JHMABCE123")).isTrue();
+            soft.assertThat(matcher.matches("JHMABCD123")).isFalse();
+            soft.assertThat(matcher.matches("JHMABE123")).isFalse();
+        });
+    }
+
+    @Test
+    void segmentsAreLocatedWithoutBacktracking() {
+        LikeMatcher matcher = LikeMatcher.of("a%b_c%b%c", '\\');
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matcher.matches("abxcbc")).isTrue();
+            soft.assertThat(matcher.matches("aabbxcxxbyyc")).isTrue();
+            soft.assertThat(matcher.matches("abxcb")).isFalse();
+            soft.assertThat(matcher.matches("abxbc")).isFalse();
+            soft.assertThat(LikeMatcher.of("%", '\\').matches("")).isTrue();
+            soft.assertThat(LikeMatcher.of("", '\\').matches("")).isTrue();
+            soft.assertThat(LikeMatcher.of("_", '\\').matches("")).isFalse();
+        });
+    }
+
+    @Test
+    void escapeCharacter() {
+        LikeMatcher matcher = LikeMatcher.of("%50$%%", '$');
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matcher.matches("only 50% off")).isTrue();
+            soft.assertThat(matcher.matches("only 50 off")).isFalse();
+        });
+
+        assertThatThrownBy(() -> LikeMatcher.of("50$", '$'))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void notLike() {
+        LikeMatcher matcher = LikeMatcher.of(NotLike.prefix("Jakarta"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(matcher.matches("Jakarta Data")).isFalse();
+            soft.assertThat(matcher.matches("Eclipse")).isTrue();
+            soft.assertThat(matcher.toString()).startsWith("NOT ");
+        });
+    }
+
+    @Test
+    void charSequences() {
+        StringBuilder value = new StringBuilder("Jakarta Data 1.1");
+        String[] patterns = { "Jakarta Data 1.1", "Jakarta%", "%1.1", "%Data%", "%",
+                              "J_karta%", "%a_a%1._", "Jakarta", "%Eclipse%", "J%D%x" };
+
+        SoftAssertions.assertSoftly(soft -> {
+            for (String pattern : patterns) {
+                LikeMatcher matcher = LikeMatcher.of(pattern, '\\');
+                soft.assertThat(matcher.matches((CharSequence) value))
+                        .isEqualTo(matcher.matches(value.toString()));
+                soft.assertThat(LikeMatcher.of(NotLike.pattern(pattern)).matches(value))
+                        .isEqualTo(!matcher.matches(value.toString()));
+            }
+            soft.assertThat(LikeMatcher.of("%Data%", '\\').matches(new StringBuilder("Dat")))
+                    .isFalse();
+        });
+    }
+
+    @Test
+    void cached() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(LikeMatcher.of(Like.pattern("JHM___E%")))
+                    .isSameAs(LikeMatcher.of(Like.pattern("JHM___E%")));
+            soft.assertThat(LikeMatcher.of(NotLike.pattern("JHM___E%")))
+                    .isSameAs(LikeMatcher.of(NotLike.pattern("JHM___E%")));
+        });
+    }
+
+    @Test
+    void patternMustBeLiteral() {
+        Like like = Like.pattern(_Book.title, '\\');
+
+        assertThatThrownBy(() -> LikeMatcher.of(like))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
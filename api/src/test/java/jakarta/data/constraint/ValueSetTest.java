@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.constraint;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import jakarta.data.spi.expression.literal.Literal;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ValueSetTest {
+
+    @Test
+    @DisplayName("should test membership of Integer values")
+    void shouldContainIntegers() {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(i * 7);
+        }
+        ValueSet<?> set = (ValueSet<?>) In.valueSet(ids);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(set.size()).isEqualTo(10_000);
+            soft.assertThat(set.contains(Integer.valueOf(69_993))).isTrue();
+            soft.assertThat(set.contains(Integer.valueOf(69_994))).isFalse();
+            soft.assertThat(set.contains(Long.valueOf(14L))).isTrue();
+            soft.assertThat(set.contains(14L)).isTrue();
+            soft.assertThat(set.contains(Long.MAX_VALUE)).isFalse();
+            soft.assertThat(set.contains("14")).isFalse();
+            soft.assertThat(set.contains(null)).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("should test membership of Long values")
+    void shouldContainLongs() {
+        ValueSet<?> set = (ValueSet<?>) In.valueSet(
+                List.of(1L, Long.MAX_VALUE, -1L << 40));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(set.contains(Long.MAX_VALUE)).isTrue();
+            soft.assertThat(set.contains(-1L << 40)).isTrue();
+            soft.assertThat(set.contains(Integer.valueOf(1))).isTrue();
+            soft.assertThat(set.contains(2L)).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("should test membership of Short, Byte, and mixed integral values by number")
+    void shouldContainOtherIntegrals() {
+        ValueSet<?> shorts = (ValueSet<?>) In.valueSet(List.of((short) 3, (short) -7));
+        ValueSet<?> bytes = (ValueSet<?>) NotIn.valueSet(List.of((byte) 1, (byte) 2));
+        ValueSet<?> mixed = (ValueSet<?>) In.valueSet(List.of(1, 2L, (short) 3, 2, Long.MAX_VALUE));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(shorts.contains(Short.valueOf((short) 3))).isTrue();
+            soft.assertThat(shorts.contains(Integer.valueOf(-7))).isTrue();
+            soft.assertThat(shorts.contains(4L)).isFalse();
+            soft.assertThat(shorts.values()).containsExactly((short) 3, (short) -7);
+            soft.assertThat(bytes.contains(Byte.valueOf((byte) 2))).isTrue();
+            soft.assertThat(bytes.contains(1L)).isTrue();
+            soft.assertThat(mixed.size()).isEqualTo(4);
+            soft.assertThat(mixed.contains(Integer.valueOf(2))).isTrue();
+            soft.assertThat(mixed.contains(Byte.valueOf((byte) 3))).isTrue();
+            soft.assertThat(mixed.contains(Long.MAX_VALUE)).isTrue();
+            soft.assertThat(mixed.contains(4)).isFalse();
+            soft.assertThat(mixed.values()).containsExactly(1, 2L, (short) 3, Long.MAX_VALUE);
+        });
+    }
+
+    @Test
+    @DisplayName("should test membership of String and other values")
+    void shouldContainObjects() {
+        ValueSet<?> strings = (ValueSet<?>) NotIn.valueSet(List.of("A", "B", "C"));
+        ValueSet<?> decimals = (ValueSet<?>) In.valueSet(
+                List.of(new BigDecimal("1.50"), BigDecimal.TEN));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(strings.contains("B")).isTrue();
+            soft.assertThat(strings.contains("D")).isFalse();
+            soft.assertThat(decimals.contains(new BigDecimal("1.5"))).isTrue();
+            soft.assertThat(decimals.contains(new BigDecimal("10.000"))).isTrue();
+            soft.assertThat(decimals.contains(BigDecimal.ONE)).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("should test membership of numbers of other types by numeric value")
+    void shouldContainNumbersOfOtherTypes() {
+        ValueSet<?> ints = (ValueSet<?>) In.valueSet(List.of(1, 2L, 3));
+        ValueSet<?> longs = (ValueSet<?>) In.valueSet(List.of(Long.MAX_VALUE, 2L));
+        ValueSet<?> mixed = (ValueSet<?>) In.valueSet(List.of(1, 2.5, "A"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ints.contains(2.0)).isTrue();
+            soft.assertThat(ints.contains(3.0f)).isTrue();
+            soft.assertThat(ints.contains(new BigDecimal("2.00"))).isTrue();
+            soft.assertThat(ints.contains(BigInteger.ONE)).isTrue();
+            soft.assertThat(ints.contains(2.5)).isFalse();
+            soft.assertThat(ints.contains(new BigDecimal("2.5"))).isFalse();
+            soft.assertThat(ints.contains(new BigDecimal("1E+30"))).isFalse();
+            soft.assertThat(ints.contains(Double.NaN)).isFalse();
+            soft.assertThat(longs.contains((double) Long.MAX_VALUE)).isTrue();
+            soft.assertThat(longs.contains(new BigDecimal(Long.MAX_VALUE))).isTrue();
+            soft.assertThat(mixed.contains(1.0)).isTrue();
+            soft.assertThat(mixed.contains(new BigDecimal("2.50"))).isTrue();
+            soft.assertThat(mixed.contains(2)).isFalse();
+            soft.assertThat(In.valueSet(List.of(1.0, 2.0)))
+                    .isEqualTo(In.valueSet(List.of(1, 2)))
+                    .hasSameHashCodeAs(In.valueSet(List.of(1, 2)));
+        });
+    }
+
+    @Test
+    @DisplayName("should keep distinct values in order and expose expressions")
+    void shouldExposeValuesAndExpressions() {
+        In<String> in = In.valueSet(Arrays.asList("B", "A", "B", "C"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(((ValueSet<?>) in).values())
+                    .containsExactly("B", "A", "C");
+            soft.assertThat(in.expressions())
+                    .containsExactly(Literal.of("B"), Literal.of("A"), Literal.of("C"));
+            soft.assertThat(in.expressions()).isSameAs(in.expressions());
+            soft.assertThat(in.toString())
+                    .isEqualTo(In.values("B", "A", "C").toString());
+        });
+    }
+
+    @Test
+    @DisplayName("should negate to a constraint with the same values")
+    void shouldNegate() {
+        In<Integer> in = In.valueSet(List.of(1, 2, 3));
+        NotIn<Integer> notIn = (NotIn<Integer>) in.negate();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(notIn).isInstanceOf(ValueSet.class);
+            soft.assertThat(((ValueSet<?>) notIn).contains(2)).isTrue();
+            soft.assertThat(notIn.toString()).startsWith("NOT IN ");
+            soft.assertThat(notIn.negate()).isEqualTo(in);
+            soft.assertThat(In.valueSet(List.of(3, 2, 1))).isEqualTo(in);
+        });
+    }
+
+    @Test
+    @DisplayName("should have the same hash code as equal sets of values of other types")
+    void shouldHashByNumber() {
+        In<Integer> ints = In.valueSet(List.of(-1, 5));
+        In<Long> longs = In.valueSet(List.of(5L, -1L));
+        In<Short> shorts = In.valueSet(List.of((short) -1, (short) 5));
+        In<BigDecimal> decimals = In.valueSet(List.of(new BigDecimal("1.50"), BigDecimal.TEN));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ints).isEqualTo(longs);
+            soft.assertThat(ints).hasSameHashCodeAs(longs);
+            soft.assertThat(shorts).isEqualTo(ints);
+            soft.assertThat(shorts).hasSameHashCodeAs(ints);
+            soft.assertThat(In.valueSet(List.of(new BigDecimal("1.5"), new BigDecimal("10.0"))))
+                    .isEqualTo(decimals)
+                    .hasSameHashCodeAs(decimals);
+        });
+    }
+
+    @Test
+    @DisplayName("should reject empty and null values")
+    void shouldRejectInvalidValues() {
+        assertThatThrownBy(() -> In.valueSet(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> In.valueSet(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> NotIn.valueSet(Arrays.asList("A", null)))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
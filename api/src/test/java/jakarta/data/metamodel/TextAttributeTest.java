@@ -17,6 +17,8 @@
  */
 package jakarta.data.metamodel;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 import jakarta.data.constraint.Like;
 import jakarta.data.constraint.NotLike;
 import jakarta.data.restrict.BasicRestriction;
@@ -165,4 +167,53 @@ class TextAttributeTest {
             soft.assertThat(restriction.constraint()).isEqualTo(NotLike.suffix("testValue"));
         });
     }
+
+    @Test
+    @DisplayName("should read and write the attribute with the getter and setter")
+    void shouldAccessAttribute() {
+        TextAttribute<Author> name = TextAttribute.of(Author.class, "name",
+                author -> author.name, (author, value) -> author.name = value);
+        TextAttribute<Author> readOnly = TextAttribute.of(Author.class, "name",
+                author -> author.name, null);
+        Author author = new Author();
+        author.name = "Duke";
+
+        var accessor = (AttributeAccessor<Author, String>) name;
+        var readOnlyAccessor = (AttributeAccessor<Author, String>) readOnly;
+        accessor.set(author, "Jakarta");
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(author.name).isEqualTo("Jakarta");
+            soft.assertThat(accessor.get(author)).isEqualTo("Jakarta");
+            soft.assertThat(accessor.isWritable()).isTrue();
+            soft.assertThat(readOnlyAccessor.get(author)).isEqualTo("Jakarta");
+            soft.assertThat(readOnlyAccessor.isWritable()).isFalse();
+            soft.assertThat(name.name()).isEqualTo("name");
+            soft.assertThat(name.declaringType()).isEqualTo(Author.class);
+            soft.assertThat(name.toString()).isEqualTo("author.name");
+        });
+        assertThatThrownBy(() -> readOnlyAccessor.set(author, "Data"))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("name");
+    }
+
+    @Test
+    @DisplayName("should be equal to the attribute without a getter and setter")
+    void shouldIgnoreAccessorsInEquality() {
+        TextAttribute<Author> plain = TextAttribute.of(Author.class, "name");
+        TextAttribute<Author> name = TextAttribute.of(Author.class, "name",
+                author -> author.name, (author, value) -> author.name = value);
+        TextAttribute<Author> readOnly = TextAttribute.of(Author.class, "name",
+                author -> author.name, null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(name).isEqualTo(plain);
+            soft.assertThat(plain).isEqualTo(name);
+            soft.assertThat(name).hasSameHashCodeAs(plain);
+            soft.assertThat(readOnly).isEqualTo(name);
+            soft.assertThat(readOnly).hasSameHashCodeAs(name);
+            soft.assertThat(name).isNotEqualTo(TextAttribute.of(Author.class, "testAttribute",
+                    author -> author.testAttribute, null));
+            soft.assertThat(name).isNotEqualTo(ComparableAttribute.of(Author.class, "name", String.class));
+        });
+    }
 }
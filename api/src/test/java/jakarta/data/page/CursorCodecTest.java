@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import jakarta.data.page.PageRequest.Cursor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorCodecTest {
+
+    private static final byte[] SECRET =
+            "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static Cursor roundTrip(CursorCodec codec, Object... key) {
+        return codec.decode(codec.encode(Cursor.forKey(key)));
+    }
+
+    @Test
+    @DisplayName("should round trip cursors with key elements of each supported type")
+    void shouldRoundTripEachType() {
+        CursorCodec codec = CursorCodec.create().withEnums(DayOfWeek.class);
+        Object[] key = {
+            null, true, false, (byte) -7, (short) -300, Integer.MIN_VALUE,
+            Long.MAX_VALUE, 1.5f, -0.25d, 'ñ', "Jakarta Data ☕ 𝄞", "",
+            UUID.fromString("3b241101-e2bb-4255-8caf-4136c566a962"),
+            new BigInteger("-123456789012345678901234567890"),
+            new BigDecimal("1234.5600"),
+            LocalDate.of(2026, 10, 18),
+            LocalTime.of(23, 59, 59, 999_999_999),
+            LocalDateTime.of(1969, 7, 20, 20, 17),
+            Instant.ofEpochSecond(-1L, 500),
+            OffsetTime.of(8, 30, 0, 0, ZoneOffset.ofHours(-5)),
+            OffsetDateTime.of(2026, 3, 8, 2, 30, 0, 0, ZoneOffset.ofHoursMinutes(5, 30)),
+            ZonedDateTime.of(2026, 11, 1, 1, 30, 0, 0, ZoneId.of("America/Chicago"))
+                    .withLaterOffsetAtOverlap(),
+            Year.of(1999),
+            DayOfWeek.FRIDAY
+        };
+
+        Cursor cursor = roundTrip(codec, key);
+
+        assertSoftly(softly -> {
+            softly.assertThat(cursor).isEqualTo(Cursor.forKey(key));
+            softly.assertThat(cursor.get(6)).isEqualTo(Long.MAX_VALUE);
+            softly.assertThat(cursor.get(14)).isEqualTo(new BigDecimal("1234.5600"));
+            softly.assertThat(((ZonedDateTime) cursor.get(21)).getOffset())
+                    .isEqualTo(ZoneOffset.ofHours(-6));
+        });
+    }
+
+    @Test
+    @DisplayName("should encode as a compact URL-safe token")
+    void shouldEncodeCompactToken() {
+        String token = CursorCodec.create().encode(Cursor.forKey(1L, "A"));
+
+        assertSoftly(softly -> {
+            softly.assertThat(token).matches("[A-Za-z0-9_-]+");
+            softly.assertThat(token).hasSize(10);
+            softly.assertThat(Base64.getUrlDecoder().decode(token))
+                    .containsExactly((byte) 1, (byte) 2, (byte) 6, (byte) 2,
+                                     (byte) 10, (byte) 1, (byte) 'A');
+        });
+    }
+
+    @Test
+    @DisplayName("should reject tokens that are malformed")
+    void shouldRejectMalformedTokens() {
+        CursorCodec codec = CursorCodec.create();
+        String token = codec.encode(Cursor.forKey("Jakarta", 10));
+
+        assertThatThrownBy(() -> codec.decode(""))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(token + "A"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(token.substring(0, token.length() - 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode("AQEX"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(token.replace('A', '+')))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("should reject tokens that were modified or signed with a different key")
+    void shouldRejectTamperedTokens() {
+        CursorCodec signed = CursorCodec.create().withHmac(SECRET);
+        String token = signed.encode(Cursor.forKey(100L));
+        char last = token.charAt(3);
+        String modified = token.substring(0, 3) + (last == 'A' ? 'B' : 'A') + token.substring(4);
+
+        assertSoftly(softly -> {
+            softly.assertThat(signed.decode(token)).isEqualTo(Cursor.forKey(100L));
+            softly.assertThat(token).hasSize(28);
+        });
+        assertThatThrownBy(() -> signed.decode(modified))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> signed.decode(CursorCodec.create().encode(Cursor.forKey(100L))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorCodec.create()
+                .withHmac("another secret".getBytes(StandardCharsets.US_ASCII))
+                .decode(token))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should reject key elements of types that cannot be encoded")
+    void shouldRejectUnsupportedTypes() {
+        CursorCodec codec = CursorCodec.create();
+
+        assertThatThrownBy(() -> codec.encode(Cursor.forKey(DayOfWeek.MONDAY)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.encode(Cursor.forKey(new Object())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(codec.withEnums(DayOfWeek.class)
+                .encode(Cursor.forKey(DayOfWeek.MONDAY))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.withHmac(new byte[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
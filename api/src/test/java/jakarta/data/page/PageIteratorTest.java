@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import jakarta.data.page.impl.PageRecord;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PageIteratorTest {
+
+    private static final int TOTAL = 23;
+
+    /**
+     * Obtains pages of the integers 0 to 22, recording each request.
+     */
+    private static Function<PageRequest, Page<Integer>> pages(
+            ConcurrentLinkedQueue<Long> requested) {
+        return request -> {
+            requested.add(request.pageNumber());
+            int start = (int) ((request.pageNumber() - 1) * request.size());
+            int end = Math.min(start + request.size(), TOTAL);
+            List<Integer> content = IntStream.range(start, end).boxed().toList();
+            return new PageRecord<>(request, content, TOTAL);
+        };
+    }
+
+    @Test
+    @DisplayName("should iterate over the results of every page on the consuming thread")
+    void shouldIterateSequentially() {
+        ConcurrentLinkedQueue<Long> requested = new ConcurrentLinkedQueue<>();
+        PageIterator<Integer> iterator =
+                PageIterator.of(PageRequest.ofSize(5), pages(requested));
+
+        assertSoftly(softly -> {
+            softly.assertThat(requested).isEmpty();
+            softly.assertThat(iterator.next()).isEqualTo(0);
+            softly.assertThat(requested).containsExactly(1L);
+        });
+
+        List<Integer> rest = new ArrayList<>();
+        iterator.forEachRemaining(rest::add);
+
+        assertSoftly(softly -> {
+            softly.assertThat(rest).hasSize(TOTAL - 1);
+            softly.assertThat(rest.get(TOTAL - 2)).isEqualTo(TOTAL - 1);
+            softly.assertThat(requested).containsExactly(1L, 2L, 3L, 4L, 5L);
+            softly.assertThat(iterator.hasNext()).isFalse();
+        });
+        assertThatThrownBy(iterator::next)
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("should prefetch pages on the executor and stream the results in order")
+    void shouldPrefetch() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ConcurrentLinkedQueue<Long> requested = new ConcurrentLinkedQueue<>();
+            List<Integer> results;
+            try (Stream<Integer> stream = PageIterator.of(
+                    PageRequest.ofSize(4), pages(requested), executor, 2).stream()) {
+                results = stream.collect(Collectors.toList());
+            }
+
+            assertSoftly(softly -> {
+                softly.assertThat(results)
+                        .isEqualTo(IntStream.range(0, TOTAL).boxed().toList());
+                softly.assertThat(requested).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+            });
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("should obtain no more than the prefetch depth of pages ahead of the consumer")
+    void shouldLimitPrefetch() {
+        List<Runnable> tasks = new ArrayList<>();
+        ConcurrentLinkedQueue<Long> requested = new ConcurrentLinkedQueue<>();
+        PageIterator<Integer> iterator = PageIterator.of(
+                PageRequest.ofSize(5), pages(requested), tasks::add, 2);
+
+        tasks.remove(0).run(); // page 1
+        tasks.remove(0).run(); // page 2
+
+        assertSoftly(softly -> {
+            softly.assertThat(requested).containsExactly(1L, 2L);
+            softly.assertThat(tasks).isEmpty();
+            softly.assertThat(iterator.next()).isEqualTo(0);
+            softly.assertThat(tasks).hasSize(1);
+        });
+
+        iterator.close();
+        tasks.remove(0).run(); // page 3 is discarded
+
+        assertSoftly(softly -> {
+            softly.assertThat(tasks).isEmpty();
+            softly.assertThat(iterator.hasNext()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("should raise an exception from obtaining a page after consuming the preceding pages")
+    void shouldRaiseFailure() {
+        List<Runnable> tasks = new ArrayList<>();
+        ConcurrentLinkedQueue<Long> requested = new ConcurrentLinkedQueue<>();
+        Function<PageRequest, Page<Integer>> pages = pages(requested);
+        PageIterator<Integer> iterator = PageIterator.of(
+                PageRequest.ofSize(10),
+                request -> {
+                    if (request.pageNumber() == 2) {
+                        throw new IllegalStateException("page 2");
+                    }
+                    return pages.apply(request);
+                },
+                tasks::add,
+                3);
+
+        tasks.remove(0).run();
+        tasks.remove(0).run();
+
+        List<Integer> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(iterator.next());
+        }
+
+        assertSoftly(softly -> {
+            softly.assertThat(results).hasSize(10);
+            softly.assertThat(tasks).isEmpty();
+        });
+        assertThatThrownBy(iterator::hasNext)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("page 2");
+    }
+
+    @Test
+    @DisplayName("should reject invalid arguments")
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> PageIterator.of(null, r -> null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> PageIterator.of(PageRequest.ofSize(10), r -> null, Runnable::run, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
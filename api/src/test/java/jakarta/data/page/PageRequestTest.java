@@ -339,6 +339,33 @@ class PageRequestTest {
                 softly.assertThat(withoutTotal.size()).isEqualTo(80);
             });
         }
+
+        @Test
+        @DisplayName("Should allow an estimated total until exact or no totals are requested")
+        void shouldAllowEstimatedTotal() {
+            // given
+            PageRequest original = PageRequest.ofPage(3, 40, false);
+
+            // when
+            PageRequest estimated = original.withEstimatedTotal();
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(original.estimateTotal()).isFalse();
+                softly.assertThat(estimated.requestTotal()).isTrue();
+                softly.assertThat(estimated.estimateTotal()).isTrue();
+                softly.assertThat(estimated.pageNumber()).isEqualTo(3L);
+                softly.assertThat(estimated.size()).isEqualTo(40);
+                softly.assertThat(estimated.pageNumber(4).size(50).estimateTotal()).isTrue();
+                softly.assertThat(estimated.withTotal().estimateTotal()).isFalse();
+                softly.assertThat(estimated.withTotal().requestTotal()).isTrue();
+                softly.assertThat(estimated.withoutTotal().estimateTotal()).isFalse();
+                softly.assertThat(estimated.withoutTotal().requestTotal()).isFalse();
+                softly.assertThat(estimated).isNotEqualTo(original.withTotal());
+                softly.assertThat(estimated.toString()).contains("estimated total");
+                softly.assertThat(original.toString()).doesNotContain("estimated total");
+            });
+        }
     }
 
     @Nested
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -263,4 +264,84 @@ class CursoredPageRecordTest {
             soft.assertThatThrownBy(page::totalPages).isInstanceOf(IllegalStateException.class);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should take ownership of content and cursors without copying them")
+    void shouldTakeOwnershipOfLists() {
+        var cursorA = PageRequest.Cursor.forKey("a");
+        var cursorB = PageRequest.Cursor.forKey("b");
+        List<String> content = new ArrayList<>(List.of("A", "B"));
+        List<Cursor> cursors = new ArrayList<>(List.of(cursorA, cursorB));
+
+        var page = CursoredPageRecord.ofOwned(
+                content,
+                cursors,
+                10,
+                PageRequest.ofPage(1).size(2),
+                true,
+                false
+        );
+        var copy = new CursoredPageRecord<>(
+                page.content(),
+                page.cursors(),
+                10,
+                page.pageRequest(),
+                page.nextPageRequest(),
+                null
+        );
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(page.content()).containsExactly("A", "B");
+            soft.assertThat(page.cursor(1)).isEqualTo(cursorB);
+            soft.assertThat(page.nextPageRequest())
+                    .isEqualTo(PageRequest.afterCursor(cursorB, 2, 2, true));
+            soft.assertThat(page.hasPrevious()).isFalse();
+            soft.assertThat(copy).isEqualTo(page);
+            soft.assertThat(copy.content()).isSameAs(page.content());
+            soft.assertThat(copy.cursors()).isSameAs(page.cursors());
+            soft.assertThatThrownBy(() -> page.content().add("C"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            soft.assertThatThrownBy(() -> page.cursors().remove(0))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        });
+    }
+
+    @Test
+    @DisplayName("should compute cursors from the results with a key extractor")
+    void shouldComputeCursorsFromKeys() {
+        List<Book> books = BookSimulator.mock(3);
+        int[] extracted = new int[1];
+
+        var page = CursoredPageRecord.ofOwned(
+                books,
+                book -> {
+                    extracted[0]++;
+                    return new Object[] { book.getNumPages(), book.getId() };
+                },
+                -1,
+                PageRequest.ofPage(2).size(3),
+                false,
+                false
+        );
+        int eager = extracted[0];
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(eager).isEqualTo(2);
+            soft.assertThat(page.cursor(1)).isEqualTo(Cursor.forKey(317, "101"));
+            soft.assertThat(page.cursors()).hasSize(3);
+            soft.assertThat(page.nextPageRequest().cursor().orElseThrow())
+                    .isEqualTo(Cursor.forKey(202, "102"));
+            soft.assertThat(page.previousPageRequest().cursor().orElseThrow())
+                    .isEqualTo(Cursor.forKey(160, "100"));
+            soft.assertThat(page).isEqualTo(new CursoredPageRecord<>(
+                    books,
+                    List.of(Cursor.forKey(160, "100"),
+                            Cursor.forKey(317, "101"),
+                            Cursor.forKey(202, "102")),
+                    -1,
+                    PageRequest.ofPage(2).size(3),
+                    false,
+                    false));
+        });
+    }
+}
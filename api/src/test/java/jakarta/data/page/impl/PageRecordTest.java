@@ -26,6 +26,9 @@ import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
 import jakarta.data.page.PageRequest.Cursor;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -174,4 +177,78 @@ class PageRecordTest {
         });
     }
 
+    @Test
+    @DisplayName("ofOwned must hold the content without copying it and must not allow it to be modified.")
+    void shouldTakeOwnershipOfContent() {
+
+        PageRequest page2Request = PageRequest.ofPage(2).size(3);
+        List<String> page2Content = new ArrayList<>(List.of("D", "E", "F"));
+        PageRecord<String> page2 = PageRecord.ofOwned(page2Request, page2Content, 7L);
+        PageRecord<String> copy = new PageRecord<>(page2Request, page2.content(), 7L, true);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page2.content()).containsExactly("D", "E", "F");
+            softly.assertThat(page2.hasNext()).isEqualTo(true);
+            softly.assertThat(page2.nextPageRequest()).isEqualTo(PageRequest.ofPage(3).size(3));
+            softly.assertThat(page2).isEqualTo(new PageRecord<>(page2Request, List.of("D", "E", "F"), 7L, true));
+            softly.assertThat(copy.content()).isSameAs(page2.content());
+        });
+        assertThatThrownBy(() -> page2.content().set(0, "X"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> {
+            Iterator<String> it = page2.iterator();
+            it.next();
+            it.remove();
+        }).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> PageRecord.ofOwned(page2Request, Arrays.asList("D", null), 7L))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> PageRecord.ofOwned(page2Request, null, 7L, false))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("Estimated totals must be reported as estimates and corrected by the elements that are known to exist.")
+    void shouldReportEstimatedTotals() {
+        PageRequest page2Request = PageRequest.ofPage(2, 5, true).withEstimatedTotal();
+        PageRecord<String> low = new PageRecord<>(page2Request, List.of("F", "G", "H", "I", "J"), 8L);
+        PageRecord<String> high = new PageRecord<>(page2Request, List.of("F", "G", "H", "I", "J"), 1200L);
+        PageRecord<String> last = new PageRecord<>(page2Request, List.of("F", "G"), 1200L);
+        PageRecord<String> exact = new PageRecord<>(PageRequest.ofPage(2, 5, true), List.of("F", "G", "H", "I", "J"), 8L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(low.hasTotals()).isTrue();
+            softly.assertThat(low.hasEstimatedTotals()).isTrue();
+            softly.assertThat(low.hasNext()).isTrue();
+            softly.assertThat(low.totalElements()).isEqualTo(11L);
+            softly.assertThat(low.totalPages()).isEqualTo(3L);
+            softly.assertThat(low.nextPageRequest().estimateTotal()).isTrue();
+            softly.assertThat(low.previousPageRequest().estimateTotal()).isTrue();
+            softly.assertThat(high.hasEstimatedTotals()).isTrue();
+            softly.assertThat(high.totalElements()).isEqualTo(1200L);
+            softly.assertThat(high.totalPages()).isEqualTo(240L);
+            softly.assertThat(last.hasNext()).isFalse();
+            softly.assertThat(last.hasEstimatedTotals()).isFalse();
+            softly.assertThat(last.totalElements()).isEqualTo(7L);
+            softly.assertThat(last.totalPages()).isEqualTo(2L);
+            softly.assertThat(exact.hasEstimatedTotals()).isFalse();
+            softly.assertThat(exact.hasNext()).isFalse();
+            softly.assertThat(exact.totalElements()).isEqualTo(8L);
+            softly.assertThat(exact.previousPageRequest().estimateTotal()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Estimated totals must not overflow for pages beyond the range of long.")
+    void shouldSaturateEstimatedTotals() {
+        PageRequest farRequest = PageRequest.ofPage(Long.MAX_VALUE / 2, 10, true).withEstimatedTotal();
+        PageRecord<String> far = new PageRecord<>(farRequest, List.of("A", "B", "C", "D", "E", "F", "G", "H", "I", "J"), 100L);
+        PageRecord<String> lastFar = new PageRecord<>(farRequest, List.of("A"), 100L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(far.hasNext()).isTrue();
+            softly.assertThat(far.totalElements()).isEqualTo(Long.MAX_VALUE);
+            softly.assertThat(far.totalPages()).isEqualTo(Long.MAX_VALUE / 10 + 1);
+            softly.assertThat(lastFar.totalElements()).isEqualTo(Long.MAX_VALUE);
+        });
+    }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.restrict;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.data.constraint.Between;
+import jakarta.data.metamodel.ComparableAttribute;
+import jakarta.data.metamodel.TextAttribute;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RestrictionNormalizerTest {
+    // Mock static metamodel class for tests
+    interface _Employee {
+        ComparableAttribute<Employee, Integer> badgeNum = ComparableAttribute.of(
+                Employee.class, "badgeNum", int.class);
+        TextAttribute<Employee> name = TextAttribute.of(
+                Employee.class, "name");
+        ComparableAttribute<Employee, Integer> yearHired = ComparableAttribute.of(
+                Employee.class, "yearHired", int.class);
+    }
+
+    // Mock entity class for tests
+    static class Employee {
+        int badgeNum;
+        String name;
+        int yearHired;
+    }
+
+    @Test
+    @DisplayName("should push negation down into the constraints of basic restrictions")
+    void shouldPushDownNegation() {
+        Restriction<Employee> normalized = Restrict.normalize(Restrict.not(
+                Restrict.all(_Employee.badgeNum.greaterThan(10),
+                             _Employee.name.equalTo("Jakarta"))));
+
+        assertSoftly(softly -> {
+            softly.assertThat(normalized).isInstanceOf(CompositeRestriction.class);
+            CompositeRestriction<Employee> composite =
+                    (CompositeRestriction<Employee>) normalized;
+            softly.assertThat(composite.type()).isEqualTo(CompositeRestriction.Type.ANY);
+            softly.assertThat(composite.isNegated()).isFalse();
+            softly.assertThat(composite.restrictions()).containsExactlyInAnyOrder(
+                    _Employee.badgeNum.lessThanEqual(10),
+                    _Employee.name.notEqualTo("Jakarta"));
+        });
+    }
+
+    @Test
+    @DisplayName("should flatten nested composites and remove duplicates and identity elements")
+    void shouldFlatten() {
+        Restriction<Employee> nested = Restrict.all(
+                _Employee.name.equalTo("Jakarta"),
+                Restrict.unrestricted(),
+                Restrict.all(_Employee.badgeNum.equalTo(5),
+                             _Employee.name.equalTo("Jakarta")));
+        Restriction<Employee> flat = Restrict.all(
+                _Employee.badgeNum.equalTo(5),
+                _Employee.name.equalTo("Jakarta"));
+
+        assertSoftly(softly -> {
+            softly.assertThat(Restrict.normalize(nested))
+                    .isEqualTo(Restrict.normalize(flat));
+            softly.assertThat(Restrict.normalize(nested))
+                    .isSameAs(Restrict.normalize(flat));
+            softly.assertThat(((CompositeRestriction<Employee>) Restrict.normalize(nested))
+                    .restrictions()).hasSize(2);
+            softly.assertThat(Restrict.normalize(Restrict.any(
+                    _Employee.name.equalTo("Jakarta"),
+                    Restrict.not(Restrict.unrestricted()))))
+                    .isEqualTo(_Employee.name.equalTo("Jakarta"));
+        });
+    }
+
+    @Test
+    @DisplayName("should short-circuit composites with absorbing elements")
+    void shouldShortCircuit() {
+        Restriction<Employee> unmatchable = Restrict.not(Restrict.unrestricted());
+
+        assertSoftly(softly -> {
+            softly.assertThat(Restrict.normalize(Restrict.all(
+                    _Employee.name.equalTo("Jakarta"), unmatchable)))
+                    .isSameAs(unmatchable);
+            softly.assertThat(Restrict.normalize(Restrict.any(
+                    _Employee.name.equalTo("Jakarta"), Restrict.unrestricted())))
+                    .isSameAs(Restrict.unrestricted());
+            softly.assertThat(Restrict.normalize(Restrict.not(Restrict.any(
+                    _Employee.name.equalTo("Jakarta"), Restrict.unrestricted()))))
+                    .isSameAs(unmatchable);
+        });
+    }
+
+    @Test
+    @DisplayName("should produce the same canonical form regardless of order")
+    void shouldIgnoreOrder() {
+        Restriction<Employee> r1 = Restrict.any(
+                _Employee.name.startsWith("J"),
+                _Employee.badgeNum.lessThan(100),
+                _Employee.yearHired.equalTo(2026));
+        Restriction<Employee> r2 = Restrict.any(
+                _Employee.yearHired.equalTo(2026),
+                _Employee.name.startsWith("J"),
+                _Employee.badgeNum.lessThan(100));
+
+        assertSoftly(softly -> {
+            softly.assertThat(Restrict.normalize(r1)).isSameAs(Restrict.normalize(r2));
+            softly.assertThat(Restrict.normalize(Restrict.normalize(r1)))
+                    .isSameAs(Restrict.normalize(r1));
+        });
+    }
+
+    @Test
+    @DisplayName("should merge lower and upper bounds on the same expression into a range")
+    void shouldMergeRanges() {
+        Restriction<Employee> normalized = Restrict.normalize(Restrict.all(
+                _Employee.yearHired.greaterThanEqual(2000),
+                _Employee.badgeNum.lessThanEqual(100),
+                Restrict.not(_Employee.yearHired.greaterThan(2010))));
+
+        assertSoftly(softly -> {
+            CompositeRestriction<Employee> composite =
+                    (CompositeRestriction<Employee>) normalized;
+            softly.assertThat(composite.restrictions()).containsExactlyInAnyOrder(
+                    _Employee.yearHired.between(2000, 2010),
+                    _Employee.badgeNum.lessThanEqual(100));
+            softly.assertThat(Restrict.normalize(Restrict.all(
+                    _Employee.yearHired.lessThanEqual(2010),
+                    _Employee.yearHired.greaterThanEqual(2000))))
+                    .isEqualTo(_Employee.yearHired.between(2000, 2010));
+            softly.assertThat(((BasicRestriction<?, ?>) Restrict.normalize(Restrict.all(
+                    _Employee.yearHired.lessThanEqual(2010),
+                    _Employee.yearHired.greaterThanEqual(2000)))).constraint())
+                    .isInstanceOf(Between.class);
+            softly.assertThat(Restrict.normalize(Restrict.any(
+                    _Employee.yearHired.lessThanEqual(2010),
+                    _Employee.yearHired.greaterThanEqual(2000))))
+                    .isInstanceOf(CompositeRestriction.class);
+        });
+    }
+
+    @Test
+    @DisplayName("should merge every range when merging moves restrictions")
+    void shouldMergeAllRanges() {
+        List<Restriction<?>> restrictions = new ArrayList<>(List.of(
+                _Employee.yearHired.lessThanEqual(2010),
+                _Employee.yearHired.greaterThanEqual(2000),
+                _Employee.badgeNum.greaterThanEqual(1),
+                _Employee.badgeNum.lessThanEqual(100)));
+
+        assertSoftly(softly -> {
+            softly.assertThat(RestrictionNormalizer.mergeRanges(restrictions)).isTrue();
+            softly.assertThat(restrictions).containsExactly(
+                    _Employee.yearHired.between(2000, 2010),
+                    _Employee.badgeNum.between(1, 100));
+        });
+    }
+
+    @Test
+    @DisplayName("should order restrictions by their text")
+    void shouldOrderByText() {
+        Restriction<Employee> normalized = Restrict.normalize(Restrict.any(
+                _Employee.yearHired.equalTo(2026),
+                _Employee.name.equalTo("Jakarta"),
+                _Employee.badgeNum.lessThan(100)));
+
+        assertSoftly(softly -> softly.assertThat(
+                ((CompositeRestriction<Employee>) normalized).restrictions())
+                .containsExactly(_Employee.badgeNum.lessThan(100),
+                                 _Employee.name.equalTo("Jakarta"),
+                                 _Employee.yearHired.equalTo(2026)));
+    }
+
+    @Test
+    @DisplayName("should reject a null restriction")
+    void shouldRejectNull() {
+        assertThatThrownBy(() -> Restrict.normalize(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,605 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.evaluation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.constraint.In;
+import jakarta.data.constraint.NotIn;
+import jakarta.data.expression.TemporalExpression;
+import jakarta.data.metamodel.NumericAttribute;
+import jakarta.data.metamodel.TemporalAttribute;
+import jakarta.data.metamodel.TextAttribute;
+import jakarta.data.mock.entity.Book;
+import jakarta.data.mock.entity.BookSimulator;
+import jakarta.data.mock.entity._Book;
+import jakarta.data.page.PageRequest;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EvaluatorTest {
+
+    private static final List<Book> BOOKS = BookSimulator.mock(5);
+
+    // Mock entity with null values, for sorting
+    record Item(String name, Integer rank, int size) {
+    }
+
+    // Mock static metamodel class for the entity
+    interface _Item {
+        TextAttribute<Item> name = TextAttribute.of(Item.class, "name");
+        NumericAttribute<Item, Integer> rank = NumericAttribute.of(Item.class, "rank", Integer.class);
+        NumericAttribute<Item, Integer> size = NumericAttribute.of(Item.class, "size", int.class);
+    }
+
+    private static final Evaluator<Item> ITEMS = Evaluator.of(Item.class, MethodHandles.lookup());
+
+    // Mock entity with numeric values that are not integral types
+    record Reading(double value, BigDecimal amount) {
+    }
+
+    // Mock static metamodel class for the entity
+    interface _Reading {
+        NumericAttribute<Reading, Double> value = NumericAttribute.of(Reading.class, "value", double.class);
+        NumericAttribute<Reading, BigDecimal> amount = NumericAttribute.of(Reading.class, "amount", BigDecimal.class);
+    }
+
+    // Fixed clock that counts how many times it is read
+    static class CountingClock extends Clock {
+        final LongAdder reads = new LongAdder();
+        final Clock clock;
+
+        CountingClock(String instant) {
+            clock = Clock.fixed(Instant.parse(instant), ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return clock.getZone();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            reads.increment();
+            return clock.instant();
+        }
+    }
+
+    private static List<String> ids(Restriction<Book> restriction) {
+        Predicate<Book> predicate = Evaluator.of(Book.class).compile(restriction);
+        return BOOKS.stream()
+                .filter(predicate)
+                .map(Book::getId)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("should evaluate comparisons of primitive attributes")
+    void shouldEvaluatePrimitiveComparisons() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ids(_Book.numPages.greaterThan(200)))
+                    .containsExactly("101", "102");
+            soft.assertThat(ids(_Book.numPages.greaterThanEqual(202)))
+                    .containsExactly("101", "102");
+            soft.assertThat(ids(_Book.numChapters.lessThan(13)))
+                    .containsExactly("100", "102");
+            soft.assertThat(ids(_Book.numChapters.lessThanEqual(13)))
+                    .containsExactly("100", "102", "103");
+            soft.assertThat(ids(_Book.numChapters.between(12, 14)))
+                    .containsExactly("102", "103", "104");
+            soft.assertThat(ids(_Book.numChapters.notBetween(12, 14)))
+                    .containsExactly("100", "101");
+            soft.assertThat(ids(_Book.numPages.equalTo(133)))
+                    .containsExactly("103");
+            soft.assertThat(ids(_Book.numPages.notEqualTo(133)))
+                    .containsExactly("100", "101", "102", "104");
+        });
+    }
+
+    @Test
+    @DisplayName("should evaluate comparisons of text and temporal attributes")
+    void shouldEvaluateObjectComparisons() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ids(_Book.title.equalTo("Knowing Jakarta NoSQL")))
+                    .containsExactly("102");
+            soft.assertThat(ids(_Book.id.lessThan("102")))
+                    .containsExactly("100", "101");
+            soft.assertThat(ids(_Book.publicationDate.lessThan(LocalDate.of(2026, 2, 1))))
+                    .containsExactly("101", "103");
+            soft.assertThat(ids(_Book.title.isNull()))
+                    .isEmpty();
+            soft.assertThat(ids(_Book.title.notNull()))
+                    .hasSize(5);
+        });
+    }
+
+    @Test
+    @DisplayName("should match the same numbers of other types with a value set as with a list of values")
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void shouldMatchNumbersInValueSets() {
+        List<Number> integrals = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            integrals.add(i % 2 == 0 ? Integer.valueOf(i * 2) : Long.valueOf(i * 2L));
+        }
+        List<Reading> readings = List.of(new Reading(2.0, new BigDecimal("2.00")),
+                                         new Reading(2.5, new BigDecimal("2.5")),
+                                         new Reading(-0.0, BigDecimal.ZERO),
+                                         new Reading(1998.0, new BigDecimal("1998")),
+                                         new Reading(3.0, new BigDecimal("3.0")));
+        Evaluator<Reading> evaluator = Evaluator.of(Reading.class, MethodHandles.lookup());
+
+        SoftAssertions.assertSoftly(soft -> {
+            for (NumericAttribute<Reading, ?> attribute : List.of(_Reading.value, _Reading.amount)) {
+                List<Reading> listed = readings.stream()
+                        .filter(evaluator.compile(attribute.satisfies((In) In.values(integrals))))
+                        .toList();
+                List<Reading> hashed = readings.stream()
+                        .filter(evaluator.compile(attribute.satisfies((In) In.valueSet(integrals))))
+                        .toList();
+                soft.assertThat(hashed).as(attribute.name()).isEqualTo(listed);
+                soft.assertThat(hashed).as(attribute.name()).hasSize(attribute == _Reading.value ? 2 : 3);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("should evaluate In and NotIn constraints")
+    void shouldEvaluateIn() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ids(_Book.id.in("104", "100", "999")))
+                    .containsExactly("100", "104");
+            soft.assertThat(ids(_Book.id.notIn("104", "100", "999")))
+                    .containsExactly("101", "102", "103");
+            soft.assertThat(ids(_Book.numPages.in(160, 148)))
+                    .containsExactly("100", "104");
+            soft.assertThat(ids(_Book.numPages.satisfies(In.valueSet(List.of(160, 148)))))
+                    .containsExactly("100", "104");
+            soft.assertThat(ids(_Book.id.satisfies(NotIn.valueSet(List.of("101", "102")))))
+                    .containsExactly("100", "103", "104");
+        });
+    }
+
+    @Test
+    @DisplayName("should evaluate Like and NotLike constraints")
+    void shouldEvaluateLike() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ids(_Book.title.contains("Jakarta N")))
+                    .containsExactly("102");
+            soft.assertThat(ids(_Book.title.startsWith("Exploring")))
+                    .containsExactly("101");
+            soft.assertThat(ids(_Book.title.endsWith("Data")))
+                    .containsExactly("100");
+            soft.assertThat(ids(_Book.title.notLike("%Jakarta%")))
+                    .isEmpty();
+            soft.assertThat(ids(_Book.title.like("_nowing%")))
+                    .containsExactly("102");
+            soft.assertThat(ids(_Book.id.like("10_")))
+                    .hasSize(5);
+        });
+    }
+
+    @Test
+    @DisplayName("should evaluate composite restrictions and negation")
+    void shouldEvaluateComposites() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ids(Restrict.all(_Book.numPages.greaterThan(140),
+                                             _Book.numChapters.lessThan(14))))
+                    .containsExactly("100", "102");
+            soft.assertThat(ids(Restrict.any(_Book.id.equalTo("100"),
+                                             _Book.id.equalTo("103"),
+                                             _Book.id.equalTo("104"))))
+                    .containsExactly("100", "103", "104");
+            soft.assertThat(ids(Restrict.not(Restrict.all(
+                                    _Book.numPages.greaterThan(140),
+                                    _Book.numChapters.lessThan(14)))))
+                    .containsExactly("101", "103", "104");
+            soft.assertThat(ids(Restrict.unrestricted()))
+                    .hasSize(5);
+            soft.assertThat(ids(Restrict.not(Restrict.unrestricted())))
+                    .isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("should evaluate numeric and text function expressions")
+    void shouldEvaluateFunctions() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ids(_Book.numPages.plus(40).greaterThan(300)))
+                    .containsExactly("101");
+            soft.assertThat(ids(_Book.numPages.dividedBy(10).equalTo(20)))
+                    .containsExactly("102");
+            soft.assertThat(ids(_Book.title.length().equalTo(21)))
+                    .containsExactly("102");
+            soft.assertThat(ids(_Book.title.upper().startsWith("LEARNING")))
+                    .containsExactly("103");
+            soft.assertThat(ids(_Book.title.left(4).equalTo("Stud")))
+                    .containsExactly("104");
+            soft.assertThat(ids(_Book.numChapters.lessThan(_Book.numPages.dividedBy(10))))
+                    .containsExactly("100", "101", "102");
+        });
+    }
+
+    @Test
+    @DisplayName("should evaluate numeric expressions with the semantics of their types")
+    void shouldEvaluateNumericExpressions() {
+        List<Item> items = List.of(new Item("a", null, 2),
+                                   new Item("b", null, -3),
+                                   new Item("c", null, 5));
+        Function<Restriction<Item>, List<Integer>> sizes = restriction -> {
+            Predicate<Item> predicate = ITEMS.compile(restriction);
+            return items.stream().filter(predicate).map(Item::size).toList();
+        };
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(sizes.apply(_Item.size.times(Integer.MAX_VALUE).lessThan(0)))
+                    .containsExactly(2, -3);
+            soft.assertThat(sizes.apply(_Item.size.asLong().times((long) Integer.MAX_VALUE).greaterThan(0L)))
+                    .containsExactly(2, 5);
+            soft.assertThat(sizes.apply(_Item.size.negated().abs().plus(1).in(3, 4)))
+                    .containsExactly(2, -3);
+            soft.assertThat(sizes.apply(_Item.size.dividedBy(2).times(2).notEqualTo(_Item.size)))
+                    .containsExactly(-3, 5);
+            soft.assertThat(sizes.apply(_Item.size.asDouble().dividedBy(4.0).greaterThan(1.0)))
+                    .containsExactly(5);
+            soft.assertThat(sizes.apply(_Item.size.asDouble().dividedBy(4.0).asLong().equalTo(0L)))
+                    .containsExactly(2, -3);
+            soft.assertThat(sizes.apply(_Item.size.asBigDecimal()
+                            .times(new BigDecimal("1.25"))
+                            .minus(new BigDecimal("0.5"))
+                            .equalTo(new BigDecimal("2.00"))))
+                    .containsExactly(2);
+            soft.assertThat(sizes.apply(_Item.size.asBigInteger()
+                            .times(BigInteger.valueOf(Long.MAX_VALUE))
+                            .greaterThan(BigInteger.valueOf(Long.MAX_VALUE))))
+                    .containsExactly(2, 5);
+            soft.assertThat(sizes(items, Order.by(Sort.desc(_Item.size.asDouble().times(-0.5)))))
+                    .containsExactly(-3, 2, 5);
+        });
+    }
+
+    @Test
+    @DisplayName("should evaluate chains of text functions as the String functions do")
+    void shouldEvaluateTextFunctionChains() {
+        List<Item> items = new ArrayList<>();
+        for (String name : new String[] { "Jakarta Data", "straße", "Ærø", "İzmir", "ÿes µ", "ΟΔΟΣ", "", "izmir" }) {
+            items.add(new Item(name, 1, items.size()));
+        }
+        items.add(new Item(null, 1, items.size()));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(names(items, _Item.name.lower().startsWith("jak")))
+                    .containsExactly("Jakarta Data");
+            soft.assertThat(names(items, _Item.name.upper().endsWith("SSE")))
+                    .containsExactly("straße");
+            soft.assertThat(names(items, _Item.name.upper().length().equalTo(7)))
+                    .containsExactly("straße");
+            soft.assertThat(names(items, _Item.name.upper().left(4).append("!").equalTo("STRA!")))
+                    .isEqualTo(expectedNames(items, n -> ExpressionCompiler
+                            .left(n.toUpperCase(Locale.ROOT), 4).concat("!").equals("STRA!")));
+            soft.assertThat(names(items, _Item.name.prepend("<").right(3).lower().like("%_r")))
+                    .isEqualTo(expectedNames(items, n -> ExpressionCompiler
+                            .right("<" + n, 3).toLowerCase(Locale.ROOT).matches(".*.r")));
+            soft.assertThat(names(items, _Item.name.left(2).prepend(">").append("<").upper().greaterThan(">J")))
+                    .isEqualTo(expectedNames(items, n -> (">" + ExpressionCompiler.left(n, 2) + "<")
+                            .toUpperCase(Locale.ROOT).compareTo(">J") > 0));
+            soft.assertThat(names(items, _Item.name.upper().lower().contains("i\u0307")))
+                    .isEqualTo(expectedNames(items, n -> n.toUpperCase(Locale.ROOT)
+                            .toLowerCase(Locale.ROOT).contains("i\u0307")));
+            soft.assertThat(names(items, _Item.name.lower().append("ς").upper().right(3).notEqualTo("ΟΣΣ")))
+                    .isEqualTo(expectedNames(items, n -> !ExpressionCompiler.right(n.toLowerCase(Locale.ROOT)
+                            .concat("ς").toUpperCase(Locale.ROOT), 3).equals("ΟΣΣ")));
+            soft.assertThat(names(items, _Item.name.lower().left(3).length().lessThan(3)))
+                    .isEqualTo(expectedNames(items, n -> ExpressionCompiler
+                            .left(n.toLowerCase(Locale.ROOT), 3).length() < 3));
+            soft.assertThat(sizes(items, Order.by(_Item.name.ascIgnoreCase())))
+                    .containsExactly(6, 7, 3, 0, 1, 2, 4, 5, 8);
+        });
+    }
+
+    @Test
+    @DisplayName("should read the clock once per query for the current date and time")
+    void shouldSnapshotClock() {
+        CountingClock clock = new CountingClock("2026-02-06T11:00:00Z");
+        Evaluator<Book> evaluator = Evaluator.of(Book.class).withClock(clock);
+        TemporalAttribute<Book, LocalDateTime> publishedAt = TemporalAttribute.of(
+                Book.class, "publishedAt", LocalDateTime.class,
+                book -> book.getPublicationDate().atTime(LocalTime.NOON), null);
+        TemporalAttribute<Book, LocalTime> noon = TemporalAttribute.of(
+                Book.class, "noon", LocalTime.class, book -> LocalTime.NOON, null);
+        Restriction<Book> published = Restrict.all(
+                _Book.publicationDate.lessThan(TemporalExpression.localDate()),
+                publishedAt.lessThan(TemporalExpression.localDateTime()),
+                noon.greaterThan(TemporalExpression.localTime()));
+
+        List<String> compiled = BOOKS.stream()
+                .filter(evaluator.compile(published))
+                .map(Book::getId)
+                .toList();
+        long compileReads = clock.reads.sum();
+        List<String> found = evaluator.find(BOOKS,
+                        Restrict.any(published,
+                                     _Book.publicationDate.in(TemporalExpression.localDate())),
+                        Order.by(_Book.id.desc()), null)
+                .stream()
+                .map(Book::getId)
+                .toList();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(compiled).containsExactly("101", "103");
+            soft.assertThat(compileReads).isEqualTo(1);
+            soft.assertThat(found).containsExactly("104", "103", "102", "101", "100");
+            soft.assertThat(clock.reads.sum()).isEqualTo(2);
+            soft.assertThat(evaluator.clock()).isSameAs(clock);
+            soft.assertThat(Evaluator.of(Book.class).clock().getZone())
+                    .isEqualTo(ZoneId.systemDefault());
+        });
+    }
+
+    @Test
+    @DisplayName("should extract the keys of cursors from sort criteria")
+    void shouldExtractKeys() {
+        Function<Book, Object[]> keys = Evaluator.of(Book.class).keyExtractor(
+                Order.by(_Book.numPages.desc(), Sort.asc(_Book.ID)));
+        Book book = BOOKS.get(1);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(keys.apply(book)).containsExactly(317, "101");
+            soft.assertThat(keys.apply(book)).isNotSameAs(keys.apply(book));
+        });
+        assertThatThrownBy(() -> Evaluator.of(Book.class).keyExtractor(
+                Order.by(Sort.asc(_Book.title.upper()))))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("should sort entities by sort criteria")
+    void shouldSort() {
+        Order<Book> byPages = Order.by(_Book.numPages.asc());
+        Order<Book> byTitleLength = Order.by(Sort.desc(_Book.title.length()), Sort.asc(_Book.ID));
+        List<Book> sorted = Evaluator.of(Book.class).sort(BOOKS, byPages);
+        List<Book> copy = new ArrayList<>(BOOKS);
+        copy.sort(Evaluator.of(Book.class).comparator(byTitleLength));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(sorted.stream().map(Book::getId).toList())
+                    .containsExactly("103", "104", "100", "102", "101");
+            soft.assertThat(Evaluator.of(Book.class).sort(BOOKS, byTitleLength))
+                    .isEqualTo(copy);
+            soft.assertThat(Evaluator.of(Book.class).sort(List.of(), byPages))
+                    .isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("should sort null values and ignore case according to the sort criteria")
+    void shouldSortNullsAndIgnoreCase() {
+        List<Item> items = List.of(new Item("b", 2, 1),
+                                   new Item("A", null, 2),
+                                   new Item(null, 1, 3),
+                                   new Item("a", null, 4),
+                                   new Item("C", 3, 5));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(sizes(items, Order.by(_Item.name.ascIgnoreCase())))
+                    .containsExactly(2, 4, 1, 5, 3);
+            soft.assertThat(sizes(items, Order.by(_Item.name.asc().nullsFirst())))
+                    .containsExactly(3, 2, 5, 4, 1);
+            soft.assertThat(sizes(items, Order.by(_Item.name.desc())))
+                    .containsExactly(3, 1, 4, 5, 2);
+            soft.assertThat(sizes(items, Order.by(_Item.rank.desc().nullsLast(), _Item.size.desc())))
+                    .containsExactly(5, 1, 3, 4, 2);
+            soft.assertThat(sizes(items, Order.by(_Item.rank.asc(), _Item.size.desc())))
+                    .containsExactly(3, 1, 5, 4, 2);
+            soft.assertThat(sizes(items, Order.by(Sort.asc(_Item.size.times(-1)))))
+                    .containsExactly(5, 4, 3, 2, 1);
+        });
+    }
+
+    @Test
+    @DisplayName("should sort many entities in the same order as the comparator")
+    void shouldSortConsistentlyWithComparator() {
+        Random random = new Random(42);
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(new Item(random.nextInt(8) == 0 ? null : Integer.toString(random.nextInt(50), 36),
+                               random.nextInt(8) == 0 ? null : random.nextInt(20),
+                               i));
+        }
+        Order<Item> order = Order.by(_Item.rank.desc().nullsFirst(), _Item.name.ascIgnoreCase());
+        List<Item> expected = new ArrayList<>(items);
+        expected.sort(ITEMS.comparator(order));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ITEMS.sort(items, order)).isEqualTo(expected);
+            soft.assertThat(ITEMS.sort(items, Order.by(_Item.size.desc())).get(0).size())
+                    .isEqualTo(999);
+        });
+        assertThatThrownBy(() -> ITEMS.sort(null, order))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ITEMS.comparator(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("should select the entities within a limit or page as a full sort would")
+    void shouldSelectFirstEntities() {
+        Random random = new Random(7);
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            items.add(new Item(null, random.nextInt(16) == 0 ? null : random.nextInt(1000), i));
+        }
+        Order<Item> order = Order.by(_Item.rank.asc());
+        List<Item> sorted = ITEMS.sort(items, order);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ITEMS.sort(items, order, Limit.of(20)))
+                    .isEqualTo(sorted.subList(0, 20));
+            soft.assertThat(ITEMS.sort(items, order, Limit.range(101, 150)))
+                    .isEqualTo(sorted.subList(100, 150));
+            soft.assertThat(ITEMS.sort(items.subList(0, 1000), Order.by(_Item.rank.desc()), Limit.of(10)))
+                    .isEqualTo(ITEMS.sort(items.subList(0, 1000), Order.by(_Item.rank.desc())).subList(0, 10));
+            soft.assertThat(ITEMS.sort(items, order, PageRequest.ofPage(3, 25, false)))
+                    .isEqualTo(sorted.subList(50, 75));
+            soft.assertThat(ITEMS.sort(items, order, Limit.range(99_990, 100_010)))
+                    .isEqualTo(sorted.subList(99_989, 100_000));
+            soft.assertThat(ITEMS.sort(items, order, Limit.range(200_001, 200_010)))
+                    .isEmpty();
+        });
+        assertThatThrownBy(() -> ITEMS.sort(items, order,
+                PageRequest.ofSize(10).afterCursor(PageRequest.Cursor.forKey(1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should find entities in parallel as a sequential filter and sort would")
+    void shouldFindInParallel() {
+        Random random = new Random(11);
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            items.add(new Item(null, random.nextInt(100), i));
+        }
+        LongAdder reads = new LongAdder();
+        NumericAttribute<Item, Integer> rank = NumericAttribute.of(Item.class, "rank",
+                Integer.class, item -> {
+                    reads.increment();
+                    return item.rank();
+                }, null);
+        Restriction<Item> restriction = rank.lessThan(2);
+        List<Item> filtered = items.stream().filter(ITEMS.compile(restriction)).toList();
+        Order<Item> order = Order.by(_Item.rank.desc(), _Item.size.asc());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Item> all = ITEMS.find(items, restriction, Order.by(), null, pool);
+            List<Item> sorted = ITEMS.find(items, restriction, order, Limit.range(5, 24), pool);
+            List<Item> page = ITEMS.find(items, restriction, Order.by(), Limit.range(11, 20));
+            reads.reset();
+            List<Item> first = ITEMS.find(items, restriction, Order.by(), Limit.of(10), pool);
+            long firstReads = reads.sum();
+
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(all).isEqualTo(filtered);
+                soft.assertThat(sorted).isEqualTo(ITEMS.sort(filtered, order).subList(4, 24));
+                soft.assertThat(page).isEqualTo(filtered.subList(10, 20));
+                soft.assertThat(first).isEqualTo(filtered.subList(0, 10));
+                soft.assertThat(firstReads).isLessThan(items.size() / 2L);
+                soft.assertThat(ITEMS.find(List.of(), restriction, order, Limit.of(10), pool))
+                        .isEmpty();
+            });
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<String> names(List<Item> items, Restriction<Item> restriction) {
+        Predicate<Item> predicate = ITEMS.compile(restriction);
+        return items.stream().filter(predicate).map(Item::name).toList();
+    }
+
+    private static List<String> expectedNames(List<Item> items, Predicate<String> expected) {
+        return items.stream()
+                .map(Item::name)
+                .filter(name -> name != null && expected.test(name))
+                .toList();
+    }
+
+    private static List<Integer> sizes(List<Item> items, Order<Item> order) {
+        List<Integer> sorted = ITEMS.sort(items, order).stream().map(Item::size).toList();
+        List<Item> copy = new ArrayList<>(items);
+        copy.sort(ITEMS.comparator(order));
+        assertThat(copy.stream().map(Item::size).toList()).isEqualTo(sorted);
+        return sorted;
+    }
+
+    @Test
+    @DisplayName("should read attributes with the getters of the static metamodel")
+    void shouldUseAttributeAccessors() {
+        // Neither attribute name matches a field or getter of the entity
+        TextAttribute<Book> upperTitle = TextAttribute.of(Book.class, "upperTitle",
+                book -> book.getTitle().toUpperCase(Locale.ROOT), null);
+        NumericAttribute<Book, Integer> pages = NumericAttribute.of(Book.class, "pages",
+                Integer.class, Book::getNumPages, null);
+        Function<Book, Object[]> keys = Evaluator.of(Book.class)
+                .keyExtractor(Order.by(pages.desc(), upperTitle.asc()));
+        Book book = BOOKS.get(1);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ids(upperTitle.startsWith("EXPLORING")))
+                    .containsExactly("101");
+            soft.assertThat(ids(pages.greaterThan(200)))
+                    .containsExactly("101", "102");
+            soft.assertThat(ids(pages.in(160, 148)))
+                    .containsExactly("100", "104");
+            soft.assertThat(keys.apply(book)).containsExactly(
+                    book.getNumPages(), book.getTitle().toUpperCase(Locale.ROOT));
+        });
+    }
+
+    @Test
+    @DisplayName("should reuse the evaluator for an entity class")
+    void shouldReuseEvaluator() {
+        Evaluator<Book> evaluator = Evaluator.of(Book.class);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(Evaluator.of(Book.class)).isSameAs(evaluator);
+            soft.assertThat(evaluator.entityClass()).isEqualTo(Book.class);
+        });
+    }
+
+    @Test
+    @DisplayName("should reject null arguments")
+    void shouldRejectNull() {
+        assertThatThrownBy(() -> Evaluator.of(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> Evaluator.of(Book.class).compile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> Evaluator.of(Book.class).withClock(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
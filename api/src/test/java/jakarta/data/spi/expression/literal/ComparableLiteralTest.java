@@ -24,6 +24,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import jakarta.data.constraint.EqualTo;
 import jakarta.data.expression.ComparableExpression;
 import jakarta.data.spi.expression.literal.ComparableLiteral;
 
@@ -165,4 +166,24 @@ class ComparableLiteralTest {
             soft.assertThat(literal).isInstanceOf(ComparableExpression.class);
         });
     }
-}
\ No newline at end of file
+
+    @DisplayName("should return the same instance for booleans and small integers")
+    @Test
+    void shouldShareSmallLiterals() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(ComparableLiteral.of(true)).isSameAs(BooleanLiteral.of(true));
+            soft.assertThat(BooleanLiteral.of(false)).isSameAs(BooleanLiteral.of(false));
+            soft.assertThat(BooleanLiteral.of(false).value()).isFalse();
+            soft.assertThat(ComparableLiteral.of(-128)).isSameAs(NumericLiteral.of(-128));
+            soft.assertThat(NumericLiteral.of(127L)).isSameAs(ComparableLiteral.of(127L));
+            soft.assertThat(NumericLiteral.of(127L).value()).isEqualTo(127L);
+            soft.assertThat(NumericLiteral.of(-5).value()).isEqualTo(-5);
+            soft.assertThat(NumericLiteral.of(128)).isNotSameAs(NumericLiteral.of(128))
+                    .isEqualTo(NumericLiteral.of(128));
+            soft.assertThat(NumericLiteral.of(-129L)).isNotSameAs(NumericLiteral.of(-129L));
+            soft.assertThat(NumericLiteral.of(1)).isNotEqualTo(NumericLiteral.of(1L));
+            soft.assertThat(EqualTo.value(true)).isSameAs(EqualTo.value(Boolean.TRUE));
+            soft.assertThat(EqualTo.value(false).expression()).isSameAs(BooleanLiteral.of(false));
+        });
+    }
+}
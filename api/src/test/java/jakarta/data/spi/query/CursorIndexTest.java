@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.metamodel.NumericAttribute;
+import jakarta.data.metamodel.TextAttribute;
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import jakarta.data.page.PageRequest.Cursor;
+import jakarta.data.page.impl.CursoredPageRecord;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.spi.evaluation.Evaluator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorIndexTest {
+    // Mock entity for tests
+    record Car(String make, int price, int id) {
+    }
+
+    record Truck(String make, int id) {
+    }
+
+    // Mock static metamodel class for tests
+    interface _Car {
+        TextAttribute<Car> make = TextAttribute.of(Car.class, "make");
+        NumericAttribute<Car, Integer> price = NumericAttribute.of(Car.class, "price", int.class);
+        NumericAttribute<Car, Integer> id = NumericAttribute.of(Car.class, "id", int.class);
+    }
+
+    private static final Evaluator<Car> CARS = Evaluator.of(Car.class, MethodHandles.lookup());
+
+    private static final Order<Car> ORDER = Order.by(_Car.price.desc(), _Car.id.asc());
+
+    private static List<Car> cars() {
+        List<Car> cars = new ArrayList<>();
+        for (int id = 1; id <= 100; id++) {
+            cars.add(new Car(id % 3 == 0 ? "Jakarta" : "Data", (id * 37) % 11, id));
+        }
+        return cars;
+    }
+
+    // Obtains a page of the cars, seeking from the index where possible
+    private static List<Car> page(CursorIndex index,
+                                  List<Car> cars,
+                                  Restriction<Car> restriction,
+                                  PageRequest pageRequest) {
+        Optional<CursorIndex.Seek> seek = index.seek(Car.class, restriction, ORDER, pageRequest);
+        List<Car> results;
+        if (seek.isPresent()) {
+            Keyset<Car> keyset = Keyset.of(Car.class, ORDER, seek.get().pageRequest());
+            long skip = seek.get().skip();
+            results = CARS.find(cars, Restrict.all(restriction, keyset.restriction()), ORDER,
+                                Limit.range(skip + 1, skip + pageRequest.size()));
+        } else {
+            results = CARS.find(cars, restriction, ORDER,
+                                Limit.range((pageRequest.pageNumber() - 1) * pageRequest.size() + 1,
+                                            pageRequest.pageNumber() * pageRequest.size()));
+        }
+        if (!results.isEmpty()) {
+            CursoredPage<Car> page = CursoredPageRecord.ofOwned(
+                    new ArrayList<>(results), CARS.keyExtractor(ORDER), -1, pageRequest,
+                    pageRequest.pageNumber() == 1, results.size() < pageRequest.size());
+            index.record(Car.class, restriction, ORDER, page);
+        }
+        return results;
+    }
+
+    @Test
+    @DisplayName("should seek to a page from the nearest known boundary")
+    void shouldSeekFromNearestBoundary() {
+        CursorIndex index = CursorIndex.of(10, 100);
+        List<Car> cars = cars();
+        Restriction<Car> data = _Car.make.equalTo("Data");
+        for (int p = 1; p <= 3; p++) {
+            page(index, cars, data, PageRequest.ofPage(p, 10, false));
+        }
+
+        Optional<CursorIndex.Seek> seek5 = index.seek(Car.class, data, ORDER, PageRequest.ofPage(5, 10, false));
+        Optional<CursorIndex.Seek> seek4 = index.seek(Car.class, _Car.make.equalTo("Data"), ORDER, PageRequest.ofPage(4, 10, false));
+
+        assertSoftly(softly -> {
+            softly.assertThat(seek5.orElseThrow().skip()).isEqualTo(10L);
+            softly.assertThat(seek5.orElseThrow().pageRequest().mode())
+                    .isEqualTo(PageRequest.Mode.CURSOR_NEXT);
+            softly.assertThat(seek5.orElseThrow().pageRequest().pageNumber()).isEqualTo(5L);
+            softly.assertThat(seek4.orElseThrow().skip()).isEqualTo(0L);
+            softly.assertThat(index.seek(Car.class, data, ORDER, PageRequest.ofPage(1, 10, false))).isEmpty();
+            softly.assertThat(index.seek(Car.class, data, ORDER, PageRequest.ofPage(2, 25, false))
+                    .orElseThrow().skip()).isEqualTo(5L);
+            softly.assertThat(index.seek(Car.class, data, ORDER, PageRequest.ofPage(2, 10, false)
+                    .afterCursor(Cursor.forKey(5, 5)))).isEmpty();
+            softly.assertThat(index.seek(Car.class, _Car.make.equalTo("Jakarta"), ORDER,
+                    PageRequest.ofPage(5, 10, false))).isEmpty();
+            softly.assertThat(index.seek(Car.class, data, Order.by(_Car.id.asc()),
+                    PageRequest.ofPage(5, 10, false))).isEmpty();
+            softly.assertThat(index.size()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("should obtain the same pages by seeking as by offset")
+    void shouldMatchOffsetPages() {
+        CursorIndex index = CursorIndex.of(10, 4);
+        List<Car> cars = cars();
+        Restriction<Car> restriction = _Car.price.lessThan(9);
+        for (int p = 1; p <= 8; p++) {
+            page(index, cars, restriction, PageRequest.ofPage(p, 7, false));
+        }
+
+        assertSoftly(softly -> {
+            for (int size : new int[] { 3, 7, 10 }) {
+                for (int p = 1; p <= 12; p++) {
+                    PageRequest pageRequest = PageRequest.ofPage(p, size, false);
+                    softly.assertThat(page(CursorIndex.of(1, 2), cars, restriction, pageRequest))
+                            .as("page " + p + " of size " + size)
+                            .containsExactlyElementsOf(page(index, cars, restriction, pageRequest));
+                }
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("should evict the least recently used queries and every other boundary")
+    void shouldEvict() {
+        CursorIndex index = CursorIndex.of(2, 4);
+        Restriction<Car> q1 = _Car.price.lessThan(1);
+        Restriction<Car> q2 = _Car.price.lessThan(2);
+        Restriction<Car> q3 = _Car.price.lessThan(3);
+        index.record(Car.class, q1, ORDER, 10, Cursor.forKey(1, 10));
+        index.record(Car.class, q2, ORDER, 10, Cursor.forKey(2, 10));
+        index.seek(Car.class, q1, ORDER, PageRequest.ofPage(2, 10, false));
+        index.record(Car.class, q3, ORDER, 10, Cursor.forKey(3, 10));
+        for (int position = 20; position <= 50; position += 10) {
+            index.record(Car.class, q1, ORDER, position, Cursor.forKey(1, position));
+        }
+
+        assertSoftly(softly -> {
+            softly.assertThat(index.size()).isEqualTo(2);
+            softly.assertThat(index.seek(Car.class, q2, ORDER, PageRequest.ofPage(2, 10, false))).isEmpty();
+            softly.assertThat(index.seek(Car.class, q3, ORDER, PageRequest.ofPage(2, 10, false))).isPresent();
+            // boundaries at 10, 20, 30, 40, 50 are thinned to 20, 40, 50
+            softly.assertThat(index.seek(Car.class, q1, ORDER, PageRequest.ofPage(2, 10, false))).isEmpty();
+            softly.assertThat(index.seek(Car.class, q1, ORDER, PageRequest.ofPage(4, 10, false))
+                    .orElseThrow().skip()).isEqualTo(10L);
+            softly.assertThat(index.seek(Car.class, q1, ORDER, PageRequest.ofPage(6, 10, false))
+                    .orElseThrow().skip()).isEqualTo(0L);
+        });
+
+        index.invalidate(Car.class, q1, ORDER);
+        assertSoftly(softly -> {
+            softly.assertThat(index.size()).isEqualTo(1);
+            softly.assertThat(index.seek(Car.class, q1, ORDER, PageRequest.ofPage(6, 10, false))).isEmpty();
+        });
+        index.clear();
+        assertSoftly(softly -> softly.assertThat(index.size()).isEqualTo(0));
+    }
+
+    @Test
+    @DisplayName("should not share boundaries between entity classes")
+    void shouldDistinguishEntityClasses() {
+        CursorIndex index = CursorIndex.of(10, 10);
+        Order<Car> cars = Order.by(Sort.asc("id"));
+        Order<Truck> trucks = Order.by(Sort.asc("id"));
+        index.record(Car.class, null, cars, 10, Cursor.forKey(10));
+
+        assertSoftly(softly -> {
+            softly.assertThat(index.seek(Car.class, null, cars, PageRequest.ofPage(2, 10, false)))
+                    .isPresent();
+            softly.assertThat(index.seek(Truck.class, null, trucks, PageRequest.ofPage(2, 10, false)))
+                    .isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("should ignore pages with positions beyond the range of long")
+    void shouldIgnoreOverflowingPositions() {
+        CursorIndex index = CursorIndex.of(10, 10);
+        Restriction<Car> restriction = _Car.price.lessThan(5);
+        // (pageNumber - 1) * size wraps around to 16
+        PageRequest far = PageRequest.ofPage((1L << 60) + 2, 16, false);
+        index.record(Car.class, restriction, ORDER, CursoredPageRecord.ofOwned(
+                new ArrayList<>(List.of(new Car("Data", 4, 7))), CARS.keyExtractor(ORDER), -1, far,
+                false, false));
+        int recorded = index.size();
+        index.record(Car.class, restriction, ORDER, 10, Cursor.forKey(4, 7));
+
+        assertSoftly(softly -> {
+            softly.assertThat(recorded).isEqualTo(0);
+            softly.assertThat(index.seek(Car.class, restriction, ORDER, far)).isEmpty();
+            softly.assertThat(index.seek(Car.class, restriction, ORDER, PageRequest.ofPage(2, 16, false))
+                    .orElseThrow().skip()).isEqualTo(6L);
+        });
+    }
+
+    @Test
+    @DisplayName("should reject invalid bounds and positions")
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> CursorIndex.of(0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorIndex.of(10, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorIndex.of(1, 2).record(Car.class, null, ORDER, 0, Cursor.forKey(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorIndex.of(1, 2).seek(Car.class, null, null, PageRequest.ofPage(2)))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> CursorIndex.of(1, 2).seek(null, null, ORDER, PageRequest.ofPage(2)))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
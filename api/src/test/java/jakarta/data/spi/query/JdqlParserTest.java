@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import jakarta.data.Sort;
+import jakarta.data.constraint.Between;
+import jakarta.data.constraint.NotLike;
+import jakarta.data.expression.NumericExpression;
+import jakarta.data.expression.TextExpression;
+import jakarta.data.restrict.BasicRestriction;
+import jakarta.data.restrict.CompositeRestriction;
+import jakarta.data.restrict.Restriction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JdqlParserTest {
+
+    @Test
+    @DisplayName("should parse a SELECT statement with WHERE and ORDER BY clauses")
+    void shouldParseSelect() {
+        JdqlStatement.Select select = (JdqlStatement.Select) JdqlParser.parse(
+                "select this from Car where make = :make and price between ?1 and ?2"
+                + " or not (model like 'X%' escape '!') order by this.price desc, make");
+        Restriction<Object> where = select.where();
+
+        assertSoftly(softly -> {
+            softly.assertThat(select.entityName()).isEqualTo("Car");
+            softly.assertThat(select.count()).isFalse();
+            softly.assertThat(select.selections()).isEmpty();
+            softly.assertThat(select.orderBy())
+                    .containsExactly(Sort.desc("price"), Sort.asc("make"));
+            softly.assertThat(where).isInstanceOf(CompositeRestriction.class);
+            CompositeRestriction<Object> any = (CompositeRestriction<Object>) where;
+            softly.assertThat(any.type()).isEqualTo(CompositeRestriction.Type.ANY);
+            softly.assertThat(any.restrictions()).hasSize(2);
+            CompositeRestriction<Object> all =
+                    (CompositeRestriction<Object>) any.restrictions().get(0);
+            softly.assertThat(all.type()).isEqualTo(CompositeRestriction.Type.ALL);
+            softly.assertThat(all.restrictions().get(0).toString())
+                    .isEqualTo("make = :make");
+            BasicRestriction<?, ?> between = (BasicRestriction<?, ?>) all.restrictions().get(1);
+            softly.assertThat(between.constraint()).isInstanceOf(Between.class);
+            softly.assertThat(between.expression().toString()).isEqualTo("object.price");
+            BasicRestriction<?, ?> like = (BasicRestriction<?, ?>) any.restrictions().get(1);
+            softly.assertThat(like.expression()).isInstanceOf(TextExpression.class);
+            softly.assertThat(like.constraint()).isInstanceOf(NotLike.class);
+            softly.assertThat(((NotLike) like.constraint()).escape()).isEqualTo('!');
+        });
+    }
+
+    @Test
+    @DisplayName("should infer the types of attributes and parameters from their context")
+    void shouldInferTypes() {
+        JdqlStatement.Select select = (JdqlStatement.Select) JdqlParser.parse(
+                "SELECT name, LENGTH(name) WHERE UPPER(name) = ?1 AND price * 2.0 > 10");
+        CompositeRestriction<Object> all = (CompositeRestriction<Object>) select.where();
+        BasicRestriction<?, ?> upper = (BasicRestriction<?, ?>) all.restrictions().get(0);
+        BasicRestriction<?, ?> price = (BasicRestriction<?, ?>) all.restrictions().get(1);
+
+        assertSoftly(softly -> {
+            softly.assertThat(select.entityName()).isNull();
+            softly.assertThat(select.selections()).hasSize(2);
+            softly.assertThat(select.selections().get(1)).isInstanceOf(NumericExpression.class);
+            softly.assertThat(upper.toString()).isEqualTo("UPPER(object.name) = ?1");
+            softly.assertThat(price.expression()).isInstanceOf(NumericExpression.class);
+            softly.assertThat(price.expression().type()).isEqualTo(Double.class);
+        });
+    }
+
+    @Test
+    @DisplayName("should parse UPDATE and DELETE statements")
+    void shouldParseUpdateAndDelete() {
+        JdqlStatement.Update update = (JdqlStatement.Update) JdqlParser.parse(
+                "UPDATE Car SET price = price + 100, model = NULL WHERE id IN (1, 2, 3)");
+        JdqlStatement.Delete delete = (JdqlStatement.Delete) JdqlParser.parse(
+                "DELETE FROM Car WHERE owner.name IS NOT NULL");
+
+        assertSoftly(softly -> {
+            softly.assertThat(update.entityName()).isEqualTo("Car");
+            softly.assertThat(update.assignments()).hasSize(2);
+            softly.assertThat(update.assignments().get(0).attribute())
+                    .isInstanceOf(NumericExpression.class);
+            softly.assertThat(update.assignments().get(1).value()).isNull();
+            softly.assertThat(update.where().toString()).isEqualTo("id IN [1, 2, 3]");
+            softly.assertThat(delete.entityName()).isEqualTo("Car");
+            softly.assertThat(delete.where().toString()).isEqualTo("object.owner.name IS NOT NULL");
+        });
+    }
+
+    @Test
+    @DisplayName("should return the cached statement for the same query")
+    void shouldCache() {
+        String query = "SELECT COUNT(THIS) FROM Car WHERE make <> 'O''Neil'";
+        JdqlStatement.Select select = (JdqlStatement.Select) JdqlParser.parse(query);
+
+        assertSoftly(softly -> {
+            softly.assertThat(JdqlParser.parse(query)).isSameAs(select);
+            softly.assertThat(JdqlParser.parseUncached(query))
+                    .isEqualTo(select)
+                    .isNotSameAs(select);
+            softly.assertThat(select.count()).isTrue();
+            softly.assertThat(select.where().toString()).isEqualTo("make <> 'O''Neil'");
+        });
+    }
+
+    @Test
+    @DisplayName("should reject queries that are not valid")
+    void shouldRejectInvalid() {
+        assertThatThrownBy(() -> JdqlParser.parse("WHERE price >"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("position 14");
+        assertThatThrownBy(() -> JdqlParser.parse("FROM Car ORDER price"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JdqlParser.parse("WHERE name = 'unterminated"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JdqlParser.parse(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThat(JdqlParser.parse("FROM Car").where().toString())
+                .isEqualTo(JdqlParser.parse("").where().toString());
+    }
+}
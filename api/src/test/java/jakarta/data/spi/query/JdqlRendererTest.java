@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.metamodel.NumericAttribute;
+import jakarta.data.metamodel.TextAttribute;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JdqlRendererTest {
+    // Mock static metamodel class for tests
+    interface _Car {
+        TextAttribute<Car> make = TextAttribute.of(Car.class, "make");
+        TextAttribute<Car> model = TextAttribute.of(Car.class, "model");
+        NumericAttribute<Car, Integer> price = NumericAttribute.of(
+                Car.class, "price", int.class);
+        NumericAttribute<Car, Integer> year = NumericAttribute.of(
+                Car.class, "year", int.class);
+    }
+
+    // Mock entity class for tests
+    static class Car {
+        String make;
+        String model;
+        int price;
+        int year;
+    }
+
+    private static Restriction<Car> filter(String make, int min, int max, int year) {
+        return Restrict.all(_Car.make.equalTo(make),
+                            _Car.price.between(min, max),
+                            Restrict.any(_Car.year.times(2).minus(1).greaterThan(year),
+                                         _Car.model.isNull()));
+    }
+
+    @Test
+    @DisplayName("should render WHERE and ORDER BY clauses with positional parameters")
+    void shouldRenderClauses() {
+        JdqlFragment fragment = JdqlRenderer.render(
+                filter("Jakarta", 20000, 30000, 2000),
+                Order.by(_Car.price.desc(), _Car.make.asc()));
+
+        assertSoftly(softly -> {
+            softly.assertThat(fragment.where()).isEqualTo(
+                    "WHERE make = ?1 AND price BETWEEN ?2 AND ?3"
+                    + " AND ((year * ?4) - ?5 > ?6 OR model IS NULL)");
+            softly.assertThat(fragment.orderBy()).isEqualTo(
+                    "ORDER BY price DESC, make ASC");
+            softly.assertThat(fragment.parameters())
+                    .containsExactly("Jakarta", 20000, 30000, 2, 1, 2000);
+            softly.assertThat(fragment.toString()).isEqualTo(
+                    fragment.where() + " " + fragment.orderBy());
+        });
+    }
+
+    @Test
+    @DisplayName("should reuse the rendered text for restrictions of the same shape")
+    void shouldReuseText() {
+        JdqlFragment fragment1 = JdqlRenderer.render(filter("Jakarta", 1, 2, 3), null);
+        JdqlFragment fragment2 = JdqlRenderer.render(filter("Data", 4, 5, 6), null);
+
+        assertSoftly(softly -> {
+            softly.assertThat(fragment2.where()).isSameAs(fragment1.where());
+            softly.assertThat(fragment2.shape()).isEqualTo(fragment1.shape());
+            softly.assertThat(fragment2.parameters())
+                    .containsExactly("Data", 4, 5, 2, 1, 6);
+            softly.assertThat(fragment2.parameter(0)).isEqualTo("Data");
+            softly.assertThat(fragment2.orderBy()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("should render negation, IN, LIKE and unrestricted queries")
+    void shouldRenderConstraints() {
+        assertSoftly(softly -> {
+            softly.assertThat(JdqlRenderer.render(Restrict.not(Restrict.any(
+                    _Car.make.in("A", "B", "C"),
+                    _Car.model.startsWith("X")))).where())
+                    .isEqualTo("WHERE NOT (make IN (?1, ?2, ?3) OR model LIKE ?4 ESCAPE '\\')");
+            softly.assertThat(JdqlRenderer.render(_Car.model.notLike("X%", '_', '%', '\'')).where())
+                    .isEqualTo("WHERE model NOT LIKE ?1 ESCAPE ''''");
+            softly.assertThat(JdqlRenderer.render(Restrict.unrestricted()).where())
+                    .isEmpty();
+            softly.assertThat(JdqlRenderer.render(_Car.model.left(3).equalTo("Jak")).where())
+                    .isEqualTo("WHERE LEFT(model, 3) = ?1");
+            softly.assertThat(JdqlRenderer.render(_Car.model.left(3).equalTo("Jak")).shape())
+                    .isNotEqualTo(JdqlRenderer.render(_Car.model.left(4).equalTo("Jak")).shape());
+        });
+    }
+
+    @Test
+    @DisplayName("should render text that the parser accepts")
+    void shouldRoundTrip() {
+        JdqlFragment fragment = JdqlRenderer.render(
+                Restrict.all(filter("Jakarta", 20000, 30000, 2000),
+                             Restrict.not(_Car.model.right(2).in("GT", "RS")),
+                             _Car.make.upper().append(_Car.model).notLike("X%", '_', '%', '\''),
+                             _Car.price.negated().abs().lessThan(_Car.year.plus(100))),
+                Order.by(_Car.price.desc(), _Car.make.asc(), Sort.asc("year")));
+        String query = "FROM Car " + fragment;
+
+        assertSoftly(softly -> {
+            JdqlStatement.Select select = (JdqlStatement.Select) JdqlParser.parse(query);
+            softly.assertThat(select.where()).isNotNull();
+            softly.assertThat(select.orderBy()).containsExactly(
+                    Sort.desc("price"), Sort.asc("make"), Sort.asc("year"));
+        });
+    }
+
+    @Test
+    @DisplayName("should reject sort criteria and casts that the query language cannot express")
+    void shouldRejectInexpressible() {
+        assertThatThrownBy(() -> JdqlRenderer.render(null, Order.by(_Car.make.ascIgnoreCase())))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("Jakarta Data Query Language");
+        assertThatThrownBy(() -> JdqlRenderer.render(null, Order.by(Sort.desc("price").nullsFirst())))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> JdqlRenderer.render(null, Order.by(_Car.make.length().asc())))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> JdqlRenderer.render(_Car.price.asLong().greaterThan(1L)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("should reject unknown restriction types")
+    void shouldRejectUnsupported() {
+        Restriction<Car> custom = new Restriction<>() {
+            @Override
+            public Restriction<Car> negate() {
+                return this;
+            }
+        };
+
+        assertThatThrownBy(() -> JdqlRenderer.render(custom))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> JdqlRenderer.render(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.metamodel.NumericAttribute;
+import jakarta.data.metamodel.TextAttribute;
+import jakarta.data.page.PageRequest;
+import jakarta.data.page.PageRequest.Cursor;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.spi.evaluation.Evaluator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeysetTest {
+    // Mock entity with null values
+    record Car(String make, Integer price, int id) {
+    }
+
+    // Mock static metamodel class for tests
+    interface _Car {
+        TextAttribute<Car> make = TextAttribute.of(Car.class, "make");
+        NumericAttribute<Car, Integer> price = NumericAttribute.of(Car.class, "price", Integer.class);
+        NumericAttribute<Car, Integer> id = NumericAttribute.of(Car.class, "id", int.class);
+    }
+
+    private static final Evaluator<Car> CARS = Evaluator.of(Car.class, MethodHandles.lookup());
+
+    @Test
+    @DisplayName("should compare sort keys in order of precedence, seeking on the first")
+    void shouldRenderCondition() {
+        Order<Car> order = Order.by(_Car.price.desc(), _Car.id.asc());
+        Keyset<Car> after = Keyset.after(Car.class, order, Cursor.forKey(25000, 87));
+        Keyset<Car> before = Keyset.of(Car.class, order,
+                PageRequest.ofSize(10).beforeCursor(Cursor.forKey(25000, 87)));
+        JdqlFragment fragment = JdqlRenderer.render(after.restriction());
+
+        assertSoftly(softly -> {
+            softly.assertThat(fragment.where()).isEqualTo(
+                    "WHERE price <= ?1 AND (price < ?2 OR (price = ?3 AND id > ?4))");
+            softly.assertThat(fragment.parameters())
+                    .containsExactly(25000, 25000, 25000, 87);
+            softly.assertThat(JdqlRenderer.render(before.restriction()).where()).isEqualTo(
+                    "WHERE price >= ?1 AND (price > ?2 OR (price = ?3 AND id < ?4))");
+            softly.assertThat(after.isRowValueComparable()).isFalse();
+            softly.assertThat(after.order()).isSameAs(order);
+            softly.assertThat(JdqlRenderer.render(Keyset.after(Car.class,
+                    Order.by(_Car.make.descIgnoreCase().nullsLast()),
+                    Cursor.forKey("Jakarta")).restriction()).where())
+                    .isEqualTo("WHERE LOWER(make) < ?1 OR LOWER(make) IS NULL");
+        });
+    }
+
+    @Test
+    @DisplayName("should render a comparison of row values when all sort criteria have the same direction")
+    void shouldRenderRowValue() {
+        Order<Car> order = Order.by(Sort.asc("price"), _Car.make.ascIgnoreCase(), _Car.id.asc());
+        Keyset<Car> after = Keyset.after(Car.class, order, Cursor.forKey(100, "Jakarta", 5));
+        Keyset<Car> before = Keyset.before(Car.class, order, Cursor.forKey(100, "Jakarta", 5));
+        Keyset<Car> nulls = Keyset.after(Car.class, order, Cursor.forKey(100, null, 5));
+
+        assertSoftly(softly -> {
+            softly.assertThat(after.isRowValueComparable()).isTrue();
+            softly.assertThat(after.rowValue(0))
+                    .isEqualTo("(price, LOWER(make), id) > (?1, ?2, ?3)");
+            softly.assertThat(before.rowValue(2))
+                    .isEqualTo("(price, LOWER(make), id) < (?3, ?4, ?5)");
+            softly.assertThat(after.rowValueParameters())
+                    .containsExactly(100, "jakarta", 5);
+            softly.assertThat(Keyset.after(Car.class,
+                    Order.by(_Car.price.times(2).desc(), _Car.id.desc()),
+                    Cursor.forKey(300, 4)).rowValue(1))
+                    .isEqualTo("(price * ?2, id) < (?3, ?4)");
+            softly.assertThat(nulls.isRowValueComparable()).isFalse();
+            softly.assertThat(Keyset.after(Car.class,
+                    Order.by(_Car.price.asc().nullsLast(), _Car.id.asc()),
+                    Cursor.forKey(100, 5)).isRowValueComparable()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("should match the same results as sorting, including null values")
+    void shouldMatchSortedResults() {
+        Random random = new Random(23);
+        String[] makes = { "Jakarta", "jakarta", "Data", "DATA", "EE", null };
+        List<Car> cars = new ArrayList<>();
+        for (int id = 0; id < 40; id++) {
+            cars.add(new Car(makes[random.nextInt(makes.length)],
+                             random.nextInt(4) == 0 ? null : random.nextInt(5),
+                             id));
+        }
+
+        List<Order<Car>> orders = List.of(
+                Order.by(_Car.price.asc().nullsFirst(), _Car.id.asc()),
+                Order.by(_Car.price.asc().nullsLast(), _Car.id.desc()),
+                Order.by(_Car.price.desc().nullsLast(), _Car.make.ascIgnoreCase().nullsFirst(), _Car.id.desc()),
+                Order.by(_Car.make.descIgnoreCase().nullsFirst(), _Car.price.desc().nullsFirst(), _Car.id.asc()),
+                Order.by(_Car.id.desc()));
+
+        assertSoftly(softly -> {
+            for (Order<Car> order : orders) {
+                List<Car> sorted = CARS.sort(cars, order);
+                Function<Car, Object[]> keys = CARS.keyExtractor(order);
+                for (int i = 0; i < sorted.size(); i++) {
+                    Cursor cursor = Cursor.forKey(keys.apply(sorted.get(i)));
+                    softly.assertThat(CARS.find(cars,
+                                    Keyset.after(Car.class, order, cursor).restriction(),
+                                    order, null))
+                            .as(order + " after " + i)
+                            .containsExactlyElementsOf(sorted.subList(i + 1, sorted.size()));
+                    softly.assertThat(CARS.find(cars,
+                                    Keyset.before(Car.class, order, cursor).restriction(),
+                                    order, null))
+                            .as(order + " before " + i)
+                            .containsExactlyElementsOf(sorted.subList(0, i));
+                }
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("should reject cursors that do not match the sort criteria")
+    void shouldRejectMismatchedCursors() {
+        Order<Car> order = Order.by(_Car.price.asc(), _Car.id.asc());
+
+        assertThatThrownBy(() -> Keyset.after(Car.class, order, Cursor.forKey(100)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Keyset.of(Car.class, order, PageRequest.ofPage(2)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Keyset.after(Car.class, order, Cursor.forKey(100, null))
+                .rowValue(0))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> Keyset.after(Car.class, null, Cursor.forKey(100)))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> Keyset.after(Car.class, Order.by(_Car.id.asc()), Cursor.forKey(100))
+                .rowValue(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should not match anything after a key that is last in every sort criterion")
+    void shouldMatchNothingAfterLastKey() {
+        Keyset<Car> keyset = Keyset.after(Car.class,
+                Order.by(_Car.price.asc()), Cursor.forKey((Object) null));
+
+        assertSoftly(softly -> {
+            softly.assertThat(CARS.find(List.of(new Car("EE", null, 1), new Car("EE", 7, 2)),
+                                        keyset.restriction(), Order.by(), null))
+                    .isEmpty();
+            softly.assertThat(keyset.restriction())
+                    .isEqualTo(Restrict.<Car>unrestricted().negate());
+        });
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.metamodel.NumericAttribute;
+import jakarta.data.metamodel.TextAttribute;
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import jakarta.data.page.impl.PageRecord;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.spi.evaluation.Evaluator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OffsetPromotionTest {
+    // Mock entity for tests
+    record Car(String make, int price, int id) {
+    }
+
+    // Mock static metamodel class for tests
+    interface _Car {
+        TextAttribute<Car> make = TextAttribute.of(Car.class, "make");
+        NumericAttribute<Car, Integer> price = NumericAttribute.of(Car.class, "price", int.class);
+        NumericAttribute<Car, Integer> id = NumericAttribute.of(Car.class, "id", int.class);
+    }
+
+    private static final Evaluator<Car> CARS = Evaluator.of(Car.class, MethodHandles.lookup());
+
+    private static final Order<Car> ORDER = Order.by(_Car.price.asc(), _Car.make.descIgnoreCase(), _Car.id.asc());
+
+    private static final Restriction<Car> RESTRICTION = _Car.price.lessThan(40);
+
+    // The id attribute of each entity is unique
+    private static final BiPredicate<Class<?>, String> IDS = (entityClass, name) -> "id".equals(name);
+
+    private static List<Car> cars() {
+        List<Car> cars = new ArrayList<>();
+        for (int id = 1; id <= 100; id++) {
+            cars.add(new Car(id % 2 == 0 ? "Jakarta" : "data", (id * 31) % 47, id));
+        }
+        return cars;
+    }
+
+    // Obtains a page as a provider would, recording whether it was promoted
+    private static Page<Car> page(OffsetPromotion promotion,
+                                  List<Car> cars,
+                                  PageRequest pageRequest,
+                                  List<Long> promoted) {
+        Optional<PageRequest> cursorRequest = promotion.promote(Car.class, RESTRICTION, ORDER, pageRequest);
+        List<Car> results;
+        if (cursorRequest.isPresent()) {
+            promoted.add(pageRequest.pageNumber());
+            Keyset<Car> keyset = Keyset.of(Car.class, ORDER, cursorRequest.get());
+            results = CARS.find(cars, Restrict.all(RESTRICTION, keyset.restriction()), ORDER,
+                                Limit.of(pageRequest.size()));
+        } else {
+            long first = (pageRequest.pageNumber() - 1) * pageRequest.size() + 1;
+            results = CARS.find(cars, RESTRICTION, ORDER,
+                                Limit.range(first, first + pageRequest.size() - 1));
+        }
+        Page<Car> page = new PageRecord<>(pageRequest, new ArrayList<>(results), -1);
+        promotion.served(Car.class, RESTRICTION, ORDER, page, CARS.keyExtractor(ORDER));
+        return page;
+    }
+
+    @Test
+    @DisplayName("should promote sequential requests for pages and return the same pages as offsets")
+    void shouldPromoteSequentialPages() {
+        OffsetPromotion promotion = OffsetPromotion.of(4, IDS);
+        List<Car> cars = cars();
+        List<Long> promoted = new ArrayList<>();
+        List<Long> notPromoted = new ArrayList<>();
+
+        assertSoftly(softly -> {
+            Page<Car> page = page(promotion, cars, PageRequest.ofPage(1, 9, false), promoted);
+            int count = 1;
+            while (page.hasNext()) {
+                PageRequest next = page.nextPageRequest();
+                page = page(promotion, cars, next, promoted);
+                softly.assertThat(page.content())
+                        .as("page " + next.pageNumber())
+                        .containsExactlyElementsOf(page(OffsetPromotion.of(1, IDS), cars, next, notPromoted).content());
+                softly.assertThat(page.pageRequest()).isSameAs(next);
+                count++;
+            }
+            softly.assertThat(count).isEqualTo(10);
+            softly.assertThat(promoted).containsExactly(2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+            softly.assertThat(notPromoted).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("should not promote requests that do not follow the page that was last served")
+    void shouldNotPromoteJumps() {
+        OffsetPromotion promotion = OffsetPromotion.of(4, IDS);
+        List<Car> cars = cars();
+        List<Long> promoted = new ArrayList<>();
+        page(promotion, cars, PageRequest.ofPage(1, 5, false), promoted);
+        page(promotion, cars, PageRequest.ofPage(2, 5, false), promoted);
+
+        assertSoftly(softly -> {
+            softly.assertThat(promotion.promote(Car.class, RESTRICTION, ORDER, PageRequest.ofPage(4, 5, false))).isEmpty();
+            softly.assertThat(promotion.promote(Car.class, RESTRICTION, ORDER, PageRequest.ofPage(3, 7, false))).isEmpty();
+            softly.assertThat(promotion.promote(Car.class, RESTRICTION, ORDER, PageRequest.ofPage(2, 10, false))).isEmpty();
+            softly.assertThat(promotion.promote(Car.class, RESTRICTION, ORDER, PageRequest.ofPage(1, 5, false))).isEmpty();
+            softly.assertThat(promotion.promote(Car.class, _Car.price.lessThan(20), ORDER,
+                    PageRequest.ofPage(3, 5, false))).isEmpty();
+            softly.assertThat(promotion.promote(Car.class, RESTRICTION, ORDER, PageRequest.ofPage(3, 5, false))
+                    .orElseThrow().mode()).isEqualTo(PageRequest.Mode.CURSOR_NEXT);
+            softly.assertThat(promoted).containsExactly(2L);
+        });
+
+        page(promotion, cars, PageRequest.ofPage(3, 5, false), promoted);
+        assertSoftly(softly -> {
+            // backward jumps and repeated requests are run with an offset
+            softly.assertThat(promotion.promote(Car.class, RESTRICTION, ORDER, PageRequest.ofPage(2, 5, false))).isEmpty();
+            softly.assertThat(promotion.promote(Car.class, RESTRICTION, ORDER, PageRequest.ofPage(3, 5, false))).isEmpty();
+            softly.assertThat(promotion.promote(Car.class, RESTRICTION, ORDER, PageRequest.ofPage(4, 5, false))).isPresent();
+        });
+
+        page(promotion, cars, PageRequest.ofPage(2, 5, false), promoted);
+        assertSoftly(softly -> {
+            softly.assertThat(promotion.promote(Car.class, RESTRICTION, ORDER, PageRequest.ofPage(4, 5, false))).isEmpty();
+            softly.assertThat(promotion.promote(Car.class, RESTRICTION, ORDER, PageRequest.ofPage(3, 5, false))).isPresent();
+            softly.assertThat(promoted).containsExactly(2L, 3L);
+        });
+
+        promotion.invalidate(Car.class, RESTRICTION, ORDER);
+        assertSoftly(softly -> softly.assertThat(promotion.promote(Car.class, RESTRICTION, ORDER,
+                PageRequest.ofPage(3, 5, false))).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should continue after the last result of the preceding page when data changes")
+    void shouldContinueAfterChanges() {
+        OffsetPromotion promotion = OffsetPromotion.of(4, IDS);
+        List<Car> cars = cars();
+        List<Long> promoted = new ArrayList<>();
+        Page<Car> page1 = page(promotion, cars, PageRequest.ofPage(1, 10, false), promoted);
+
+        cars.add(new Car("Jakarta", 0, 1000));
+        Page<Car> page2 = page(promotion, cars, page1.nextPageRequest(), promoted);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page2.content()).doesNotContainAnyElementsOf(page1.content());
+            softly.assertThat(CARS.find(cars, RESTRICTION, ORDER, Limit.range(12, 21)))
+                    .containsExactlyElementsOf(page2.content());
+        });
+    }
+
+    @Test
+    @DisplayName("should not promote requests for queries without a unique sort key")
+    void shouldNotPromoteWithoutUniqueKey() {
+        OffsetPromotion promotion = OffsetPromotion.of(4, IDS);
+        List<Car> cars = List.of(new Car("Data", 1, 1), new Car("Data", 2, 2),
+                                 new Car("Data", 2, 3), new Car("Data", 3, 4));
+        Order<Car> byPrice = Order.by(_Car.price.asc());
+        Order<Car> byIdIgnoreCase = Order.by(_Car.price.asc(), Sort.ascIgnoreCase("id"));
+        PageRequest page1 = PageRequest.ofPage(1, 2, false);
+        PageRequest page2 = PageRequest.ofPage(2, 2, false);
+        for (Order<Car> order : List.of(byPrice, byIdIgnoreCase)) {
+            promotion.served(Car.class, null, order, new PageRecord<>(page1,
+                    CARS.find(cars, Restrict.unrestricted(), order, Limit.of(2)), -1), CARS.keyExtractor(order));
+        }
+
+        assertSoftly(softly -> {
+            // the cursor after the second car would miss the third car
+            softly.assertThat(promotion.promote(Car.class, null, byPrice, page2)).isEmpty();
+            softly.assertThat(promotion.promote(Car.class, null, byIdIgnoreCase, page2)).isEmpty();
+            softly.assertThat(promotion.toString()).endsWith(" for 0/4 queries");
+        });
+    }
+
+    @Test
+    @DisplayName("should reject invalid arguments")
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> OffsetPromotion.of(0, IDS))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OffsetPromotion.of(1, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> OffsetPromotion.of(1, IDS).served(Car.class, null, ORDER, null, CARS.keyExtractor(ORDER)))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> OffsetPromotion.of(1, IDS).promote(Car.class, null, null, PageRequest.ofPage(2)))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> OffsetPromotion.of(1, IDS).promote(null, null, ORDER, PageRequest.ofPage(2)))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.query;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import jakarta.data.Order;
+import jakarta.data.metamodel.NumericAttribute;
+import jakarta.data.metamodel.TextAttribute;
+import jakarta.data.page.PageRequest;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryShapeTest {
+    // Mock static metamodel class for tests
+    interface _Employee {
+        NumericAttribute<Employee, Integer> badgeNum = NumericAttribute.of(
+                Employee.class, "badgeNum", int.class);
+        TextAttribute<Employee> name = TextAttribute.of(
+                Employee.class, "name");
+        NumericAttribute<Employee, Integer> yearHired = NumericAttribute.of(
+                Employee.class, "yearHired", int.class);
+    }
+
+    // Mock entity class for tests
+    static class Employee {
+        int badgeNum;
+        String name;
+        int yearHired;
+    }
+
+    // Mock entity class with an attribute of the same name
+    static class Contractor {
+        int badgeNum;
+    }
+
+    private static Restriction<Employee> filter(String prefix, int minYear, int maxBadge) {
+        return Restrict.all(_Employee.name.upper().startsWith(prefix),
+                            _Employee.yearHired.plus(1).greaterThan(minYear),
+                            Restrict.any(_Employee.badgeNum.lessThan(maxBadge),
+                                         _Employee.badgeNum.isNull()));
+    }
+
+    @Test
+    @DisplayName("should compute equal shapes for queries that differ only in literal values")
+    void shouldIgnoreLiteralValues() {
+        Order<Employee> order = Order.by(_Employee.name.asc(), _Employee.badgeNum.desc());
+        QueryShape shape1 = QueryShape.of(filter("J", 2000, 100), order, PageRequest.ofPage(1, 20, true));
+        QueryShape shape2 = QueryShape.of(filter("D", 2010, 500), order, PageRequest.ofPage(3, 20, true));
+
+        assertSoftly(softly -> {
+            softly.assertThat(shape1).isEqualTo(shape2);
+            softly.assertThat(shape1.hashCode()).isEqualTo(shape2.hashCode());
+            softly.assertThat(shape1.mostSignificantBits()).isEqualTo(shape2.mostSignificantBits());
+            softly.assertThat(shape1.leastSignificantBits()).isEqualTo(shape2.leastSignificantBits());
+            softly.assertThat(shape1.parameters()).containsExactly("J%", 1, 2000, 100, 1L);
+            softly.assertThat(shape2.parameters()).containsExactly("D%", 1, 2010, 500, 3L);
+            softly.assertThat(shape2.parameterCount()).isEqualTo(5);
+            softly.assertThat(shape2.parameter(0)).isEqualTo("D%");
+        });
+    }
+
+    @Test
+    @DisplayName("should compute different shapes for queries with different structure")
+    void shouldDistinguishStructure() {
+        QueryShape shape = QueryShape.of(filter("J", 2000, 100));
+
+        assertSoftly(softly -> {
+            softly.assertThat(QueryShape.of(Restrict.all(
+                    _Employee.name.upper().startsWith("J"),
+                    _Employee.yearHired.plus(1).greaterThan(2000),
+                    Restrict.all(_Employee.badgeNum.lessThan(100),
+                                 _Employee.badgeNum.isNull()))))
+                    .isNotEqualTo(shape);
+            softly.assertThat(QueryShape.of(Restrict.all(
+                    _Employee.name.lower().startsWith("J"),
+                    _Employee.yearHired.plus(1).greaterThan(2000),
+                    Restrict.any(_Employee.badgeNum.lessThan(100),
+                                 _Employee.badgeNum.isNull()))))
+                    .isNotEqualTo(shape);
+            softly.assertThat(QueryShape.of(Restrict.all(
+                    _Employee.name.upper().startsWith("J"),
+                    _Employee.yearHired.minus(1).greaterThan(2000),
+                    Restrict.any(_Employee.badgeNum.lessThan(100),
+                                 _Employee.badgeNum.isNull()))))
+                    .isNotEqualTo(shape);
+            softly.assertThat(QueryShape.of(_Employee.badgeNum.in(1, 2, 3)))
+                    .isNotEqualTo(QueryShape.of(_Employee.badgeNum.in(1, 2)));
+            softly.assertThat(QueryShape.of(_Employee.badgeNum.in(1, 2, 3)))
+                    .isEqualTo(QueryShape.of(_Employee.badgeNum.in(4, 5, 6)));
+            softly.assertThat(QueryShape.of(_Employee.badgeNum.equalTo(1)))
+                    .isNotEqualTo(QueryShape.of(_Employee.yearHired.equalTo(1)));
+            softly.assertThat(QueryShape.of(_Employee.name.equalTo("A")))
+                    .isNotEqualTo(QueryShape.of(_Employee.name.notEqualTo("A")));
+            softly.assertThat(QueryShape.of(null, Order.by(_Employee.name.asc()), null))
+                    .isNotEqualTo(QueryShape.of(null, Order.by(_Employee.name.desc()), null));
+            softly.assertThat(QueryShape.of(null, null, PageRequest.ofSize(10)))
+                    .isNotEqualTo(QueryShape.of(null, null, PageRequest.ofSize(20)));
+        });
+    }
+
+    @Test
+    @DisplayName("should compute different shapes for attributes of different entity classes")
+    void shouldDistinguishEntityClasses() {
+        NumericAttribute<Contractor, Integer> contractorBadgeNum =
+                NumericAttribute.of(Contractor.class, "badgeNum", int.class);
+        QueryShape employees = QueryShape.of(_Employee.badgeNum.equalTo(1),
+                Order.by(_Employee.badgeNum.asc()), null);
+        QueryShape contractors = QueryShape.of(contractorBadgeNum.equalTo(1),
+                Order.by(contractorBadgeNum.asc()), null);
+
+        assertSoftly(softly -> {
+            softly.assertThat(employees).isNotEqualTo(contractors);
+            softly.assertThat(employees.mostSignificantBits())
+                    .isNotEqualTo(contractors.mostSignificantBits());
+            softly.assertThat(QueryShape.of(contractorBadgeNum.equalTo(2)))
+                    .isEqualTo(QueryShape.of(contractorBadgeNum.equalTo(1)));
+        });
+    }
+
+    @Test
+    @DisplayName("should include the key of a cursor as parameters")
+    void shouldIncludeCursorKey() {
+        PageRequest after = PageRequest.ofSize(10)
+                .afterCursor(PageRequest.Cursor.forKey("Jakarta", 100));
+        QueryShape shape = QueryShape.of(null, null, after);
+
+        assertSoftly(softly -> {
+            softly.assertThat(shape.parameters()).containsExactly("Jakarta", 100);
+            softly.assertThat(shape).isEqualTo(QueryShape.of(null, null,
+                    PageRequest.ofSize(10).afterCursor(PageRequest.Cursor.forKey("Data", 5))));
+            softly.assertThat(shape).isNotEqualTo(QueryShape.of(null, null,
+                    PageRequest.ofSize(10).beforeCursor(PageRequest.Cursor.forKey("Data", 5))));
+            softly.assertThat(shape.toString()).hasSize(32 + " (2 parameters)".length());
+        });
+    }
+
+    @Test
+    @DisplayName("should reject unknown restriction types and invalid indexes")
+    void shouldRejectUnsupported() {
+        Restriction<Employee> custom = new Restriction<>() {
+            @Override
+            public Restriction<Employee> negate() {
+                return this;
+            }
+        };
+
+        assertThatThrownBy(() -> QueryShape.of(custom))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> QueryShape.of(_Employee.name.like("x%")).parameter(1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> QueryShape.of(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
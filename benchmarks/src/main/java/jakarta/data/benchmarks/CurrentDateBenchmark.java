@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import jakarta.data.expression.TemporalExpression;
+import jakarta.data.metamodel.TemporalAttribute;
+import jakarta.data.spi.evaluation.Evaluator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Filtering by a comparison with the current date, which {@link Evaluator}
+ * reads from the clock once per query, compared with a predicate that reads
+ * the clock for each entity.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CurrentDateBenchmark {
+
+    @Param({ "1000000" })
+    private int size;
+
+    private List<Product> products;
+
+    private LocalDate[] listed;
+
+    private TemporalAttribute<Product, LocalDate> listedDate;
+
+    private Evaluator<Product> evaluator;
+
+    private Predicate<Product> perEntity;
+
+    /**
+     * Initializes the state.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(size);
+        LocalDate today = LocalDate.now();
+        products = new ArrayList<>(size);
+        listed = new LocalDate[size];
+        for (int i = 0; i < size; i++) {
+            products.add(new Product(i, "Product " + i, i / 4.0, i % 1000));
+            listed[i] = today.plusDays(random.nextInt(200) - 100);
+        }
+
+        LocalDate[] dates = listed;
+        evaluator = Evaluator.of(Product.class);
+        listedDate = TemporalAttribute.of(Product.class, "listed", LocalDate.class,
+                                          p -> dates[(int) p.id()], null);
+        perEntity = p -> dates[(int) p.id()].isBefore(LocalDate.now());
+    }
+
+    private long count(Predicate<Product> predicate) {
+        long count = 0;
+        for (Product product : products) {
+            if (predicate.test(product)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long evaluator() {
+        return count(evaluator.compile(
+                listedDate.lessThan(TemporalExpression.localDate())));
+    }
+
+    @Benchmark
+    public long clockPerEntity() {
+        return count(perEntity);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.data.page.CursorCodec;
+import jakarta.data.page.PageRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Conversion of cursors to and from tokens, with and without a message
+ * authentication code.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CursorCodecBenchmark {
+
+    private CursorCodec codec;
+
+    private CursorCodec signedCodec;
+
+    private PageRequest.Cursor cursor;
+
+    private String token;
+
+    private String signedToken;
+
+    /**
+     * Initializes a cursor with a typical key of a sort attribute
+     * followed by a unique identifier.
+     */
+    @Setup
+    public void setup() {
+        codec = CursorCodec.create();
+        signedCodec = codec.withHmac(
+                "benchmark secret key of 32 bytes".getBytes(StandardCharsets.US_ASCII));
+        cursor = PageRequest.Cursor.forKey(
+                "Product 1234",
+                LocalDateTime.of(2026, 10, 18, 12, 30),
+                UUID.fromString("3b241101-e2bb-4255-8caf-4136c566a962"));
+        token = codec.encode(cursor);
+        signedToken = signedCodec.encode(cursor);
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(cursor);
+    }
+
+    @Benchmark
+    public PageRequest.Cursor decode() {
+        return codec.decode(token);
+    }
+
+    @Benchmark
+    public String encodeSigned() {
+        return signedCodec.encode(cursor);
+    }
+
+    @Benchmark
+    public PageRequest.Cursor decodeSigned() {
+        return signedCodec.decode(signedToken);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.page.PageRequest;
+import jakarta.data.page.impl.PageRecord;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.spi.evaluation.Evaluator;
+import jakarta.data.spi.query.CursorIndex;
+import jakarta.data.spi.query.Keyset;
+import jakarta.data.spi.query.OffsetPromotion;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Random access to a deep page by offset, compared with seeking from the
+ * nearest boundary that is known to a {@link CursorIndex}, with which
+ * only the results after the boundary are selected, and with the request
+ * {@linkplain OffsetPromotion promoted} to a cursor after the preceding
+ * page was served.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CursorIndexBenchmark {
+
+    @Param({ "100000" })
+    private int size;
+
+    @Param({ "500" })
+    private int pageNumber;
+
+    private List<Product> products;
+
+    private Restriction<Product> restriction;
+
+    private Order<Product> order;
+
+    private Evaluator<Product> evaluator;
+
+    private CursorIndex index;
+
+    private PageRequest pageRequest;
+
+    private OffsetPromotion promotion;
+
+    /**
+     * Initializes the state, recording the boundary of every tenth page
+     * before the requested page.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(size);
+        products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(new Product(i,
+                                     "Product " + random.nextInt(size),
+                                     random.nextInt(10000) / 4.0,
+                                     random.nextInt(1000)));
+        }
+        restriction = _Product.quantity.greaterThan(100);
+        order = Order.by(_Product.price.desc(), _Product.id.asc());
+        evaluator = Evaluator.of(Product.class);
+        index = CursorIndex.of(16, 1024);
+        pageRequest = PageRequest.ofPage(pageNumber, 20, false);
+
+        List<Product> sorted = evaluator.find(products, restriction, order, null);
+        for (int position = 200; position < (pageNumber - 1) * 20; position += 200) {
+            index.record(Product.class, restriction, order, position, PageRequest.Cursor.forKey(
+                    evaluator.keyExtractor(order).apply(sorted.get(position - 1))));
+        }
+
+        promotion = OffsetPromotion.of(16, (entityClass, name) -> "id".equals(name));
+        PageRequest previous = PageRequest.ofPage(pageNumber - 1, 20, false);
+        promotion.served(Product.class, restriction, order, new PageRecord<>(previous,
+                sorted.subList((pageNumber - 2) * 20, (pageNumber - 1) * 20), -1),
+                evaluator.keyExtractor(order));
+    }
+
+    @Benchmark
+    public List<Product> offset() {
+        return evaluator.find(products, restriction, order,
+                              Limit.range((pageNumber - 1) * 20L + 1, pageNumber * 20L));
+    }
+
+    @Benchmark
+    public List<Product> seek() {
+        CursorIndex.Seek seek = index.seek(Product.class, restriction, order, pageRequest).orElseThrow();
+        Keyset<Product> keyset = Keyset.of(Product.class, order, seek.pageRequest());
+        return evaluator.find(products, Restrict.all(restriction, keyset.restriction()), order,
+                              Limit.range(seek.skip() + 1, seek.skip() + 20));
+    }
+
+    @Benchmark
+    public List<Product> promoted() {
+        PageRequest cursorRequest = promotion.promote(Product.class, restriction, order, pageRequest).orElseThrow();
+        Keyset<Product> keyset = Keyset.of(Product.class, order, cursorRequest);
+        return evaluator.find(products, Restrict.all(restriction, keyset.restriction()), order,
+                              Limit.of(20));
+    }
+
+    @Benchmark
+    public Optional<CursorIndex.Seek> lookup() {
+        return index.seek(Product.class, restriction, order, pageRequest);
+    }
+}
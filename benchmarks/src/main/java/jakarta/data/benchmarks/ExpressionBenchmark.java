@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.data.expression.NumericExpression;
+import jakarta.data.expression.TextExpression;
+import jakarta.data.restrict.Restriction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Chaining of functions and operators on numeric and text expressions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpressionBenchmark {
+
+    private double increment;
+
+    private double factor;
+
+    private double bound;
+
+    private String prefix;
+
+    /**
+     * Initializes the operands.
+     */
+    @Setup
+    public void setup() {
+        increment = 1.5;
+        factor = 1.2;
+        bound = 100.0;
+        prefix = "jak";
+    }
+
+    @Benchmark
+    public NumericExpression<Product, Double> numericChain() {
+        return _Product.price.plus(increment).times(factor).minus(increment).dividedBy(factor);
+    }
+
+    @Benchmark
+    public Restriction<Product> numericRestriction() {
+        return _Product.price.times(factor).greaterThan(bound);
+    }
+
+    @Benchmark
+    public Restriction<Product> numericOfTwoAttributes() {
+        return _Product.price.times(_Product.quantity.asDouble()).between(bound, bound * factor);
+    }
+
+    @Benchmark
+    public TextExpression<Product> textChain() {
+        return _Product.name.upper().left(3).append(prefix);
+    }
+
+    @Benchmark
+    public Restriction<Product> textRestriction() {
+        return _Product.name.lower().startsWith(prefix);
+    }
+
+    @Benchmark
+    public Restriction<Product> textLengthRestriction() {
+        return _Product.name.length().lessThan(10);
+    }
+}
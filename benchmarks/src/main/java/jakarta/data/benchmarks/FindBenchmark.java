@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.spi.evaluation.Evaluator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parallel evaluation of a restriction over a large collection by
+ * {@link Evaluator#find}, compared with sequential filtering by the
+ * compiled predicate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FindBenchmark {
+
+    @Param({ "1000000" })
+    private int size;
+
+    private List<Product> products;
+
+    private Restriction<Product> restriction;
+
+    private Predicate<Product> predicate;
+
+    private Order<Product> order;
+
+    private Evaluator<Product> evaluator;
+
+    /**
+     * Initializes the state.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(size);
+        products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(new Product(i,
+                                     "Product " + random.nextInt(size),
+                                     random.nextInt(10000) / 4.0,
+                                     random.nextInt(1000)));
+        }
+        restriction = Restrict.all(_Product.price.between(100.0, 200.0),
+                                   _Product.name.endsWith("7"));
+        order = Order.by(_Product.price.desc(), _Product.id.asc());
+        evaluator = Evaluator.of(Product.class);
+        predicate = evaluator.compile(restriction);
+    }
+
+    @Benchmark
+    public List<Product> sequentialFilter() {
+        return products.stream().filter(predicate).toList();
+    }
+
+    @Benchmark
+    public List<Product> parallelFind() {
+        return evaluator.find(products, restriction, Order.by(), null);
+    }
+
+    @Benchmark
+    public List<Product> parallelFindFirst10() {
+        return evaluator.find(products, restriction, Order.by(), Limit.of(10));
+    }
+
+    @Benchmark
+    public List<Product> parallelFindSortedFirst10() {
+        return evaluator.find(products, restriction, order, Limit.of(10));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.data.constraint.In;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creation of {@link In} constraints for large lists of identifiers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InBenchmark {
+
+    @Param({ "10", "1000", "100000" })
+    private int size;
+
+    private Integer[] idArray;
+
+    private List<Integer> ids;
+
+    private List<String> names;
+
+    /**
+     * Initializes the values.
+     */
+    @Setup
+    public void setup() {
+        idArray = new Integer[size];
+        ids = new ArrayList<>(size);
+        names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            idArray[i] = i * 31;
+            ids.add(idArray[i]);
+            names.add("Product " + i);
+        }
+    }
+
+    @Benchmark
+    public In<Integer> valuesOfArray() {
+        return In.values(idArray);
+    }
+
+    @Benchmark
+    public In<Integer> valuesOfIntegers() {
+        return In.values(ids);
+    }
+
+    @Benchmark
+    public In<String> valuesOfStrings() {
+        return In.values(names);
+    }
+
+    @Benchmark
+    public In<Integer> valueSetOfIntegers() {
+        return In.valueSet(ids);
+    }
+
+    @Benchmark
+    public In<String> valueSetOfStrings() {
+        return In.valueSet(names);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.data.spi.query.JdqlParser;
+import jakarta.data.spi.query.JdqlStatement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of typical repository queries with {@link JdqlParser}, with and
+ * without the parse cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JdqlParserBenchmark {
+
+    @Param({
+            "WHERE name = ?1",
+            "FROM Product WHERE UPPER(name) LIKE :pattern AND price BETWEEN ?1 AND ?2"
+                    + " OR (quantity > 0 AND id IN (1, 2, 3)) ORDER BY price DESC, id",
+            "UPDATE Product SET price = price * 1.1 WHERE quantity < :threshold",
+    })
+    private String query;
+
+    @Benchmark
+    public JdqlStatement parse() {
+        return JdqlParser.parse(query);
+    }
+
+    @Benchmark
+    public JdqlStatement parseUncached() {
+        return JdqlParser.parseUncached(query);
+    }
+}
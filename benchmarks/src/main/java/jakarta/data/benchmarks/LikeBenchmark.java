@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.data.constraint.Like;
+import jakarta.data.constraint.LikeMatcher;
+import jakarta.data.constraint.NotLike;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Translation of patterns into {@link Like} constraints, and matching of
+ * values against them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LikeBenchmark {
+
+    private String pattern;
+
+    private String customPattern;
+
+    private String escapedPattern;
+
+    private String text;
+
+    private String vin;
+
+    private LikeMatcher matcher;
+
+    /**
+     * Initializes the patterns.
+     */
+    @Setup
+    public void setup() {
+        pattern = "JHM___E%";
+        customPattern = "JHM???F*";
+        escapedPattern = "JHM$???F*$*";
+        text = "100% real_data";
+        vin = "JHMABCE0123456789";
+        matcher = LikeMatcher.of(Like.pattern(pattern));
+    }
+
+    @Benchmark
+    public Like pattern() {
+        return Like.pattern(pattern);
+    }
+
+    @Benchmark
+    public Like patternWithCustomWildcards() {
+        return Like.pattern(customPattern, '?', '*');
+    }
+
+    @Benchmark
+    public Like patternWithCustomEscape() {
+        return Like.pattern(escapedPattern, '?', '*', '$');
+    }
+
+    @Benchmark
+    public NotLike notLikePattern() {
+        return NotLike.pattern(pattern);
+    }
+
+    @Benchmark
+    public Like literal() {
+        return Like.literal(text);
+    }
+
+    @Benchmark
+    public Like prefix() {
+        return Like.prefix(text);
+    }
+
+    @Benchmark
+    public Like substring() {
+        return Like.substring(text);
+    }
+
+    @Benchmark
+    public LikeMatcher matcherOfPattern() {
+        return LikeMatcher.of(Like.pattern(pattern));
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return matcher.matches(vin);
+    }
+}
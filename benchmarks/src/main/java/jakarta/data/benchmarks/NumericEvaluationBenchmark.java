@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import jakarta.data.restrict.Restriction;
+import jakarta.data.spi.evaluation.Evaluator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Filtering by restrictions on numeric expressions that are computed from
+ * primitive attributes, which {@link Evaluator} computes with primitive
+ * arithmetic, compared with a hand-written predicate and with a predicate
+ * that boxes the value of each node of the expression.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumericEvaluationBenchmark {
+
+    @Param({ "1000000" })
+    private int size;
+
+    private List<Product> products;
+
+    private Predicate<Product> doubles;
+
+    private Predicate<Product> longs;
+
+    private Predicate<Product> decimals;
+
+    private Predicate<Product> handWritten;
+
+    private Predicate<Product> boxed;
+
+    /**
+     * Initializes the state.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(size);
+        products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(new Product(i,
+                                     "Product " + i,
+                                     random.nextInt(10000) / 4.0,
+                                     random.nextInt(1000)));
+        }
+
+        Evaluator<Product> evaluator = Evaluator.of(Product.class);
+        Restriction<Product> total = _Product.price
+                .times(_Product.quantity.asDouble())
+                .minus(25.0)
+                .greaterThan(1_000_000.0);
+        doubles = evaluator.compile(total);
+        longs = evaluator.compile(_Product.id
+                .times(_Product.quantity.asLong())
+                .plus(7L)
+                .greaterThan(250_000_000L));
+        decimals = evaluator.compile(_Product.quantity
+                .asBigDecimal()
+                .times(new BigDecimal("19.99"))
+                .minus(new BigDecimal("0.25"))
+                .greaterThan(new BigDecimal("10000")));
+        handWritten = p -> p.price() * p.quantity() - 25.0 > 1_000_000.0;
+        boxed = p -> {
+            Double quantity = (double) p.quantity();
+            Double price = p.price();
+            Double product = price * quantity;
+            Double difference = product - 25.0;
+            return difference.compareTo(1_000_000.0) > 0;
+        };
+    }
+
+    private long count(Predicate<Product> predicate) {
+        long count = 0;
+        for (Product product : products) {
+            if (predicate.test(product)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long evaluatorDouble() {
+        return count(doubles);
+    }
+
+    @Benchmark
+    public long evaluatorLong() {
+        return count(longs);
+    }
+
+    @Benchmark
+    public long evaluatorBigDecimal() {
+        return count(decimals);
+    }
+
+    @Benchmark
+    public long handWrittenDouble() {
+        return count(handWritten);
+    }
+
+    @Benchmark
+    public long boxedDouble() {
+        return count(boxed);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.spi.expression.literal.BooleanLiteral;
+import jakarta.data.spi.expression.literal.NumericLiteral;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creation of {@link Sort} and {@link Order} instances, and of the
+ * {@link BooleanLiteral} and {@link NumericLiteral} instances for small
+ * values, most of which are obtained from caches rather than allocated.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderBenchmark {
+
+    private String attribute;
+
+    private List<Sort<Product>> sorts;
+
+    private Order<Product> order;
+
+    private int quantity;
+
+    /**
+     * Initializes the state.
+     */
+    @Setup
+    public void setup() {
+        attribute = _Product.NAME;
+        sorts = List.of(_Product.price.desc(),
+                        _Product.name.ascIgnoreCase(),
+                        _Product.id.asc());
+        order = Order.by(sorts);
+        quantity = 12;
+    }
+
+    @Benchmark
+    public Sort<Product> sortAscByName() {
+        return Sort.asc(attribute);
+    }
+
+    @Benchmark
+    public Sort<Product> sortDescIgnoreCaseByName() {
+        return Sort.descIgnoreCase(attribute);
+    }
+
+    @Benchmark
+    public Sort<Product> sortOfAttribute() {
+        return _Product.price.desc();
+    }
+
+    @Benchmark
+    public Order<Product> orderByVarargs() {
+        return Order.by(_Product.price.desc(),
+                        _Product.name.ascIgnoreCase(),
+                        _Product.id.asc());
+    }
+
+    @Benchmark
+    public Order<Product> orderByList() {
+        return Order.by(sorts);
+    }
+
+    @Benchmark
+    public Order<Product> orderBySingle() {
+        return Order.by(_Product.price.desc());
+    }
+
+    @Benchmark
+    public int orderHashCode() {
+        return order.hashCode();
+    }
+
+    @Benchmark
+    public BooleanLiteral booleanLiteral() {
+        return BooleanLiteral.of(quantity > 0);
+    }
+
+    @Benchmark
+    public NumericLiteral<Integer> smallIntLiteral() {
+        return NumericLiteral.of(quantity);
+    }
+
+    @Benchmark
+    public Restriction<Product> equalToSmallInt() {
+        return _Product.quantity.equalTo(quantity);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import jakarta.data.page.impl.CursoredPageRecord;
+import jakarta.data.page.impl.PageRecord;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Construction of pages of results by a provider, which includes the
+ * defensive copies of the content and cursors, compared with the ofOwned
+ * factory methods, which take ownership of the lists instead of copying them
+ * or compute cursors from the results on demand.
+ * The {@code gc.alloc.rate.norm} result shows the bytes that are allocated
+ * for each page.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageConstructionBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int size;
+
+    private PageRequest pageRequest;
+
+    private PageRequest cursorRequest;
+
+    private List<Product> content;
+
+    private List<Product> immutableContent;
+
+    private List<PageRequest.Cursor> cursors;
+
+    /**
+     * Initializes a full page of results.
+     */
+    @Setup
+    public void setup() {
+        pageRequest = PageRequest.ofPage(3, size, true);
+        cursorRequest = PageRequest.afterCursor(
+                PageRequest.Cursor.forKey(0L), 3, size, true);
+
+        content = new ArrayList<>(size);
+        cursors = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(new Product(i, "Product " + i, i * 1.5, i % 10));
+            cursors.add(PageRequest.Cursor.forKey((long) i));
+        }
+        immutableContent = List.copyOf(content);
+    }
+
+    @Benchmark
+    public Page<Product> pageRecord() {
+        return new PageRecord<>(pageRequest, content, 10_000L);
+    }
+
+    @Benchmark
+    public Page<Product> pageRecordFromImmutableList() {
+        return new PageRecord<>(pageRequest, immutableContent, 10_000L);
+    }
+
+    @Benchmark
+    public CursoredPage<Product> cursoredPageRecord() {
+        return new CursoredPageRecord<>(content,
+                                        cursors,
+                                        10_000L,
+                                        cursorRequest,
+                                        false,
+                                        false);
+    }
+
+    @Benchmark
+    public Page<Product> pageRecordOwned() {
+        return PageRecord.ofOwned(pageRequest, content, 10_000L);
+    }
+
+    @Benchmark
+    public CursoredPage<Product> cursoredPageRecordOwned() {
+        return CursoredPageRecord.ofOwned(content,
+                                          cursors,
+                                          10_000L,
+                                          cursorRequest,
+                                          false,
+                                          false);
+    }
+
+    @Benchmark
+    public CursoredPage<Product> cursoredPageRecordKeyed() {
+        return CursoredPageRecord.ofOwned(content,
+                                          product -> new Object[] { product.id() },
+                                          10_000L,
+                                          cursorRequest,
+                                          false,
+                                          false);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.data.page.PageRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creation of page requests and cursors.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageRequestBenchmark {
+
+    private long pageNumber;
+
+    private int size;
+
+    private String name;
+
+    private long id;
+
+    private PageRequest.Cursor cursor;
+
+    /**
+     * Initializes the state. Values are read from fields rather than
+     * constants so that the JIT compiler cannot fold them.
+     */
+    @Setup
+    public void setup() {
+        pageNumber = 5;
+        size = 20;
+        name = "Jakarta Data";
+        id = 1234L;
+        cursor = PageRequest.Cursor.forKey(name, id);
+    }
+
+    @Benchmark
+    public PageRequest ofPage() {
+        return PageRequest.ofPage(pageNumber);
+    }
+
+    @Benchmark
+    public PageRequest ofPageWithSize() {
+        return PageRequest.ofPage(pageNumber, size, true);
+    }
+
+    @Benchmark
+    public PageRequest ofPageThenSize() {
+        return PageRequest.ofPage(pageNumber).size(size).withoutTotal();
+    }
+
+    @Benchmark
+    public PageRequest afterCursor() {
+        return PageRequest.afterCursor(cursor, pageNumber, size, false);
+    }
+
+    @Benchmark
+    public PageRequest.Cursor cursorForKey() {
+        return PageRequest.Cursor.forKey(name, id);
+    }
+
+    @Benchmark
+    public PageRequest afterNewCursor() {
+        return PageRequest.afterCursor(PageRequest.Cursor.forKey(name, id),
+                                       pageNumber,
+                                       size,
+                                       false);
+    }
+}
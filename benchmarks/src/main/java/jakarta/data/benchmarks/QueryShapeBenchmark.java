@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.data.Order;
+import jakarta.data.page.PageRequest;
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.spi.query.JdqlFragment;
+import jakarta.data.spi.query.JdqlRenderer;
+import jakarta.data.spi.query.Keyset;
+import jakarta.data.spi.query.QueryShape;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Computation of the {@link QueryShape} of a dynamic query and rendering of
+ * it with {@link JdqlRenderer}, compared with the text of the restriction,
+ * which includes the literal values, and of the condition for a page
+ * request that is relative to a cursor.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryShapeBenchmark {
+
+    private Restriction<Product> restriction;
+
+    private Order<Product> order;
+
+    private Order<Product> ascending;
+
+    private PageRequest pageRequest;
+
+    private PageRequest afterCursor;
+
+    @Setup
+    public void setup() {
+        restriction = Restrict.all(
+                _Product.name.upper().startsWith("JAKARTA"),
+                _Product.price.times(1.2).between(10.0, 100.0),
+                Restrict.any(_Product.quantity.greaterThan(0),
+                             _Product.id.in(1L, 2L, 3L, 4L)));
+        order = Order.by(_Product.price.desc(), _Product.id.asc());
+        ascending = Order.by(_Product.price.asc(), _Product.id.asc());
+        pageRequest = PageRequest.ofPage(3, 50, false);
+        afterCursor = PageRequest.ofSize(50)
+                .afterCursor(PageRequest.Cursor.forKey(49.99, 1234L));
+    }
+
+    @Benchmark
+    public QueryShape shape() {
+        return QueryShape.of(restriction, order, pageRequest);
+    }
+
+    @Benchmark
+    public JdqlFragment jdql() {
+        return JdqlRenderer.render(restriction, order);
+    }
+
+    @Benchmark
+    public JdqlFragment keyset() {
+        Keyset<Product> keyset = Keyset.of(Product.class, order, afterCursor);
+        return JdqlRenderer.render(Restrict.all(restriction, keyset.restriction()), order);
+    }
+
+    @Benchmark
+    public String rowValue() {
+        return Keyset.of(Product.class, ascending, afterCursor).rowValue(8);
+    }
+
+    @Benchmark
+    public String text() {
+        return restriction.toString() + order + pageRequest;
+    }
+}
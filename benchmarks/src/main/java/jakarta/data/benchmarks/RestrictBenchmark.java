@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.data.restrict.Restrict;
+import jakarta.data.restrict.Restriction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Composition of restrictions with {@link Restrict#all} and
+ * {@link Restrict#any}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RestrictBenchmark {
+
+    @Param({ "2", "10", "100", "1000" })
+    private int size;
+
+    private List<Restriction<Product>> restrictions;
+
+    private Restriction<Product>[] array;
+
+    private Restriction<Product> composite;
+
+    /**
+     * Initializes a list of alternating numeric and text restrictions.
+     */
+    @Setup
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void setup() {
+        restrictions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            restrictions.add(i % 2 == 0
+                    ? _Product.price.greaterThan(i * 1.0)
+                    : _Product.name.equalTo("Product " + i));
+        }
+        array = restrictions.toArray(new Restriction[0]);
+        composite = Restrict.all(restrictions);
+    }
+
+    @Benchmark
+    public Restriction<Product> allOfList() {
+        return Restrict.all(restrictions);
+    }
+
+    @Benchmark
+    public Restriction<Product> anyOfList() {
+        return Restrict.any(restrictions);
+    }
+
+    @Benchmark
+    public Restriction<Product> allOfArray() {
+        return Restrict.all(array);
+    }
+
+    @Benchmark
+    public Restriction<Product> negate() {
+        return composite.negate();
+    }
+
+    @Benchmark
+    public Restriction<Product> nested() {
+        return Restrict.any(Restrict.all(restrictions), composite.negate());
+    }
+}
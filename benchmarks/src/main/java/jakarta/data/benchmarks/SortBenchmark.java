@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.spi.evaluation.Evaluator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sorting of entities in memory by {@link Evaluator#sort}, which computes
+ * the sort keys of each entity once, compared with sorting by the
+ * {@link Evaluator#comparator comparator} for the same sort criteria and by
+ * a chain of {@link Comparator} instances, and selection of the first
+ * entities of the sorted order for a {@link Limit}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortBenchmark {
+
+    @Param({ "1000", "100000" })
+    private int size;
+
+    private List<Product> products;
+
+    private Order<Product> order;
+
+    private Evaluator<Product> evaluator;
+
+    private Comparator<Product> chained;
+
+    private Limit first20;
+
+    /**
+     * Initializes the state.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(size);
+        products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(new Product(i,
+                                     "Product " + random.nextInt(size),
+                                     random.nextInt(100) / 4.0,
+                                     random.nextInt(1000)));
+        }
+        order = Order.by(_Product.price.desc(),
+                         _Product.name.ascIgnoreCase(),
+                         _Product.id.asc());
+        evaluator = Evaluator.of(Product.class);
+        first20 = Limit.of(20);
+        chained = Comparator.comparingDouble(Product::price).reversed()
+                .thenComparing(p -> p.name().toLowerCase(Locale.ROOT))
+                .thenComparingLong(Product::id);
+    }
+
+    @Benchmark
+    public List<Product> evaluatorSort() {
+        return evaluator.sort(products, order);
+    }
+
+    @Benchmark
+    public List<Product> evaluatorComparator() {
+        List<Product> sorted = new ArrayList<>(products);
+        sorted.sort(evaluator.comparator(order));
+        return sorted;
+    }
+
+    @Benchmark
+    public List<Product> chainedComparator() {
+        List<Product> sorted = new ArrayList<>(products);
+        sorted.sort(chained);
+        return sorted;
+    }
+
+    @Benchmark
+    public List<Product> evaluatorFirst20() {
+        return evaluator.sort(products, order, first20);
+    }
+
+    @Benchmark
+    public List<Product> evaluatorSortThenFirst20() {
+        return evaluator.sort(products, order).subList(0, 20);
+    }
+}
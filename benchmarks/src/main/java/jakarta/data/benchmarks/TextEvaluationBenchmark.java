@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import jakarta.data.spi.evaluation.Evaluator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Filtering by restrictions on chains of text functions, which
+ * {@link Evaluator} matches against a view of the text, compared with
+ * predicates that compute a {@code String} for each function.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextEvaluationBenchmark {
+
+    @Param({ "1000000" })
+    private int size;
+
+    private List<Product> products;
+
+    private Predicate<Product> lowerStartsWith;
+
+    private Predicate<Product> upperLeftAppend;
+
+    private Predicate<Product> lowerLength;
+
+    private Predicate<Product> lowerStartsWithStrings;
+
+    private Predicate<Product> upperLeftAppendStrings;
+
+    /**
+     * Initializes the state.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(size);
+        String[] words = { "Jakarta", "Data", "Persistence", "NoSQL", "Query" };
+        products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(new Product(i,
+                                     words[random.nextInt(words.length)] + " Product " + i,
+                                     random.nextInt(10000) / 4.0,
+                                     random.nextInt(1000)));
+        }
+
+        Evaluator<Product> evaluator = Evaluator.of(Product.class);
+        lowerStartsWith = evaluator.compile(_Product.name.lower().startsWith("jakarta"));
+        upperLeftAppend = evaluator.compile(_Product.name.upper().left(4).append("!").equalTo("DATA!"));
+        lowerLength = evaluator.compile(_Product.name.lower().length().greaterThan(20));
+        lowerStartsWithStrings = p -> p.name().toLowerCase(Locale.ROOT).startsWith("jakarta");
+        upperLeftAppendStrings = p -> {
+            String upper = p.name().toUpperCase(Locale.ROOT);
+            String left = upper.length() > 4 ? upper.substring(0, 4) : upper;
+            return left.concat("!").equals("DATA!");
+        };
+    }
+
+    private long count(Predicate<Product> predicate) {
+        long count = 0;
+        for (Product product : products) {
+            if (predicate.test(product)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long evaluatorLowerStartsWith() {
+        return count(lowerStartsWith);
+    }
+
+    @Benchmark
+    public long evaluatorUpperLeftAppend() {
+        return count(upperLeftAppend);
+    }
+
+    @Benchmark
+    public long evaluatorLowerLength() {
+        return count(lowerLength);
+    }
+
+    @Benchmark
+    public long stringsLowerStartsWith() {
+        return count(lowerStartsWithStrings);
+    }
+
+    @Benchmark
+    public long stringsUpperLeftAppend() {
+        return count(upperLeftAppendStrings);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks;
+
+import jakarta.data.metamodel.NumericAttribute;
+import jakarta.data.metamodel.TextAttribute;
+
+/**
+ * Static metamodel for {@link Product}.
+ */
+public interface _Product {
+    String ID = "id";
+    String NAME = "name";
+    String PRICE = "price";
+    String QUANTITY = "quantity";
+
+    NumericAttribute<Product, Long> id = NumericAttribute.of(
+            Product.class, ID, long.class);
+    TextAttribute<Product> name = TextAttribute.of(
+            Product.class, NAME);
+    NumericAttribute<Product, Double> price = NumericAttribute.of(
+            Product.class, PRICE, double.class);
+    NumericAttribute<Product, Integer> quantity = NumericAttribute.of(
+            Product.class, QUANTITY, int.class);
+}
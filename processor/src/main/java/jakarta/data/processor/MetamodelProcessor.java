@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.processor;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+/**
+ * <p>Generates the {@link jakarta.data.metamodel.StaticMetamodel static
+ * metamodel} of each entity class that does not already have one. An entity
+ * class is a class or record that is annotated with an annotation, such as
+ * {@code jakarta.persistence.Entity} or {@code jakarta.nosql.Entity}, which
+ * is itself annotated {@link jakarta.data.spi.EntityDefining
+ * @EntityDefining}.</p>
+ *
+ * <p>The static metamodel of an entity class {@code Book} is an interface
+ * {@code _Book} in the same package, which declares, for each entity
+ * attribute, a constant with the name of the attribute and a constant with
+ * the static metamodel attribute. Where the entity has an accessible getter
+ * for the attribute, or the attribute is an accessible field or a record
+ * component, the static metamodel attribute is created with the getter, and
+ * the setter if the attribute is mutable, as method references or lambda
+ * expressions. The attribute is then also an
+ * {@link jakarta.data.metamodel.AttributeAccessor}, from which Jakarta Data
+ * providers and the {@link jakarta.data.spi.evaluation.Evaluator} read and
+ * write the value of the attribute without reflection.</p>
+ *
+ * @since 1.1
+ */
+@SupportedAnnotationTypes("*")
+public class MetamodelProcessor extends AbstractProcessor {
+    /**
+     * Entity-defining annotations of Jakarta Persistence and Jakarta NoSQL,
+     * which are recognized even if the version of the specification does
+     * not annotate them {@code EntityDefining}.
+     */
+    private static final Set<String> ENTITY_ANNOTATIONS = Set.of(
+            "jakarta.persistence.Entity",
+            "jakarta.nosql.Entity");
+
+    private static final String ENTITY_DEFINING = "jakarta.data.spi.EntityDefining";
+
+    /**
+     * Qualified names of the static metamodel classes that the processor
+     * generated in previous rounds.
+     */
+    private final Set<String> generated = new HashSet<>();
+
+    /**
+     * Creates the processor. Invoked by the compiler.
+     */
+    public MetamodelProcessor() {
+        super();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations,
+                           RoundEnvironment round) {
+        for (TypeElement annotation : annotations) {
+            if (isEntityDefining(annotation)) {
+                for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                    if (element.getKind() == ElementKind.CLASS
+                            || element.getKind() == ElementKind.RECORD) {
+                        write((TypeElement) element);
+                    }
+                }
+            }
+        }
+        // Processors of other annotations must also run
+        return false;
+    }
+
+    private void write(TypeElement entity) {
+        MetamodelWriter writer = new MetamodelWriter(processingEnv, entity);
+        String qualifiedName = writer.qualifiedName();
+        if (entity.getTypeParameters().isEmpty()
+                && processingEnv.getElementUtils().getTypeElement(qualifiedName) == null
+                && generated.add(qualifiedName)) {
+            try {
+                writer.write();
+            } catch (IOException x) {
+                processingEnv.getMessager().printMessage(
+                        Diagnostic.Kind.ERROR,
+                        "The static metamodel of " + entity.getQualifiedName()
+                        + " cannot be written: " + x,
+                        entity);
+            }
+        }
+    }
+
+    private static boolean isEntityDefining(TypeElement annotation) {
+        if (ENTITY_ANNOTATIONS.contains(annotation.getQualifiedName().toString())) {
+            return true;
+        }
+        for (AnnotationMirror meta : annotation.getAnnotationMirrors()) {
+            if (ENTITY_DEFINING.contentEquals(((TypeElement) meta
+                    .getAnnotationType().asElement()).getQualifiedName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
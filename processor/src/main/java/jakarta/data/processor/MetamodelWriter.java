@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Writes the static metamodel of one entity class.
+ */
+final class MetamodelWriter {
+    private static final String METAMODEL = "jakarta.data.metamodel.";
+
+    /**
+     * Types of numeric attributes, after boxing.
+     */
+    private static final Set<String> NUMERIC = Set.of(
+            "java.lang.Byte",
+            "java.lang.Short",
+            "java.lang.Integer",
+            "java.lang.Long",
+            "java.lang.Float",
+            "java.lang.Double",
+            "java.math.BigDecimal",
+            "java.math.BigInteger");
+
+    /**
+     * Types of temporal attributes.
+     */
+    private static final Set<String> TEMPORAL = Set.of(
+            "java.time.Instant",
+            "java.time.LocalDate",
+            "java.time.LocalDateTime",
+            "java.time.LocalTime",
+            "java.time.OffsetDateTime",
+            "java.time.OffsetTime",
+            "java.time.Year",
+            "java.time.YearMonth",
+            "java.time.ZonedDateTime");
+
+    /**
+     * Annotations that exclude a field from the persistent attributes.
+     */
+    private static final Set<String> TRANSIENT = Set.of(
+            "jakarta.persistence.Transient",
+            "jakarta.nosql.Transient");
+
+    private final ProcessingEnvironment env;
+
+    private final Elements elements;
+
+    private final Types types;
+
+    private final TypeElement entity;
+
+    private final String packageName;
+
+    /**
+     * Declarations of the attributes, keyed by attribute name, in the order
+     * in which the attributes are declared.
+     */
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+
+    MetamodelWriter(ProcessingEnvironment env, TypeElement entity) {
+        this.env = env;
+        this.elements = env.getElementUtils();
+        this.types = env.getTypeUtils();
+        this.entity = entity;
+        this.packageName = elements.getPackageOf(entity).getQualifiedName().toString();
+    }
+
+    /**
+     * The qualified name of the static metamodel interface.
+     */
+    String qualifiedName() {
+        return packageName.isEmpty()
+                ? className()
+                : packageName + '.' + className();
+    }
+
+    /**
+     * The simple name of the static metamodel interface, which includes the
+     * names of enclosing classes of a nested entity.
+     */
+    private String className() {
+        StringBuilder name = new StringBuilder(entity.getSimpleName());
+        for (Element e = entity.getEnclosingElement();
+             e.getKind().isClass() || e.getKind().isInterface();
+             e = e.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, e.getSimpleName());
+        }
+        return name.insert(0, '_').toString();
+    }
+
+    /**
+     * Generates the attributes of the entity, then writes the static
+     * metamodel interface.
+     */
+    void write() throws IOException {
+        if (entity.getKind() == ElementKind.RECORD) {
+            for (RecordComponentElement component : entity.getRecordComponents()) {
+                String getter = entity.getQualifiedName() + "::" + component.getSimpleName();
+                attribute(component.getSimpleName().toString(), component.asType(),
+                          getter, null);
+            }
+        } else {
+            for (TypeElement type = entity; type != null; type = superclass(type)) {
+                for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                    field(field);
+                }
+            }
+        }
+
+        try (Writer out = env.getFiler()
+                .createSourceFile(qualifiedName(), entity)
+                .openWriter()) {
+            if (!packageName.isEmpty()) {
+                out.append("package ").append(packageName).append(";\n\n");
+            }
+            out.append("/**\n * Static metamodel of {@link ")
+                    .append(entity.getQualifiedName())
+                    .append("} that is generated by\n * ")
+                    .append(MetamodelProcessor.class.getName())
+                    .append(".\n */\n@" + METAMODEL + "StaticMetamodel(")
+                    .append(entity.getQualifiedName()).append(".class)\n")
+                    .append("public interface ").append(className()).append(" {\n");
+            for (String attribute : attributes.values()) {
+                out.append(attribute);
+            }
+            out.append("}\n");
+        }
+    }
+
+    /**
+     * The superclass of a class if it might declare persistent fields,
+     * otherwise {@code null}.
+     */
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) types.asElement(superclass);
+        String name = element.getQualifiedName().toString();
+        return name.startsWith("java.") ? null : element;
+    }
+
+    // Attributes
+
+    private void field(VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        String name = field.getSimpleName().toString();
+        if (modifiers.contains(Modifier.STATIC)
+                || modifiers.contains(Modifier.TRANSIENT)
+                || attributes.containsKey(name)
+                || hasAnnotation(field, TRANSIENT)) {
+            return;
+        }
+
+        TypeMirror type = field.asType();
+        String entityName = entity.getQualifiedName().toString();
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        ExecutableElement getter = method(type, "get" + capitalized, false);
+        if (getter == null && type.getKind() == TypeKind.BOOLEAN) {
+            getter = method(type, "is" + capitalized, false);
+        }
+        if (getter == null) {
+            getter = method(type, name, false);
+        }
+        ExecutableElement setter = method(type, "set" + capitalized, true);
+        boolean fieldAccessible = isAccessible(field);
+        boolean fieldWritable = fieldAccessible && !modifiers.contains(Modifier.FINAL);
+
+        String get;
+        if (getter != null) {
+            get = entityName + "::" + getter.getSimpleName();
+        } else if (fieldAccessible) {
+            get = "entity -> entity." + name;
+        } else {
+            get = null;
+        }
+
+        String set;
+        if (get == null) {
+            set = null;
+        } else if (setter != null) {
+            set = entityName + "::" + setter.getSimpleName();
+        } else if (fieldWritable) {
+            set = "(entity, value) -> entity." + name + " = value";
+        } else {
+            set = "null";
+        }
+
+        attribute(name, type, get, set);
+    }
+
+    /**
+     * Appends the declaration of an attribute. If there is no getter, the
+     * attribute is declared without accessors. If there is a getter but no
+     * setter, the setter is {@code null}.
+     */
+    private void attribute(String name, TypeMirror type, String getter, String setter) {
+        TypeMirror boxed = boxed(type);
+        String entityName = entity.getQualifiedName().toString();
+        String typeName = boxed.toString();
+        String constantName = constantName(name);
+
+        StringBuilder declaration = new StringBuilder(256);
+        if (!constantName.equals(name)) {
+            declaration.append("    String ").append(constantName)
+                    .append(" = \"").append(name).append("\";\n\n");
+        }
+        String nameExpression = constantName.equals(name)
+                ? '"' + name + '"'
+                : constantName;
+
+        String kind = kind(boxed);
+        if (kind == null) {
+            // The attribute has a parameterized type, for which a class
+            // literal of the attribute type cannot be written
+            attributes.put(name, declaration.toString());
+            return;
+        }
+
+        declaration.append("    " + METAMODEL).append(kind).append('<').append(entityName);
+        if (!"TextAttribute".equals(kind) && !"BooleanAttribute".equals(kind)) {
+            declaration.append(", ").append(typeName);
+        }
+        declaration.append("> ").append(name).append(" = ")
+                .append(METAMODEL).append(kind).append(".of(\n            ")
+                .append(entityName).append(".class, ").append(nameExpression);
+        if (!"TextAttribute".equals(kind)) {
+            declaration.append(", ").append(types.erasure(boxed)).append(".class");
+        }
+        if (getter != null) {
+            declaration.append(",\n            ").append(getter)
+                    .append(",\n            ").append(setter);
+        }
+        declaration.append(");\n\n");
+        attributes.put(name, declaration.toString());
+    }
+
+    /**
+     * The kind of static metamodel attribute for a type, or {@code null} if
+     * the type is parameterized.
+     */
+    private String kind(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return "BasicAttribute";
+        } else if (type.getKind() != TypeKind.DECLARED
+                || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return null;
+        }
+
+        String typeName = type.toString();
+        if ("java.lang.String".equals(typeName)) {
+            return "TextAttribute";
+        } else if ("java.lang.Boolean".equals(typeName)) {
+            return "BooleanAttribute";
+        } else if (NUMERIC.contains(typeName)) {
+            return "NumericAttribute";
+        } else if (TEMPORAL.contains(typeName)) {
+            return "TemporalAttribute";
+        }
+
+        TypeElement comparable = elements.getTypeElement("java.lang.Comparable");
+        if (types.isAssignable(type, types.erasure(comparable.asType()))) {
+            return "ComparableAttribute";
+        }
+
+        Element element = types.asElement(type);
+        if ((element.getKind() == ElementKind.CLASS
+                || element.getKind() == ElementKind.RECORD)
+                && !typeName.startsWith("java.")
+                && !typeName.startsWith("javax.")) {
+            return "NavigableAttribute";
+        }
+        return "BasicAttribute";
+    }
+
+    /**
+     * The wrapper type of a primitive type, or otherwise the type itself.
+     */
+    private TypeMirror boxed(TypeMirror type) {
+        return type.getKind().isPrimitive()
+                ? types.boxedClass((PrimitiveType) type).asType()
+                : type;
+    }
+
+    /**
+     * An accessible, non-static method of the entity class with the given
+     * name that either has no parameters and returns a type that can be
+     * assigned to the given type, or, if a setter, has one parameter to
+     * which the given type can be assigned. Primitive and wrapper types
+     * match each other, such as a setter with an {@code int} parameter for
+     * an {@code Integer} attribute.
+     */
+    private ExecutableElement method(TypeMirror type, String name, boolean isSetter) {
+        TypeMirror boxed = boxed(type);
+        for (ExecutableElement method
+                : ElementFilter.methodsIn(elements.getAllMembers(entity))) {
+            if (method.getSimpleName().contentEquals(name)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && isAccessible(method)
+                    && (isSetter
+                        ? method.getParameters().size() == 1
+                            && types.isAssignable(boxed, method.getParameters().get(0).asType())
+                        : method.getParameters().isEmpty()
+                            && method.getReturnType().getKind() != TypeKind.VOID
+                            && types.isAssignable(method.getReturnType(), boxed))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether a member can be accessed from the static metamodel interface,
+     * which is in the package of the entity class.
+     */
+    private boolean isAccessible(Element member) {
+        Set<Modifier> modifiers = member.getModifiers();
+        return modifiers.contains(Modifier.PUBLIC)
+                || !modifiers.contains(Modifier.PRIVATE)
+                && packageName.contentEquals(elements.getPackageOf(member).getQualifiedName());
+    }
+
+    private static boolean hasAnnotation(Element element, Set<String> annotationNames) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (annotationNames.contains(((TypeElement) annotation
+                    .getAnnotationType().asElement()).getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The name of the constant for the name of an attribute, which is the
+     * attribute name in upper case, with an underscore before each upper
+     * case letter that follows a lower case letter or digit.
+     */
+    private static String constantName(String name) {
+        StringBuilder constant = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char ch = name.charAt(i);
+            if (i > 0 && Character.isUpperCase(ch)
+                    && !Character.isUpperCase(name.charAt(i - 1))
+                    && name.charAt(i - 1) != '_') {
+                constant.append('_');
+            }
+            constant.append(ch);
+        }
+        return constant.toString().toUpperCase(Locale.ROOT);
+    }
+}
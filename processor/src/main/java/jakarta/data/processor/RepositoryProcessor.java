@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.processor;
+
+import java.io.IOException;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+
+import jakarta.data.repository.Repository;
+
+/**
+ * <p>Generates an implementation of each interface that is annotated
+ * {@link Repository @Repository}, such that the Jakarta Data provider does
+ * not need to resolve the annotations of the repository methods and create
+ * a proxy for the repository when the application starts. Each generated
+ * method binds its arguments to the restriction, sort criteria, and limit
+ * that the annotations of the method specify, which are created once when
+ * the generated class is initialized, and delegates to a
+ * {@link jakarta.data.spi.repository.RepositoryOperations}.</p>
+ *
+ * <p>The processor supports {@link jakarta.data.repository.Find @Find},
+ * {@link jakarta.data.repository.Query @Query},
+ * {@link jakarta.data.repository.Insert @Insert},
+ * {@link jakarta.data.repository.Update @Update},
+ * {@link jakarta.data.repository.Save @Save}, and
+ * {@link jakarta.data.repository.Delete @Delete} methods, including the
+ * {@link jakarta.data.repository.By @By},
+ * {@link jakarta.data.repository.Is @Is},
+ * {@link jakarta.data.repository.OrderBy @OrderBy},
+ * {@link jakarta.data.repository.First @First}, and
+ * {@link jakarta.data.repository.Param @Param} annotations and the special
+ * parameters {@link jakarta.data.Limit}, {@link jakarta.data.Order},
+ * {@link jakarta.data.Sort}, {@link jakarta.data.page.PageRequest}, and
+ * {@link jakarta.data.restrict.Restriction}. If a repository has a method
+ * that the processor does not support, such as a method with a projection
+ * or a resource accessor method, the processor does not generate an
+ * implementation of the repository, and reports the reason as a note, such
+ * that the Jakarta Data provider implements the repository at run time.</p>
+ *
+ * @since 1.1
+ */
+@SupportedAnnotationTypes("jakarta.data.repository.Repository")
+public class RepositoryProcessor extends AbstractProcessor {
+
+    /**
+     * Creates the processor. Invoked by the compiler.
+     */
+    public RepositoryProcessor() {
+        super();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations,
+                           RoundEnvironment round) {
+        for (Element element : round.getElementsAnnotatedWith(Repository.class)) {
+            if (element.getKind() == ElementKind.INTERFACE) {
+                TypeElement repository = (TypeElement) element;
+                try {
+                    new RepositoryWriter(processingEnv, repository).write();
+                } catch (UnsupportedMethodException x) {
+                    processingEnv.getMessager().printMessage(
+                            Diagnostic.Kind.NOTE,
+                            "An implementation of " + repository.getQualifiedName()
+                            + " is not generated because " + x.getMessage(),
+                            x.method());
+                } catch (IOException x) {
+                    processingEnv.getMessager().printMessage(
+                            Diagnostic.Kind.ERROR,
+                            "An implementation of " + repository.getQualifiedName()
+                            + " cannot be written: " + x,
+                            repository);
+                }
+            }
+        }
+        // Other processors, such as those of Jakarta Data providers, might
+        // also process repositories
+        return false;
+    }
+}
@@ -0,0 +1,952 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import jakarta.data.repository.By;
+import jakarta.data.repository.Delete;
+import jakarta.data.repository.Find;
+import jakarta.data.repository.First;
+import jakarta.data.repository.Insert;
+import jakarta.data.repository.OrderBy;
+import jakarta.data.repository.Param;
+import jakarta.data.repository.Query;
+import jakarta.data.repository.Save;
+import jakarta.data.repository.Update;
+import jakarta.data.spi.query.JdqlParser;
+import jakarta.data.spi.query.JdqlStatement;
+
+/**
+ * Writes the implementation of one repository interface.
+ */
+final class RepositoryWriter {
+    private static final String OPERATIONS =
+            "jakarta.data.spi.repository.RepositoryOperations";
+
+    /**
+     * Constraints that an {@code @Is} annotation can specify, and the
+     * factory method that creates each from the value of a parameter.
+     */
+    private static final Map<String, String> CONSTRAINT_FACTORIES = Map.of(
+            "jakarta.data.constraint.EqualTo", "value",
+            "jakarta.data.constraint.NotEqualTo", "value",
+            "jakarta.data.constraint.GreaterThan", "bound",
+            "jakarta.data.constraint.AtLeast", "min",
+            "jakarta.data.constraint.LessThan", "bound",
+            "jakarta.data.constraint.AtMost", "max",
+            "jakarta.data.constraint.Like", "pattern",
+            "jakarta.data.constraint.NotLike", "pattern",
+            "jakarta.data.constraint.In", "values",
+            "jakarta.data.constraint.NotIn", "values");
+
+    /**
+     * Types that contain the results of a method.
+     */
+    private static final Set<String> CONTAINERS = Set.of(
+            "java.util.List",
+            "java.util.Optional",
+            "java.util.stream.Stream",
+            "jakarta.data.page.CursoredPage",
+            "jakarta.data.page.Page");
+
+    private final ProcessingEnvironment env;
+
+    private final Elements elements;
+
+    private final Types types;
+
+    private final TypeElement repository;
+
+    private final DeclaredType repositoryType;
+
+    /**
+     * The entity type of {@code DataRepository}, if the repository extends
+     * it.
+     */
+    private final TypeMirror primaryEntity;
+
+    /**
+     * Name of each constant, keyed by its type and initializer.
+     */
+    private final Map<String, String> constantNames = new HashMap<>();
+
+    /**
+     * Declaration of each constant, in the order in which they are declared.
+     */
+    private final Map<String, String> constants = new LinkedHashMap<>();
+
+    private final StringBuilder methods = new StringBuilder(4096);
+
+    RepositoryWriter(ProcessingEnvironment env, TypeElement repository) {
+        this.env = env;
+        this.elements = env.getElementUtils();
+        this.types = env.getTypeUtils();
+        this.repository = repository;
+        this.repositoryType = (DeclaredType) repository.asType();
+        this.primaryEntity = primaryEntity(repositoryType);
+    }
+
+    /**
+     * Generates the implementation of each method of the repository, then
+     * writes the implementation class.
+     */
+    void write() throws IOException, UnsupportedMethodException {
+        if (!repository.getTypeParameters().isEmpty()) {
+            throw new UnsupportedMethodException(repository,
+                    "the repository has type parameters");
+        }
+
+        for (ExecutableElement method
+                : ElementFilter.methodsIn(elements.getAllMembers(repository))) {
+            if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+                method(method);
+            }
+        }
+
+        String packageName = elements.getPackageOf(repository)
+                .getQualifiedName().toString();
+        String className = className();
+        String qualifiedName = packageName.isEmpty()
+                ? className
+                : packageName + '.' + className;
+
+        try (Writer out = env.getFiler()
+                .createSourceFile(qualifiedName, repository)
+                .openWriter()) {
+            if (!packageName.isEmpty()) {
+                out.append("package ").append(packageName).append(";\n\n");
+            }
+            out.append("/**\n * Implementation of {@link ")
+                    .append(repository.getQualifiedName())
+                    .append("} that is generated by\n * ")
+                    .append(RepositoryProcessor.class.getName())
+                    .append(".\n */\n")
+                    .append("public class ").append(className)
+                    .append(" implements ").append(repository.getQualifiedName())
+                    .append(" {\n");
+            for (String constant : constants.values()) {
+                out.append(constant);
+            }
+            out.append("    private final ").append(OPERATIONS)
+                    .append(" operations;\n\n    public ").append(className).append('(')
+                    .append(OPERATIONS).append(" operations) {\n        this.operations ="
+                            + " java.util.Objects.requireNonNull(operations, \"operations\");\n    }\n")
+                    .append(methods)
+                    .append("}\n");
+        }
+    }
+
+    /**
+     * The simple name of the implementation class, which includes the names
+     * of enclosing classes of a nested repository.
+     */
+    private String className() {
+        StringBuilder name = new StringBuilder(repository.getSimpleName()).append("Impl");
+        for (Element e = repository.getEnclosingElement();
+             e.getKind().isClass() || e.getKind().isInterface();
+             e = e.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, e.getSimpleName());
+        }
+        return name.toString();
+    }
+
+    // Methods
+
+    private void method(ExecutableElement method) throws UnsupportedMethodException {
+        ExecutableType type = (ExecutableType) types.asMemberOf(repositoryType, method);
+
+        if (method.getAnnotation(Find.class) != null) {
+            find(method, type);
+        } else if (method.getAnnotation(Query.class) != null) {
+            query(method, type);
+        } else if (method.getAnnotation(Insert.class) != null) {
+            lifecycle(method, type, "insert");
+        } else if (method.getAnnotation(Update.class) != null) {
+            lifecycle(method, type, "update");
+        } else if (method.getAnnotation(Save.class) != null) {
+            lifecycle(method, type, "save");
+        } else if (method.getAnnotation(Delete.class) != null) {
+            if (type.getParameterTypes().size() == 1
+                    && method.getParameters().get(0).getAnnotation(By.class) == null
+                    && isEntity(entityOf(type.getParameterTypes().get(0)))) {
+                lifecycle(method, type, "delete");
+            } else {
+                deleteBy(method, type);
+            }
+        } else {
+            throw unsupported(method, "it has no annotation that the processor supports");
+        }
+    }
+
+    private void find(ExecutableElement method, ExecutableType type)
+            throws UnsupportedMethodException {
+        if (!"void".equals(annotationValue(method, Find.class.getName(), "value"))) {
+            throw unsupported(method, "it returns a projection");
+        }
+
+        TypeMirror returnType = type.getReturnType();
+        String kind = resultKind(method, returnType);
+        TypeMirror entity = resultType(returnType);
+        if (!isEntity(entity)) {
+            throw unsupported(method, "it does not return entities");
+        }
+
+        Parameters parameters = parameters(method, type, entity, true);
+        StringBuilder body = new StringBuilder();
+        String order = order(method, parameters, entity, body);
+        String entityClass = classLiteral(entity);
+        String restriction = parameters.restriction();
+
+        String find;
+        if ("Page".equals(kind) || "CursoredPage".equals(kind)) {
+            if (parameters.pageRequest == null || parameters.limit != null) {
+                throw unsupported(method, "it returns a page but does not have a PageRequest parameter");
+            }
+            find = "this.operations.find" + ("Page".equals(kind) ? "Page(" : "CursoredPage(")
+                    + entityClass + ", " + restriction + ", " + order + ", "
+                    + parameters.pageRequest + ')';
+        } else {
+            if (parameters.pageRequest != null) {
+                throw unsupported(method, "it has a PageRequest parameter but does not return a page");
+            }
+            String limit = limit(method, parameters, kind);
+            find = "this.operations.find(" + entityClass + ", " + restriction + ", "
+                    + order + ", " + limit + ')';
+        }
+
+        body.append("        return ").append(result(kind, find, entity)).append(";\n");
+        signature(method, type).append(body).append("    }\n");
+    }
+
+    private void deleteBy(ExecutableElement method, ExecutableType type)
+            throws UnsupportedMethodException {
+        if (primaryEntity == null) {
+            throw unsupported(method, "the repository does not have a primary entity type");
+        }
+        Parameters parameters = parameters(method, type, primaryEntity, false);
+        String delete = "this.operations.delete(" + classLiteral(primaryEntity)
+                + ", " + parameters.restriction() + ')';
+        StringBuilder body = signature(method, type);
+        count(method, type.getReturnType(), delete, body);
+        body.append("    }\n");
+    }
+
+    private void query(ExecutableElement method, ExecutableType type)
+            throws UnsupportedMethodException {
+        String ql = method.getAnnotation(Query.class).value();
+        JdqlStatement statement;
+        try {
+            statement = JdqlParser.parseUncached(ql);
+        } catch (IllegalArgumentException x) {
+            throw unsupported(method, "its query is not a valid Jakarta Data query: " + x.getMessage());
+        }
+
+        TypeMirror entity = primaryEntity;
+        if (entity == null) {
+            if (statement.entityName() == null) {
+                throw unsupported(method, "its query does not specify an entity");
+            }
+            entity = elements.getTypeElement("java.lang.Object").asType();
+        }
+
+        List<String> names = new ArrayList<>();
+        List<String> arguments = new ArrayList<>();
+        String limit = null;
+        List<String> sorts = new ArrayList<>();
+        TypeMirror sortEntity = entity;
+        boolean named = hasNamedParameters(ql);
+        List<? extends VariableElement> params = method.getParameters();
+        for (int i = 0; i < params.size(); i++) {
+            VariableElement param = params.get(i);
+            String name = param.getSimpleName().toString();
+            TypeMirror paramType = type.getParameterTypes().get(i);
+            String erasure = types.erasure(paramType).toString();
+            switch (erasure) {
+                case "jakarta.data.Limit":
+                    limit = name;
+                    break;
+                case "jakarta.data.Order":
+                    sortEntity = sortEntity(method, name, paramType, sorts.isEmpty() ? null : sortEntity);
+                    sorts.add(name + ".sorts()");
+                    break;
+                case "jakarta.data.Sort":
+                case "jakarta.data.Sort[]":
+                    sortEntity = sortEntity(method, name, paramType, sorts.isEmpty() ? null : sortEntity);
+                    sorts.add("java.util.List.of(" + name + ')');
+                    break;
+                case "jakarta.data.page.PageRequest":
+                    throw unsupported(method, "it is a query method with a PageRequest parameter");
+                default:
+                    Param p = param.getAnnotation(Param.class);
+                    names.add(elements.getConstantExpression(p == null ? name : p.value()));
+                    arguments.add(name);
+            }
+        }
+
+        String parameterNames = constant("java.util.List<java.lang.String>", "PARAMETERS",
+                "java.util.List.of(" + (named ? String.join(", ", names) : "") + ')');
+        String args = "new java.lang.Object[] {" + String.join(", ", arguments) + '}';
+        String parse = "jakarta.data.spi.query.JdqlParser.parseUncached("
+                + elements.getConstantExpression(ql) + ')';
+        StringBuilder body = new StringBuilder();
+
+        if (statement instanceof JdqlStatement.Select) {
+            String kind = resultKind(method, type.getReturnType());
+            if ("Page".equals(kind) || "CursoredPage".equals(kind)) {
+                throw unsupported(method, "it is a query method that returns a page");
+            }
+            TypeMirror resultType = resultType(type.getReturnType());
+            if (resultType.getKind() == TypeKind.TYPEVAR) {
+                throw unsupported(method, "its result type is a type variable");
+            }
+            String query = constant("jakarta.data.spi.query.JdqlStatement.Select", "QUERY",
+                    "(jakarta.data.spi.query.JdqlStatement.Select) " + parse);
+            String order = combineSorts(List.of(), sorts, sortEntity.toString(), body);
+            if ("single".equals(kind) || "Optional".equals(kind)) {
+                limit = limit == null ? constant("jakarta.data.Limit", "LIMIT", "jakarta.data.Limit.of(2)") : limit;
+            }
+            String select = "this.operations.select(" + query + ", "
+                    + classLiteral(entity) + ", " + classLiteral(resultType) + ", "
+                    + parameterNames + ", " + args + ", " + order + ", " + limit + ')';
+            body.append("        return ").append(result(kind, select, resultType)).append(";\n");
+            signature(method, type).append(body);
+        } else {
+            if (limit != null || !sorts.isEmpty()) {
+                throw unsupported(method, "it is an update or delete query with sort criteria or a limit");
+            }
+            String query = constant("jakarta.data.spi.query.JdqlStatement", "QUERY", parse);
+            String execute = "this.operations.execute(" + query + ", "
+                    + classLiteral(entity) + ", " + parameterNames + ", " + args + ')';
+            count(method, type.getReturnType(), execute, signature(method, type));
+        }
+        methods.append("    }\n");
+    }
+
+    private void lifecycle(ExecutableElement method, ExecutableType type, String operation)
+            throws UnsupportedMethodException {
+        if (type.getParameterTypes().size() != 1) {
+            throw unsupported(method, "it is a lifecycle method that does not have exactly one parameter");
+        }
+        TypeMirror paramType = type.getParameterTypes().get(0);
+        TypeMirror returnType = type.getReturnType();
+        String param = method.getParameters().get(0).getSimpleName().toString();
+        boolean isVoid = returnType.getKind() == TypeKind.VOID;
+        if (!isVoid && ("delete".equals(operation) || !types.isSameType(paramType, returnType))) {
+            throw unsupported(method, "it is a lifecycle method that returns neither void nor its parameter type");
+        }
+        if (!isEntity(entityOf(paramType))) {
+            throw unsupported(method, "its parameter is not an entity or list or array of entities");
+        }
+
+        String invocation;
+        if (paramType.getKind() == TypeKind.ARRAY) {
+            invocation = "this.operations." + operation + "All(java.util.List.of(" + param + "))"
+                    + (isVoid ? "" : ".toArray(java.util.Arrays.copyOf(" + param + ", 0))");
+        } else if (isList(paramType)) {
+            invocation = "this.operations." + operation + "All(" + param + ')';
+        } else {
+            invocation = "this.operations." + operation + '(' + param + ')';
+        }
+
+        signature(method, type)
+                .append(isVoid ? "        " : "        return ")
+                .append(invocation).append(";\n    }\n");
+    }
+
+    // Parameters
+
+    /**
+     * The special parameters of a method, and the restrictions that the
+     * other parameters specify.
+     */
+    private static final class Parameters {
+        final List<String> restrictions = new ArrayList<>();
+
+        final List<String> sorts = new ArrayList<>();
+
+        String limit;
+
+        /**
+         * An {@code Order} parameter of the entity type.
+         */
+        String order;
+
+        String pageRequest;
+
+        String restriction() {
+            switch (restrictions.size()) {
+                case 0:
+                    return "jakarta.data.restrict.Restrict.unrestricted()";
+                case 1:
+                    return restrictions.get(0);
+                default:
+                    return "jakarta.data.restrict.Restrict.all(java.util.List.of("
+                            + String.join(", ", restrictions) + "))";
+            }
+        }
+    }
+
+    private Parameters parameters(ExecutableElement method,
+                                  ExecutableType type,
+                                  TypeMirror entity,
+                                  boolean isFind)
+            throws UnsupportedMethodException {
+        Parameters parameters = new Parameters();
+        List<? extends VariableElement> params = method.getParameters();
+        for (int i = 0; i < params.size(); i++) {
+            VariableElement param = params.get(i);
+            TypeMirror paramType = type.getParameterTypes().get(i);
+            String name = param.getSimpleName().toString();
+            String erasure = types.erasure(paramType).toString();
+            switch (erasure) {
+                case "jakarta.data.Limit":
+                    parameters.limit = special(method, isFind, name);
+                    break;
+                case "jakarta.data.page.PageRequest":
+                    parameters.pageRequest = special(method, isFind, name);
+                    break;
+                case "jakarta.data.Order":
+                    parameters.sorts.add(special(method, isFind, name) + ".sorts()");
+                    if (types.isSameType(paramType, types.getDeclaredType(
+                            elements.getTypeElement("jakarta.data.Order"), entity))) {
+                        parameters.order = name;
+                    }
+                    break;
+                case "jakarta.data.Sort":
+                case "jakarta.data.Sort[]":
+                    parameters.sorts.add("java.util.List.of(" + special(method, isFind, name) + ')');
+                    break;
+                case "jakarta.data.restrict.Restriction":
+                    List<? extends TypeMirror> args = ((DeclaredType) paramType).getTypeArguments();
+                    parameters.restrictions.add(args.size() == 1 && types.isSameType(args.get(0), entity)
+                            ? name
+                            : "jakarta.data.restrict.Restrict.all(java.util.List.of(" + name + "))");
+                    break;
+                default:
+                    parameters.restrictions.add(restriction(method, param, paramType, entity));
+            }
+        }
+        return parameters;
+    }
+
+    private String special(ExecutableElement method, boolean isFind, String name)
+            throws UnsupportedMethodException {
+        if (!isFind) {
+            throw unsupported(method, "it is a delete method with parameter " + name
+                    + " that does not specify a restriction");
+        }
+        return name;
+    }
+
+    /**
+     * The restriction that a parameter specifies on an entity attribute.
+     */
+    private String restriction(ExecutableElement method,
+                               VariableElement param,
+                               TypeMirror paramType,
+                               TypeMirror entity)
+            throws UnsupportedMethodException {
+        String name = param.getSimpleName().toString();
+        By by = param.getAnnotation(By.class);
+        String attributeName = by == null ? name : by.value();
+        if (By.ID.equalsIgnoreCase(attributeName)) {
+            attributeName = idName(method, entity);
+        }
+
+        TypeMirror constraintType = supertype(paramType, "jakarta.data.constraint.Constraint");
+        if (constraintType != null) {
+            // The parameter is a constraint on the attribute
+            TypeMirror attributeType = ((DeclaredType) constraintType).getTypeArguments().get(0);
+            return "jakarta.data.restrict.BasicRestriction.of("
+                    + attribute(method, entity, attributeName, attributeType) + ", " + name + ')';
+        }
+
+        String constraint = annotationValue(param, "jakarta.data.repository.Is", "value");
+        if (constraint == null) {
+            constraint = "jakarta.data.constraint.EqualTo";
+        }
+        String factory = CONSTRAINT_FACTORIES.get(constraint);
+        if (factory == null) {
+            throw unsupported(method, "parameter " + name + " specifies constraint " + constraint);
+        }
+
+        TypeMirror attributeType = paramType;
+        if ("values".equals(factory)) {
+            TypeMirror collection = supertype(paramType, "java.util.Collection");
+            if (collection == null
+                    || ((DeclaredType) collection).getTypeArguments().isEmpty()) {
+                throw unsupported(method, "parameter " + name + " is not a collection");
+            }
+            attributeType = ((DeclaredType) collection).getTypeArguments().get(0);
+        }
+        return "jakarta.data.restrict.BasicRestriction.of("
+                + attribute(method, entity, attributeName, attributeType) + ", "
+                + constraint + '.' + factory + '(' + name + "))";
+    }
+
+    /**
+     * A constant for an entity attribute.
+     */
+    private String attribute(ExecutableElement method,
+                             TypeMirror entity,
+                             String name,
+                             TypeMirror attributeType)
+            throws UnsupportedMethodException {
+        TypeMirror boxed = attributeType.getKind().isPrimitive()
+                ? types.boxedClass((PrimitiveType) attributeType).asType()
+                : attributeType;
+        if (boxed.getKind() != TypeKind.DECLARED
+                || !((DeclaredType) boxed).getTypeArguments().isEmpty()) {
+            throw unsupported(method, "the type of attribute " + name + " is " + attributeType);
+        }
+        return constant("jakarta.data.metamodel.BasicAttribute<" + entity + ", " + boxed + '>',
+                "ATTRIBUTE",
+                "jakarta.data.metamodel.BasicAttribute.of(" + classLiteral(entity) + ", "
+                + elements.getConstantExpression(name) + ", " + classLiteral(boxed) + ')');
+    }
+
+    /**
+     * The name of the attribute that is the unique identifier of an entity,
+     * which is annotated {@code Id} or else named {@code id}.
+     */
+    private String idName(ExecutableElement method, TypeMirror entity)
+            throws UnsupportedMethodException {
+        TypeElement entityElement = (TypeElement) types.asElement(entity);
+        String id = null;
+        for (Element member : elements.getAllMembers(entityElement)) {
+            if (member.getKind() == ElementKind.FIELD
+                    || member.getKind() == ElementKind.RECORD_COMPONENT) {
+                for (AnnotationMirror annotation : member.getAnnotationMirrors()) {
+                    if ("Id".contentEquals(annotation.getAnnotationType()
+                            .asElement().getSimpleName())) {
+                        return member.getSimpleName().toString();
+                    }
+                }
+                if ("id".contentEquals(member.getSimpleName())) {
+                    id = "id";
+                }
+            }
+        }
+        if (id == null) {
+            throw unsupported(method, "the identifier of entity " + entity + " cannot be determined");
+        }
+        return id;
+    }
+
+    // Sorting and limits
+
+    /**
+     * The expression for the sort criteria of a method, which are the
+     * static sort criteria of its {@code OrderBy} annotations followed by
+     * the dynamic sort criteria of its parameters.
+     */
+    private String order(ExecutableElement method,
+                         Parameters parameters,
+                         TypeMirror entity,
+                         StringBuilder body) {
+        List<String> staticSorts = new ArrayList<>();
+        for (OrderBy orderBy : method.getAnnotationsByType(OrderBy.class)) {
+            staticSorts.add("jakarta.data.Sort.<" + entity + '>'
+                    + (orderBy.descending() ? "desc" : "asc")
+                    + (orderBy.ignoreCase() ? "IgnoreCase(" : "(")
+                    + elements.getConstantExpression(orderBy.value()) + ')');
+        }
+        if (staticSorts.isEmpty() && parameters.sorts.size() == 1 && parameters.order != null) {
+            return parameters.order;
+        }
+        return combineSorts(staticSorts, parameters.sorts, entity.toString(), body);
+    }
+
+    private String combineSorts(List<String> staticSorts,
+                                List<String> dynamicSorts,
+                                String entity,
+                                StringBuilder body) {
+        String orderType = "jakarta.data.Order<" + entity + '>';
+        String staticOrder = constant(orderType, "ORDER",
+                "jakarta.data.Order.by(java.util.List.of(" + String.join(", ", staticSorts) + "))");
+        if (dynamicSorts.isEmpty()) {
+            return staticOrder;
+        }
+        body.append("        java.util.List<jakarta.data.Sort<? super ").append(entity)
+                .append(">> sorts$ = new java.util.ArrayList<>(");
+        if (staticSorts.isEmpty()) {
+            body.append(dynamicSorts.size() * 2).append(");\n");
+        } else {
+            body.append(staticOrder).append(".sorts());\n");
+        }
+        for (String sorts : dynamicSorts) {
+            body.append("        sorts$.addAll(").append(sorts).append(");\n");
+        }
+        return "jakarta.data.Order.by(sorts$)";
+    }
+
+    /**
+     * The entity type of an {@code Order}, {@code Sort}, or {@code Sort} array
+     * parameter of a query method, which must be the same as that of any
+     * previous such parameter.
+     */
+    private TypeMirror sortEntity(ExecutableElement method,
+                                  String name,
+                                  TypeMirror paramType,
+                                  TypeMirror previous)
+            throws UnsupportedMethodException {
+        TypeMirror sortType = paramType.getKind() == TypeKind.ARRAY
+                ? ((ArrayType) paramType).getComponentType()
+                : paramType;
+        List<? extends TypeMirror> args = sortType.getKind() == TypeKind.DECLARED
+                ? ((DeclaredType) sortType).getTypeArguments()
+                : List.of();
+        if (args.size() != 1 || args.get(0).getKind() != TypeKind.DECLARED) {
+            throw unsupported(method, "parameter " + name + " does not specify an entity type");
+        }
+        if (previous != null && !types.isSameType(previous, args.get(0))) {
+            throw unsupported(method, "parameter " + name + " sorts a different entity type");
+        }
+        return args.get(0);
+    }
+
+    private String limit(ExecutableElement method, Parameters parameters, String kind)
+            throws UnsupportedMethodException {
+        First first = method.getAnnotation(First.class);
+        if (first != null && parameters.limit != null) {
+            throw unsupported(method, "it has both @First and a Limit parameter");
+        }
+        if (parameters.limit != null) {
+            return parameters.limit;
+        }
+        int max = first != null ? first.value()
+                : "single".equals(kind) || "Optional".equals(kind) ? 2 : 0;
+        return max > 0
+                ? constant("jakarta.data.Limit", "LIMIT", "jakarta.data.Limit.of(" + max + ')')
+                : "null";
+    }
+
+    // Results
+
+    /**
+     * The kind of result that a method returns, which is the simple name of
+     * the collection or other container of results, {@code array}, or
+     * {@code single}.
+     */
+    private String resultKind(ExecutableElement method, TypeMirror returnType)
+            throws UnsupportedMethodException {
+        if (returnType.getKind() == TypeKind.ARRAY) {
+            return "array";
+        } else if (returnType.getKind() != TypeKind.DECLARED) {
+            if (returnType.getKind().isPrimitive()) {
+                return "single";
+            }
+            throw unsupported(method, "it returns " + returnType);
+        }
+        String erasure = types.erasure(returnType).toString();
+        switch (erasure) {
+            case "java.util.List":
+            case "java.util.stream.Stream":
+            case "java.util.Optional":
+                return erasure.substring(erasure.lastIndexOf('.') + 1);
+            case "jakarta.data.page.Page":
+                return "Page";
+            case "jakarta.data.page.CursoredPage":
+                return "CursoredPage";
+            default:
+                if (erasure.startsWith("java.util.")) {
+                    throw unsupported(method, "it returns " + returnType);
+                }
+                return "single";
+        }
+    }
+
+    /**
+     * The type of each result of a method.
+     */
+    private TypeMirror resultType(TypeMirror returnType) {
+        if (returnType.getKind() == TypeKind.ARRAY) {
+            return ((ArrayType) returnType).getComponentType();
+        } else if (returnType.getKind().isPrimitive()) {
+            return types.boxedClass((PrimitiveType) returnType).asType();
+        } else if (CONTAINERS.contains(types.erasure(returnType).toString())) {
+            List<? extends TypeMirror> args = ((DeclaredType) returnType).getTypeArguments();
+            if (args.size() == 1) {
+                return args.get(0);
+            }
+        }
+        return returnType;
+    }
+
+    /**
+     * Converts a stream or page of results to the kind of result that a
+     * method returns.
+     */
+    private String result(String kind, String results, TypeMirror resultType) {
+        switch (kind) {
+            case "List":
+                return results + ".toList()";
+            case "array":
+                return results + ".toArray(" + types.erasure(resultType) + "[]::new)";
+            case "Optional":
+                return OPERATIONS + ".optional(" + results + ')';
+            case "single":
+                return OPERATIONS + ".single(" + results + ')';
+            default:
+                return results;
+        }
+    }
+
+    /**
+     * Returns the number of updated or deleted entities from a method.
+     */
+    private void count(ExecutableElement method,
+                       TypeMirror returnType,
+                       String invocation,
+                       StringBuilder body)
+            throws UnsupportedMethodException {
+        switch (returnType.getKind()) {
+            case VOID:
+                body.append("        ").append(invocation).append(";\n");
+                break;
+            case LONG:
+                body.append("        return ").append(invocation).append(";\n");
+                break;
+            case INT:
+                body.append("        return (int) ").append(invocation).append(";\n");
+                break;
+            default:
+                throw unsupported(method, "it returns " + returnType);
+        }
+    }
+
+    // Types
+
+    /**
+     * The first type argument of {@code DataRepository}, if the repository
+     * extends it.
+     */
+    private TypeMirror primaryEntity(DeclaredType type) {
+        TypeMirror dataRepository = supertype(type, "jakarta.data.repository.DataRepository");
+        if (dataRepository != null) {
+            List<? extends TypeMirror> args = ((DeclaredType) dataRepository).getTypeArguments();
+            if (!args.isEmpty() && args.get(0).getKind() == TypeKind.DECLARED) {
+                return args.get(0);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The supertype of a type that has the given class name, or
+     * {@code null} if there is none.
+     */
+    private TypeMirror supertype(TypeMirror type, String className) {
+        if (type.getKind() != TypeKind.DECLARED && type.getKind() != TypeKind.TYPEVAR) {
+            return null;
+        } else if (className.equals(types.erasure(type).toString())) {
+            return type;
+        }
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            TypeMirror found = supertype(supertype, className);
+            if (found != null) {
+                return found;
+            }
+        }
+        if (type instanceof TypeVariable variable) {
+            return supertype(variable.getUpperBound(), className);
+        }
+        return null;
+    }
+
+    private boolean isList(TypeMirror type) {
+        return "java.util.List".equals(types.erasure(type).toString());
+    }
+
+    /**
+     * The entity type of a lifecycle method parameter, which is an entity,
+     * list of entities, or array of entities.
+     */
+    private TypeMirror entityOf(TypeMirror paramType) {
+        if (paramType.getKind() == TypeKind.ARRAY) {
+            return ((ArrayType) paramType).getComponentType();
+        } else if (isList(paramType)) {
+            List<? extends TypeMirror> args = ((DeclaredType) paramType).getTypeArguments();
+            if (args.size() == 1) {
+                TypeMirror arg = args.get(0);
+                if (arg.getKind() == TypeKind.WILDCARD) {
+                    TypeMirror bound = ((WildcardType) arg).getExtendsBound();
+                    return bound == null ? paramType : bound;
+                }
+                return arg;
+            }
+        }
+        return paramType;
+    }
+
+    /**
+     * Whether a type is an entity class, or a type variable that is
+     * bounded by one.
+     */
+    private boolean isEntity(TypeMirror type) {
+        if (type.getKind() == TypeKind.TYPEVAR) {
+            return isEntity(((TypeVariable) type).getUpperBound());
+        } else if (type.getKind() != TypeKind.DECLARED
+                || !((DeclaredType) type).getTypeArguments().isEmpty()
+                || types.asElement(type).getKind() != ElementKind.CLASS
+                    && types.asElement(type).getKind() != ElementKind.RECORD) {
+            return false;
+        }
+        if (primaryEntity != null && types.isSameType(type, primaryEntity)) {
+            return true;
+        }
+        String name = type.toString();
+        return !name.startsWith("java.") && !name.startsWith("jakarta.data.");
+    }
+
+    private String classLiteral(TypeMirror type) {
+        TypeMirror erasure = types.erasure(type.getKind() == TypeKind.TYPEVAR
+                ? ((TypeVariable) type).getUpperBound()
+                : type);
+        return erasure + ".class";
+    }
+
+    /**
+     * The value of an annotation element as source text, or {@code null} if
+     * the annotation is not present.
+     */
+    private String annotationValue(Element element, String annotationName, String name) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (annotationName.contentEquals(((TypeElement) annotation
+                    .getAnnotationType().asElement()).getQualifiedName())) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                        : elements.getElementValuesWithDefaults(annotation).entrySet()) {
+                    if (name.contentEquals(entry.getKey().getSimpleName())) {
+                        return entry.getValue().getValue().toString();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether a query has named parameters, ignoring string literals.
+     */
+    private static boolean hasNamedParameters(String ql) {
+        boolean quoted = false;
+        for (int i = 0; i + 1 < ql.length(); i++) {
+            char c = ql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (c == ':' && !quoted
+                    && Character.isJavaIdentifierStart(ql.charAt(i + 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Source text
+
+    /**
+     * A constant with the given type and initializer, which is declared
+     * once for each distinct initializer.
+     */
+    private String constant(String type, String prefix, String initializer) {
+        String key = type + ' ' + initializer;
+        String name = constantNames.get(key);
+        if (name == null) {
+            int count = 0;
+            for (String existing : constants.keySet()) {
+                if (existing.startsWith(prefix + '_')) {
+                    count++;
+                }
+            }
+            name = prefix + '_' + count;
+            constantNames.put(key, name);
+            constants.put(name, "    private static final " + type + ' ' + name
+                    + " =\n            " + initializer + ";\n\n");
+        }
+        return name;
+    }
+
+    /**
+     * Appends the signature of a method to the generated methods, and
+     * returns the generated methods for the body to be appended.
+     */
+    private StringBuilder signature(ExecutableElement method, ExecutableType type) {
+        methods.append("\n    @Override\n    public ");
+        List<? extends TypeVariable> typeVariables = type.getTypeVariables();
+        if (!typeVariables.isEmpty()) {
+            methods.append('<');
+            for (int i = 0; i < typeVariables.size(); i++) {
+                TypeVariable variable = typeVariables.get(i);
+                methods.append(i == 0 ? "" : ", ").append(variable);
+                if (!"java.lang.Object".equals(variable.getUpperBound().toString())) {
+                    methods.append(" extends ").append(variable.getUpperBound());
+                }
+            }
+            methods.append("> ");
+        }
+        methods.append(type.getReturnType()).append(' ')
+                .append(method.getSimpleName()).append('(');
+        List<? extends VariableElement> params = method.getParameters();
+        for (int i = 0; i < params.size(); i++) {
+            TypeMirror paramType = type.getParameterTypes().get(i);
+            methods.append(i == 0 ? "" : ", ");
+            if (method.isVarArgs() && i == params.size() - 1) {
+                methods.append(((ArrayType) paramType).getComponentType()).append("...");
+            } else {
+                methods.append(paramType);
+            }
+            methods.append(' ').append(params.get(i).getSimpleName());
+        }
+        return methods.append(") {\n");
+    }
+
+    private static UnsupportedMethodException unsupported(ExecutableElement method,
+                                                          String reason) {
+        return new UnsupportedMethodException(method, "method " + method.getSimpleName()
+                + " cannot be implemented at compile time: " + reason);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.processor;
+
+import javax.lang.model.element.Element;
+
+/**
+ * Indicates that the processor cannot generate the implementation of a
+ * repository method.
+ */
+final class UnsupportedMethodException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Element method;
+
+    UnsupportedMethodException(Element method, String reason) {
+        super(reason);
+        this.method = method;
+    }
+
+    /**
+     * The repository method, or the repository if the problem is not with
+     * a particular method.
+     */
+    Element method() {
+        return method;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/**
+ * <p>Annotation processor that generates implementations of Jakarta Data
+ * repositories at compile time.</p>
+ *
+ * <p>For each interface that is annotated
+ * {@link jakarta.data.repository.Repository @Repository}, the processor
+ * generates a class in the same package which implements the repository
+ * by delegating to a {@link jakarta.data.spi.repository.RepositoryOperations}
+ * that is supplied by the Jakarta Data provider. The name of the class is
+ * the name of the repository interface followed by {@code Impl}.</p>
+ *
+ * <p>For each entity class that does not have a static metamodel, the
+ * processor generates a {@link jakarta.data.metamodel.StaticMetamodel static
+ * metamodel} interface, the attributes of which read and write the entity
+ * with its getters, setters, and fields rather than by reflection.</p>
+ */
+module jakarta.data.processor {
+    requires java.compiler;
+    requires jakarta.data;
+    requires static jakarta.annotation; // compile time dependency for nullness annotations
+    provides javax.annotation.processing.Processor
+            with jakarta.data.processor.RepositoryProcessor,
+                 jakarta.data.processor.MetamodelProcessor;
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import jakarta.data.metamodel.AttributeAccessor;
+import jakarta.data.metamodel.BooleanAttribute;
+import jakarta.data.metamodel.NavigableAttribute;
+import jakarta.data.metamodel.NumericAttribute;
+import jakarta.data.metamodel.TextAttribute;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MetamodelProcessorTest {
+
+    private static final Pattern TYPE_NAME =
+            Pattern.compile("(?:class|interface|record)\\s+(\\w+)");
+
+    private static final String ENTITY = """
+            package test;
+
+            import java.lang.annotation.*;
+            import jakarta.data.spi.EntityDefining;
+
+            @EntityDefining
+            @Retention(RetentionPolicy.RUNTIME)
+            @Target(ElementType.TYPE)
+            public @interface Entity {
+            }
+            """;
+
+    private static final String BOOK = """
+            package test;
+
+            @Entity
+            public class Book {
+                public final String isbn;
+                private String title;
+                int numPages;
+                private boolean hardcover;
+                private Author author;
+                private String notes;
+                private Integer edition;
+                private transient String cached;
+
+                public Book() {
+                    this("0");
+                }
+
+                public Book(String isbn) {
+                    this.isbn = isbn;
+                }
+
+                public String getTitle() {
+                    return title;
+                }
+
+                public void setTitle(String title) {
+                    this.title = title;
+                }
+
+                public boolean isHardcover() {
+                    return hardcover;
+                }
+
+                public int getEdition() {
+                    return edition == null ? 1 : edition;
+                }
+
+                public void setEdition(int edition) {
+                    this.edition = edition;
+                }
+
+                public Author author() {
+                    return author;
+                }
+            }
+            """;
+
+    private static final String AUTHOR = """
+            package test;
+
+            @Entity
+            public record Author(String name, int born) {
+            }
+            """;
+
+    /**
+     * Compiles the sources with the processor, and returns the output
+     * directory.
+     */
+    private static Path compile(String... sources) throws IOException {
+        Path out = Files.createTempDirectory("processor");
+        List<JavaFileObject> files = new ArrayList<>();
+        for (String source : sources) {
+            Matcher matcher = TYPE_NAME.matcher(source);
+            assertThat(matcher.find()).isTrue();
+            files.add(new SimpleJavaFileObject(
+                    Path.of("test", matcher.group(1) + ".java").toUri(), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            });
+        }
+        StringWriter diagnostics = new StringWriter();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaCompiler.CompilationTask task = compiler.getTask(diagnostics, null, null,
+                List.of("-d", out.toString(), "-Xlint:all,-processing", "-Werror",
+                        "-classpath", System.getProperty("java.class.path")),
+                null, files);
+        task.setProcessors(List.of(new MetamodelProcessor()));
+        assertThat(task.call()).as(diagnostics.toString()).isTrue();
+        return out;
+    }
+
+    private static ClassLoader loader(Path out) throws IOException {
+        return new URLClassLoader(new URL[] { out.toUri().toURL() },
+                MetamodelProcessorTest.class.getClassLoader());
+    }
+
+    private static Object attribute(ClassLoader loader, String metamodel, String name)
+            throws ReflectiveOperationException {
+        return loader.loadClass(metamodel).getField(name).get(null);
+    }
+
+    @Test
+    @DisplayName("should generate attributes that read and write with getters, setters and fields")
+    @SuppressWarnings("unchecked")
+    void shouldGenerateAccessors() throws Exception {
+        ClassLoader loader = loader(compile(ENTITY, BOOK, AUTHOR));
+        Object title = attribute(loader, "test._Book", "title");
+        Object numPages = attribute(loader, "test._Book", "numPages");
+        Object hardcover = attribute(loader, "test._Book", "hardcover");
+        Object isbn = attribute(loader, "test._Book", "isbn");
+        Object author = attribute(loader, "test._Book", "author");
+        Object notes = attribute(loader, "test._Book", "notes");
+        Object born = attribute(loader, "test._Author", "born");
+        Object edition = attribute(loader, "test._Book", "edition");
+        Object numPagesName = attribute(loader, "test._Book", "NUM_PAGES");
+
+        Class<?> bookClass = ((TextAttribute<?>) title).declaringType();
+        Object book = bookClass.getConstructor(String.class).newInstance("978-0");
+        var titleAccessor = (AttributeAccessor<Object, Object>) title;
+        var pagesAccessor = (AttributeAccessor<Object, Object>) numPages;
+        titleAccessor.set(book, "Jakarta Data");
+        pagesAccessor.set(book, 250);
+        var editionAccessor = (AttributeAccessor<Object, Object>) edition;
+        editionAccessor.set(book, 2);
+
+        assertSoftly(softly -> {
+            softly.assertThat(numPagesName).isEqualTo("numPages");
+            softly.assertThat(titleAccessor.get(book)).isEqualTo("Jakarta Data");
+            softly.assertThat(titleAccessor.isWritable()).isTrue();
+            softly.assertThat(pagesAccessor.get(book)).isEqualTo(250);
+            softly.assertThat(((NumericAttribute<?, ?>) numPages).type()).isEqualTo(Integer.class);
+            softly.assertThat(((BooleanAttribute<?>) hardcover).type()).isEqualTo(Boolean.class);
+            softly.assertThat(((AttributeAccessor<Object, Object>) hardcover).get(book)).isEqualTo(false);
+            softly.assertThat(((AttributeAccessor<Object, Object>) hardcover).isWritable()).isFalse();
+            softly.assertThat(((AttributeAccessor<Object, Object>) isbn).get(book)).isEqualTo("978-0");
+            softly.assertThat(((AttributeAccessor<Object, Object>) isbn).isWritable()).isFalse();
+            softly.assertThat(author).isInstanceOf(NavigableAttribute.class)
+                    .isInstanceOf(AttributeAccessor.class);
+            softly.assertThat(notes).isInstanceOf(TextAttribute.class)
+                    .isNotInstanceOf(AttributeAccessor.class);
+            softly.assertThat(born).isInstanceOf(NumericAttribute.class)
+                    .isInstanceOf(AttributeAccessor.class);
+            softly.assertThat(((AttributeAccessor<Object, Object>) born).isWritable()).isFalse();
+            softly.assertThat(editionAccessor.isWritable()).isTrue();
+            softly.assertThat(editionAccessor.get(book)).isEqualTo(2);
+            softly.assertThat(edition).isEqualTo(NumericAttribute.of(bookClass, "edition", Integer.class));
+        });
+        assertThatThrownBy(() -> loader.loadClass("test._Book").getField("cached"))
+                .isInstanceOf(NoSuchFieldException.class);
+        assertThatThrownBy(() -> ((AttributeAccessor<Object, Object>) isbn).set(book, "1"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("should not generate a static metamodel that already exists")
+    void shouldSkipExistingMetamodel() throws Exception {
+        String metamodel = """
+                package test;
+
+                import jakarta.data.metamodel.StaticMetamodel;
+                import jakarta.data.metamodel.TextAttribute;
+
+                @StaticMetamodel(Author.class)
+                public interface _Author {
+                    TextAttribute<Author> name = TextAttribute.of(Author.class, "name");
+                }
+                """;
+        Path out = compile(ENTITY, AUTHOR, metamodel);
+        Object name = attribute(loader(out), "test._Author", "name");
+
+        assertSoftly(softly -> {
+            softly.assertThat(out.resolve("test/_Author.class")).exists();
+            softly.assertThat(name)
+                    .isNotInstanceOf(AttributeAccessor.class);
+        });
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import jakarta.data.Limit;
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.restrict.Restriction;
+import jakarta.data.spi.repository.RepositoryOperations;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RepositoryProcessorTest {
+
+    private static final String CAR = """
+            package test;
+
+            public class Car {
+                public long id;
+                public String make;
+                public int price;
+            }
+            """;
+
+    private static final String CARS = """
+            package test;
+
+            import java.util.List;
+            import java.util.Optional;
+            import jakarta.data.Limit;
+            import jakarta.data.Order;
+            import jakarta.data.Sort;
+            import jakarta.data.constraint.GreaterThan;
+            import jakarta.data.repository.*;
+
+            @Repository
+            public interface Cars extends BasicRepository<Car, Long> {
+                @Find
+                @OrderBy("price")
+                List<Car> ofMake(@By("make") String make,
+                                 @By("price") @Is(GreaterThan.class) int minPrice,
+                                 Limit limit);
+
+                @Find
+                @First
+                Optional<Car> cheapest(@By("make") String make);
+
+                @Find
+                List<Car> priced(@By("price") int price, Sort<Car>... sorts);
+
+                @Query("WHERE make = :make")
+                List<Car> sorted(String make, Order<Car> order, Sort<Car> sort);
+
+                @Query("UPDATE Car SET price = price + :amount WHERE make = :make")
+                int raise(String make, int amount);
+
+                @Insert
+                Car add(Car car);
+            }
+            """;
+
+    /**
+     * Invocations of the operations, each of which is the method name
+     * followed by the arguments.
+     */
+    private final List<List<Object>> invocations = new ArrayList<>();
+
+    private final RepositoryOperations operations = (RepositoryOperations) Proxy.newProxyInstance(
+            RepositoryOperations.class.getClassLoader(),
+            new Class<?>[] { RepositoryOperations.class },
+            (proxy, method, args) -> {
+                List<Object> invocation = new ArrayList<>();
+                invocation.add(method.getName());
+                invocation.addAll(Arrays.asList(args));
+                invocations.add(invocation);
+                switch (method.getName()) {
+                    case "find":
+                    case "select":
+                        return Stream.empty();
+                    case "execute":
+                        return 3L;
+                    default:
+                        return args[0];
+                }
+            });
+
+    /**
+     * Compiles the sources with the processor, and returns the output
+     * directory, along with the diagnostics.
+     */
+    private static Path compile(StringWriter diagnostics, String... sources) throws IOException {
+        Path out = Files.createTempDirectory("processor");
+        List<JavaFileObject> files = new ArrayList<>();
+        for (String source : sources) {
+            String name = source.substring(source.indexOf("public ") + 7)
+                    .split("\\s+")[1];
+            files.add(new SimpleJavaFileObject(
+                    Path.of("test", name + ".java").toUri(), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            });
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaCompiler.CompilationTask task = compiler.getTask(diagnostics, null, null,
+                List.of("-d", out.toString(),
+                        "-classpath", System.getProperty("java.class.path")),
+                null, files);
+        task.setProcessors(List.of(new RepositoryProcessor()));
+        assertThat(task.call()).as(diagnostics.toString()).isTrue();
+        return out;
+    }
+
+    private Object repository(Path out) throws ReflectiveOperationException, IOException {
+        URLClassLoader loader = new URLClassLoader(new URL[] { out.toUri().toURL() },
+                getClass().getClassLoader());
+        return loader.loadClass("test.CarsImpl")
+                .getConstructor(RepositoryOperations.class)
+                .newInstance(operations);
+    }
+
+    @Test
+    @DisplayName("should bind the parameters of find methods to restrictions, sorts and limits")
+    void shouldImplementFind() throws Exception {
+        Object cars = repository(compile(new StringWriter(), CAR, CARS));
+        Class<?> type = cars.getClass();
+
+        Method ofMake = type.getMethod("ofMake", String.class, int.class, Limit.class);
+        ofMake.invoke(cars, "Jakarta", 20000, Limit.of(10));
+        type.getMethod("cheapest", String.class).invoke(cars, "Data");
+
+        assertSoftly(softly -> {
+            softly.assertThat(invocations).hasSize(2);
+            List<Object> find = invocations.get(0);
+            softly.assertThat(find.get(0)).isEqualTo("find");
+            softly.assertThat(((Class<?>) find.get(1)).getName()).isEqualTo("test.Car");
+            softly.assertThat(find.get(2).toString())
+                    .isEqualTo("(make = 'Jakarta') AND (price > 20000)");
+            softly.assertThat(((Order<?>) find.get(3)).sorts()).hasSize(1);
+            softly.assertThat(((Order<?>) find.get(3)).sorts().get(0).property())
+                    .isEqualTo("price");
+            softly.assertThat(find.get(4)).isEqualTo(Limit.of(10));
+            List<Object> cheapest = invocations.get(1);
+            softly.assertThat(((Restriction<?>) cheapest.get(2)).toString())
+                    .isEqualTo("make = 'Data'");
+            softly.assertThat(cheapest.get(4)).isEqualTo(Limit.of(1));
+        });
+    }
+
+    @Test
+    @DisplayName("should combine Order, Sort and Sort array parameters into sort criteria")
+    void shouldImplementSortParameters() throws Exception {
+        Object cars = repository(compile(new StringWriter(), CAR, CARS));
+        Class<?> type = cars.getClass();
+
+        type.getMethod("priced", int.class, Sort[].class)
+                .invoke(cars, 20000, new Sort<?>[] { Sort.desc("make"), Sort.asc("id") });
+        type.getMethod("sorted", String.class, Order.class, Sort.class)
+                .invoke(cars, "Jakarta", Order.by(Sort.desc("price")), Sort.asc("id"));
+
+        assertSoftly(softly -> {
+            softly.assertThat(invocations).hasSize(2);
+            List<Object> find = invocations.get(0);
+            softly.assertThat(find.get(0)).isEqualTo("find");
+            softly.assertThat(((Order<?>) find.get(3)).sorts())
+                    .containsExactly(Sort.desc("make"), Sort.asc("id"));
+            List<Object> select = invocations.get(1);
+            softly.assertThat(select.get(0)).isEqualTo("select");
+            softly.assertThat(((Order<?>) select.get(6)).sorts())
+                    .containsExactly(Sort.desc("price"), Sort.asc("id"));
+        });
+    }
+
+    @Test
+    @DisplayName("should delegate query and lifecycle methods to the operations")
+    void shouldImplementQueryAndLifecycle() throws Exception {
+        Object cars = repository(compile(new StringWriter(), CAR, CARS));
+        Class<?> type = cars.getClass();
+        Object car = type.getClassLoader().loadClass("test.Car")
+                .getConstructor().newInstance();
+
+        Object raised = type.getMethod("raise", String.class, int.class)
+                .invoke(cars, "Jakarta", 100);
+        Object added = type.getMethod("add", car.getClass()).invoke(cars, car);
+
+        assertSoftly(softly -> {
+            softly.assertThat(raised).isEqualTo(3);
+            softly.assertThat(added).isSameAs(car);
+            List<Object> execute = invocations.get(0);
+            softly.assertThat(execute.get(0)).isEqualTo("execute");
+            softly.assertThat(execute.get(3)).isEqualTo(List.of("make", "amount"));
+            softly.assertThat((Object[]) execute.get(4)).containsExactly("Jakarta", 100);
+            softly.assertThat(invocations.get(1)).containsExactly("insert", car);
+        });
+    }
+
+    @Test
+    @DisplayName("should not generate an implementation of a repository with unsupported methods")
+    void shouldSkipUnsupported() throws Exception {
+        String repository = """
+                package test;
+
+                import java.util.List;
+                import jakarta.data.repository.*;
+
+                @Repository
+                public interface Cars extends DataRepository<Car, Long> {
+                    List<Car> findByMake(String make);
+                }
+                """;
+        StringWriter diagnostics = new StringWriter();
+        Path out = compile(diagnostics, CAR, repository);
+
+        assertSoftly(softly -> {
+            softly.assertThat(out.resolve("test/CarsImpl.class")).doesNotExist();
+            softly.assertThat(diagnostics.toString()).contains("findByMake");
+        });
+    }
+}